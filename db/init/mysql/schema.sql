@@ -902,6 +902,8 @@ INSERT INTO `plugin_handle` VALUES ('1529402613199978551', '5', 'multiRuleHandle
 INSERT INTO `plugin_handle` VALUES ('1529402613199978552', '5', 'headerMaxSize', 'headerMaxSize', 1, 2, 3, '{\"defaultValue\":\"10240\",\"rule\":\"\"}', '2022-05-25 18:02:53', '2022-05-25 18:02:53');
 INSERT INTO `plugin_handle` VALUES ('1529402613199978553', '5', 'requestMaxSize', 'requestMaxSize', 1, 2, 4, '{\"defaultValue\":\"102400\",\"rule\":\"\"}', '2022-05-25 18:02:53', '2022-05-25 18:02:53');
 INSERT INTO `plugin_handle` VALUES ('1529402613199978554', '5', 'retryStrategy', 'retryStrategy', 3, 2, 0, '{\"required\":\"0\",\"defaultValue\":\"current\",\"placeholder\":\"retryStrategy\",\"rule\":\"\"}', '2022-05-25 18:02:53', '2022-05-25 18:02:53');
+INSERT INTO `plugin_handle` VALUES ('1656001200000000007', '5', 'hedgeDelay', 'hedgeDelay', 1, 2, 5, '{\"required\":\"0\",\"defaultValue\":\"100\",\"rule\":\"\"}', '2023-05-10 10:00:00', '2023-05-10 10:00:00');
+INSERT INTO `plugin_handle` VALUES ('1656001200000000008', '5', 'retryBudget', 'retryBudget', 1, 2, 6, '{\"required\":\"0\",\"defaultValue\":\"20\",\"rule\":\"\"}', '2023-05-10 10:00:00', '2023-05-10 10:00:00');
 INSERT INTO `plugin_handle` VALUES ('1529402613199978555', '13', 'upstreamHost', 'host', 2, 1, 0, NULL, '2022-05-25 18:02:53', '2022-05-25 18:02:53');
 INSERT INTO `plugin_handle` VALUES ('1529402613199978556', '13', 'protocol', 'protocol', 2, 1, 2, '{\"defaultValue\":\"\",\"rule\":\"\"}', '2022-05-25 18:02:53', '2022-05-25 18:02:53');
 INSERT INTO `plugin_handle` VALUES ('1529402613199978557', '13', 'upstreamUrl', 'ip:port', 2, 1, 1, '{\"required\":\"1\",\"placeholder\":\"\",\"rule\":\"\"}', '2022-05-25 18:02:53', '2022-05-25 18:02:53');
@@ -999,6 +1001,9 @@ INSERT INTO `plugin_handle` VALUES ('1529402613204172866', '30', 'minIdle', 'min
 INSERT INTO `plugin_handle` VALUES ('1529402613204172867', '30', 'maxActive', 'maxActive', 1, 3, 9, '{\"required\":\"0\",\"defaultValue\":\"8\",\"rule\":\"\"}', '2022-05-25 18:02:53', '2022-05-25 18:02:53');
 INSERT INTO `plugin_handle` VALUES ('1529402613204172868', '30', 'maxWait', 'maxWait', 3, 3, 10, '{\"required\":\"0\",\"defaultValue\":\"-1\",\"rule\":\"\"}', '2022-05-25 18:02:53', '2022-05-25 18:02:53');
 INSERT INTO `plugin_handle` VALUES ('1529402613204172869', '30', 'timeoutSeconds', 'timeoutSeconds', 1, 2, 0, '{\"required\":\"0\",\"defaultValue\":\"60\",\"rule\":\"\"}', '2022-05-25 18:02:53', '2022-05-25 18:02:53');
+INSERT INTO `plugin_handle` VALUES ('1656001200000000001', '30', 'singleFlight', 'singleFlight', 3, 2, 1, '{\"required\":\"0\",\"defaultValue\":\"false\",\"rule\":\"\"}', '2023-05-10 10:00:00', '2023-05-10 10:00:00');
+INSERT INTO `plugin_handle` VALUES ('1656001200000000002', '30', 'staleSeconds', 'staleSeconds', 1, 2, 2, '{\"required\":\"0\",\"defaultValue\":\"0\",\"rule\":\"\"}', '2023-05-10 10:00:00', '2023-05-10 10:00:00');
+INSERT INTO `plugin_handle` VALUES ('1656001200000000009', '30', 'maxBodySize', 'maxBodySize', 1, 2, 3, '{\"required\":\"0\",\"defaultValue\":\"1048576\",\"rule\":\"\"}', '2023-05-10 10:00:00', '2023-05-10 10:00:00');
 INSERT INTO `plugin_handle` VALUES ('1529402613204172870', '13', 'corethreads', 'corethreads', 1, 3, 3, '{\"required\":\"0\",\"defaultValue\":\"0\",\"placeholder\":\"corethreads\",\"rule\":\"\"}', '2022-05-25 18:02:53', '2022-05-25 18:02:53');
 INSERT INTO `plugin_handle` VALUES ('1529402613204172871', '13', 'threads', 'threads', 1, 3, 4, '{\"required\":\"0\",\"defaultValue\":\"2147483647\",\"placeholder\":\"threads\",\"rule\":\"\"}', '2022-05-25 18:02:53', '2022-05-25 18:02:53');
 INSERT INTO `plugin_handle` VALUES ('1529402613204172872', '13', 'queues', 'queues', 1, 3, 5, '{\"required\":\"0\",\"defaultValue\":\"0\",\"placeholder\":\"queues\",\"rule\":\"\"}', '2022-05-25 18:02:53', '2022-05-25 18:02:53');
@@ -1751,6 +1756,8 @@ INSERT INTO `shenyu_dict` VALUES ('1529402613195784237', 'threadpool', 'THREADPO
 INSERT INTO `shenyu_dict` VALUES ('1529402613195784238', 'threadpool', 'THREADPOOL', 'limited', 'limited', '', 1, 1, '2022-05-25 18:02:53', '2022-05-25 18:02:53');
 INSERT INTO `shenyu_dict` VALUES ('1529402613195784239', 'retryStrategy', 'RETRY_STRATEGY', 'current', 'current', 'current', 0, 1, '2022-05-25 18:02:53', '2022-05-25 18:02:53');
 INSERT INTO `shenyu_dict` VALUES ('1529402613195784240', 'retryStrategy', 'RETRY_STRATEGY', 'failover', 'failover', 'failover', 1, 1, '2022-05-25 18:02:53', '2022-05-25 18:02:53');
+INSERT INTO `shenyu_dict` VALUES ('1656001200000000005', 'retryStrategy', 'RETRY_STRATEGY', 'budget', 'budget', 'budget', 2, 1, '2023-05-10 10:00:00', '2023-05-10 10:00:00');
+INSERT INTO `shenyu_dict` VALUES ('1656001200000000006', 'retryStrategy', 'RETRY_STRATEGY', 'hedge', 'hedge', 'hedge', 3, 1, '2023-05-10 10:00:00', '2023-05-10 10:00:00');
 INSERT INTO `shenyu_dict` VALUES ('1529402613195784241', 'table', 'INIT_FLAG', 'status', 'true', 'table(resource,permission) init status', 0, 0, '2022-05-25 18:02:53', '2022-05-25 18:02:58');
 INSERT INTO `shenyu_dict` VALUES ('1529402613195784242', 'compressAlg', 'COMPRESS_ALG', 'none', 'none', '', 0, 1, '2022-05-25 18:02:53', '2022-05-25 18:02:53');
 INSERT INTO `shenyu_dict` VALUES ('1529402613195784243', 'compressAlg', 'COMPRESS_ALG', 'LZ4', 'LZ4', '', 1, 1, '2022-05-25 18:02:53', '2022-05-25 18:02:53');
@@ -1784,6 +1791,8 @@ INSERT INTO `shenyu_dict` VALUES ('1572621976689762305', 'engine', 'engine', 'Re
 INSERT INTO `shenyu_dict` VALUES ('1572621976689762306', 'engine', 'engine', 'MergeTree', 'MergeTree', '', 1, 1, '2022-09-22 00:21:11.924', '2022-09-22 00:21:11.924');
 INSERT INTO `shenyu_dict` VALUES ('1630761573833920512', 'mapType', 'mapType', 'all', 'all', '', 1, 1, '2023-03-01 10:47:11', '2023-03-01 10:47:11');
 INSERT INTO `shenyu_dict` VALUES ('1630761984393367552', 'mapType', 'mapType', 'field', 'field', '', 1, 1, '2023-03-01 10:48:49', '2023-03-01 10:48:49');
+INSERT INTO `shenyu_dict` VALUES ('1656001200000000003', 'singleFlight', 'SINGLE_FLIGHT', 'open', 'true', '', 0, 1, '2023-05-10 10:00:00', '2023-05-10 10:00:00');
+INSERT INTO `shenyu_dict` VALUES ('1656001200000000004', 'singleFlight', 'SINGLE_FLIGHT', 'close', 'false', '', 1, 1, '2023-05-10 10:00:00', '2023-05-10 10:00:00');
 
 -- ----------------------------
 -- Table structure for user_role
@@ -26,4 +26,21 @@ INSERT INTO `shenyu_dict` VALUES ('1630761573833920512', 'mapType', 'mapType', '
 INSERT INTO `shenyu_dict` VALUES ('1630761984393367552', 'mapType', 'mapType', 'field', 'field', '', 1, 1, '2023-03-01 10:48:49', '2023-03-01 10:48:49');
 
 /* add column into plugin table */
-ALTER TABLE `plugin` ADD COLUMN `plugin_jar` mediumblob NULL COMMENT 'plugin jar';
\ No newline at end of file
+ALTER TABLE `plugin` ADD COLUMN `plugin_jar` mediumblob NULL COMMENT 'plugin jar';
+
+/* insert plugin_handle data for plugin cache */
+INSERT INTO `plugin_handle` VALUES ('1656001200000000001', '30', 'singleFlight', 'singleFlight', 3, 2, 1, '{\"required\":\"0\",\"defaultValue\":\"false\",\"rule\":\"\"}', '2023-05-10 10:00:00', '2023-05-10 10:00:00');
+INSERT INTO `plugin_handle` VALUES ('1656001200000000002', '30', 'staleSeconds', 'staleSeconds', 1, 2, 2, '{\"required\":\"0\",\"defaultValue\":\"0\",\"rule\":\"\"}', '2023-05-10 10:00:00', '2023-05-10 10:00:00');
+INSERT INTO `plugin_handle` VALUES ('1656001200000000009', '30', 'maxBodySize', 'maxBodySize', 1, 2, 3, '{\"required\":\"0\",\"defaultValue\":\"1048576\",\"rule\":\"\"}', '2023-05-10 10:00:00', '2023-05-10 10:00:00');
+
+/* insert dict data for plugin_handle singleFlight */
+INSERT INTO `shenyu_dict` VALUES ('1656001200000000003', 'singleFlight', 'SINGLE_FLIGHT', 'open', 'true', '', 0, 1, '2023-05-10 10:00:00', '2023-05-10 10:00:00');
+INSERT INTO `shenyu_dict` VALUES ('1656001200000000004', 'singleFlight', 'SINGLE_FLIGHT', 'close', 'false', '', 1, 1, '2023-05-10 10:00:00', '2023-05-10 10:00:00');
+
+/* insert plugin_handle data for divide hedge and retry budget */
+INSERT INTO `plugin_handle` VALUES ('1656001200000000007', '5', 'hedgeDelay', 'hedgeDelay', 1, 2, 5, '{\"required\":\"0\",\"defaultValue\":\"100\",\"rule\":\"\"}', '2023-05-10 10:00:00', '2023-05-10 10:00:00');
+INSERT INTO `plugin_handle` VALUES ('1656001200000000008', '5', 'retryBudget', 'retryBudget', 1, 2, 6, '{\"required\":\"0\",\"defaultValue\":\"20\",\"rule\":\"\"}', '2023-05-10 10:00:00', '2023-05-10 10:00:00');
+
+/* insert dict data for plugin_handle retryStrategy */
+INSERT INTO `shenyu_dict` VALUES ('1656001200000000005', 'retryStrategy', 'RETRY_STRATEGY', 'budget', 'budget', 'budget', 2, 1, '2023-05-10 10:00:00', '2023-05-10 10:00:00');
+INSERT INTO `shenyu_dict` VALUES ('1656001200000000006', 'retryStrategy', 'RETRY_STRATEGY', 'hedge', 'hedge', 'hedge', 3, 1, '2023-05-10 10:00:00', '2023-05-10 10:00:00');
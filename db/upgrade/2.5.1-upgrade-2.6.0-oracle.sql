@@ -32,3 +32,30 @@ values ('1630761984393367552', 'mapType', 'mapType', 'field', 'field', '', 1, 1)
 /* add column into plugin table */
 ALTER TABLE plugin ADD plugin_jar BLOB NULL;
 COMMENT ON COLUMN plugin.plugin_jar IS 'plugin jar';
+
+/* insert plugin_handle data for plugin cache */
+insert /*+ IGNORE_ROW_ON_DUPKEY_INDEX(plugin_handle(plugin_id, field, type)) */ into plugin_handle (ID, PLUGIN_ID, FIELD, LABEL, DATA_TYPE, TYPE, SORT, EXT_OBJ)
+values ('1656001200000000001', '30', 'singleFlight', 'singleFlight', 3, 2, 1, '{"required":"0","defaultValue":"false","rule":""}');
+insert /*+ IGNORE_ROW_ON_DUPKEY_INDEX(plugin_handle(plugin_id, field, type)) */ into plugin_handle (ID, PLUGIN_ID, FIELD, LABEL, DATA_TYPE, TYPE, SORT, EXT_OBJ)
+values ('1656001200000000002', '30', 'staleSeconds', 'staleSeconds', 1, 2, 2, '{"required":"0","defaultValue":"0","rule":""}');
+
+insert /*+ IGNORE_ROW_ON_DUPKEY_INDEX(plugin_handle(plugin_id, field, type)) */ into plugin_handle (ID, PLUGIN_ID, FIELD, LABEL, DATA_TYPE, TYPE, SORT, EXT_OBJ)
+values ('1656001200000000009', '30', 'maxBodySize', 'maxBodySize', 1, 2, 3, '{"required":"0","defaultValue":"1048576","rule":""}');
+
+/* insert dict data for plugin_handle singleFlight */
+insert /*+ IGNORE_ROW_ON_DUPKEY_INDEX(shenyu_dict(type, dict_code, dict_name)) */ into SHENYU_DICT (ID, TYPE, DICT_CODE, DICT_NAME, DICT_VALUE, "desc", SORT, ENABLED)
+values ('1656001200000000003', 'singleFlight', 'SINGLE_FLIGHT', 'open', 'true', '', 0, 1);
+insert /*+ IGNORE_ROW_ON_DUPKEY_INDEX(shenyu_dict(type, dict_code, dict_name)) */ into SHENYU_DICT (ID, TYPE, DICT_CODE, DICT_NAME, DICT_VALUE, "desc", SORT, ENABLED)
+values ('1656001200000000004', 'singleFlight', 'SINGLE_FLIGHT', 'close', 'false', '', 1, 1);
+
+/* insert plugin_handle data for divide hedge and retry budget */
+insert /*+ IGNORE_ROW_ON_DUPKEY_INDEX(plugin_handle(plugin_id, field, type)) */ into plugin_handle (ID, PLUGIN_ID, FIELD, LABEL, DATA_TYPE, TYPE, SORT, EXT_OBJ)
+values ('1656001200000000007', '5', 'hedgeDelay', 'hedgeDelay', 1, 2, 5, '{"required":"0","defaultValue":"100","rule":""}');
+insert /*+ IGNORE_ROW_ON_DUPKEY_INDEX(plugin_handle(plugin_id, field, type)) */ into plugin_handle (ID, PLUGIN_ID, FIELD, LABEL, DATA_TYPE, TYPE, SORT, EXT_OBJ)
+values ('1656001200000000008', '5', 'retryBudget', 'retryBudget', 1, 2, 6, '{"required":"0","defaultValue":"20","rule":""}');
+
+/* insert dict data for plugin_handle retryStrategy */
+insert /*+ IGNORE_ROW_ON_DUPKEY_INDEX(shenyu_dict(type, dict_code, dict_name)) */ into SHENYU_DICT (ID, TYPE, DICT_CODE, DICT_NAME, DICT_VALUE, "desc", SORT, ENABLED)
+values ('1656001200000000005', 'retryStrategy', 'RETRY_STRATEGY', 'budget', 'budget', 'budget', 2, 1);
+insert /*+ IGNORE_ROW_ON_DUPKEY_INDEX(shenyu_dict(type, dict_code, dict_name)) */ into SHENYU_DICT (ID, TYPE, DICT_CODE, DICT_NAME, DICT_VALUE, "desc", SORT, ENABLED)
+values ('1656001200000000006', 'retryStrategy', 'RETRY_STRATEGY', 'hedge', 'hedge', 'hedge', 3, 1);
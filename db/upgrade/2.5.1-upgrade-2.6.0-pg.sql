@@ -28,3 +28,20 @@ INSERT INTO "public"."shenyu_dict" VALUES ('1630761984393367552', 'mapType', 'ma
 /* add column into plugin table */
 ALTER TABLE "public"."plugin" ADD COLUMN plugin_jar bytea NULL;
 COMMENT ON COLUMN "public"."plugin".plugin_jar IS 'plugin jar';
+
+/* insert plugin_handle data for plugin cache */
+INSERT INTO "public"."plugin_handle" VALUES ('1656001200000000001', '30', 'singleFlight', 'singleFlight', 3, 2, 1, '{"required":"0","defaultValue":"false","rule":""}', '2023-05-10 10:00:00', '2023-05-10 10:00:00');
+INSERT INTO "public"."plugin_handle" VALUES ('1656001200000000002', '30', 'staleSeconds', 'staleSeconds', 1, 2, 2, '{"required":"0","defaultValue":"0","rule":""}', '2023-05-10 10:00:00', '2023-05-10 10:00:00');
+INSERT INTO "public"."plugin_handle" VALUES ('1656001200000000009', '30', 'maxBodySize', 'maxBodySize', 1, 2, 3, '{"required":"0","defaultValue":"1048576","rule":""}', '2023-05-10 10:00:00', '2023-05-10 10:00:00');
+
+/* insert dict data for plugin_handle singleFlight */
+INSERT INTO "public"."shenyu_dict" VALUES ('1656001200000000003', 'singleFlight', 'SINGLE_FLIGHT', 'open', 'true', '', 0, 1, '2023-05-10 10:00:00', '2023-05-10 10:00:00');
+INSERT INTO "public"."shenyu_dict" VALUES ('1656001200000000004', 'singleFlight', 'SINGLE_FLIGHT', 'close', 'false', '', 1, 1, '2023-05-10 10:00:00', '2023-05-10 10:00:00');
+
+/* insert plugin_handle data for divide hedge and retry budget */
+INSERT INTO "public"."plugin_handle" VALUES ('1656001200000000007', '5', 'hedgeDelay', 'hedgeDelay', 1, 2, 5, '{"required":"0","defaultValue":"100","rule":""}', '2023-05-10 10:00:00', '2023-05-10 10:00:00');
+INSERT INTO "public"."plugin_handle" VALUES ('1656001200000000008', '5', 'retryBudget', 'retryBudget', 1, 2, 6, '{"required":"0","defaultValue":"20","rule":""}', '2023-05-10 10:00:00', '2023-05-10 10:00:00');
+
+/* insert dict data for plugin_handle retryStrategy */
+INSERT INTO "public"."shenyu_dict" VALUES ('1656001200000000005', 'retryStrategy', 'RETRY_STRATEGY', 'budget', 'budget', 'budget', 2, 1, '2023-05-10 10:00:00', '2023-05-10 10:00:00');
+INSERT INTO "public"."shenyu_dict" VALUES ('1656001200000000006', 'retryStrategy', 'RETRY_STRATEGY', 'hedge', 'hedge', 'hedge', 3, 1, '2023-05-10 10:00:00', '2023-05-10 10:00:00');
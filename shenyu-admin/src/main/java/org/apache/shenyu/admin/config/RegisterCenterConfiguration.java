@@ -17,9 +17,12 @@
 
 package org.apache.shenyu.admin.config;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.apache.shenyu.admin.disruptor.RegisterClientServerDisruptorPublisher;
 import org.apache.shenyu.admin.service.register.ShenyuClientRegisterService;
 import org.apache.shenyu.register.client.server.api.ShenyuClientServerRegisterRepository;
+import org.apache.shenyu.disruptor.strategy.WaitStrategyEnum;
 import org.apache.shenyu.register.common.config.ShenyuRegisterCenterConfig;
 import org.apache.shenyu.spi.ExtensionLoader;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -28,6 +31,7 @@ import org.springframework.context.annotation.Configuration;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -62,8 +66,25 @@ public class RegisterCenterConfiguration {
         ShenyuClientServerRegisterRepository registerRepository = ExtensionLoader.getExtensionLoader(ShenyuClientServerRegisterRepository.class).getJoin(registerType);
         RegisterClientServerDisruptorPublisher publisher = RegisterClientServerDisruptorPublisher.getInstance();
         Map<String, ShenyuClientRegisterService> registerServiceMap = shenyuClientRegisterService.stream().collect(Collectors.toMap(ShenyuClientRegisterService::rpcType, Function.identity()));
-        publisher.start(registerServiceMap);
+        String waitStrategy = Optional.ofNullable(shenyuRegisterCenterConfig.getProps()).map(props -> props.getProperty("disruptorWaitStrategy")).orElse(null);
+        publisher.start(registerServiceMap, WaitStrategyEnum.acquireByName(waitStrategy));
         registerRepository.init(publisher, shenyuRegisterCenterConfig);
         return registerRepository;
     }
+
+    /**
+     * Expose the occupancy and lag of the register disruptor.
+     *
+     * @return the meter binder
+     */
+    @Bean
+    public MeterBinder registerDisruptorMeterBinder() {
+        RegisterClientServerDisruptorPublisher publisher = RegisterClientServerDisruptorPublisher.getInstance();
+        return registry -> {
+            Gauge.builder("shenyu.register.disruptor.occupancy", publisher, RegisterClientServerDisruptorPublisher::getOccupancy)
+                    .description("the register events waiting in the ring buffer").register(registry);
+            Gauge.builder("shenyu.register.disruptor.lag", publisher, RegisterClientServerDisruptorPublisher::getLag)
+                    .description("the register events the slowest consumer is behind").register(registry);
+        };
+    }
 }
@@ -40,6 +40,11 @@ public class WebsocketSyncProperties {
      */
     private String allowOrigins;
 
+    /**
+     * max messages waiting to be sent per session, default is 1024.
+     */
+    private int sendQueueSize = 1024;
+
     /**
      * Gets the value of enabled.
      *
@@ -91,4 +96,22 @@ public class WebsocketSyncProperties {
     public void setAllowOrigins(final String allowOrigins) {
         this.allowOrigins = allowOrigins;
     }
+
+    /**
+     * get sendQueueSize.
+     *
+     * @return sendQueueSize
+     */
+    public int getSendQueueSize() {
+        return sendQueueSize;
+    }
+
+    /**
+     * set sendQueueSize.
+     *
+     * @param sendQueueSize sendQueueSize
+     */
+    public void setSendQueueSize(final int sendQueueSize) {
+        this.sendQueueSize = sendQueueSize;
+    }
 }
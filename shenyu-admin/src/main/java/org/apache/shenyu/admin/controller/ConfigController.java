@@ -22,6 +22,7 @@ import org.apache.shenyu.admin.listener.http.HttpLongPollingDataChangedListener;
 import org.apache.shenyu.admin.model.result.ShenyuAdminResult;
 import org.apache.shenyu.admin.utils.ShenyuResultMessage;
 import org.apache.shenyu.common.dto.ConfigData;
+import org.apache.shenyu.common.dto.ConfigDeltaData;
 import org.apache.shenyu.common.enums.ConfigGroupEnum;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -64,6 +65,27 @@ public class ConfigController {
         return ShenyuAdminResult.success(ShenyuResultMessage.SUCCESS, result);
     }
     
+    /**
+     * Fetch the changes of the groups since the client revisions.
+     * A group gets its full data instead when the revision log no longer covers the client revision.
+     *
+     * @param groupKeys the group keys
+     * @param revisions the client revisions, one per group key
+     * @param epoch     the epoch of the client revisions
+     * @return the shenyu result
+     */
+    @GetMapping("/delta")
+    public ShenyuAdminResult fetchDelta(@NotNull final String[] groupKeys, @NotNull final long[] revisions, final String epoch) {
+        if (groupKeys.length != revisions.length) {
+            return ShenyuAdminResult.error(ShenyuResultMessage.PARAMETER_ERROR);
+        }
+        Map<String, ConfigDeltaData<?>> result = Maps.newHashMap();
+        for (int i = 0; i < groupKeys.length; i++) {
+            result.put(groupKeys[i], longPollingListener.fetchDelta(ConfigGroupEnum.valueOf(groupKeys[i]), epoch, revisions[i]));
+        }
+        return ShenyuAdminResult.success(ShenyuResultMessage.SUCCESS, result);
+    }
+    
     /**
      * Listener.
      *
@@ -24,12 +24,14 @@ import org.apache.shenyu.admin.disruptor.subscriber.URIRegisterExecutorSubscribe
 import org.apache.shenyu.admin.service.register.ShenyuClientRegisterService;
 import org.apache.shenyu.disruptor.DisruptorProviderManage;
 import org.apache.shenyu.disruptor.provider.DisruptorProvider;
+import org.apache.shenyu.disruptor.strategy.WaitStrategyEnum;
 import org.apache.shenyu.register.common.type.DataTypeParent;
 import org.apache.shenyu.register.client.server.api.ShenyuClientServerRegisterPublisher;
 
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
@@ -56,14 +58,43 @@ public class RegisterClientServerDisruptorPublisher implements ShenyuClientServe
      * @param shenyuClientRegisterService the shenyu client register service
      */
     public void start(final Map<String, ShenyuClientRegisterService> shenyuClientRegisterService) {
+        start(shenyuClientRegisterService, WaitStrategyEnum.BLOCKING);
+    }
+    
+    /**
+     * start, the register data is consumed in batches on the disruptor threads.
+     *
+     * @param shenyuClientRegisterService the shenyu client register service
+     * @param waitStrategy the wait strategy of the consumers
+     */
+    public void start(final Map<String, ShenyuClientRegisterService> shenyuClientRegisterService, final WaitStrategyEnum waitStrategy) {
         RegisterServerExecutorFactory factory = new RegisterServerExecutorFactory();
         factory.addSubscribers(new URIRegisterExecutorSubscriber(shenyuClientRegisterService));
         factory.addSubscribers(new MetadataExecutorSubscriber(shenyuClientRegisterService));
         factory.addSubscribers(new ApiDocExecutorSubscriber(shenyuClientRegisterService));
         providerManage = new DisruptorProviderManage<>(factory);
+        providerManage.setWaitStrategy(waitStrategy);
         providerManage.startup();
     }
     
+    /**
+     * Gets the register events waiting in the ring buffer.
+     *
+     * @return the occupancy
+     */
+    public long getOccupancy() {
+        return Objects.isNull(providerManage) ? 0L : providerManage.getProvider().getOccupancy();
+    }
+    
+    /**
+     * Gets how many register events the slowest consumer is behind.
+     *
+     * @return the lag
+     */
+    public long getLag() {
+        return Objects.isNull(providerManage) ? 0L : providerManage.getProvider().getLag();
+    }
+    
     @Override
     public void publish(final DataTypeParent data) {
         DisruptorProvider<Collection<DataTypeParent>> provider = providerManage.getProvider();
@@ -19,6 +19,7 @@ package org.apache.shenyu.admin.disruptor.executor;
 
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.disruptor.consumer.QueueBatchConsumer;
 import org.apache.shenyu.disruptor.consumer.QueueConsumerExecutor;
 import org.apache.shenyu.disruptor.consumer.QueueConsumerFactory;
 import org.apache.shenyu.register.common.dto.MetaDataRegisterDTO;
@@ -31,6 +32,8 @@ import org.apache.shenyu.register.common.type.DataTypeParent;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -60,6 +63,19 @@ public final class RegisterServerConsumerExecutor extends QueueConsumerExecutor<
         selectExecutor(results).executor(results);
     }
     
+    /**
+     * Consume a whole batch, the data of each type is handed over to its subscriber at once.
+     *
+     * @param batch the batch
+     */
+    private void consume(final List<Collection<DataTypeParent>> batch) {
+        Map<DataType, List<DataTypeParent>> results = batch.stream()
+                .flatMap(Collection::stream)
+                .filter(this::isValidData)
+                .collect(Collectors.groupingBy(DataTypeParent::getType, LinkedHashMap::new, Collectors.toList()));
+        results.forEach((type, list) -> Optional.ofNullable(subscribers.get(type)).ifPresent(subscriber -> subscriber.executor(list)));
+    }
+    
     private boolean isValidData(final Object data) {
         if (data instanceof URIRegisterDTO) {
             URIRegisterDTO uriRegisterDTO = (URIRegisterDTO) data;
@@ -101,6 +117,11 @@ public final class RegisterServerConsumerExecutor extends QueueConsumerExecutor<
             return "shenyu_register_server";
         }
     
+        @Override
+        public QueueBatchConsumer<Collection<DataTypeParent>> createBatchConsumer() {
+            return ((RegisterServerConsumerExecutor) create())::consume;
+        }
+    
     
         /**
          * Add subscribers abstract queue consumer factory.
@@ -17,15 +17,17 @@
 
 package org.apache.shenyu.admin.listener;
 
-import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.shenyu.admin.service.AppAuthService;
 import org.apache.shenyu.admin.service.MetaDataService;
 import org.apache.shenyu.admin.service.PluginService;
 import org.apache.shenyu.admin.service.RuleService;
 import org.apache.shenyu.admin.service.SelectorService;
 import org.apache.shenyu.common.dto.AppAuthData;
+import org.apache.shenyu.common.dto.ConfigChangeData;
 import org.apache.shenyu.common.dto.ConfigData;
+import org.apache.shenyu.common.dto.ConfigDeltaData;
 import org.apache.shenyu.common.dto.MetaData;
 import org.apache.shenyu.common.dto.PluginData;
 import org.apache.shenyu.common.dto.RuleData;
@@ -39,6 +41,7 @@ import org.springframework.beans.factory.InitializingBean;
 
 import javax.annotation.Resource;
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
@@ -92,20 +95,31 @@ public abstract class AbstractDataChangedListener implements DataChangedListener
      */
     public ConfigData<?> fetchConfig(final ConfigGroupEnum groupKey) {
         ConfigDataCache config = CACHE.get(groupKey.name());
-        switch (groupKey) {
-            case APP_AUTH:
-                return buildConfigData(config, AppAuthData.class);
-            case PLUGIN:
-                return buildConfigData(config, PluginData.class);
-            case RULE:
-                return buildConfigData(config, RuleData.class);
-            case SELECTOR:
-                return buildConfigData(config, SelectorData.class);
-            case META_DATA:
-                return buildConfigData(config, MetaData.class);
-            default:
-                throw new IllegalStateException("Unexpected groupKey: " + groupKey);
+        return buildConfigData(config, dataType(groupKey));
+    }
+
+    /**
+     * fetch the changes after the client revision, or the whole group when the revision log no longer covers it.
+     *
+     * @param groupKey the group key
+     * @param epoch    the epoch of the client revision
+     * @param revision the client revision
+     * @return the delta data
+     */
+    @SuppressWarnings("unchecked")
+    public ConfigDeltaData<?> fetchDelta(final ConfigGroupEnum groupKey, final String epoch, final long revision) {
+        ConfigDataCache config = CACHE.get(groupKey.name());
+        ConfigRevisionLog.Changes changes = ConfigRevisionLog.getInstance().changesSince(groupKey, epoch, revision);
+        ConfigDeltaData<Object> delta = new ConfigDeltaData<>();
+        delta.setMd5(config.getMd5()).setLastModifyTime(config.getLastModifyTime()).setEpoch(ConfigRevisionLog.getInstance().getEpoch());
+        if (Objects.isNull(changes)) {
+            delta.setFull(true).setData((List<Object>) (List<?>) dataOf(config, dataType(groupKey)));
+            delta.setRevision(config.getRevision());
+        } else {
+            delta.setChanges((List<ConfigChangeData<Object>>) (List<?>) changes.getChanges());
+            delta.setRevision(changes.getRevision());
         }
+        return delta;
     }
     
     @Override
@@ -198,6 +212,17 @@ public abstract class AbstractDataChangedListener implements DataChangedListener
     protected void afterSelectorChanged(final List<SelectorData> changed, final DataEventTypeEnum eventType) {
     }
     
+    /**
+     * The cache of the group is reloaded from the database on every change,
+     * so a snapshot published chunk by chunk is reloaded once with its last chunk.
+     *
+     * @return true
+     */
+    @Override
+    public boolean reloadsGroup() {
+        return true;
+    }
+    
     @Override
     public final void afterPropertiesSet() {
         this.refreshLocalCache();
@@ -208,13 +233,21 @@ public abstract class AbstractDataChangedListener implements DataChangedListener
     
     /**
      * if md5 is not the same as the original, then update lcoal cache.
+     * The md5 is only compared when no change was logged since the current cache was built,
+     * a logged change already tells the data changed, so the group is not serialized for it.
      * @param group ConfigGroupEnum
      * @param <T> the type of class
      * @param data the new config data
      */
     protected <T> void updateCache(final ConfigGroupEnum group, final List<T> data) {
-        String json = GsonUtils.getInstance().toJson(data);
-        ConfigDataCache newVal = new ConfigDataCache(group.name(), json, DigestUtils.md5Hex(json), System.currentTimeMillis());
+        long revision = ConfigRevisionLog.getInstance().getRevision(group);
+        ConfigDataCache newVal = new ConfigDataCache(group.name(), data, System.currentTimeMillis(), revision);
+        ConfigDataCache current = CACHE.get(group.name());
+        if (Objects.nonNull(current) && current.getRevision() == revision && !StringUtils.equals(current.getMd5(), newVal.getMd5())) {
+            // changed without a data changed event, the logged changes can not rebuild it any more
+            newVal = new ConfigDataCache(group.name(), newVal.getJson(), newVal.getMd5(), newVal.getLastModifyTime(),
+                    ConfigRevisionLog.getInstance().truncate(group));
+        }
         ConfigDataCache oldVal = CACHE.put(newVal.getGroup(), newVal);
         LOG.info("update config cache[{}], old: {}, updated: {}", group, oldVal, newVal);
     }
@@ -266,6 +299,30 @@ public abstract class AbstractDataChangedListener implements DataChangedListener
     }
     
     private <T> ConfigData<T> buildConfigData(final ConfigDataCache config, final Class<T> dataType) {
-        return new ConfigData<>(config.getMd5(), config.getLastModifyTime(), GsonUtils.getInstance().fromList(config.getJson(), dataType));
+        return new ConfigData<>(config.getMd5(), config.getLastModifyTime(), dataOf(config, dataType))
+                .setEpoch(ConfigRevisionLog.getInstance().getEpoch())
+                .setRevision(config.getRevision());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> dataOf(final ConfigDataCache config, final Class<T> dataType) {
+        return Objects.nonNull(config.getData()) ? (List<T>) config.getData() : GsonUtils.getInstance().fromList(config.getJson(), dataType);
+    }
+
+    private static Class<?> dataType(final ConfigGroupEnum groupKey) {
+        switch (groupKey) {
+            case APP_AUTH:
+                return AppAuthData.class;
+            case PLUGIN:
+                return PluginData.class;
+            case RULE:
+                return RuleData.class;
+            case SELECTOR:
+                return SelectorData.class;
+            case META_DATA:
+                return MetaData.class;
+            default:
+                throw new IllegalStateException("Unexpected groupKey: " + groupKey);
+        }
     }
 }
@@ -137,7 +137,6 @@ public abstract class AbstractListDataChangedListener implements DataChangedList
                 });
                 break;
             case REFRESH:
-            case MYSELF:
                 if (CollectionUtils.isNotEmpty(changed)) {
                     SELECTOR_MAP.remove(changed.get(0).getPluginName());
                 }
@@ -150,6 +149,7 @@ public abstract class AbstractListDataChangedListener implements DataChangedList
                 });
                 break;
             default:
+                // MYSELF resends the snapshot chunk by chunk, a chunk may hold a part of the selectors of a plugin
                 changed.forEach(selector -> {
                     List<SelectorData> ls = SELECTOR_MAP
                             .getOrDefault(selector.getPluginName(), new ArrayList<>())
@@ -214,7 +214,6 @@ public abstract class AbstractListDataChangedListener implements DataChangedList
                 });
                 break;
             case REFRESH:
-            case MYSELF:
                 Set<String> selectIdSet = changed
                         .stream()
                         .map(RuleData::getSelectorId)
@@ -229,6 +228,7 @@ public abstract class AbstractListDataChangedListener implements DataChangedList
                 });
                 break;
             default:
+                // MYSELF resends the snapshot chunk by chunk, a chunk may hold a part of the rules of a selector
                 changed.forEach(rule -> {
                     List<RuleData> ls = RULE_MAP
                             .getOrDefault(rule.getSelectorId(), new ArrayList<>())
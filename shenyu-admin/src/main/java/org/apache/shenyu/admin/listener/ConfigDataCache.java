@@ -17,6 +17,12 @@
 
 package org.apache.shenyu.admin.listener;
 
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.shenyu.common.utils.GsonUtils;
+
+import java.util.List;
+import java.util.Objects;
+
 /**
  * Data cache to compare if data has changed.
  *
@@ -28,9 +34,13 @@ public class ConfigDataCache {
 
     private volatile String md5;
 
-    private final String json;
+    private volatile String json;
+
+    private final List<?> data;
 
     private volatile long lastModifyTime;
+
+    private final long revision;
     
     /**
      * Instantiates a new Config data cache.
@@ -41,10 +51,41 @@ public class ConfigDataCache {
      * @param lastModifyTime the last modify time
      */
     public ConfigDataCache(final String group, final String json, final String md5, final long lastModifyTime) {
+        this(group, json, md5, lastModifyTime, 0L);
+    }
+
+    /**
+     * Instantiates a new Config data cache.
+     *
+     * @param group          the group
+     * @param json           the json
+     * @param md5            the md5
+     * @param lastModifyTime the last modify time
+     * @param revision       the {@linkplain ConfigRevisionLog} revision the json was built at
+     */
+    public ConfigDataCache(final String group, final String json, final String md5, final long lastModifyTime, final long revision) {
         this.group = group;
         this.json = json;
         this.md5 = md5;
+        this.data = null;
         this.lastModifyTime = lastModifyTime;
+        this.revision = revision;
+    }
+
+    /**
+     * Instantiates a new Config data cache of the data itself, the json and its md5 are only built once asked for,
+     * so a group changed many times between two polls is serialized once.
+     *
+     * @param group          the group
+     * @param data           the data
+     * @param lastModifyTime the last modify time
+     * @param revision       the {@linkplain ConfigRevisionLog} revision the data was loaded at
+     */
+    public ConfigDataCache(final String group, final List<?> data, final long lastModifyTime, final long revision) {
+        this.group = group;
+        this.data = data;
+        this.lastModifyTime = lastModifyTime;
+        this.revision = revision;
     }
     
     /**
@@ -73,7 +114,12 @@ public class ConfigDataCache {
      * @return the md5
      */
     public String getMd5() {
-        return md5;
+        String result = md5;
+        if (Objects.isNull(result)) {
+            result = DigestUtils.md5Hex(getJson());
+            md5 = result;
+        }
+        return result;
     }
     
     /**
@@ -91,7 +137,30 @@ public class ConfigDataCache {
      * @return the json
      */
     public String getJson() {
-        return json;
+        String result = json;
+        if (Objects.isNull(result)) {
+            result = GsonUtils.getInstance().toJson(data);
+            json = result;
+        }
+        return result;
+    }
+
+    /**
+     * Gets the data the cache was built of.
+     *
+     * @return the data, or null when the cache was built of the json
+     */
+    public List<?> getData() {
+        return data;
+    }
+
+    /**
+     * Gets revision.
+     *
+     * @return the revision
+     */
+    public long getRevision() {
+        return revision;
     }
 
     @Override
@@ -100,6 +169,7 @@ public class ConfigDataCache {
                 + "group='" + group + '\''
                 + ", md5='" + md5 + '\''
                 + ", lastModifyTime=" + lastModifyTime
+                + ", revision=" + revision
                 + '}';
     }
 }
@@ -0,0 +1,225 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.admin.listener;
+
+import org.apache.shenyu.common.dto.ConfigChangeData;
+import org.apache.shenyu.common.enums.ConfigGroupEnum;
+import org.apache.shenyu.common.enums.DataEventTypeEnum;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Per group revision log of the data changed events, used by the gateways to sync the changes since a revision
+ * instead of the whole group. Only the latest {@link #DEFAULT_CAPACITY} changes of each group are kept,
+ * a client behind the oldest kept revision has to fetch the full snapshot. A refreshed snapshot of a group
+ * is never kept, it drops the kept changes so every client behind it fetches the full snapshot instead.
+ */
+public final class ConfigRevisionLog {
+
+    /**
+     * The default number of changes kept per group.
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private static final ConfigRevisionLog INSTANCE = new ConfigRevisionLog(DEFAULT_CAPACITY);
+
+    /**
+     * Revisions only make sense inside one admin process, the epoch changes with every start.
+     */
+    private final String epoch = UUID.randomUUID().toString();
+
+    private final int capacity;
+
+    private final Map<ConfigGroupEnum, GroupLog> logs = new EnumMap<>(ConfigGroupEnum.class);
+
+    ConfigRevisionLog(final int capacity) {
+        this.capacity = capacity;
+        for (ConfigGroupEnum group : ConfigGroupEnum.values()) {
+            logs.put(group, new GroupLog());
+        }
+    }
+
+    /**
+     * Gets instance.
+     *
+     * @return the instance
+     */
+    public static ConfigRevisionLog getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Gets epoch.
+     *
+     * @return the epoch
+     */
+    public String getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * Append a change of the group, a {@link DataEventTypeEnum#REFRESH} is not kept but truncates the log.
+     *
+     * @param group     the group
+     * @param eventType the event type
+     * @param data      the changed data
+     * @return the revision of the change
+     */
+    public long append(final ConfigGroupEnum group, final DataEventTypeEnum eventType, final List<?> data) {
+        if (eventType == DataEventTypeEnum.REFRESH) {
+            return truncate(group);
+        }
+        GroupLog log = logs.get(group);
+        synchronized (log) {
+            long revision = ++log.revision;
+            log.changes.addLast(new ConfigChangeData<>(revision, eventType.name(), new ArrayList<Object>(data)));
+            if (log.changes.size() > capacity) {
+                log.changes.removeFirst();
+            }
+            return revision;
+        }
+    }
+
+    /**
+     * Run the action under the publish lock of the group. The changes logged and pushed by the action are pushed
+     * in the order of their revisions, so a client never gets revision N + 1 before revision N.
+     *
+     * @param group  the group
+     * @param action the action that logs or reads the changes and pushes them
+     * @param <T>    the result type
+     * @return the result of the action
+     */
+    public <T> T publish(final ConfigGroupEnum group, final Supplier<T> action) {
+        synchronized (logs.get(group).publishLock) {
+            return action.get();
+        }
+    }
+
+    /**
+     * Drop all kept changes of the group, used when the group was refreshed or changed without an event,
+     * every client has to fetch the full snapshot again.
+     *
+     * @param group the group
+     * @return the new revision
+     */
+    public long truncate(final ConfigGroupEnum group) {
+        GroupLog log = logs.get(group);
+        synchronized (log) {
+            log.changes.clear();
+            return ++log.revision;
+        }
+    }
+
+    /**
+     * Gets the latest revision of the group.
+     *
+     * @param group the group
+     * @return the revision
+     */
+    public long getRevision(final ConfigGroupEnum group) {
+        GroupLog log = logs.get(group);
+        synchronized (log) {
+            return log.revision;
+        }
+    }
+
+    /**
+     * Gets the changes after the client revision.
+     *
+     * @param group    the group
+     * @param epoch    the epoch the client revision belongs to
+     * @param revision the client revision
+     * @return the changes ordered by revision, or null when the client has to fetch the full snapshot
+     */
+    public Changes changesSince(final ConfigGroupEnum group, final String epoch, final long revision) {
+        GroupLog log = logs.get(group);
+        synchronized (log) {
+            if (!Objects.equals(this.epoch, epoch) || revision > log.revision) {
+                return null;
+            }
+            if (revision == log.revision) {
+                return new Changes(log.revision, Collections.emptyList());
+            }
+            ConfigChangeData<?> oldest = log.changes.peekFirst();
+            if (Objects.isNull(oldest) || oldest.getRevision() > revision + 1) {
+                return null;
+            }
+            List<ConfigChangeData<?>> result = new ArrayList<>((int) (log.revision - revision));
+            for (ConfigChangeData<?> change : log.changes) {
+                if (change.getRevision() > revision) {
+                    result.add(change);
+                }
+            }
+            return new Changes(log.revision, result);
+        }
+    }
+
+    private static final class GroupLog {
+
+        private final Deque<ConfigChangeData<?>> changes = new ArrayDeque<>();
+
+        /**
+         * Held while a change is logged and pushed, the readers of the log only take the monitor of the group log.
+         */
+        private final Object publishLock = new Object();
+
+        private long revision;
+    }
+
+    /**
+     * The changes of a group up to a revision.
+     */
+    public static final class Changes {
+
+        private final long revision;
+
+        private final List<ConfigChangeData<?>> changes;
+
+        Changes(final long revision, final List<ConfigChangeData<?>> changes) {
+            this.revision = revision;
+            this.changes = changes;
+        }
+
+        /**
+         * Gets the revision the changes lead to.
+         *
+         * @return the revision
+         */
+        public long getRevision() {
+            return revision;
+        }
+
+        /**
+         * Gets changes.
+         *
+         * @return the changes
+         */
+        public List<ConfigChangeData<?>> getChanges() {
+            return changes;
+        }
+    }
+}
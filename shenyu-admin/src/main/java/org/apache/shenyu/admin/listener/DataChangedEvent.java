@@ -39,6 +39,12 @@ public class DataChangedEvent extends ApplicationEvent {
 
     private final ConfigGroupEnum groupKey;
 
+    private final boolean firstChunk;
+
+    private final boolean lastChunk;
+
+    private long revision;
+
     /**
      * Instantiates a new Data changed event.
      *
@@ -47,9 +53,26 @@ public class DataChangedEvent extends ApplicationEvent {
      * @param source   the source
      */
     public DataChangedEvent(final ConfigGroupEnum groupKey, final DataEventTypeEnum type, final List<?> source) {
+        this(groupKey, type, source, true, true);
+    }
+
+    /**
+     * Instantiates a chunk of a data changed event, the data of a group is published chunk by chunk
+     * so a snapshot of the group is never held in memory at once.
+     *
+     * @param groupKey   the group key
+     * @param type       the type of the whole snapshot
+     * @param source     the data of the chunk
+     * @param firstChunk whether it is the first chunk of the snapshot
+     * @param lastChunk  whether it is the last chunk of the snapshot
+     */
+    public DataChangedEvent(final ConfigGroupEnum groupKey, final DataEventTypeEnum type, final List<?> source,
+                            final boolean firstChunk, final boolean lastChunk) {
         super(source.stream().filter(Objects::nonNull).collect(Collectors.toList()));
         this.eventType = type;
         this.groupKey = groupKey;
+        this.firstChunk = firstChunk;
+        this.lastChunk = lastChunk;
     }
 
     /**
@@ -75,4 +98,40 @@ public class DataChangedEvent extends ApplicationEvent {
         return this.groupKey;
     }
 
+    /**
+     * Whether it is the first chunk of the snapshot.
+     *
+     * @return true if first chunk
+     */
+    boolean isFirstChunk() {
+        return firstChunk;
+    }
+
+    /**
+     * Whether it is the last chunk of the snapshot.
+     *
+     * @return true if last chunk
+     */
+    boolean isLastChunk() {
+        return lastChunk;
+    }
+
+    /**
+     * Gets the {@linkplain ConfigRevisionLog} revision the change was logged at.
+     *
+     * @return the revision
+     */
+    long getRevision() {
+        return revision;
+    }
+
+    /**
+     * Sets the revision the change was logged at, set by the dispatcher before the listeners see the event.
+     *
+     * @param revision the revision
+     */
+    void setRevision(final long revision) {
+        this.revision = revision;
+    }
+
 }
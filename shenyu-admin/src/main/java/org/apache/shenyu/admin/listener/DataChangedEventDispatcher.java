@@ -17,12 +17,15 @@
 
 package org.apache.shenyu.admin.listener;
 
+import org.apache.commons.collections4.CollectionUtils;
 import org.apache.shenyu.admin.service.manager.LoadServiceDocEntry;
 import org.apache.shenyu.common.dto.AppAuthData;
 import org.apache.shenyu.common.dto.MetaData;
 import org.apache.shenyu.common.dto.PluginData;
 import org.apache.shenyu.common.dto.RuleData;
 import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.enums.ConfigGroupEnum;
+import org.apache.shenyu.common.enums.DataEventTypeEnum;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationListener;
@@ -32,6 +35,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * Event forwarders, which forward the changed events to each ConfigEventListener.
@@ -43,6 +47,8 @@ public class DataChangedEventDispatcher implements ApplicationListener<DataChang
 
     private List<DataChangedListener> listeners;
 
+    private List<RevisionDataChangedListener> revisionListeners;
+
     public DataChangedEventDispatcher(final ApplicationContext applicationContext) {
         this.applicationContext = applicationContext;
     }
@@ -50,33 +56,66 @@ public class DataChangedEventDispatcher implements ApplicationListener<DataChang
     @Override
     @SuppressWarnings("unchecked")
     public void onApplicationEvent(final DataChangedEvent event) {
+        // the chunks after the first one of a refreshed snapshot only add data to the first one
+        DataEventTypeEnum eventType = event.getEventType() == DataEventTypeEnum.REFRESH && !event.isFirstChunk()
+                ? DataEventTypeEnum.UPDATE : event.getEventType();
+        // the revision is assigned and pushed under the lock of the group, the pushes of a group keep the order of their revisions
+        event.setRevision(ConfigRevisionLog.getInstance().publish(event.getGroupKey(), () -> {
+            long revision = logChange(event);
+            for (RevisionDataChangedListener listener : revisionListeners) {
+                if (event.isLastChunk() || !listener.reloadsGroup()) {
+                    listener.onDataChanged(event.getGroupKey(), event.getSource(), eventType, revision);
+                }
+            }
+            return revision;
+        }));
         for (DataChangedListener listener : listeners) {
+            if (listener instanceof RevisionDataChangedListener || !event.isLastChunk() && listener.reloadsGroup()) {
+                continue;
+            }
             switch (event.getGroupKey()) {
                 case APP_AUTH:
-                    listener.onAppAuthChanged((List<AppAuthData>) event.getSource(), event.getEventType());
+                    listener.onAppAuthChanged((List<AppAuthData>) event.getSource(), eventType);
                     break;
                 case PLUGIN:
-                    listener.onPluginChanged((List<PluginData>) event.getSource(), event.getEventType());
+                    listener.onPluginChanged((List<PluginData>) event.getSource(), eventType);
                     break;
                 case RULE:
-                    listener.onRuleChanged((List<RuleData>) event.getSource(), event.getEventType());
+                    listener.onRuleChanged((List<RuleData>) event.getSource(), eventType);
                     break;
                 case SELECTOR:
-                    listener.onSelectorChanged((List<SelectorData>) event.getSource(), event.getEventType());
-                    applicationContext.getBean(LoadServiceDocEntry.class).loadDocOnSelectorChanged((List<SelectorData>) event.getSource(), event.getEventType());
+                    listener.onSelectorChanged((List<SelectorData>) event.getSource(), eventType);
                     break;
                 case META_DATA:
-                    listener.onMetaDataChanged((List<MetaData>) event.getSource(), event.getEventType());
+                    listener.onMetaDataChanged((List<MetaData>) event.getSource(), eventType);
                     break;
                 default:
                     throw new IllegalStateException("Unexpected value: " + event.getGroupKey());
             }
         }
+        if (event.getGroupKey() == ConfigGroupEnum.SELECTOR) {
+            // the docs are loaded by the type of the whole snapshot, not by the type of the chunk
+            applicationContext.getBean(LoadServiceDocEntry.class).loadDocOnSelectorChanged((List<SelectorData>) event.getSource(), event.getEventType());
+        }
+    }
+
+    private long logChange(final DataChangedEvent event) {
+        ConfigRevisionLog revisionLog = ConfigRevisionLog.getInstance();
+        // MYSELF events resend the current data to one client, they change nothing
+        if (event.getEventType() == DataEventTypeEnum.MYSELF || CollectionUtils.isEmpty(event.getSource())) {
+            return revisionLog.getRevision(event.getGroupKey());
+        }
+        // every chunk of a refreshed snapshot is logged as a refresh, none of them is kept
+        return revisionLog.append(event.getGroupKey(), event.getEventType(), event.getSource());
     }
 
     @Override
     public void afterPropertiesSet() {
         Collection<DataChangedListener> listenerBeans = applicationContext.getBeansOfType(DataChangedListener.class).values();
         this.listeners = Collections.unmodifiableList(new ArrayList<>(listenerBeans));
+        this.revisionListeners = listeners.stream()
+                .filter(RevisionDataChangedListener.class::isInstance)
+                .map(RevisionDataChangedListener.class::cast)
+                .collect(Collectors.toList());
     }
 }
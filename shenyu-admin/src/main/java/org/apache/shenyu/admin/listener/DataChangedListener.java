@@ -78,4 +78,14 @@ public interface DataChangedListener {
     default void onRuleChanged(List<RuleData> changed, DataEventTypeEnum eventType) {
     }
 
+    /**
+     * Whether the listener reloads the whole group on every change, such a listener only receives
+     * the last chunk of a snapshot published chunk by chunk.
+     *
+     * @return true if the whole group is reloaded
+     */
+    default boolean reloadsGroup() {
+        return false;
+    }
+
 }
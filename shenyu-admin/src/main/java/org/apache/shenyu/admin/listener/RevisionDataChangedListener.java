@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.admin.listener;
+
+import org.apache.shenyu.common.enums.ConfigGroupEnum;
+import org.apache.shenyu.common.enums.DataEventTypeEnum;
+
+import java.util.List;
+
+/**
+ * A data changed listener that forwards every change with the {@linkplain ConfigRevisionLog} revision it was logged at,
+ * the dispatcher calls {@link #onDataChanged} instead of the methods of each group.
+ */
+public interface RevisionDataChangedListener extends DataChangedListener {
+
+    /**
+     * invoke this method when the data of a group was changed.
+     *
+     * @param group     the group
+     * @param changed   the changed data
+     * @param eventType the event type
+     * @param revision  the revision the change was logged at
+     */
+    void onDataChanged(ConfigGroupEnum group, List<?> changed, DataEventTypeEnum eventType, long revision);
+}
@@ -17,15 +17,23 @@
 
 package org.apache.shenyu.admin.listener.websocket;
 
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
 import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.admin.listener.ConfigRevisionLog;
 import org.apache.shenyu.admin.service.SyncDataService;
 import org.apache.shenyu.admin.spring.SpringBeanUtils;
 import org.apache.shenyu.admin.utils.ThreadLocalUtils;
+import org.apache.shenyu.common.dto.ConfigChangeData;
+import org.apache.shenyu.common.dto.WebsocketData;
+import org.apache.shenyu.common.enums.ConfigGroupEnum;
 import org.apache.shenyu.common.enums.DataEventTypeEnum;
+import org.apache.shenyu.common.utils.GsonUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.websocket.CloseReason;
 import javax.websocket.OnClose;
 import javax.websocket.OnError;
 import javax.websocket.OnMessage;
@@ -33,11 +41,12 @@ import javax.websocket.OnOpen;
 import javax.websocket.Session;
 import javax.websocket.server.ServerEndpoint;
 import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
-import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The type Websocket data changed listener.
@@ -49,9 +58,19 @@ public class WebsocketCollector {
     
     private static final Logger LOG = LoggerFactory.getLogger(WebsocketCollector.class);
     
-    private static final Set<Session> SESSION_SET = new CopyOnWriteArraySet<>();
+    private static final int DEFAULT_SEND_QUEUE_SIZE = 1024;
+
+    private static final Map<Session, WebsocketSessionSender> SESSION_MAP = new ConcurrentHashMap<>();
+
+    private static volatile int sendQueueSize = DEFAULT_SEND_QUEUE_SIZE;
     
     private static final String SESSION_KEY = "sessionKey";
+
+    private static final String EVENT_TYPE = "eventType";
+
+    private static final String EPOCH = "epoch";
+
+    private static final String REVISIONS = "revisions";
     
     /**
      * On open.
@@ -62,7 +81,7 @@ public class WebsocketCollector {
     public void onOpen(final Session session) {
         LOG.info("websocket on client[{}] open successful,maxTextMessageBufferSize:{}",
                 getClientIp(session), session.getMaxTextMessageBufferSize());
-        SESSION_SET.add(session);
+        SESSION_MAP.put(session, new WebsocketSessionSender(session, getClientIp(session), sendQueueSize));
     }
     
     private static String getClientIp(final Session session) {
@@ -78,23 +97,81 @@ public class WebsocketCollector {
     
     /**
      * On message.
+     * A client without revisions sends {@code MYSELF} and gets every group, a reconnecting client sends
+     * its revisions and only gets the logged changes since them, unless the log no longer covers them.
      *
      * @param message the message
      * @param session the session
      */
     @OnMessage
     public void onMessage(final String message, final Session session) {
-        if (!Objects.equals(message, DataEventTypeEnum.MYSELF.name())) {
+        if (Objects.equals(message, DataEventTypeEnum.MYSELF.name())) {
+            syncAll(session);
             return;
         }
-        
+        if (!StringUtils.startsWith(message, "{")) {
+            return;
+        }
+        JsonObject request = GsonUtils.getInstance().fromJson(message, JsonObject.class);
+        if (!Objects.equals(DataEventTypeEnum.MYSELF.name(), getString(request, EVENT_TYPE))) {
+            return;
+        }
+        if (!sendChanges(session, getString(request, EPOCH), request.getAsJsonObject(REVISIONS))) {
+            syncAll(session);
+        }
+    }
+
+    /**
+     * Send the logged changes of every group, a group is sent under its publish lock so its changes are not
+     * interleaved with the pushes of the newer ones.
+     *
+     * @param session   the session
+     * @param epoch     the epoch of the client revisions
+     * @param revisions the client revisions
+     * @return false when the log no longer covers the revisions of the client
+     */
+    private static boolean sendChanges(final Session session, final String epoch, final JsonObject revisions) {
+        if (Objects.isNull(revisions)) {
+            return false;
+        }
+        ConfigRevisionLog revisionLog = ConfigRevisionLog.getInstance();
+        int sent = 0;
+        for (ConfigGroupEnum group : ConfigGroupEnum.values()) {
+            JsonElement revision = revisions.get(group.name());
+            Integer count = revisionLog.publish(group, () -> {
+                ConfigRevisionLog.Changes changes = Objects.isNull(revision) ? null : revisionLog.changesSince(group, epoch, revision.getAsLong());
+                if (Objects.isNull(changes)) {
+                    return null;
+                }
+                for (ConfigChangeData<?> change : changes.getChanges()) {
+                    WebsocketData<?> websocketData = new WebsocketData<>(group.name(), change.getEventType(), change.getData())
+                            .setEpoch(revisionLog.getEpoch())
+                            .setRevision(change.getRevision());
+                    sendMessageBySession(session, GsonUtils.getInstance().toJson(websocketData));
+                }
+                return changes.getChanges().size();
+            });
+            if (Objects.isNull(count)) {
+                return false;
+            }
+            sent += count;
+        }
+        LOG.info("websocket send {} changes to client[{}]", sent, getClientIp(session));
+        return true;
+    }
+
+    private static String getString(final JsonObject jsonObject, final String key) {
+        JsonElement element = jsonObject.get(key);
+        return Objects.isNull(element) || element.isJsonNull() ? null : element.getAsString();
+    }
+
+    private static void syncAll(final Session session) {
         try {
             ThreadLocalUtils.put(SESSION_KEY, session);
             SpringBeanUtils.getInstance().getBean(SyncDataService.class).syncAll(DataEventTypeEnum.MYSELF);
         } finally {
             ThreadLocalUtils.clear();
         }
-
     }
     
     /**
@@ -121,7 +198,7 @@ public class WebsocketCollector {
     }
     
     /**
-     * Send.
+     * Send, the message is queued on the sessions and written asynchronously.
      *
      * @param message the message
      * @param type    the type
@@ -137,21 +214,54 @@ public class WebsocketCollector {
                 sendMessageBySession(session, message);
             }
         } else {
-            SESSION_SET.forEach(session -> sendMessageBySession(session, message));
+            SESSION_MAP.keySet().forEach(session -> sendMessageBySession(session, message));
         }
         
     }
     
-    private static synchronized void sendMessageBySession(final Session session, final String message) {
+    /**
+     * Set the max messages waiting to be sent per session, applies to the sessions opened afterwards.
+     *
+     * @param size the queue size
+     */
+    public static void setSendQueueSize(final int size) {
+        sendQueueSize = size > 0 ? size : DEFAULT_SEND_QUEUE_SIZE;
+    }
+
+    /**
+     * Get the senders of the open sessions, which carry the per session lag metrics.
+     *
+     * @return the senders
+     */
+    public static Collection<WebsocketSessionSender> getSenders() {
+        return Collections.unmodifiableCollection(SESSION_MAP.values());
+    }
+
+    private static void sendMessageBySession(final Session session, final String message) {
+        WebsocketSessionSender sender = SESSION_MAP.get(session);
+        if (Objects.isNull(sender)) {
+            LOG.warn("websocket session of client[{}] is closed, drop the message", getClientIp(session));
+            return;
+        }
+        if (!sender.offer(message)) {
+            evict(sender);
+        }
+    }
+
+    private static void evict(final WebsocketSessionSender sender) {
+        if (!SESSION_MAP.remove(sender.getSession(), sender)) {
+            return;
+        }
+        LOG.warn("websocket client[{}] can not keep up, {} messages pending, close it", sender.getClientIp(), sender.getPending());
         try {
-            session.getBasicRemote().sendText(message);
+            sender.getSession().close(new CloseReason(CloseReason.CloseCodes.TRY_AGAIN_LATER, "send queue is full"));
         } catch (IOException e) {
-            LOG.error("websocket send result is exception: ", e);
+            LOG.error("websocket close client[{}] is exception: ", sender.getClientIp(), e);
         }
     }
     
     private void clearSession(final Session session) {
-        SESSION_SET.remove(session);
+        SESSION_MAP.remove(session);
         ThreadLocalUtils.clear();
     }
 }
@@ -76,6 +76,7 @@ public class WebsocketConfigurator extends ServerEndpointConfig.Configurator imp
 
     @Override
     public void onStartup(final ServletContext servletContext) throws ServletException {
+        WebsocketCollector.setSendQueueSize(websocketSyncProperties.getSendQueueSize());
         int messageMaxSize = websocketSyncProperties.getMessageMaxSize();
         if (messageMaxSize > 0) {
             servletContext.setInitParameter(TEXT_BUFFER_SIZE_SERVLET_CONTEXT_INIT_PARAM,
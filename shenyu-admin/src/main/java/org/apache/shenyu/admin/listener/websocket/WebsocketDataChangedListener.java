@@ -18,12 +18,8 @@
 package org.apache.shenyu.admin.listener.websocket;
 
 import java.util.List;
-import org.apache.shenyu.admin.listener.DataChangedListener;
-import org.apache.shenyu.common.dto.AppAuthData;
-import org.apache.shenyu.common.dto.MetaData;
-import org.apache.shenyu.common.dto.PluginData;
-import org.apache.shenyu.common.dto.RuleData;
-import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.admin.listener.ConfigRevisionLog;
+import org.apache.shenyu.admin.listener.RevisionDataChangedListener;
 import org.apache.shenyu.common.dto.WebsocketData;
 import org.apache.shenyu.common.enums.ConfigGroupEnum;
 import org.apache.shenyu.common.enums.DataEventTypeEnum;
@@ -34,40 +30,13 @@ import org.apache.shenyu.common.utils.GsonUtils;
  *
  * @since 2.0.0
  */
-public class WebsocketDataChangedListener implements DataChangedListener {
+public class WebsocketDataChangedListener implements RevisionDataChangedListener {
 
     @Override
-    public void onPluginChanged(final List<PluginData> pluginDataList, final DataEventTypeEnum eventType) {
-        WebsocketData<PluginData> websocketData =
-                new WebsocketData<>(ConfigGroupEnum.PLUGIN.name(), eventType.name(), pluginDataList);
+    public void onDataChanged(final ConfigGroupEnum group, final List<?> changed, final DataEventTypeEnum eventType, final long revision) {
+        WebsocketData<?> websocketData = new WebsocketData<>(group.name(), eventType.name(), changed)
+                .setEpoch(ConfigRevisionLog.getInstance().getEpoch())
+                .setRevision(revision);
         WebsocketCollector.send(GsonUtils.getInstance().toJson(websocketData), eventType);
     }
-
-    @Override
-    public void onSelectorChanged(final List<SelectorData> selectorDataList, final DataEventTypeEnum eventType) {
-        WebsocketData<SelectorData> websocketData =
-                new WebsocketData<>(ConfigGroupEnum.SELECTOR.name(), eventType.name(), selectorDataList);
-        WebsocketCollector.send(GsonUtils.getInstance().toJson(websocketData), eventType);
-    }
-
-    @Override
-    public void onRuleChanged(final List<RuleData> ruleDataList, final DataEventTypeEnum eventType) {
-        WebsocketData<RuleData> configData =
-                new WebsocketData<>(ConfigGroupEnum.RULE.name(), eventType.name(), ruleDataList);
-        WebsocketCollector.send(GsonUtils.getInstance().toJson(configData), eventType);
-    }
-
-    @Override
-    public void onAppAuthChanged(final List<AppAuthData> appAuthDataList, final DataEventTypeEnum eventType) {
-        WebsocketData<AppAuthData> configData =
-                new WebsocketData<>(ConfigGroupEnum.APP_AUTH.name(), eventType.name(), appAuthDataList);
-        WebsocketCollector.send(GsonUtils.getInstance().toJson(configData), eventType);
-    }
-
-    @Override
-    public void onMetaDataChanged(final List<MetaData> metaDataList, final DataEventTypeEnum eventType) {
-        WebsocketData<MetaData> configData =
-                new WebsocketData<>(ConfigGroupEnum.META_DATA.name(), eventType.name(), metaDataList);
-        WebsocketCollector.send(GsonUtils.getInstance().toJson(configData), eventType);
-    }
 }
@@ -0,0 +1,226 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.admin.listener.websocket;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.websocket.SendHandler;
+import javax.websocket.SendResult;
+import javax.websocket.Session;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The bounded send queue of one websocket session.
+ * Messages are written with the async remote one at a time, so a slow client only fills its own queue
+ * and never blocks the thread publishing the data change.
+ */
+public final class WebsocketSessionSender implements SendHandler {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WebsocketSessionSender.class);
+
+    private final Session session;
+
+    private final String clientIp;
+
+    private final BlockingQueue<String> queue;
+
+    private final AtomicBoolean sending = new AtomicBoolean(false);
+
+    private final ThreadLocal<Boolean> inline = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private final LongAdder enqueued = new LongAdder();
+
+    private final LongAdder sent = new LongAdder();
+
+    private final LongAdder failed = new LongAdder();
+
+    private volatile long sendStartNanos;
+
+    private volatile long lastSendNanos;
+
+    private volatile long maxSendNanos;
+
+    /**
+     * Instantiates a new websocket session sender.
+     *
+     * @param session  the session
+     * @param clientIp the client ip
+     * @param capacity the max messages waiting to be sent
+     */
+    public WebsocketSessionSender(final Session session, final String clientIp, final int capacity) {
+        this.session = session;
+        this.clientIp = clientIp;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+    }
+
+    /**
+     * Queue the message, the same message instance is shared by every session.
+     *
+     * @param message the serialized message
+     * @return false if the queue is full and the session can not keep up
+     */
+    public boolean offer(final String message) {
+        if (!queue.offer(message)) {
+            return false;
+        }
+        enqueued.increment();
+        drain();
+        return true;
+    }
+
+    private void drain() {
+        while (sending.compareAndSet(false, true)) {
+            String message = queue.poll();
+            if (Objects.isNull(message)) {
+                sending.set(false);
+                if (queue.isEmpty()) {
+                    return;
+                }
+                continue;
+            }
+            sendStartNanos = System.nanoTime();
+            inline.set(Boolean.TRUE);
+            try {
+                session.getAsyncRemote().sendText(message, this);
+            } catch (IllegalStateException | IllegalArgumentException e) {
+                onResult(new SendResult(e));
+            } finally {
+                inline.set(Boolean.FALSE);
+            }
+            if (sending.get()) {
+                // still in flight, the completion callback continues draining
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void onResult(final SendResult result) {
+        long elapsed = System.nanoTime() - sendStartNanos;
+        lastSendNanos = elapsed;
+        if (elapsed > maxSendNanos) {
+            maxSendNanos = elapsed;
+        }
+        if (result.isOK()) {
+            sent.increment();
+        } else {
+            failed.increment();
+            LOG.error("websocket send to client[{}] is exception: ", clientIp, result.getException());
+        }
+        sending.set(false);
+        // a send completed on the calling thread is picked up by the loop in drain
+        if (!inline.get()) {
+            drain();
+        }
+    }
+
+    /**
+     * Get the session.
+     *
+     * @return the session
+     */
+    public Session getSession() {
+        return session;
+    }
+
+    /**
+     * Get the client ip.
+     *
+     * @return the client ip
+     */
+    public String getClientIp() {
+        return clientIp;
+    }
+
+    /**
+     * Get the messages waiting to be sent.
+     *
+     * @return the pending count
+     */
+    public int getPending() {
+        return queue.size();
+    }
+
+    /**
+     * Get the remaining queue capacity.
+     *
+     * @return the remaining capacity
+     */
+    public int getRemainingCapacity() {
+        return queue.remainingCapacity();
+    }
+
+    /**
+     * Get how long the message in flight has been sending, 0 when idle.
+     *
+     * @return the lag in nanoseconds
+     */
+    public long getLagNanos() {
+        return sending.get() ? System.nanoTime() - sendStartNanos : 0L;
+    }
+
+    /**
+     * Get the enqueued count.
+     *
+     * @return the enqueued count
+     */
+    public long getEnqueued() {
+        return enqueued.sum();
+    }
+
+    /**
+     * Get the sent count.
+     *
+     * @return the sent count
+     */
+    public long getSent() {
+        return sent.sum();
+    }
+
+    /**
+     * Get the failed count.
+     *
+     * @return the failed count
+     */
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    /**
+     * Get the latency of the last send.
+     *
+     * @return the nanoseconds
+     */
+    public long getLastSendNanos() {
+        return lastSendNanos;
+    }
+
+    /**
+     * Get the max latency of a send.
+     *
+     * @return the nanoseconds
+     */
+    public long getMaxSendNanos() {
+        return maxSendNanos;
+    }
+}
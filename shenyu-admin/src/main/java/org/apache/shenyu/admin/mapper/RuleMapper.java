@@ -155,6 +155,15 @@ public interface RuleMapper extends ExistProvider {
      */
     List<RuleDO> selectAll();
     
+    /**
+     * select a page ordered by id after the cursor.
+     *
+     * @param lastId the id of the last row of the previous page, null for the first page
+     * @param limit  the max rows of the page
+     * @return {@linkplain List}
+     */
+    List<RuleDO> selectByCursor(@Param("lastId") String lastId, @Param("limit") int limit);
+    
     /**
      * search by condition.
      *
@@ -172,6 +172,15 @@ public interface SelectorMapper extends ExistProvider {
      */
     List<SelectorDO> selectAll();
     
+    /**
+     * select a page ordered by id after the cursor.
+     *
+     * @param lastId the id of the last row of the previous page, null for the first page
+     * @param limit  the max rows of the page
+     * @return {@linkplain List}
+     */
+    List<SelectorDO> selectByCursor(@Param("lastId") String lastId, @Param("limit") int limit);
+    
     /**
      * select by condition.
      *
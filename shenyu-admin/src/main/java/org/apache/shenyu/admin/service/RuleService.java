@@ -31,6 +31,7 @@ import org.apache.shenyu.common.enums.ParamTypeEnum;
 import org.springframework.web.util.pattern.PathPatternParser;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * this is rule service.
@@ -112,6 +113,14 @@ public interface RuleService extends PageService<RuleQueryCondition, RuleVO> {
      */
     List<RuleData> listAll();
     
+    /**
+     * List all rules page by page ordered by id, every page is converted and consumed before the next one is read.
+     *
+     * @param pageSize the max rules of a page
+     * @param consumer the consumer of the pages, an empty page is not consumed
+     */
+    void listAllByCursor(int pageSize, Consumer<List<RuleData>> consumer);
+    
     /**
      * Find by selector id list.
      *
@@ -31,6 +31,7 @@ import org.apache.shenyu.register.common.dto.MetaDataRegisterDTO;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 /**
  * this is selector service.
@@ -184,4 +185,12 @@ public interface SelectorService extends PageService<SelectorQueryCondition, Sel
      * @return the list
      */
     List<SelectorData> listAll();
+    
+    /**
+     * List all selectors page by page ordered by id, every page is converted and consumed before the next one is read.
+     *
+     * @param pageSize the max selectors of a page
+     * @param consumer the consumer of the pages, an empty page is not consumed
+     */
+    void listAllByCursor(int pageSize, Consumer<List<SelectorData>> consumer);
 }
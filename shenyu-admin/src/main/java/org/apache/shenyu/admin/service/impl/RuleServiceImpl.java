@@ -59,6 +59,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -197,6 +198,23 @@ public class RuleServiceImpl implements RuleService {
         return this.buildRuleDataList(ruleMapper.selectAll());
     }
     
+    @Override
+    public void listAllByCursor(final int pageSize, final Consumer<List<RuleData>> consumer) {
+        String cursor = null;
+        List<RuleDO> ruleDOList;
+        do {
+            ruleDOList = ruleMapper.selectByCursor(cursor, pageSize);
+            if (CollectionUtils.isEmpty(ruleDOList)) {
+                return;
+            }
+            List<RuleData> ruleDataList = this.buildRuleDataList(ruleDOList);
+            if (!ruleDataList.isEmpty()) {
+                consumer.accept(ruleDataList);
+            }
+            cursor = ruleDOList.get(ruleDOList.size() - 1).getId();
+        } while (ruleDOList.size() >= pageSize);
+    }
+    
     @Override
     public List<RuleData> findBySelectorId(final String selectorId) {
         return this.buildRuleDataList(ruleMapper.findBySelectorId(selectorId));
@@ -68,6 +68,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.TreeSet;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -276,6 +277,23 @@ public class SelectorServiceImpl implements SelectorService {
         return this.buildSelectorDataList(selectorMapper.selectAll());
     }
     
+    @Override
+    public void listAllByCursor(final int pageSize, final Consumer<List<SelectorData>> consumer) {
+        String cursor = null;
+        List<SelectorDO> selectorDOList;
+        do {
+            selectorDOList = selectorMapper.selectByCursor(cursor, pageSize);
+            if (CollectionUtils.isEmpty(selectorDOList)) {
+                return;
+            }
+            List<SelectorData> selectorDataList = this.buildSelectorDataList(selectorDOList);
+            if (!selectorDataList.isEmpty()) {
+                consumer.accept(selectorDataList);
+            }
+            cursor = selectorDOList.get(selectorDOList.size() - 1).getId();
+        } while (selectorDOList.size() >= pageSize);
+    }
+    
     /**
      * the plugin delete, synchronously delete selectors.
      *
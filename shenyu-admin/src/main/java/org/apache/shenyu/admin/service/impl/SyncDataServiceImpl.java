@@ -37,6 +37,8 @@ import org.springframework.stereotype.Service;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -45,6 +47,11 @@ import java.util.stream.Collectors;
 @Service
 public class SyncDataServiceImpl implements SyncDataService {
 
+    /**
+     * The max selectors or rules read, converted and published at once by a full sync.
+     */
+    private static final int SNAPSHOT_PAGE_SIZE = 500;
+
     private final AppAuthService appAuthService;
 
     /**
@@ -87,11 +94,13 @@ public class SyncDataServiceImpl implements SyncDataService {
         List<PluginData> pluginDataList = pluginService.listAll();
         eventPublisher.publishEvent(new DataChangedEvent(ConfigGroupEnum.PLUGIN, type, pluginDataList));
 
-        List<SelectorData> selectorDataList = selectorService.listAll();
-        eventPublisher.publishEvent(new DataChangedEvent(ConfigGroupEnum.SELECTOR, type, selectorDataList));
+        ChunkPublisher<SelectorData> selectorPublisher = new ChunkPublisher<>(ConfigGroupEnum.SELECTOR, type);
+        selectorService.listAllByCursor(SNAPSHOT_PAGE_SIZE, selectorPublisher);
+        selectorPublisher.finish();
 
-        List<RuleData> ruleDataList = ruleService.listAll();
-        eventPublisher.publishEvent(new DataChangedEvent(ConfigGroupEnum.RULE, type, ruleDataList));
+        ChunkPublisher<RuleData> rulePublisher = new ChunkPublisher<>(ConfigGroupEnum.RULE, type);
+        ruleService.listAllByCursor(SNAPSHOT_PAGE_SIZE, rulePublisher);
+        rulePublisher.finish();
 
         metaDataService.syncData();
 
@@ -117,4 +126,48 @@ public class SyncDataServiceImpl implements SyncDataService {
         }
         return true;
     }
+
+    /**
+     * Publish the pages of a snapshot as the chunks of a data changed event,
+     * a page is held until the next one is read so the last chunk can be marked.
+     */
+    private final class ChunkPublisher<T> implements Consumer<List<T>> {
+
+        private final ConfigGroupEnum groupKey;
+
+        private final DataEventTypeEnum type;
+
+        private List<T> pending;
+
+        private boolean first = true;
+
+        ChunkPublisher(final ConfigGroupEnum groupKey, final DataEventTypeEnum type) {
+            this.groupKey = groupKey;
+            this.type = type;
+        }
+
+        @Override
+        public void accept(final List<T> page) {
+            if (Objects.nonNull(pending)) {
+                publish(false);
+            }
+            pending = page;
+        }
+
+        /**
+         * Publish the last chunk, an empty snapshot is published as one empty chunk.
+         */
+        void finish() {
+            if (Objects.isNull(pending)) {
+                pending = Collections.emptyList();
+            }
+            publish(true);
+        }
+
+        private void publish(final boolean last) {
+            eventPublisher.publishEvent(new DataChangedEvent(groupKey, type, pending, first, last));
+            first = false;
+            pending = null;
+        }
+    }
 }
@@ -17,9 +17,15 @@
 
 package org.apache.shenyu.admin.listener;
 
+import org.apache.commons.codec.digest.DigestUtils;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * The TestCase for ConfigDataCache.
@@ -40,4 +46,15 @@ public final class ConfigDataCacheTest {
         assertEquals(cache.getMd5(), md52);
         assertEquals(cache.getLastModifyTime(), 1);
     }
+
+    @Test
+    public void testLazyJson() {
+        List<String> data = Collections.singletonList("shenyu");
+        ConfigDataCache cache = new ConfigDataCache("default", data, 0, 1L);
+        assertTrue(cache.toString().contains("md5='null'"));
+        assertEquals("[\"shenyu\"]", cache.getJson());
+        assertEquals(DigestUtils.md5Hex("[\"shenyu\"]"), cache.getMd5());
+        assertSame(data, cache.getData());
+        assertEquals(1L, cache.getRevision());
+    }
 }
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.admin.listener;
+
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.enums.ConfigGroupEnum;
+import org.apache.shenyu.common.enums.DataEventTypeEnum;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test cases for {@link ConfigRevisionLog}.
+ */
+public final class ConfigRevisionLogTest {
+
+    @Test
+    public void testChangesSince() {
+        ConfigRevisionLog log = new ConfigRevisionLog(2);
+        String epoch = log.getEpoch();
+        RuleData rule = RuleData.builder().id("1").build();
+        assertEquals(1L, log.append(ConfigGroupEnum.RULE, DataEventTypeEnum.UPDATE, Collections.singletonList(rule)));
+        assertEquals(2L, log.append(ConfigGroupEnum.RULE, DataEventTypeEnum.DELETE, Collections.singletonList(rule)));
+        ConfigRevisionLog.Changes changes = log.changesSince(ConfigGroupEnum.RULE, epoch, 0L);
+        assertEquals(2L, changes.getRevision());
+        assertEquals(2, changes.getChanges().size());
+        assertEquals(DataEventTypeEnum.DELETE.name(), changes.getChanges().get(1).getEventType());
+        assertTrue(log.changesSince(ConfigGroupEnum.RULE, epoch, 2L).getChanges().isEmpty());
+        assertEquals(0L, log.getRevision(ConfigGroupEnum.SELECTOR));
+    }
+
+    @Test
+    public void testFullSnapshotRequired() {
+        ConfigRevisionLog log = new ConfigRevisionLog(2);
+        String epoch = log.getEpoch();
+        for (int i = 0; i < 3; i++) {
+            log.append(ConfigGroupEnum.RULE, DataEventTypeEnum.UPDATE, Collections.emptyList());
+        }
+        assertNull(log.changesSince(ConfigGroupEnum.RULE, epoch, 0L));
+        assertEquals(2, log.changesSince(ConfigGroupEnum.RULE, epoch, 1L).getChanges().size());
+        assertNull(log.changesSince(ConfigGroupEnum.RULE, "another", 1L));
+        assertNull(log.changesSince(ConfigGroupEnum.RULE, epoch, 4L));
+        assertEquals(4L, log.truncate(ConfigGroupEnum.RULE));
+        assertNull(log.changesSince(ConfigGroupEnum.RULE, epoch, 3L));
+        assertTrue(log.changesSince(ConfigGroupEnum.RULE, epoch, 4L).getChanges().isEmpty());
+    }
+
+    @Test
+    public void testRefreshNotKept() {
+        ConfigRevisionLog log = new ConfigRevisionLog(2);
+        String epoch = log.getEpoch();
+        RuleData rule = RuleData.builder().id("1").build();
+        log.append(ConfigGroupEnum.RULE, DataEventTypeEnum.UPDATE, Collections.singletonList(rule));
+        assertEquals(2L, log.append(ConfigGroupEnum.RULE, DataEventTypeEnum.REFRESH, Collections.singletonList(rule)));
+        assertNull(log.changesSince(ConfigGroupEnum.RULE, epoch, 1L));
+        assertTrue(log.changesSince(ConfigGroupEnum.RULE, epoch, 2L).getChanges().isEmpty());
+        assertEquals(3L, log.append(ConfigGroupEnum.RULE, DataEventTypeEnum.DELETE, Collections.singletonList(rule)));
+        assertEquals(1, log.changesSince(ConfigGroupEnum.RULE, epoch, 2L).getChanges().size());
+    }
+}
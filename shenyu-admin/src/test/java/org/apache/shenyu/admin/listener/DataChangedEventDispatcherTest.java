@@ -22,7 +22,11 @@ import org.apache.shenyu.admin.listener.nacos.NacosDataChangedListener;
 import org.apache.shenyu.admin.listener.websocket.WebsocketDataChangedListener;
 import org.apache.shenyu.admin.listener.zookeeper.ZookeeperDataChangedListener;
 import org.apache.shenyu.admin.service.manager.LoadServiceDocEntry;
+import org.apache.shenyu.common.dto.MetaData;
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.SelectorData;
 import org.apache.shenyu.common.enums.ConfigGroupEnum;
+import org.apache.shenyu.common.enums.DataEventTypeEnum;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -33,15 +37,24 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -97,7 +110,7 @@ public final class DataChangedEventDispatcherTest {
         dataChangedEventDispatcher.onApplicationEvent(dataChangedEvent);
         verify(httpLongPollingDataChangedListener, times(1)).onAppAuthChanged(anyList(), any());
         verify(nacosDataChangedListener, times(1)).onAppAuthChanged(anyList(), any());
-        verify(websocketDataChangedListener, times(1)).onAppAuthChanged(anyList(), any());
+        verify(websocketDataChangedListener, times(1)).onDataChanged(eq(configGroupEnum), anyList(), any(), anyLong());
         verify(zookeeperDataChangedListener, times(1)).onAppAuthChanged(anyList(), any());
     }
 
@@ -111,7 +124,7 @@ public final class DataChangedEventDispatcherTest {
         dataChangedEventDispatcher.onApplicationEvent(dataChangedEvent);
         verify(httpLongPollingDataChangedListener, times(1)).onPluginChanged(anyList(), any());
         verify(nacosDataChangedListener, times(1)).onPluginChanged(anyList(), any());
-        verify(websocketDataChangedListener, times(1)).onPluginChanged(anyList(), any());
+        verify(websocketDataChangedListener, times(1)).onDataChanged(eq(configGroupEnum), anyList(), any(), anyLong());
         verify(zookeeperDataChangedListener, times(1)).onPluginChanged(anyList(), any());
     }
 
@@ -125,7 +138,7 @@ public final class DataChangedEventDispatcherTest {
         dataChangedEventDispatcher.onApplicationEvent(dataChangedEvent);
         verify(httpLongPollingDataChangedListener, times(1)).onRuleChanged(anyList(), any());
         verify(nacosDataChangedListener, times(1)).onRuleChanged(anyList(), any());
-        verify(websocketDataChangedListener, times(1)).onRuleChanged(anyList(), any());
+        verify(websocketDataChangedListener, times(1)).onDataChanged(eq(configGroupEnum), anyList(), any(), anyLong());
         verify(zookeeperDataChangedListener, times(1)).onRuleChanged(anyList(), any());
     }
 
@@ -139,7 +152,7 @@ public final class DataChangedEventDispatcherTest {
         dataChangedEventDispatcher.onApplicationEvent(dataChangedEvent);
         verify(httpLongPollingDataChangedListener, times(1)).onSelectorChanged(anyList(), any());
         verify(nacosDataChangedListener, times(1)).onSelectorChanged(anyList(), any());
-        verify(websocketDataChangedListener, times(1)).onSelectorChanged(anyList(), any());
+        verify(websocketDataChangedListener, times(1)).onDataChanged(eq(configGroupEnum), anyList(), any(), anyLong());
         verify(zookeeperDataChangedListener, times(1)).onSelectorChanged(anyList(), any());
     }
 
@@ -153,10 +166,60 @@ public final class DataChangedEventDispatcherTest {
         dataChangedEventDispatcher.onApplicationEvent(dataChangedEvent);
         verify(httpLongPollingDataChangedListener, times(1)).onMetaDataChanged(anyList(), any());
         verify(nacosDataChangedListener, times(1)).onMetaDataChanged(anyList(), any());
-        verify(websocketDataChangedListener, times(1)).onMetaDataChanged(anyList(), any());
+        verify(websocketDataChangedListener, times(1)).onDataChanged(eq(configGroupEnum), anyList(), any(), anyLong());
         verify(zookeeperDataChangedListener, times(1)).onMetaDataChanged(anyList(), any());
     }
 
+    /**
+     * onApplicationEvent chunks of a refreshed snapshot test case.
+     */
+    @Test
+    public void onApplicationEventWithChunksTest() {
+        when(httpLongPollingDataChangedListener.reloadsGroup()).thenReturn(true);
+        List<SelectorData> chunk = Collections.singletonList(SelectorData.builder().id("1").pluginName("divide").build());
+        dataChangedEventDispatcher.onApplicationEvent(new DataChangedEvent(ConfigGroupEnum.SELECTOR, DataEventTypeEnum.REFRESH, chunk, true, false));
+        dataChangedEventDispatcher.onApplicationEvent(new DataChangedEvent(ConfigGroupEnum.SELECTOR, DataEventTypeEnum.REFRESH, chunk, false, true));
+        verify(websocketDataChangedListener).onDataChanged(eq(ConfigGroupEnum.SELECTOR), eq(chunk), eq(DataEventTypeEnum.REFRESH), anyLong());
+        verify(websocketDataChangedListener).onDataChanged(eq(ConfigGroupEnum.SELECTOR), eq(chunk), eq(DataEventTypeEnum.UPDATE), anyLong());
+        verify(httpLongPollingDataChangedListener, never()).onSelectorChanged(chunk, DataEventTypeEnum.REFRESH);
+        verify(httpLongPollingDataChangedListener).onSelectorChanged(chunk, DataEventTypeEnum.UPDATE);
+        verify(loadServiceDocEntry, never()).loadDocOnSelectorChanged(chunk, DataEventTypeEnum.UPDATE);
+    }
+
+    /**
+     * onApplicationEvent revision of the change test case.
+     */
+    @Test
+    public void onApplicationEventWithRevisionTest() {
+        List<RuleData> rules = Collections.singletonList(RuleData.builder().id("1").build());
+        dataChangedEventDispatcher.onApplicationEvent(new DataChangedEvent(ConfigGroupEnum.RULE, DataEventTypeEnum.UPDATE, rules));
+        long revision = ConfigRevisionLog.getInstance().getRevision(ConfigGroupEnum.RULE);
+        dataChangedEventDispatcher.onApplicationEvent(new DataChangedEvent(ConfigGroupEnum.RULE, DataEventTypeEnum.DELETE, rules));
+        verify(websocketDataChangedListener).onDataChanged(ConfigGroupEnum.RULE, rules, DataEventTypeEnum.UPDATE, revision);
+        verify(websocketDataChangedListener).onDataChanged(ConfigGroupEnum.RULE, rules, DataEventTypeEnum.DELETE, revision + 1);
+    }
+
+    /**
+     * onApplicationEvent pushes the concurrent changes of a group in the order of their revisions test case.
+     */
+    @Test
+    public void onApplicationEventInRevisionOrderTest() throws InterruptedException {
+        List<Long> pushed = Collections.synchronizedList(new ArrayList<>());
+        doAnswer(invocation -> pushed.add(invocation.getArgument(3))).when(websocketDataChangedListener)
+                .onDataChanged(eq(ConfigGroupEnum.META_DATA), anyList(), any(), anyLong());
+        List<MetaData> metaData = Collections.singletonList(new MetaData());
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int i = 0; i < 200; i++) {
+            executor.execute(() -> dataChangedEventDispatcher.onApplicationEvent(new DataChangedEvent(ConfigGroupEnum.META_DATA, DataEventTypeEnum.UPDATE, metaData)));
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(200, pushed.size());
+        for (int i = 1; i < pushed.size(); i++) {
+            assertEquals(pushed.get(i - 1) + 1, pushed.get(i));
+        }
+    }
+
     /**
      * onApplicationEvent null configGroupEnum test case.
      */
@@ -17,6 +17,7 @@
 
 package org.apache.shenyu.admin.listener.websocket;
 
+import org.apache.shenyu.admin.listener.ConfigRevisionLog;
 import org.apache.shenyu.common.dto.MetaData;
 import org.apache.shenyu.common.dto.AuthPathData;
 import org.apache.shenyu.common.dto.AuthParamData;
@@ -25,6 +26,7 @@ import org.apache.shenyu.common.dto.RuleData;
 import org.apache.shenyu.common.dto.PluginData;
 import org.apache.shenyu.common.dto.ConditionData;
 import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.enums.ConfigGroupEnum;
 import org.apache.shenyu.common.enums.DataEventTypeEnum;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
@@ -72,11 +74,11 @@ public final class WebsocketDataChangedListenerTest {
     @Test
     public void testOnPluginChanged() {
         String message = "{\"groupType\":\"PLUGIN\",\"eventType\":\"UPDATE\",\"data\":[{\"id\":\"2\",\"name\":\"waf\","
-                + "\"config\":\"{\\\\\\\"model\\\\\\\":\\\\\\\"black\\\\\\\"}\",\"role\":\"1\",\"enabled\":true}]}";
+                + "\"config\":\"{\\\\\\\"model\\\\\\\":\\\\\\\"black\\\\\\\"}\",\"role\":\"1\",\"enabled\":true}]" + revisionSuffix(1L);
         MockedStatic.Verification verification = () -> WebsocketCollector.send(message, DataEventTypeEnum.UPDATE);
         try (MockedStatic<WebsocketCollector> mockedStatic = mockStatic(WebsocketCollector.class)) {
             mockedStatic.when(verification).thenAnswer((Answer<Void>) invocation -> null);
-            websocketDataChangedListener.onPluginChanged(pluginDataList, DataEventTypeEnum.UPDATE);
+            websocketDataChangedListener.onDataChanged(ConfigGroupEnum.PLUGIN, pluginDataList, DataEventTypeEnum.UPDATE, 1L);
             mockedStatic.verify(verification);
         }
     }
@@ -95,11 +97,11 @@ public final class WebsocketDataChangedListenerTest {
                 + "{\\\\\\\"upstreamHost\\\\\\\":\\\\\\\"localhost\\\\\\\",\\\\\\\"protocol\\\\\\\":"
                 + "\\\\\\\"http://\\\\\\\",\\\\\\\"upstreamUrl\\\\\\\":\\\\\\\"127.0.0.1:8188\\\\\\\","
                 + "\\\\\\\"weight\\\\\\\":\\\\\\\"49\\\\\\\"}]\",\"conditionList\":[{\"paramType\":\"uri\","
-                + "\"operator\":\"match\",\"paramName\":\"/\",\"paramValue\":\"/http/**\"}]}]}";
+                + "\"operator\":\"match\",\"paramName\":\"/\",\"paramValue\":\"/http/**\"}]}]" + revisionSuffix(1L);
         MockedStatic.Verification verification = () -> WebsocketCollector.send(message, DataEventTypeEnum.UPDATE);
         try (MockedStatic<WebsocketCollector> mockedStatic = mockStatic(WebsocketCollector.class)) {
             mockedStatic.when(verification).thenAnswer((Answer<Void>) invocation -> null);
-            websocketDataChangedListener.onSelectorChanged(selectorDataList, DataEventTypeEnum.UPDATE);
+            websocketDataChangedListener.onDataChanged(ConfigGroupEnum.SELECTOR, selectorDataList, DataEventTypeEnum.UPDATE, 1L);
             mockedStatic.verify(verification);
         }
     }
@@ -114,11 +116,11 @@ public final class WebsocketDataChangedListenerTest {
                 + "\"matchMode\":1,\"sort\":1,\"enabled\":true,\"loged\":true,\"handle\":"
                 + "\"{\\\\\\\"permission\\\\\\\":\\\\\\\"reject\\\\\\\",\\\\\\\"statusCode\\\\\\\":"
                 + "\\\\\\\"503\\\\\\\"}\",\"conditionDataList\":[{\"paramType\":\"header\",\"operator\":"
-                + "\"\\u003d\",\"paramName\":\"test\",\"paramValue\":\"a\"}]}]}";
+                + "\"\\u003d\",\"paramName\":\"test\",\"paramValue\":\"a\"}]}]" + revisionSuffix(1L);
         MockedStatic.Verification verification = () -> WebsocketCollector.send(message, DataEventTypeEnum.UPDATE);
         try (MockedStatic<WebsocketCollector> mockedStatic = mockStatic(WebsocketCollector.class)) {
             mockedStatic.when(verification).thenAnswer((Answer<Void>) invocation -> null);
-            websocketDataChangedListener.onRuleChanged(ruleDataList, DataEventTypeEnum.UPDATE);
+            websocketDataChangedListener.onDataChanged(ConfigGroupEnum.RULE, ruleDataList, DataEventTypeEnum.UPDATE, 1L);
             mockedStatic.verify(verification);
         }
     }
@@ -131,11 +133,11 @@ public final class WebsocketDataChangedListenerTest {
         String message = "{\"groupType\":\"APP_AUTH\",\"eventType\":\"UPDATE\",\"data\":[{\"appKey\":"
                 + "\"D9FD95F496C9495DB5604778A13C3D08\",\"appSecret\":\"02D25048AA1E466F8920E68B08E668DE\","
                 + "\"enabled\":true,\"paramDataList\":[{\"appName\":\"axiba\",\"appParam\":\"123\"}]"
-                + ",\"pathDataList\":[{\"appName\":\"alibaba\",\"path\":\"/1\",\"enabled\":true}]}]}";
+                + ",\"pathDataList\":[{\"appName\":\"alibaba\",\"path\":\"/1\",\"enabled\":true}]}]" + revisionSuffix(1L);
         MockedStatic.Verification verification = () -> WebsocketCollector.send(message, DataEventTypeEnum.UPDATE);
         try (MockedStatic<WebsocketCollector> mockedStatic = mockStatic(WebsocketCollector.class)) {
             mockedStatic.when(verification).thenAnswer((Answer<Void>) invocation -> null);
-            websocketDataChangedListener.onAppAuthChanged(appAuthDataList, DataEventTypeEnum.UPDATE);
+            websocketDataChangedListener.onDataChanged(ConfigGroupEnum.APP_AUTH, appAuthDataList, DataEventTypeEnum.UPDATE, 1L);
             mockedStatic.verify(verification);
         }
     }
@@ -147,15 +149,19 @@ public final class WebsocketDataChangedListenerTest {
     public void testOnMetaDataChanged() {
         String message = "{\"groupType\":\"META_DATA\",\"eventType\":\"CREATE\",\"data\":[{\"appName\":\"axiba\","
                 + "\"path\":\"/test/execute\",\"rpcType\":\"http\",\"serviceName\":\"execute\",\"methodName\":"
-                + "\"execute\",\"parameterTypes\":\"int\",\"rpcExt\":\"{}\",\"enabled\":true}]}";
+                + "\"execute\",\"parameterTypes\":\"int\",\"rpcExt\":\"{}\",\"enabled\":true}]" + revisionSuffix(1L);
         MockedStatic.Verification verification = () -> WebsocketCollector.send(message, DataEventTypeEnum.CREATE);
         try (MockedStatic<WebsocketCollector> mockedStatic = mockStatic(WebsocketCollector.class)) {
             mockedStatic.when(verification).thenAnswer((Answer<Void>) invocation -> null);
-            websocketDataChangedListener.onMetaDataChanged(metaDataList, DataEventTypeEnum.CREATE);
+            websocketDataChangedListener.onDataChanged(ConfigGroupEnum.META_DATA, metaDataList, DataEventTypeEnum.CREATE, 1L);
             mockedStatic.verify(verification);
         }
     }
 
+    private static String revisionSuffix(final long revision) {
+        return ",\"epoch\":\"" + ConfigRevisionLog.getInstance().getEpoch() + "\",\"revision\":" + revision + "}";
+    }
+
     private void initMetaDataList() {
         MetaData metaData = new MetaData();
         metaData.setAppName("axiba");
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.admin.listener.websocket;
+
+import org.junit.jupiter.api.Test;
+
+import javax.websocket.RemoteEndpoint;
+import javax.websocket.SendHandler;
+import javax.websocket.SendResult;
+import javax.websocket.Session;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * The TestCase for {@link WebsocketSessionSender}.
+ */
+public final class WebsocketSessionSenderTest {
+
+    @Test
+    public void testSendInOrder() {
+        Session session = mock(Session.class);
+        RemoteEndpoint.Async async = mock(RemoteEndpoint.Async.class);
+        when(session.getAsyncRemote()).thenReturn(async);
+        List<String> messages = new ArrayList<>();
+        List<SendHandler> handlers = new ArrayList<>();
+        doAnswer(invocation -> {
+            messages.add(invocation.getArgument(0));
+            handlers.add(invocation.getArgument(1));
+            return null;
+        }).when(async).sendText(anyString(), any(SendHandler.class));
+        WebsocketSessionSender sender = new WebsocketSessionSender(session, "127.0.0.1", 2);
+        assertTrue(sender.offer("1"));
+        assertTrue(sender.offer("2"));
+        assertTrue(sender.offer("3"));
+        assertFalse(sender.offer("4"));
+        assertEquals(Arrays.asList("1"), messages);
+        assertEquals(2, sender.getPending());
+        assertTrue(sender.getLagNanos() >= 0);
+        handlers.get(0).onResult(new SendResult());
+        handlers.get(1).onResult(new SendResult(new IllegalStateException("closed")));
+        handlers.get(2).onResult(new SendResult());
+        assertEquals(Arrays.asList("1", "2", "3"), messages);
+        assertEquals(0, sender.getPending());
+        assertEquals(3L, sender.getEnqueued());
+        assertEquals(2L, sender.getSent());
+        assertEquals(1L, sender.getFailed());
+        assertEquals(0L, sender.getLagNanos());
+    }
+}
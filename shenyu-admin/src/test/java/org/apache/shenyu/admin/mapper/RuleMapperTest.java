@@ -188,6 +188,24 @@ public final class RuleMapperTest extends AbstractSpringIntegrationTest {
         assertThat(delete, equalTo(1));
     }
 
+    @Test
+    public void selectByCursor() {
+        RuleDO first = buildRuleDO();
+        RuleDO second = buildRuleDO();
+        assertThat(ruleMapper.insert(first), equalTo(1));
+        assertThat(ruleMapper.insert(second), equalTo(1));
+
+        List<RuleDO> page = ruleMapper.selectByCursor(null, 1);
+        assertThat(page.size(), equalTo(1));
+        List<RuleDO> next = ruleMapper.selectByCursor(page.get(0).getId(), 1);
+        assertThat(next.size(), equalTo(1));
+        assertThat(page.get(0).getId().compareTo(next.get(0).getId()) < 0, equalTo(true));
+        assertThat(ruleMapper.selectByCursor(next.get(0).getId(), 1).size(), equalTo(0));
+
+        assertThat(ruleMapper.delete(first.getId()), equalTo(1));
+        assertThat(ruleMapper.delete(second.getId()), equalTo(1));
+    }
+
     private RuleDO buildRuleDO() {
         Timestamp now = new Timestamp(System.currentTimeMillis());
         String id = UUIDUtils.getInstance().generateShortUuid();
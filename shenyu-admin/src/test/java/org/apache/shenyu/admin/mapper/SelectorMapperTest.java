@@ -34,6 +34,7 @@ import java.util.stream.Stream;
 import static org.hamcrest.Matchers.hasItems;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 
@@ -221,6 +222,21 @@ public final class SelectorMapperTest extends AbstractSpringIntegrationTest {
         assertEquals(1, delete);
     }
 
+    @Test
+    public void testSelectByCursor() {
+        List<SelectorDO> selectorDOs = Stream.of(buildSelectorDO(), buildSelectorDO(), buildSelectorDO()).collect(Collectors.toList());
+        selectorDOs.forEach(selectorDO -> assertEquals(1, selectorMapper.insert(selectorDO)));
+
+        List<SelectorDO> first = selectorMapper.selectByCursor(null, 2);
+        assertEquals(2, first.size());
+        assertTrue(first.get(0).getId().compareTo(first.get(1).getId()) < 0);
+        List<SelectorDO> second = selectorMapper.selectByCursor(first.get(1).getId(), 2);
+        assertEquals(1, second.size());
+        assertTrue(first.get(1).getId().compareTo(second.get(0).getId()) < 0);
+
+        selectorDOs.forEach(selectorDO -> assertEquals(1, selectorMapper.delete(selectorDO.getId())));
+    }
+
     private SelectorDO buildSelectorDO() {
         Timestamp currentTime = new Timestamp(System.currentTimeMillis());
         return SelectorDO.builder()
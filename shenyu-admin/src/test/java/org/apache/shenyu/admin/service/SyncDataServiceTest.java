@@ -17,6 +17,7 @@
 
 package org.apache.shenyu.admin.service;
 
+import org.apache.shenyu.admin.listener.DataChangedEvent;
 import org.apache.shenyu.admin.model.result.ShenyuAdminResult;
 import org.apache.shenyu.admin.model.vo.PluginVO;
 import org.apache.shenyu.admin.service.impl.SyncDataServiceImpl;
@@ -24,12 +25,14 @@ import org.apache.shenyu.common.dto.ConditionData;
 import org.apache.shenyu.common.dto.PluginData;
 import org.apache.shenyu.common.dto.RuleData;
 import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.enums.ConfigGroupEnum;
 import org.apache.shenyu.common.enums.DataEventTypeEnum;
 import org.apache.shenyu.common.enums.OperatorEnum;
 import org.apache.shenyu.common.enums.ParamTypeEnum;
 import org.apache.shenyu.common.utils.DateUtils;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -37,10 +40,20 @@ import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 /**
  * test for SyncDataService.
@@ -87,9 +100,35 @@ public final class SyncDataServiceTest {
         RuleData ruleData = buildRuleData();
         given(this.appAuthService.syncData()).willReturn(ShenyuAdminResult.success());
         given(this.pluginService.listAll()).willReturn(Collections.singletonList(pluginData));
-        given(this.selectorService.listAll()).willReturn(Collections.singletonList(selectorData));
-        given(this.ruleService.listAll()).willReturn(Collections.singletonList(ruleData));
+        willAnswer(invocation -> {
+            Consumer<List<SelectorData>> consumer = invocation.getArgument(1);
+            consumer.accept(Collections.singletonList(selectorData));
+            consumer.accept(Collections.singletonList(selectorData));
+            return null;
+        }).given(this.selectorService).listAllByCursor(anyInt(), any());
+        willAnswer(invocation -> {
+            Consumer<List<RuleData>> consumer = invocation.getArgument(1);
+            consumer.accept(Collections.singletonList(ruleData));
+            return null;
+        }).given(this.ruleService).listAllByCursor(anyInt(), any());
         assertThat(syncDataService.syncAll(DataEventTypeEnum.CREATE), greaterThan(false));
+
+        ArgumentCaptor<DataChangedEvent> captor = ArgumentCaptor.forClass(DataChangedEvent.class);
+        verify(eventPublisher, times(4)).publishEvent(captor.capture());
+        List<ConfigGroupEnum> groups = captor.getAllValues().stream().map(DataChangedEvent::getGroupKey).collect(Collectors.toList());
+        assertThat(groups, contains(ConfigGroupEnum.PLUGIN, ConfigGroupEnum.SELECTOR, ConfigGroupEnum.SELECTOR, ConfigGroupEnum.RULE));
+    }
+
+    @Test
+    public void syncAllEmptyTest() {
+        given(this.appAuthService.syncData()).willReturn(ShenyuAdminResult.success());
+        given(this.pluginService.listAll()).willReturn(Collections.emptyList());
+        assertThat(syncDataService.syncAll(DataEventTypeEnum.REFRESH), greaterThan(false));
+
+        ArgumentCaptor<DataChangedEvent> captor = ArgumentCaptor.forClass(DataChangedEvent.class);
+        verify(eventPublisher, times(3)).publishEvent(captor.capture());
+        assertThat(captor.getAllValues().get(1).getGroupKey(), is(ConfigGroupEnum.SELECTOR));
+        assertThat(captor.getAllValues().get(1).getSource().size(), is(0));
     }
 
     @Test
@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.benchmark;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Runs the benchmarks and compares the scores with the stored baseline, so that a regression shows up locally.
+ *
+ * <p>The jmh command line options are accepted as they are, the comparison is tuned by system properties:
+ * {@code shenyu.benchmark.baseline} is the baseline file, {@code shenyu.benchmark.threshold} is the tolerated
+ * relative regression and {@code shenyu.benchmark.updateBaseline} stores the current scores as the new baseline.
+ */
+public final class BenchmarkBaselineRunner {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BenchmarkBaselineRunner.class);
+
+    private static final String DEFAULT_BASELINE = "baseline/jmh-baseline.json";
+
+    private static final double DEFAULT_THRESHOLD = 0.1D;
+
+    private static final Gson GSON = new GsonBuilder().disableHtmlEscaping().setPrettyPrinting().create();
+
+    private BenchmarkBaselineRunner() {
+    }
+
+    /**
+     * The entry point.
+     *
+     * @param args the jmh command line options
+     * @throws CommandLineOptionException the invalid options
+     * @throws RunnerException the benchmark failure
+     * @throws IOException the baseline can not be read or written
+     */
+    public static void main(final String[] args) throws CommandLineOptionException, RunnerException, IOException {
+        Path baselinePath = Paths.get(System.getProperty("shenyu.benchmark.baseline", DEFAULT_BASELINE));
+        double threshold = Double.parseDouble(System.getProperty("shenyu.benchmark.threshold", String.valueOf(DEFAULT_THRESHOLD)));
+        Collection<RunResult> results = new Runner(new CommandLineOptions(args)).run();
+        SortedMap<String, Score> current = toScores(results);
+        SortedMap<String, Score> baseline = readBaseline(baselinePath);
+        if (Boolean.getBoolean("shenyu.benchmark.updateBaseline")) {
+            baseline.putAll(current);
+            writeBaseline(baselinePath, baseline);
+            LOG.info("baseline {} updated with {} scores", baselinePath, current.size());
+            return;
+        }
+        List<String> regressions = compare(baseline, current, threshold);
+        if (regressions.isEmpty()) {
+            LOG.info("no regression over {}% against {}", Math.round(threshold * 100), baselinePath);
+            return;
+        }
+        regressions.forEach(LOG::error);
+        System.exit(1);
+    }
+
+    /**
+     * Compare the current scores with the baseline.
+     *
+     * @param baseline the baseline scores
+     * @param current the current scores
+     * @param threshold the tolerated relative regression
+     * @return the description of every regression
+     */
+    static List<String> compare(final Map<String, Score> baseline, final Map<String, Score> current, final double threshold) {
+        List<String> regressions = new ArrayList<>();
+        current.forEach((key, score) -> {
+            Score base = baseline.get(key);
+            if (Objects.isNull(base) || !Objects.equals(base.getMode(), score.getMode()) || base.getScore() <= 0) {
+                return;
+            }
+            // throughput is better when higher, the time modes are better when lower
+            double change = "thrpt".equals(score.getMode())
+                    ? (base.getScore() - score.getScore()) / base.getScore()
+                    : (score.getScore() - base.getScore()) / base.getScore();
+            if (change > threshold) {
+                regressions.add(String.format("REGRESSION %s: %.3f -> %.3f %s (%.1f%% worse)",
+                        key, base.getScore(), score.getScore(), score.getUnit(), change * 100));
+            }
+        });
+        return regressions;
+    }
+
+    private static SortedMap<String, Score> toScores(final Collection<RunResult> results) {
+        SortedMap<String, Score> scores = new TreeMap<>();
+        for (RunResult result : results) {
+            BenchmarkParams params = result.getParams();
+            Result<?> primary = result.getPrimaryResult();
+            StringBuilder key = new StringBuilder(params.getBenchmark());
+            for (String name : params.getParamsKeys()) {
+                key.append(':').append(name).append('=').append(params.getParam(name));
+            }
+            scores.put(key.toString(), new Score(params.getMode().shortLabel(), primary.getScore(), primary.getScoreUnit()));
+        }
+        return scores;
+    }
+
+    private static SortedMap<String, Score> readBaseline(final Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return new TreeMap<>();
+        }
+        String json = new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+        Map<String, Score> scores = GSON.fromJson(json, new TypeToken<Map<String, Score>>() {
+        }.getType());
+        return Objects.isNull(scores) ? new TreeMap<>() : new TreeMap<>(scores);
+    }
+
+    private static void writeBaseline(final Path path, final Map<String, Score> scores) throws IOException {
+        if (Objects.nonNull(path.getParent())) {
+            Files.createDirectories(path.getParent());
+        }
+        Files.write(path, GSON.toJson(scores).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * The score of one benchmark.
+     */
+    static final class Score {
+
+        private String mode;
+
+        private double score;
+
+        private String unit;
+
+        Score(final String mode, final double score, final String unit) {
+            this.mode = mode;
+            this.score = score;
+            this.unit = unit;
+        }
+
+        /**
+         * Gets mode.
+         *
+         * @return the mode
+         */
+        String getMode() {
+            return mode;
+        }
+
+        /**
+         * Gets score.
+         *
+         * @return the score
+         */
+        double getScore() {
+            return score;
+        }
+
+        /**
+         * Gets unit.
+         *
+         * @return the unit
+         */
+        String getUnit() {
+            return unit;
+        }
+    }
+}
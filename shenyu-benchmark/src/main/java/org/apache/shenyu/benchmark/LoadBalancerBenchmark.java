@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.benchmark;
+
+import org.apache.shenyu.loadbalancer.entity.Upstream;
+import org.apache.shenyu.loadbalancer.factory.LoadBalancerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The benchmark of {@linkplain LoadBalancerFactory#selector(List, String, String)} for every load balancer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class LoadBalancerBenchmark {
+
+    @Param({"random", "roundRobin", "hash", "leastActive", "p2c"})
+    private String algorithm;
+
+    @Param("20")
+    private int upstreamCount;
+
+    private List<Upstream> upstreamList;
+
+    /**
+     * Build upstreams with different weights.
+     */
+    @Setup
+    public void setup() {
+        upstreamList = new ArrayList<>(upstreamCount);
+        for (int i = 0; i < upstreamCount; i++) {
+            upstreamList.add(Upstream.builder()
+                    .url("10.0.0." + i + ":8080")
+                    .weight(50 + i * 10)
+                    .status(true)
+                    .timestamp(System.currentTimeMillis() - 3600000L)
+                    .warmup(0)
+                    .build());
+        }
+    }
+
+    /**
+     * Select an upstream.
+     *
+     * @return the upstream
+     */
+    @Benchmark
+    public Upstream select() {
+        return LoadBalancerFactory.selector(upstreamList, algorithm, "192.168.1.100");
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.benchmark;
+
+import org.apache.shenyu.common.dto.ConditionData;
+import org.apache.shenyu.common.enums.MatchModeEnum;
+import org.apache.shenyu.plugin.base.condition.strategy.MatchStrategyFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The benchmark of {@linkplain MatchStrategyFactory#match(Integer, List, ServerWebExchange)} with every predicate judge.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MatchStrategyBenchmark {
+
+    @Param({"match", "=", "regex", "contains", "startsWith", "endsWith", "TimeBefore", "TimeAfter", "exclude", "pathPattern"})
+    private String operator;
+
+    private List<ConditionData> conditionList;
+
+    private ServerWebExchange exchange;
+
+    /**
+     * Build one condition for the operator.
+     */
+    @Setup
+    public void setup() {
+        ConditionData condition = new ConditionData();
+        condition.setOperator(operator);
+        condition.setParamType("uri");
+        condition.setParamName("/");
+        switch (operator) {
+            case "match":
+            case "pathPattern":
+                condition.setParamValue("/http/order/**");
+                break;
+            case "=":
+                condition.setParamType("header");
+                condition.setParamName("version");
+                condition.setParamValue("v2");
+                break;
+            case "regex":
+                condition.setParamValue("/http/order/.*");
+                break;
+            case "contains":
+                condition.setParamValue("order");
+                break;
+            case "startsWith":
+                condition.setParamValue("/http/order");
+                break;
+            case "endsWith":
+                condition.setParamValue("findById");
+                break;
+            case "TimeBefore":
+                condition.setParamType("header");
+                condition.setParamName("time");
+                condition.setParamValue("2099-01-01 00:00:00");
+                break;
+            case "TimeAfter":
+                condition.setParamType("header");
+                condition.setParamName("time");
+                condition.setParamValue("2000-01-01 00:00:00");
+                break;
+            default:
+                condition.setParamValue("/http/user/findById");
+                break;
+        }
+        conditionList = Collections.singletonList(condition);
+        exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/http/order/findById").header("version", "v2")
+                .header("time", "2023-01-01 00:00:00").build());
+    }
+
+    /**
+     * Match the condition with the and strategy.
+     *
+     * @return whether matched
+     */
+    @Benchmark
+    public boolean match() {
+        return MatchStrategyFactory.match(MatchModeEnum.AND.getCode(), conditionList, exchange);
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.benchmark;
+
+import com.google.common.hash.Hashing;
+import org.apache.shenyu.disruptor.thread.DisruptorThreadFactory;
+import org.apache.shenyu.disruptor.thread.OrderlyExecutor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * The benchmark of {@linkplain OrderlyExecutor}, compared with the previous SHA-256 ring of single thread executors.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(1)
+@Fork(1)
+public class OrderlyExecutorBenchmark {
+
+    private static final int BATCH = 1000;
+
+    @Param({"sha256Ring", "partition"})
+    private String dispatch;
+
+    @Param("16")
+    private int partitionCount;
+
+    private final LongAdder completed = new LongAdder();
+
+    private final Runnable task = completed::increment;
+
+    private Function<String, Executor> selector;
+
+    private Runnable shutdown;
+
+    private long submitted;
+
+    /**
+     * Build the executors.
+     */
+    @Setup
+    public void setup() {
+        if ("partition".equals(dispatch)) {
+            OrderlyExecutor orderlyExecutor = new OrderlyExecutor(true, partitionCount, partitionCount, 0, TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>(), DisruptorThreadFactory.create("benchmark_orderly", true), new ThreadPoolExecutor.AbortPolicy());
+            selector = orderlyExecutor::select;
+            shutdown = orderlyExecutor::shutdownNow;
+        } else {
+            Sha256Ring ring = new Sha256Ring(partitionCount);
+            selector = ring::select;
+            shutdown = ring::shutdown;
+        }
+    }
+
+    /**
+     * Shutdown the executors.
+     */
+    @TearDown
+    public void tearDown() {
+        shutdown.run();
+    }
+
+    /**
+     * Select the executor of a key, the key is built per event like {@code DisruptorProvider#onOrderlyData}.
+     *
+     * @return the executor
+     */
+    @Benchmark
+    public Executor select() {
+        return selector.apply(String.join(":", "selector", Long.toString(submitted++ & 1023)));
+    }
+
+    /**
+     * Dispatch a batch of tasks and wait until all of them have run.
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void dispatch() {
+        long target = completed.sum() + BATCH;
+        for (int i = 0; i < BATCH; i++) {
+            selector.apply(String.join(":", "selector", Long.toString(submitted++ & 1023))).execute(task);
+        }
+        while (completed.sum() < target) {
+            Thread.yield();
+        }
+    }
+
+    /**
+     * The previous dispatch, SHA-256 of the key looked up in a skip list ring of single thread executors.
+     */
+    private static final class Sha256Ring {
+
+        private final ConcurrentSkipListMap<Long, ExecutorService> ring = new ConcurrentSkipListMap<>();
+
+        private final List<ExecutorService> singletons = new ArrayList<>();
+
+        Sha256Ring(final int count) {
+            for (int index = 0; index < count; index++) {
+                ExecutorService singleton = Executors.newSingleThreadExecutor(DisruptorThreadFactory.create("benchmark_singleton", true));
+                singletons.add(singleton);
+                byte[] digest = sha(singleton.hashCode() + ":" + index);
+                for (int i = 0; i < 4; i++) {
+                    ring.put(hash(digest, i), singleton);
+                }
+            }
+        }
+
+        Executor select(final String key) {
+            long select = hash(sha(key), 0);
+            if (!ring.containsKey(select)) {
+                SortedMap<Long, ExecutorService> tailMap = ring.tailMap(select);
+                select = tailMap.isEmpty() ? ring.firstKey() : tailMap.firstKey();
+            }
+            return ring.get(select);
+        }
+
+        void shutdown() {
+            singletons.forEach(ExecutorService::shutdownNow);
+        }
+
+        private static long hash(final byte[] digest, final int number) {
+            return (((long) (digest[3 + number * 4] & 0xFF) << 24)
+                    | ((long) (digest[2 + number * 4] & 0xFF) << 16)
+                    | ((long) (digest[1 + number * 4] & 0xFF) << 8)
+                    | (digest[number * 4] & 0xFF))
+                    & 0xFFFFFFFFL;
+        }
+
+        private static byte[] sha(final String key) {
+            return Hashing.sha256().newHasher().putBytes(key.getBytes(StandardCharsets.UTF_8)).hash().asBytes();
+        }
+    }
+}
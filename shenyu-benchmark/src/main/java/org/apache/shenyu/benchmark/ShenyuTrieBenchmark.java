@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.benchmark;
+
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.enums.TrieMatchModeEvent;
+import org.apache.shenyu.plugin.base.trie.LockFreeShenyuTrie;
+import org.apache.shenyu.plugin.base.trie.RuleTrie;
+import org.apache.shenyu.plugin.base.trie.ShenyuTrie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The benchmark of {@linkplain RuleTrie#matchRules(String, String)} for plain, path variable and wildcard paths.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ShenyuTrieBenchmark {
+
+    private static final String SELECTOR_ID = "1";
+
+    @Param("1000")
+    private int ruleCount;
+
+    @Param({"false", "true"})
+    private boolean lockFree;
+
+    private RuleTrie trie;
+
+    private String plainPath;
+
+    private String variablePath;
+
+    private String wildcardPath;
+
+    /**
+     * Put plain, path variable and wildcard rules into the trie.
+     */
+    @Setup
+    public void setup() {
+        String matchMode = TrieMatchModeEvent.ANT_PATH_MATCH.getMatchMode();
+        trie = lockFree ? new LockFreeShenyuTrie(matchMode) : new ShenyuTrie(10000L, 1000L, 1000L, matchMode);
+        for (int i = 0; i < ruleCount; i++) {
+            String id = String.valueOf(i);
+            trie.putNode("/http/order" + i + "/findById", rule(id + "-plain"), null);
+            trie.putNode("/http/user" + i + "/{id}/detail", rule(id + "-variable"), null);
+            trie.putNode("/http/goods" + i + "/**", rule(id + "-wildcard"), null);
+        }
+        int middle = ruleCount / 2;
+        plainPath = "/http/order" + middle + "/findById";
+        variablePath = "/http/user" + middle + "/1024/detail";
+        wildcardPath = "/http/goods" + middle + "/list/all";
+    }
+
+    /**
+     * Match a plain path.
+     *
+     * @return the matched rules
+     */
+    @Benchmark
+    public List<RuleData> matchPlain() {
+        return trie.matchRules(plainPath, SELECTOR_ID);
+    }
+
+    /**
+     * Match a path with a path variable.
+     *
+     * @return the matched rules
+     */
+    @Benchmark
+    public List<RuleData> matchPathVariable() {
+        return trie.matchRules(variablePath, SELECTOR_ID);
+    }
+
+    /**
+     * Match a path with a trailing wildcard.
+     *
+     * @return the matched rules
+     */
+    @Benchmark
+    public List<RuleData> matchWildcard() {
+        return trie.matchRules(wildcardPath, SELECTOR_ID);
+    }
+
+    private static RuleData rule(final String id) {
+        return RuleData.builder().id(id).selectorId(SELECTOR_ID).sort(1).enabled(true).build();
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.benchmark;
+
+import org.apache.shenyu.common.config.ShenyuConfig;
+import org.apache.shenyu.common.constant.Constants;
+import org.apache.shenyu.common.enums.RpcTypeEnum;
+import org.apache.shenyu.plugin.api.ShenyuPlugin;
+import org.apache.shenyu.plugin.api.ShenyuPluginChain;
+import org.apache.shenyu.plugin.api.context.ShenyuContext;
+import org.apache.shenyu.web.handler.ShenyuWebHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The benchmark of the plugin chain in {@linkplain ShenyuWebHandler}, compares the default chain with the precomputed chain.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ShenyuWebHandlerBenchmark {
+
+    @Param({"false", "true"})
+    private boolean precomputed;
+
+    @Param("40")
+    private int pluginCount;
+
+    private ShenyuWebHandler handler;
+
+    private ServerWebExchange exchange;
+
+    /**
+     * Build a chain where three of four plugins are skipped for the http rpc type, like the rpc plugins of a gateway.
+     */
+    @Setup
+    public void setup() {
+        List<ShenyuPlugin> plugins = new ArrayList<>(pluginCount);
+        for (int i = 0; i < pluginCount; i++) {
+            plugins.add(new BenchmarkPlugin("benchmark-plugin-" + i, i, i % 4 != 0));
+        }
+        ShenyuConfig shenyuConfig = new ShenyuConfig();
+        shenyuConfig.getPluginChain().setPrecomputed(precomputed);
+        handler = new ShenyuWebHandler(plugins, shenyuConfig);
+        exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/http/order/findById").build());
+        ShenyuContext context = new ShenyuContext();
+        context.setRpcType(RpcTypeEnum.HTTP.getName());
+        exchange.getAttributes().put(Constants.CONTEXT, context);
+    }
+
+    /**
+     * Run the whole plugin chain.
+     */
+    @Benchmark
+    public void handle() {
+        handler.handle(exchange).block();
+    }
+
+    private static final class BenchmarkPlugin implements ShenyuPlugin {
+
+        private final String name;
+
+        private final int order;
+
+        private final boolean rpcOnly;
+
+        BenchmarkPlugin(final String name, final int order, final boolean rpcOnly) {
+            this.name = name;
+            this.order = order;
+            this.rpcOnly = rpcOnly;
+        }
+
+        @Override
+        public Mono<Void> execute(final ServerWebExchange exchange, final ShenyuPluginChain chain) {
+            return chain.execute(exchange);
+        }
+
+        @Override
+        public int getOrder() {
+            return order;
+        }
+
+        @Override
+        public String named() {
+            return name;
+        }
+
+        @Override
+        public boolean skip(final ServerWebExchange exchange) {
+            return rpcOnly && skipExcept(exchange, RpcTypeEnum.DUBBO, RpcTypeEnum.GRPC);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The benchmark of the gateway transport, a proxy server forwards every request to an upstream server with a http client.
+ * The nio and the native transport (epoll on linux) are compared, with the client on its own event loops or
+ * colocated with the server worker loops like {@code shenyu.netty.http.shared-event-loop=true}.
+ * The native transport falls back to nio when it is not available.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class TransportBenchmark {
+
+    private static final String HOST = "127.0.0.1";
+
+    @Param({"nio", "native"})
+    private String transport;
+
+    @Param({"separate", "shared"})
+    private String eventLoop;
+
+    private LoopResources upstreamLoops;
+
+    private LoopResources gatewayLoops;
+
+    private LoopResources clientLoops;
+
+    private LoopResources callerLoops;
+
+    private DisposableServer upstream;
+
+    private DisposableServer gateway;
+
+    private HttpClient caller;
+
+    /**
+     * Start the upstream and the gateway.
+     */
+    @Setup
+    public void setup() {
+        boolean preferNative = "native".equals(transport);
+        upstreamLoops = LoopResources.create("benchmark-upstream", 1, 2, true);
+        upstream = HttpServer.create().host(HOST).port(0).runOn(upstreamLoops, preferNative)
+                .handle((request, response) -> response.sendString(Mono.just("ok")))
+                .bindNow();
+        gatewayLoops = LoopResources.create("benchmark-gateway", 1, 2, true);
+        clientLoops = "shared".equals(eventLoop) ? gatewayLoops : LoopResources.create("benchmark-client", 2, true);
+        HttpClient proxy = HttpClient.create(ConnectionProvider.create("benchmark-proxy", 64))
+                .runOn(clientLoops, preferNative)
+                .baseUrl("http://" + HOST + ":" + upstream.port());
+        gateway = HttpServer.create().host(HOST).port(0).runOn(gatewayLoops, preferNative)
+                .handle((request, response) -> response.send(proxy.get().uri(request.uri()).responseContent().retain()))
+                .bindNow();
+        callerLoops = LoopResources.create("benchmark-caller", 2, true);
+        caller = HttpClient.create(ConnectionProvider.create("benchmark-caller", 64))
+                .runOn(callerLoops, preferNative)
+                .baseUrl("http://" + HOST + ":" + gateway.port());
+    }
+
+    /**
+     * Stop the servers and the event loops.
+     */
+    @TearDown
+    public void tearDown() {
+        gateway.disposeNow();
+        upstream.disposeNow();
+        callerLoops.dispose();
+        if (clientLoops != gatewayLoops) {
+            clientLoops.dispose();
+        }
+        gatewayLoops.dispose();
+        upstreamLoops.dispose();
+    }
+
+    /**
+     * Send a request through the gateway and wait for the response.
+     *
+     * @return the response body
+     */
+    @Benchmark
+    public String proxy() {
+        return caller.get().uri("/benchmark").responseContent().aggregate().asString().block();
+    }
+}
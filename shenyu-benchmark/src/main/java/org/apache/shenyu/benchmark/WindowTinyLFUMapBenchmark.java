@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.benchmark;
+
+import org.apache.shenyu.common.cache.MemorySafeWindowTinyLFUMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The benchmark of {@linkplain MemorySafeWindowTinyLFUMap} get and put under contention, as used by the selector match cache.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WindowTinyLFUMapBenchmark {
+
+    private static final int KEY_COUNT = 1 << 14;
+
+    private String[] keys;
+
+    private MemorySafeWindowTinyLFUMap<String, String> map;
+
+    /**
+     * Fill half of the keys.
+     */
+    @Setup
+    public void setup() {
+        keys = new String[KEY_COUNT];
+        map = new MemorySafeWindowTinyLFUMap<>(1 << 20, 1 << 16);
+        for (int i = 0; i < KEY_COUNT; i++) {
+            keys[i] = "/http/order/" + i;
+            if ((i & 1) == 0) {
+                map.put(keys[i], keys[i]);
+            }
+        }
+    }
+
+    /**
+     * Read from the map while another thread writes.
+     *
+     * @return the value
+     */
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(3)
+    public String get() {
+        return map.get(keys[ThreadLocalRandom.current().nextInt(KEY_COUNT)]);
+    }
+
+    /**
+     * Write to the map while other threads read.
+     *
+     * @return the previous value
+     */
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(1)
+    public String put() {
+        String key = keys[ThreadLocalRandom.current().nextInt(KEY_COUNT)];
+        return map.put(key, key);
+    }
+}
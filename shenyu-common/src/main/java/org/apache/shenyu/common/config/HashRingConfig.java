@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.common.config;
+
+/**
+ * the consistent hash ring config of the hash load balancer.
+ */
+public class HashRingConfig {
+
+    /**
+     * virtual nodes per upstream.
+     */
+    private Integer virtualNodes = 160;
+
+    /**
+     * skip upstreams whose inflight requests exceed loadFactor times the average.
+     */
+    private boolean boundedLoad;
+
+    private Double loadFactor = 1.25D;
+
+    /**
+     * Gets virtual nodes.
+     *
+     * @return the virtual nodes
+     */
+    public Integer getVirtualNodes() {
+        return virtualNodes;
+    }
+
+    /**
+     * Sets virtual nodes.
+     *
+     * @param virtualNodes the virtual nodes
+     */
+    public void setVirtualNodes(final Integer virtualNodes) {
+        this.virtualNodes = virtualNodes;
+    }
+
+    /**
+     * Gets bounded load.
+     *
+     * @return the bounded load
+     */
+    public boolean getBoundedLoad() {
+        return boundedLoad;
+    }
+
+    /**
+     * Sets bounded load.
+     *
+     * @param boundedLoad the bounded load
+     */
+    public void setBoundedLoad(final boolean boundedLoad) {
+        this.boundedLoad = boundedLoad;
+    }
+
+    /**
+     * Gets load factor.
+     *
+     * @return the load factor
+     */
+    public Double getLoadFactor() {
+        return loadFactor;
+    }
+
+    /**
+     * Sets load factor.
+     *
+     * @param loadFactor the load factor
+     */
+    public void setLoadFactor(final Double loadFactor) {
+        this.loadFactor = loadFactor;
+    }
+}
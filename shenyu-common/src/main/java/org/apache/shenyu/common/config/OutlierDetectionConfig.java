@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.common.config;
+
+/**
+ * the passive outlier detection config of the divide upstreams, it only takes effect with the upstream health check.
+ */
+public class OutlierDetectionConfig {
+
+    /**
+     * eject an upstream after consecutive failed requests, the health check brings it back.
+     */
+    private boolean enabled;
+
+    /**
+     * consecutive failed requests, timeouts, errors or 5xx responses, before an upstream is ejected.
+     */
+    private Integer consecutiveFailures = 5;
+
+    /**
+     * Gets enabled.
+     *
+     * @return the enabled
+     */
+    public boolean getEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets enabled.
+     *
+     * @param enabled the enabled
+     */
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Gets consecutive failures.
+     *
+     * @return the consecutive failures
+     */
+    public Integer getConsecutiveFailures() {
+        return consecutiveFailures;
+    }
+
+    /**
+     * Sets consecutive failures.
+     *
+     * @param consecutiveFailures the consecutive failures
+     */
+    public void setConsecutiveFailures(final Integer consecutiveFailures) {
+        this.consecutiveFailures = consecutiveFailures;
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.common.config;
+
+/**
+ * the plugin chain config.
+ */
+public class PluginChainConfig {
+
+    /**
+     * snapshot the sorted plugins into an array and skip plugins in a loop instead of one deferred hop per plugin.
+     */
+    private boolean precomputed;
+
+    /**
+     * Gets precomputed.
+     *
+     * @return the precomputed
+     */
+    public boolean getPrecomputed() {
+        return precomputed;
+    }
+
+    /**
+     * Sets precomputed.
+     *
+     * @param precomputed the precomputed
+     */
+    public void setPrecomputed(final boolean precomputed) {
+        this.precomputed = precomputed;
+    }
+}
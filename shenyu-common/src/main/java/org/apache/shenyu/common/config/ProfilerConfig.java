@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.common.config;
+
+/**
+ * the plugin profiler config, the profiler can also be switched on and off through the local profile endpoint.
+ */
+public class ProfilerConfig {
+
+    /**
+     * profile the plugins from startup.
+     */
+    private boolean enabled;
+
+    /**
+     * profile one in every sampleInterval requests.
+     */
+    private Integer sampleInterval = 100;
+
+    /**
+     * Gets enabled.
+     *
+     * @return the enabled
+     */
+    public boolean getEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets enabled.
+     *
+     * @param enabled the enabled
+     */
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Gets sample interval.
+     *
+     * @return the sample interval
+     */
+    public Integer getSampleInterval() {
+        return sampleInterval;
+    }
+
+    /**
+     * Sets sample interval.
+     *
+     * @param sampleInterval the sample interval
+     */
+    public void setSampleInterval(final Integer sampleInterval) {
+        this.sampleInterval = sampleInterval;
+    }
+}
@@ -65,6 +65,14 @@ public class ShenyuConfig {
     private MetricsConfig metrics = new MetricsConfig();
 
     private ShenyuTrieConfig trie = new ShenyuTrieConfig();
+
+    private PluginChainConfig pluginChain = new PluginChainConfig();
+
+    private HashRingConfig hashRing = new HashRingConfig();
+
+    private OutlierDetectionConfig outlierDetection = new OutlierDetectionConfig();
+
+    private ProfilerConfig profiler = new ProfilerConfig();
     
     /**
      * Gets health.
@@ -354,6 +362,78 @@ public class ShenyuConfig {
         this.trie = trie;
     }
 
+    /**
+     * get plugin chain config.
+     *
+     * @return plugin chain config
+     */
+    public PluginChainConfig getPluginChain() {
+        return pluginChain;
+    }
+
+    /**
+     * set plugin chain config.
+     *
+     * @param pluginChain plugin chain config
+     */
+    public void setPluginChain(final PluginChainConfig pluginChain) {
+        this.pluginChain = pluginChain;
+    }
+
+    /**
+     * get hash ring config.
+     *
+     * @return hash ring config
+     */
+    public HashRingConfig getHashRing() {
+        return hashRing;
+    }
+
+    /**
+     * set hash ring config.
+     *
+     * @param hashRing hash ring config
+     */
+    public void setHashRing(final HashRingConfig hashRing) {
+        this.hashRing = hashRing;
+    }
+
+    /**
+     * get outlier detection config.
+     *
+     * @return outlier detection config
+     */
+    public OutlierDetectionConfig getOutlierDetection() {
+        return outlierDetection;
+    }
+
+    /**
+     * set outlier detection config.
+     *
+     * @param outlierDetection outlier detection config
+     */
+    public void setOutlierDetection(final OutlierDetectionConfig outlierDetection) {
+        this.outlierDetection = outlierDetection;
+    }
+
+    /**
+     * get profiler config.
+     *
+     * @return profiler config
+     */
+    public ProfilerConfig getProfiler() {
+        return profiler;
+    }
+
+    /**
+     * set profiler config.
+     *
+     * @param profiler profiler config
+     */
+    public void setProfiler(final ProfilerConfig profiler) {
+        this.profiler = profiler;
+    }
+
     /**
      * The type Scheduler.
      */
@@ -1816,6 +1896,11 @@ public class ShenyuConfig {
          */
         private String matchMode = TrieMatchModeEvent.ANT_PATH_MATCH.getMatchMode();
 
+        /**
+         * use the copy-on-write trie, the match neither locks nor allocates and the sizes above are ignored.
+         */
+        private Boolean lockFree = false;
+
         /**
          * get trie children size.
          *
@@ -1887,5 +1972,23 @@ public class ShenyuConfig {
         public void setMatchMode(final String matchMode) {
             this.matchMode = matchMode;
         }
+
+        /**
+         * get lock free.
+         *
+         * @return lock free
+         */
+        public Boolean getLockFree() {
+            return lockFree;
+        }
+
+        /**
+         * set lock free.
+         *
+         * @param lockFree lock free
+         */
+        public void setLockFree(final Boolean lockFree) {
+            this.lockFree = lockFree;
+        }
     }
 }
@@ -112,6 +112,16 @@ public interface Constants {
      */
     String RETRY_STRATEGY = "retryStrategy";
 
+    /**
+     * The constant HTTP_HEDGE_DELAY.
+     */
+    String HTTP_HEDGE_DELAY = "httpHedgeDelay";
+
+    /**
+     * The constant RETRY_BUDGET.
+     */
+    String RETRY_BUDGET = "retryBudget";
+
     /**
      * The constant LOAD_BALANCE.
      */
@@ -122,6 +132,11 @@ public interface Constants {
      */
     String DIVIDE_SELECTOR_ID = "divideSelectorId";
 
+    /**
+     * divide online rule id.
+     */
+    String DIVIDE_RULE_ID = "divideRuleId";
+
     /**
      * Original response Content-Type attribute name.
      */
@@ -137,6 +152,31 @@ public interface Constants {
      */
     String HTTP_DOMAIN = "httpDomain";
 
+    /**
+     * the selector matched by the last executed plugin.
+     */
+    String MATCHED_SELECTOR = "matchedSelector";
+
+    /**
+     * the rule matched by the last executed plugin.
+     */
+    String MATCHED_RULE = "matchedRule";
+
+    /**
+     * the nanos spent on the upstream by the http client plugins.
+     */
+    String UPSTREAM_LATENCY_NANOS = "upstreamLatencyNanos";
+
+    /**
+     * the timer of the plugins executed by the chain.
+     */
+    String PLUGIN_TIMER = "pluginTimer";
+
+    /**
+     * whether the plugins of the request are profiled.
+     */
+    String PLUGIN_PROFILED = "pluginProfiled";
+
     /**
      * The constant RPC_PARAM_TRANSFORM.
      */
@@ -627,6 +667,11 @@ public interface Constants {
      */
     String SHENYU_ADMIN_PATH_CONFIGS_LISTENER = "/configs/listener";
 
+    /**
+     * shenyu admin path configs delta.
+     */
+    String SHENYU_ADMIN_PATH_CONFIGS_DELTA = "/configs/delta";
+
     /**
      * zombie removal times.
      */
@@ -35,6 +35,10 @@ public class ConfigData<T> {
 
     private List<T> data;
 
+    private String epoch;
+
+    private Long revision;
+
     /**
      * no args constructor.
      */
@@ -114,6 +118,46 @@ public class ConfigData<T> {
         return this;
     }
 
+    /**
+     * get epoch, it identifies the admin revision log the revision belongs to.
+     *
+     * @return epoch
+     */
+    public String getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * set epoch.
+     *
+     * @param epoch epoch
+     * @return this
+     */
+    public ConfigData<T> setEpoch(final String epoch) {
+        this.epoch = epoch;
+        return this;
+    }
+
+    /**
+     * get revision.
+     *
+     * @return revision
+     */
+    public Long getRevision() {
+        return revision;
+    }
+
+    /**
+     * set revision.
+     *
+     * @param revision revision
+     * @return this
+     */
+    public ConfigData<T> setRevision(final Long revision) {
+        this.revision = revision;
+        return this;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -123,12 +167,13 @@ public class ConfigData<T> {
             return false;
         }
         ConfigData<?> that = (ConfigData<?>) o;
-        return lastModifyTime == that.lastModifyTime && Objects.equals(md5, that.md5) && Objects.equals(data, that.data);
+        return lastModifyTime == that.lastModifyTime && Objects.equals(md5, that.md5) && Objects.equals(data, that.data)
+                && Objects.equals(epoch, that.epoch) && Objects.equals(revision, that.revision);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(md5, lastModifyTime, data);
+        return Objects.hash(md5, lastModifyTime, data, epoch, revision);
     }
 
     @Override
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.common.dto;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The changes of a group since a client revision.
+ * When the admin revision log no longer covers the client revision, {@code full} is true and
+ * {@link #getData()} carries the whole group instead of {@link #getChanges()}.
+ *
+ * @param <T> the type parameter
+ */
+public class ConfigDeltaData<T> extends ConfigData<T> {
+
+    private boolean full;
+
+    private List<ConfigChangeData<T>> changes;
+
+    /**
+     * get full.
+     *
+     * @return true if this is a full snapshot
+     */
+    public boolean isFull() {
+        return full;
+    }
+
+    /**
+     * set full.
+     *
+     * @param full full
+     * @return this
+     */
+    public ConfigDeltaData<T> setFull(final boolean full) {
+        this.full = full;
+        return this;
+    }
+
+    /**
+     * get changes, ordered by revision.
+     *
+     * @return changes
+     */
+    public List<ConfigChangeData<T>> getChanges() {
+        return changes;
+    }
+
+    /**
+     * set changes.
+     *
+     * @param changes changes
+     * @return this
+     */
+    public ConfigDeltaData<T> setChanges(final List<ConfigChangeData<T>> changes) {
+        this.changes = changes;
+        return this;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (!super.equals(o)) {
+            return false;
+        }
+        ConfigDeltaData<?> that = (ConfigDeltaData<?>) o;
+        return full == that.full && Objects.equals(changes, that.changes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), full, changes);
+    }
+}
@@ -49,6 +49,10 @@ public class WebsocketData<T> {
      */
     private List<T> data;
 
+    private String epoch;
+
+    private Long revision;
+
     /**
      * no args constructor.
      */
@@ -128,6 +132,46 @@ public class WebsocketData<T> {
         return this;
     }
 
+    /**
+     * get epoch, it identifies the admin revision log the revision belongs to.
+     *
+     * @return epoch
+     */
+    public String getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * set epoch.
+     *
+     * @param epoch epoch
+     * @return this
+     */
+    public WebsocketData<T> setEpoch(final String epoch) {
+        this.epoch = epoch;
+        return this;
+    }
+
+    /**
+     * get revision.
+     *
+     * @return revision
+     */
+    public Long getRevision() {
+        return revision;
+    }
+
+    /**
+     * set revision.
+     *
+     * @param revision revision
+     * @return this
+     */
+    public WebsocketData<T> setRevision(final Long revision) {
+        this.revision = revision;
+        return this;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -137,12 +181,13 @@ public class WebsocketData<T> {
             return false;
         }
         WebsocketData<?> that = (WebsocketData<?>) o;
-        return Objects.equals(groupType, that.groupType) && Objects.equals(eventType, that.eventType) && Objects.equals(data, that.data);
+        return Objects.equals(groupType, that.groupType) && Objects.equals(eventType, that.eventType) && Objects.equals(data, that.data)
+                && Objects.equals(epoch, that.epoch) && Objects.equals(revision, that.revision);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(groupType, eventType, data);
+        return Objects.hash(groupType, eventType, data, epoch, revision);
     }
 
     @Override
@@ -156,6 +201,11 @@ public class WebsocketData<T> {
                 + '\''
                 + ", data="
                 + data
+                + ", epoch='"
+                + epoch
+                + '\''
+                + ", revision="
+                + revision
                 + '}';
     }
 }
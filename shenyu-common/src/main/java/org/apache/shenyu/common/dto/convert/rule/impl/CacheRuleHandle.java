@@ -29,6 +29,21 @@ public class CacheRuleHandle implements RuleHandle {
      */
     private Long timeoutSeconds = 60L;
 
+    /**
+     * the concurrent misses of one key share one upstream call.
+     */
+    private Boolean singleFlight = false;
+
+    /**
+     * the seconds a response is served after timeout while one request refreshes it.
+     */
+    private Long staleSeconds = 0L;
+
+    /**
+     * the max bytes of a cached body, a larger response is passed through without being cached.
+     */
+    private Long maxBodySize = 1024L * 1024L;
+
     /**
      * Get the timeout seconds.
      * @return the timeout seconds
@@ -44,4 +59,52 @@ public class CacheRuleHandle implements RuleHandle {
     public void setTimeoutSeconds(final Long timeoutSeconds) {
         this.timeoutSeconds = timeoutSeconds;
     }
+
+    /**
+     * Get single flight.
+     * @return the single flight
+     */
+    public Boolean getSingleFlight() {
+        return singleFlight;
+    }
+
+    /**
+     * Set single flight.
+     * @param singleFlight the single flight
+     */
+    public void setSingleFlight(final Boolean singleFlight) {
+        this.singleFlight = singleFlight;
+    }
+
+    /**
+     * Get the stale seconds.
+     * @return the stale seconds
+     */
+    public Long getStaleSeconds() {
+        return staleSeconds;
+    }
+
+    /**
+     * Set stale seconds.
+     * @param staleSeconds the stale seconds
+     */
+    public void setStaleSeconds(final Long staleSeconds) {
+        this.staleSeconds = staleSeconds;
+    }
+
+    /**
+     * Get the max body size.
+     * @return the max body size
+     */
+    public Long getMaxBodySize() {
+        return maxBodySize;
+    }
+
+    /**
+     * Set max body size.
+     * @param maxBodySize the max body size
+     */
+    public void setMaxBodySize(final Long maxBodySize) {
+        this.maxBodySize = maxBodySize;
+    }
 }
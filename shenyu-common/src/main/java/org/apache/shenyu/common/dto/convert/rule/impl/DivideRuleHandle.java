@@ -61,6 +61,16 @@ public class DivideRuleHandle implements RuleHandle {
      */
     private long requestMaxSize;
 
+    /**
+     * the delay in millis before the hedged request of {@linkplain RetryEnum#HEDGE}, the p95 latency of the upstreams.
+     */
+    private long hedgeDelay = 100L;
+
+    /**
+     * the retries allowed per hundred requests of the selector, for {@linkplain RetryEnum#BUDGET} and {@linkplain RetryEnum#HEDGE}.
+     */
+    private int retryBudget = 20;
+
     /**
      * get loadBalance.
      *
@@ -169,6 +179,42 @@ public class DivideRuleHandle implements RuleHandle {
         this.requestMaxSize = requestMaxSize;
     }
 
+    /**
+     * get hedgeDelay.
+     *
+     * @return hedgeDelay
+     */
+    public long getHedgeDelay() {
+        return hedgeDelay;
+    }
+
+    /**
+     * set hedgeDelay.
+     *
+     * @param hedgeDelay hedgeDelay
+     */
+    public void setHedgeDelay(final long hedgeDelay) {
+        this.hedgeDelay = hedgeDelay;
+    }
+
+    /**
+     * get retryBudget.
+     *
+     * @return retryBudget
+     */
+    public int getRetryBudget() {
+        return retryBudget;
+    }
+
+    /**
+     * set retryBudget.
+     *
+     * @param retryBudget retryBudget
+     */
+    public void setRetryBudget(final int retryBudget) {
+        this.retryBudget = retryBudget;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -179,13 +225,14 @@ public class DivideRuleHandle implements RuleHandle {
         }
         DivideRuleHandle that = (DivideRuleHandle) o;
         return retry == that.retry && timeout == that.timeout && headerMaxSize == that.headerMaxSize
-                && requestMaxSize == that.requestMaxSize && Objects.equals(loadBalance, that.loadBalance)
+                && requestMaxSize == that.requestMaxSize && hedgeDelay == that.hedgeDelay && retryBudget == that.retryBudget
+                && Objects.equals(loadBalance, that.loadBalance)
                 && Objects.equals(retryStrategy, that.retryStrategy);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(loadBalance, retryStrategy, retry, timeout, headerMaxSize, requestMaxSize);
+        return Objects.hash(loadBalance, retryStrategy, retry, timeout, headerMaxSize, requestMaxSize, hedgeDelay, retryBudget);
     }
 
     @Override
@@ -205,6 +252,10 @@ public class DivideRuleHandle implements RuleHandle {
                 + headerMaxSize
                 + ", requestMaxSize="
                 + requestMaxSize
+                + ", hedgeDelay="
+                + hedgeDelay
+                + ", retryBudget="
+                + retryBudget
                 + '}';
     }
 }
@@ -30,7 +30,18 @@ public enum RetryEnum {
     /**
      * Retry other servers when failed.
      */
-    FAILOVER(2, "failover", true);
+    FAILOVER(2, "failover", true),
+
+    /**
+     * Retry other servers when failed, as long as the retry budget of the selector allows.
+     */
+    BUDGET(3, "budget", true),
+
+    /**
+     * Send a hedged request to another server when the response is slower than the hedge delay, the first response wins,
+     * the hedged request and the retries take the retry budget of the selector.
+     */
+    HEDGE(4, "hedge", true);
 
     private final int code;
 
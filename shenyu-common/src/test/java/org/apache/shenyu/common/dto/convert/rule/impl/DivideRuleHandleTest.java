@@ -41,6 +41,8 @@ public class DivideRuleHandleTest {
         handle.setTimeout(1000L);
         handle.setHeaderMaxSize(100L);
         handle.setRequestMaxSize(200L);
+        handle.setHedgeDelay(50L);
+        handle.setRetryBudget(10);
         
         assertThat(handle.getLoadBalance(), is(LoadBalanceEnum.HASH.getName()));
         assertThat(handle.getRetryStrategy(), is(RetryEnum.FAILOVER.getName()));
@@ -48,6 +50,8 @@ public class DivideRuleHandleTest {
         assertThat(handle.getTimeout(), is(1000L));
         assertThat(handle.getHeaderMaxSize(), is(100L));
         assertThat(handle.getRequestMaxSize(), is(200L));
+        assertThat(handle.getHedgeDelay(), is(50L));
+        assertThat(handle.getRetryBudget(), is(10));
     }
     
     @Test
@@ -17,21 +17,27 @@
 
 package org.apache.shenyu.disruptor;
 
-import com.lmax.disruptor.BlockingWaitStrategy;
 import com.lmax.disruptor.EventFactory;
+import com.lmax.disruptor.EventHandler;
 import com.lmax.disruptor.IgnoreExceptionHandler;
 import com.lmax.disruptor.RingBuffer;
 import com.lmax.disruptor.dsl.Disruptor;
 import com.lmax.disruptor.dsl.ProducerType;
+import org.apache.shenyu.disruptor.consumer.BatchQueueConsumer;
+import org.apache.shenyu.disruptor.consumer.QueueBatchConsumer;
 import org.apache.shenyu.disruptor.consumer.QueueConsumer;
 import org.apache.shenyu.disruptor.consumer.QueueConsumerFactory;
 import org.apache.shenyu.disruptor.event.DataEvent;
 import org.apache.shenyu.disruptor.event.DisruptorEventFactory;
 import org.apache.shenyu.disruptor.event.OrderlyDisruptorEventFactory;
 import org.apache.shenyu.disruptor.provider.DisruptorProvider;
+import org.apache.shenyu.disruptor.strategy.WaitStrategyEnum;
 import org.apache.shenyu.disruptor.thread.DisruptorThreadFactory;
 import org.apache.shenyu.disruptor.thread.OrderlyExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.util.Objects;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -46,16 +52,33 @@ public class DisruptorProviderManage<T> {
     
     public static final Integer DEFAULT_SIZE = 4096 << 1 << 1;
     
+    private static final Logger LOG = LoggerFactory.getLogger(DisruptorProviderManage.class);
+    
     private static final Integer DEFAULT_CONSUMER_SIZE = Runtime.getRuntime().availableProcessors() << 1;
     
+    /**
+     * A spinning consumer keeps a core busy, so they take at most half of the cores.
+     */
+    private static final int MAX_SPINNING_CONSUMER_SIZE = Math.max(1, Runtime.getRuntime().availableProcessors() >> 1);
+    
+    private static final int DEFAULT_MAX_BATCH_SIZE = 1024;
+    
     private final Integer size;
     
     private final Integer consumerSize;
     
     private final QueueConsumerFactory<T> consumerFactory;
     
+    private WaitStrategyEnum waitStrategy = WaitStrategyEnum.BLOCKING;
+    
+    private ProducerType producerType = ProducerType.MULTI;
+    
+    private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+    
     private DisruptorProvider<T> provider;
     
+    private OrderlyExecutor executor;
+    
     /**
      * Instantiates a new Disruptor provider manage.
      *
@@ -105,13 +128,8 @@ public class DisruptorProviderManage<T> {
      * @param isOrderly the orderly Whether to execute sequentially.
      */
     public void startup(final boolean isOrderly) {
-        OrderlyExecutor executor = new OrderlyExecutor(isOrderly, consumerSize, consumerSize, 0, TimeUnit.MILLISECONDS,
-                new LinkedBlockingQueue<>(),
-                DisruptorThreadFactory.create("shenyu_disruptor_consumer_", false), new ThreadPoolExecutor.AbortPolicy());
-        int newConsumerSize = this.consumerSize;
         EventFactory<DataEvent<T>> eventFactory;
         if (isOrderly) {
-            newConsumerSize = 1;
             eventFactory = new OrderlyDisruptorEventFactory<>();
         } else {
             eventFactory = new DisruptorEventFactory<>();
@@ -119,20 +137,92 @@ public class DisruptorProviderManage<T> {
         Disruptor<DataEvent<T>> disruptor = new Disruptor<>(eventFactory,
                 size,
                 DisruptorThreadFactory.create("shenyu_disruptor_provider_" + consumerFactory.fixName(), false),
-                ProducerType.MULTI,
-                new BlockingWaitStrategy());
-        @SuppressWarnings("all")
-        QueueConsumer<T>[] consumers = new QueueConsumer[newConsumerSize];
-        for (int i = 0; i < newConsumerSize; i++) {
-            consumers[i] = new QueueConsumer<>(executor, consumerFactory);
+                producerType,
+                waitStrategy.create());
+        QueueBatchConsumer<T> batchConsumer = consumerFactory.createBatchConsumer();
+        if (Objects.nonNull(batchConsumer)) {
+            handleEventsWithBatch(disruptor, batchConsumer);
+        } else {
+            handleEventsWithExecutor(disruptor, isOrderly);
         }
-        disruptor.handleEventsWithWorkerPool(consumers);
         disruptor.setDefaultExceptionHandler(new IgnoreExceptionHandler());
         disruptor.start();
         RingBuffer<DataEvent<T>> ringBuffer = disruptor.getRingBuffer();
         provider = new DisruptorProvider<>(ringBuffer, disruptor, isOrderly);
     }
     
+    private void handleEventsWithExecutor(final Disruptor<DataEvent<T>> disruptor, final boolean isOrderly) {
+        OrderlyExecutor orderlyExecutor = new OrderlyExecutor(isOrderly, consumerSize, consumerSize, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                DisruptorThreadFactory.create("shenyu_disruptor_consumer_", false), new ThreadPoolExecutor.AbortPolicy());
+        int newConsumerSize = isOrderly ? 1 : handlerSize();
+        @SuppressWarnings("all")
+        QueueConsumer<T>[] consumers = new QueueConsumer[newConsumerSize];
+        for (int i = 0; i < newConsumerSize; i++) {
+            consumers[i] = new QueueConsumer<>(orderlyExecutor, consumerFactory);
+        }
+        disruptor.handleEventsWithWorkerPool(consumers);
+        executor = orderlyExecutor;
+    }
+    
+    private void handleEventsWithBatch(final Disruptor<DataEvent<T>> disruptor, final QueueBatchConsumer<T> firstConsumer) {
+        // the events are consumed inline on the disruptor threads, partitioned by sequence or by the orderly hash
+        int handlerSize = handlerSize();
+        @SuppressWarnings("all")
+        EventHandler<DataEvent<T>>[] consumers = new EventHandler[handlerSize];
+        for (int i = 0; i < handlerSize; i++) {
+            QueueBatchConsumer<T> batchConsumer = i == 0 ? firstConsumer : consumerFactory.createBatchConsumer();
+            consumers[i] = new BatchQueueConsumer<>(i, handlerSize, maxBatchSize, batchConsumer);
+        }
+        disruptor.handleEventsWith(consumers);
+    }
+    
+    private int handlerSize() {
+        if (waitStrategy.isSpinning() && consumerSize > MAX_SPINNING_CONSUMER_SIZE) {
+            LOG.warn("the {} wait strategy keeps a core busy per consumer, the consumers of {} are limited from {} to {}",
+                    waitStrategy.getName(), consumerFactory.fixName(), consumerSize, MAX_SPINNING_CONSUMER_SIZE);
+            return MAX_SPINNING_CONSUMER_SIZE;
+        }
+        return consumerSize;
+    }
+    
+    /**
+     * Sets the wait strategy of the consumers, it takes effect on startup.
+     * With a spinning strategy the consumers are limited to half of the cores.
+     *
+     * @param waitStrategy the wait strategy
+     */
+    public void setWaitStrategy(final WaitStrategyEnum waitStrategy) {
+        this.waitStrategy = waitStrategy;
+    }
+    
+    /**
+     * Sets the producer type, {@link ProducerType#SINGLE} is only safe with a single publishing thread, it takes effect on startup.
+     *
+     * @param producerType the producer type
+     */
+    public void setProducerType(final ProducerType producerType) {
+        this.producerType = producerType;
+    }
+    
+    /**
+     * Sets the max size of a batch handed over to the batch consumers, it takes effect on startup.
+     *
+     * @param maxBatchSize the max batch size
+     */
+    public void setMaxBatchSize(final int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+    
+    /**
+     * Gets the number of the consumed events waiting in the executor, always 0 with the batch consumers.
+     *
+     * @return the pending tasks
+     */
+    public int getPendingTasks() {
+        return Objects.isNull(executor) ? 0 : executor.getPendingTasks();
+    }
+    
     /**
      * Gets provider.
      *
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.disruptor.consumer;
+
+import com.lmax.disruptor.EventHandler;
+import org.apache.shenyu.disruptor.event.DataEvent;
+import org.apache.shenyu.disruptor.event.OrderlyDataEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The type Batch queue consumer.
+ * Every consumer sees all the events and takes its own partition of them, by sequence or by the orderly hash,
+ * then hands them over to the {@link QueueBatchConsumer} at the end of each ring-buffer batch.
+ *
+ * @param <T> the type parameter
+ */
+public class BatchQueueConsumer<T> implements EventHandler<DataEvent<T>> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BatchQueueConsumer.class);
+
+    private final int ordinal;
+
+    private final int numberOfConsumers;
+
+    private final int maxBatchSize;
+
+    private final QueueBatchConsumer<T> consumer;
+
+    private final List<T> batch;
+
+    private final List<T> readOnlyBatch;
+
+    /**
+     * Instantiates a new Batch queue consumer.
+     *
+     * @param ordinal           the partition of this consumer
+     * @param numberOfConsumers the number of consumers
+     * @param maxBatchSize      the max size of a batch
+     * @param consumer          the consumer
+     */
+    public BatchQueueConsumer(final int ordinal, final int numberOfConsumers, final int maxBatchSize, final QueueBatchConsumer<T> consumer) {
+        this.ordinal = ordinal;
+        this.numberOfConsumers = numberOfConsumers;
+        this.maxBatchSize = maxBatchSize;
+        this.consumer = consumer;
+        this.batch = new ArrayList<>(Math.min(maxBatchSize, 1024));
+        this.readOnlyBatch = Collections.unmodifiableList(batch);
+    }
+
+    @Override
+    public void onEvent(final DataEvent<T> event, final long sequence, final boolean endOfBatch) {
+        if (partition(event, sequence) == ordinal && event.getData() != null) {
+            batch.add(event.getData());
+            // help gc
+            event.setData(null);
+        }
+        if (!batch.isEmpty() && (endOfBatch || batch.size() >= maxBatchSize)) {
+            flush();
+        }
+    }
+
+    private int partition(final DataEvent<T> event, final long sequence) {
+        if (numberOfConsumers == 1) {
+            return 0;
+        }
+        if (event instanceof OrderlyDataEvent) {
+            String hash = ((OrderlyDataEvent<T>) event).getHash();
+            if (hash != null && !hash.isEmpty()) {
+                // the same hash is always consumed by the same consumer, in order
+                return (hash.hashCode() & Integer.MAX_VALUE) % numberOfConsumers;
+            }
+        }
+        return (int) (sequence % numberOfConsumers);
+    }
+
+    private void flush() {
+        try {
+            consumer.onBatch(readOnlyBatch);
+        } catch (Exception e) {
+            LOG.error("consume batch of {} error", batch.size(), e);
+        } finally {
+            batch.clear();
+        }
+    }
+}
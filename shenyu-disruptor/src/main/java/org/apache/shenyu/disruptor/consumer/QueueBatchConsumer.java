@@ -15,22 +15,23 @@
  * limitations under the License.
  */
 
-package org.apache.shenyu.disruptor.thread;
+package org.apache.shenyu.disruptor.consumer;
 
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.ThreadPoolExecutor;
-import java.util.concurrent.TimeUnit;
+import java.util.List;
 
 /**
- * SingletonExecutor .
- * A thread pool with a corePoolSize of 1.
+ * The interface Queue batch consumer.
+ * Consumes the data of a whole ring-buffer batch inline on the disruptor consumer thread.
+ *
+ * @param <T> the type parameter
  */
-public class SingletonExecutor extends ThreadPoolExecutor {
-    
-    public SingletonExecutor(final ThreadFactory factory) {
-        super(1, 1, 0L,
-                TimeUnit.MILLISECONDS,
-                new LinkedBlockingQueue<>(), factory);
-    }
+@FunctionalInterface
+public interface QueueBatchConsumer<T> {
+
+    /**
+     * Consume a batch, the list is reused after the call returns.
+     *
+     * @param batch the data of the batch in publishing order
+     */
+    void onBatch(List<T> batch);
 }
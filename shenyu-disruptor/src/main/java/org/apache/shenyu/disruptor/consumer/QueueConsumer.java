@@ -22,7 +22,7 @@ import org.apache.shenyu.disruptor.event.DataEvent;
 import org.apache.shenyu.disruptor.event.OrderlyDataEvent;
 import org.apache.shenyu.disruptor.thread.OrderlyExecutor;
 
-import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.Executor;
 
 /**
  * The type Queue consumer.
@@ -49,7 +49,7 @@ public class QueueConsumer<T> implements WorkHandler<DataEvent<T>> {
     @Override
     public void onEvent(final DataEvent<T> t) {
         if (t != null) {
-            ThreadPoolExecutor executor = orderly(t);
+            Executor executor = orderly(t);
             QueueConsumerExecutor<T> queueConsumerExecutor = factory.create();
             queueConsumerExecutor.setData(t.getData());
             // help gc
@@ -58,7 +58,7 @@ public class QueueConsumer<T> implements WorkHandler<DataEvent<T>> {
         }
     }
     
-    private ThreadPoolExecutor orderly(final DataEvent<T> t) {
+    private Executor orderly(final DataEvent<T> t) {
         if (t instanceof OrderlyDataEvent && !isEmpty(((OrderlyDataEvent<T>) t).getHash())) {
             return executor.select(((OrderlyDataEvent<T>) t).getHash());
         } else {
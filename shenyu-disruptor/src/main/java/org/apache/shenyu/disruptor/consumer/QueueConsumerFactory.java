@@ -37,4 +37,14 @@ public interface QueueConsumerFactory<T> {
      * @return the string
      */
     String fixName();
+    
+    /**
+     * Create the batch consumer of a consumer thread. When it is present the data is consumed in whole
+     * ring-buffer batches on the consumer threads, instead of being submitted to an executor one by one.
+     *
+     * @return the batch consumer, null to consume one by one
+     */
+    default QueueBatchConsumer<T> createBatchConsumer() {
+        return null;
+    }
 }
@@ -101,6 +101,33 @@ public class DisruptorProvider<T> {
         }
     }
     
+    /**
+     * Gets the size of the ring buffer.
+     *
+     * @return the buffer size
+     */
+    public int getBufferSize() {
+        return ringBuffer.getBufferSize();
+    }
+    
+    /**
+     * Gets the number of slots taken by the events which are not consumed yet.
+     *
+     * @return the occupancy
+     */
+    public long getOccupancy() {
+        return ringBuffer.getBufferSize() - ringBuffer.remainingCapacity();
+    }
+    
+    /**
+     * Gets how many published events the slowest consumer is behind.
+     *
+     * @return the lag
+     */
+    public long getLag() {
+        return Math.max(0L, ringBuffer.getCursor() - ringBuffer.getMinimumGatingSequence());
+    }
+    
     /**
      * Shutdown.
      */
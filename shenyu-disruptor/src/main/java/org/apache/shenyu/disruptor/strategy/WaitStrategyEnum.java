@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.disruptor.strategy;
+
+import com.lmax.disruptor.BlockingWaitStrategy;
+import com.lmax.disruptor.BusySpinWaitStrategy;
+import com.lmax.disruptor.PhasedBackoffWaitStrategy;
+import com.lmax.disruptor.SleepingWaitStrategy;
+import com.lmax.disruptor.WaitStrategy;
+import com.lmax.disruptor.YieldingWaitStrategy;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * The wait strategy of the disruptor consumers.
+ */
+public enum WaitStrategyEnum {
+
+    /**
+     * Lock and condition, the lowest cpu usage and the highest latency.
+     */
+    BLOCKING("blocking", false, BlockingWaitStrategy::new),
+
+    /**
+     * Spin, then yield, then park for a short time.
+     */
+    SLEEPING("sleeping", false, SleepingWaitStrategy::new),
+
+    /**
+     * Spin, then yield, burns a core per consumer while idle.
+     */
+    YIELDING("yielding", true, YieldingWaitStrategy::new),
+
+    /**
+     * Busy spin, the lowest latency, burns a core per consumer while idle.
+     */
+    BUSY_SPIN("busySpin", true, BusySpinWaitStrategy::new),
+
+    /**
+     * Spin for 1ms, then yield for 1ms, then fall back to blocking.
+     */
+    PHASED_BACKOFF("phasedBackoff", false, () -> PhasedBackoffWaitStrategy.withLock(1, 1, TimeUnit.MILLISECONDS));
+
+    private final String name;
+
+    private final boolean spinning;
+
+    private final Supplier<WaitStrategy> supplier;
+
+    WaitStrategyEnum(final String name, final boolean spinning, final Supplier<WaitStrategy> supplier) {
+        this.name = name;
+        this.spinning = spinning;
+        this.supplier = supplier;
+    }
+
+    /**
+     * get name.
+     *
+     * @return name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Whether the consumers keep a core busy while idle.
+     *
+     * @return true if spinning
+     */
+    public boolean isSpinning() {
+        return spinning;
+    }
+
+    /**
+     * Create a new wait strategy, the strategies keep state and must not be shared between disruptors.
+     *
+     * @return the wait strategy
+     */
+    public WaitStrategy create() {
+        return supplier.get();
+    }
+
+    /**
+     * Acquire by name, defaults to blocking.
+     *
+     * @param name the name
+     * @return WaitStrategyEnum
+     */
+    public static WaitStrategyEnum acquireByName(final String name) {
+        return Arrays.stream(WaitStrategyEnum.values())
+                .filter(e -> e.getName().equalsIgnoreCase(name)).findFirst()
+                .orElse(WaitStrategyEnum.BLOCKING);
+    }
+}
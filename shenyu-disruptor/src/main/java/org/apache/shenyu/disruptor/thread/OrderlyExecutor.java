@@ -17,26 +17,19 @@
 
 package org.apache.shenyu.disruptor.thread;
 
-import com.google.common.hash.Hashing;
-
-import java.nio.charset.StandardCharsets;
-import java.util.SortedMap;
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.RejectedExecutionHandler;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.IntStream;
 
 /**
  * OrderlyExecutor .
+ * The orderly tasks are partitioned by the hash of their key, each partition runs its tasks in order on the pool threads.
  */
 public class OrderlyExecutor extends ThreadPoolExecutor {
     
-    private final ConcurrentSkipListMap<Long, SingletonExecutor> virtualExecutors = new ConcurrentSkipListMap<>();
-    
-    private final ThreadSelector threadSelector = new ThreadSelector();
+    private final SerialExecutor[] partitions;
     
     /**
      * Instantiates a new Orderly executor.
@@ -60,75 +53,48 @@ public class OrderlyExecutor extends ThreadPoolExecutor {
             final ThreadFactory threadFactory,
             final RejectedExecutionHandler handler) {
         super(corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue, threadFactory, handler);
-        orderlyThreadPool(isOrderly, corePoolSize, threadFactory);
-    }
-    
-    private void orderlyThreadPool(final boolean isOrderly, final int corePoolSize, final ThreadFactory threadFactory) {
-        if (isOrderly) {
-            IntStream.range(0, corePoolSize).forEach(index -> {
-                SingletonExecutor singletonExecutor = new SingletonExecutor(threadFactory);
-                String hash = singletonExecutor.hashCode() + ":" + index;
-                byte[] bytes = threadSelector.sha(hash);
-                for (int i = 0; i < 4; i++) {
-                    this.virtualExecutors.put(threadSelector.hash(bytes, i), singletonExecutor);
-                }
-            });
+        this.partitions = new SerialExecutor[isOrderly ? corePoolSize : 0];
+        for (int i = 0; i < partitions.length; i++) {
+            partitions[i] = new SerialExecutor(this);
         }
     }
     
     /**
-     * Select.
+     * Select the partition of the key, the same key is always run by the same partition.
      *
      * @param hash the hash code
-     * @return the singleton executor
+     * @return the serial executor
      */
-    public SingletonExecutor select(final String hash) {
-        long select = threadSelector.select(hash);
-        if (!virtualExecutors.containsKey(select)) {
-            SortedMap<Long, SingletonExecutor> tailMap = virtualExecutors.tailMap(select);
-            if (tailMap.isEmpty()) {
-                select = virtualExecutors.firstKey();
-            } else {
-                select = tailMap.firstKey();
-            }
-        }
-        return virtualExecutors.get(select);
+    public SerialExecutor select(final String hash) {
+        return partitions[partition(hash, partitions.length)];
     }
     
     /**
-     * The type Thread selector.
+     * Gets the number of tasks waiting in the pool and in the partitions.
+     *
+     * @return the pending tasks
      */
-    private static final class ThreadSelector {
-        
-        /**
-         * Select long.
-         *
-         * @param hash the hash
-         * @return the long
-         */
-        public long select(final String hash) {
-            byte[] digest = sha(hash);
-            return hash(digest, 0);
-        }
-        
-        /**
-         * ketame  hash.
-         */
-        private long hash(final byte[] digest, final int number) {
-            return (((long) (digest[3 + number * 4] & 0xFF) << 24)
-                    | ((long) (digest[2 + number * 4] & 0xFF) << 16)
-                    | ((long) (digest[1 + number * 4] & 0xFF) << 8)
-                    | (digest[number * 4] & 0xFF))
-                    & 0xFFFFFFFFL;
-        }
-        
-        private byte[] sha(final String hash) {
-            byte[] bytes = hash.getBytes(StandardCharsets.UTF_8);
-            return Hashing
-                    .sha256()
-                    .newHasher()
-                    .putBytes(bytes)
-                    .hash().asBytes();
+    public int getPendingTasks() {
+        int pending = getQueue().size();
+        for (SerialExecutor partition : partitions) {
+            pending += partition.size();
         }
+        return pending;
+    }
+    
+    /**
+     * Gets the partition of the key, a non-cryptographic hash modulo the number of partitions.
+     *
+     * @param hash  the key
+     * @param count the number of partitions
+     * @return the partition index
+     */
+    static int partition(final String hash, final int count) {
+        int h = hash.hashCode();
+        // spread the high bits, the keys often differ only in their last characters
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        return (h & Integer.MAX_VALUE) % count;
     }
 }
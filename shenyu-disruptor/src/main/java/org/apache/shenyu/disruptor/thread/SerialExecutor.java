@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.disruptor.thread;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * SerialExecutor .
+ * Runs the tasks one at a time in submission order on a shared executor.
+ * Submitting only offers to a lock-free queue, a drain task is handed to the shared executor when the queue was idle.
+ * When the shared executor rejects the drain, the submitting thread drains the queue itself.
+ */
+public final class SerialExecutor implements Executor {
+    
+    private static final Logger LOG = LoggerFactory.getLogger(SerialExecutor.class);
+    
+    /**
+     * Tasks run by one drain before the thread is given back to the shared executor.
+     */
+    private static final int MAX_DRAIN = 256;
+    
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    
+    private final Executor executor;
+    
+    private final Runnable drain = this::drain;
+    
+    /**
+     * Instantiates a new Serial executor.
+     *
+     * @param executor the shared executor which runs the tasks
+     */
+    public SerialExecutor(final Executor executor) {
+        this.executor = executor;
+    }
+    
+    @Override
+    public void execute(final Runnable task) {
+        tasks.offer(task);
+        schedule();
+    }
+    
+    /**
+     * Gets the number of tasks waiting.
+     *
+     * @return the size
+     */
+    public int size() {
+        return tasks.size();
+    }
+    
+    private void schedule() {
+        while (scheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(drain);
+                return;
+            } catch (RejectedExecutionException e) {
+                // the shared executor is saturated or shut down, the caller drains the queue instead of leaving it scheduled
+                runTasks();
+                scheduled.set(false);
+                if (tasks.isEmpty()) {
+                    return;
+                }
+            }
+        }
+    }
+    
+    private void drain() {
+        try {
+            runTasks();
+        } finally {
+            scheduled.set(false);
+            // a task may have been offered after the last poll but before the flag was reset
+            if (!tasks.isEmpty()) {
+                schedule();
+            }
+        }
+    }
+    
+    private void runTasks() {
+        Runnable task;
+        for (int i = 0; i < MAX_DRAIN && (task = tasks.poll()) != null; i++) {
+            try {
+                task.run();
+            } catch (Throwable e) {
+                LOG.error("serial task execute error", e);
+            }
+        }
+    }
+}
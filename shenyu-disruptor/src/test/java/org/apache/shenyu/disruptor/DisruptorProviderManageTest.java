@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.disruptor;
+
+import org.apache.shenyu.disruptor.consumer.QueueBatchConsumer;
+import org.apache.shenyu.disruptor.consumer.QueueConsumerExecutor;
+import org.apache.shenyu.disruptor.consumer.QueueConsumerFactory;
+import org.apache.shenyu.disruptor.strategy.WaitStrategyEnum;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The test case for {@link DisruptorProviderManage}.
+ */
+public final class DisruptorProviderManageTest {
+
+    @Test
+    public void testBatch() {
+        BatchFactory factory = new BatchFactory();
+        DisruptorProviderManage<Integer> manage = new DisruptorProviderManage<>(factory, 4, 1024);
+        manage.startup();
+        for (int i = 0; i < 100; i++) {
+            manage.getProvider().onData(i);
+        }
+        await().atMost(3, TimeUnit.SECONDS).until(() -> factory.consumed.size() == 100);
+        assertEquals(4, factory.created.get());
+        manage.getProvider().shutdown();
+    }
+
+    @Test
+    public void testSpinningConsumerSize() {
+        BatchFactory factory = new BatchFactory();
+        DisruptorProviderManage<Integer> manage = new DisruptorProviderManage<>(factory, 64, 1024);
+        manage.setWaitStrategy(WaitStrategyEnum.BUSY_SPIN);
+        manage.startup();
+        assertEquals(Math.max(1, Runtime.getRuntime().availableProcessors() >> 1), factory.created.get());
+        manage.getProvider().shutdown();
+    }
+
+    private static final class BatchFactory implements QueueConsumerFactory<Integer> {
+
+        private final AtomicInteger created = new AtomicInteger();
+
+        private final List<Integer> consumed = new CopyOnWriteArrayList<>();
+
+        @Override
+        public QueueConsumerExecutor<Integer> create() {
+            return null;
+        }
+
+        @Override
+        public String fixName() {
+            return "test";
+        }
+
+        @Override
+        public QueueBatchConsumer<Integer> createBatchConsumer() {
+            created.incrementAndGet();
+            return consumed::addAll;
+        }
+    }
+}
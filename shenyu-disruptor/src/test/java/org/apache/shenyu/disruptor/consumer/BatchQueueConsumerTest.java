@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.disruptor.consumer;
+
+import org.apache.shenyu.disruptor.event.DataEvent;
+import org.apache.shenyu.disruptor.event.OrderlyDataEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The test case for {@link BatchQueueConsumer}.
+ */
+public final class BatchQueueConsumerTest {
+
+    @Test
+    public void testPartitionBySequence() {
+        List<List<Integer>> batches0 = new ArrayList<>();
+        List<List<Integer>> batches1 = new ArrayList<>();
+        BatchQueueConsumer<Integer> consumer0 = new BatchQueueConsumer<>(0, 2, 1024, batch -> batches0.add(new ArrayList<>(batch)));
+        BatchQueueConsumer<Integer> consumer1 = new BatchQueueConsumer<>(1, 2, 1024, batch -> batches1.add(new ArrayList<>(batch)));
+        for (int sequence = 0; sequence < 4; sequence++) {
+            boolean endOfBatch = sequence == 3;
+            consumer0.onEvent(event(sequence), sequence, endOfBatch);
+            consumer1.onEvent(event(sequence), sequence, endOfBatch);
+        }
+        assertEquals(Collections.singletonList(Arrays.asList(0, 2)), batches0);
+        assertEquals(Collections.singletonList(Arrays.asList(1, 3)), batches1);
+    }
+
+    @Test
+    public void testPartitionByHash() {
+        List<Integer> consumed0 = new ArrayList<>();
+        List<Integer> consumed1 = new ArrayList<>();
+        BatchQueueConsumer<Integer> consumer0 = new BatchQueueConsumer<>(0, 2, 1024, consumed0::addAll);
+        BatchQueueConsumer<Integer> consumer1 = new BatchQueueConsumer<>(1, 2, 1024, consumed1::addAll);
+        for (int sequence = 0; sequence < 6; sequence++) {
+            consumer0.onEvent(orderlyEvent(sequence, "hash"), sequence, true);
+            consumer1.onEvent(orderlyEvent(sequence, "hash"), sequence, true);
+        }
+        // the same hash is consumed by one consumer in order
+        List<Integer> consumed = consumed0.isEmpty() ? consumed1 : consumed0;
+        assertTrue(consumed0.isEmpty() || consumed1.isEmpty());
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5), consumed);
+    }
+
+    @Test
+    public void testFlush() {
+        List<List<Integer>> batches = new ArrayList<>();
+        BatchQueueConsumer<Integer> consumer = new BatchQueueConsumer<>(0, 1, 2, batch -> batches.add(new ArrayList<>(batch)));
+        DataEvent<Integer> event = event(0);
+        consumer.onEvent(event, 0, false);
+        assertTrue(batches.isEmpty());
+        assertNull(event.getData());
+        // flushed when the batch is full
+        consumer.onEvent(event(1), 1, false);
+        assertEquals(Collections.singletonList(Arrays.asList(0, 1)), batches);
+        // flushed at the end of the ring-buffer batch
+        consumer.onEvent(event(2), 2, true);
+        assertEquals(Arrays.asList(Arrays.asList(0, 1), Collections.singletonList(2)), batches);
+        // an empty batch is not flushed
+        consumer.onEvent(new DataEvent<>(), 3, true);
+        assertEquals(2, batches.size());
+    }
+
+    @Test
+    public void testFlushError() {
+        List<List<Integer>> batches = new ArrayList<>();
+        BatchQueueConsumer<Integer> consumer = new BatchQueueConsumer<>(0, 1, 1024, batch -> {
+            batches.add(new ArrayList<>(batch));
+            throw new IllegalStateException("consume error");
+        });
+        consumer.onEvent(event(0), 0, true);
+        consumer.onEvent(event(1), 1, true);
+        // the failed batch is dropped
+        assertEquals(Arrays.asList(Collections.singletonList(0), Collections.singletonList(1)), batches);
+    }
+
+    private static DataEvent<Integer> event(final int data) {
+        DataEvent<Integer> event = new DataEvent<>();
+        event.setData(data);
+        return event;
+    }
+
+    private static DataEvent<Integer> orderlyEvent(final int data, final String hash) {
+        OrderlyDataEvent<Integer> event = new OrderlyDataEvent<>();
+        event.setData(data);
+        event.setHash(hash);
+        return event;
+    }
+}
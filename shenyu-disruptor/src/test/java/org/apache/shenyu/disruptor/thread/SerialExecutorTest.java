@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.disruptor.thread;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The test case for {@link SerialExecutor}.
+ */
+public final class SerialExecutorTest {
+
+    @Test
+    public void testExecuteInOrder() {
+        List<Runnable> drains = new ArrayList<>();
+        SerialExecutor serialExecutor = new SerialExecutor(drains::add);
+        List<Integer> executed = new ArrayList<>();
+        serialExecutor.execute(() -> executed.add(1));
+        serialExecutor.execute(() -> executed.add(2));
+        // the drain is only scheduled once while the queue is not idle
+        assertEquals(1, drains.size());
+        assertEquals(2, serialExecutor.size());
+        drains.remove(0).run();
+        assertEquals(Arrays.asList(1, 2), executed);
+        assertEquals(0, serialExecutor.size());
+    }
+
+    @Test
+    public void testRejectedDrain() {
+        AtomicBoolean reject = new AtomicBoolean(true);
+        List<Runnable> drains = new ArrayList<>();
+        SerialExecutor serialExecutor = new SerialExecutor(command -> {
+            if (reject.get()) {
+                throw new RejectedExecutionException("saturated");
+            }
+            drains.add(command);
+        });
+        List<Integer> executed = new ArrayList<>();
+        // the rejected drain runs on the caller
+        serialExecutor.execute(() -> executed.add(1));
+        assertEquals(Arrays.asList(1), executed);
+        assertEquals(0, serialExecutor.size());
+        // the partition is scheduled again once the executor accepts the drain
+        reject.set(false);
+        serialExecutor.execute(() -> executed.add(2));
+        assertEquals(1, drains.size());
+        drains.remove(0).run();
+        assertEquals(Arrays.asList(1, 2), executed);
+    }
+}
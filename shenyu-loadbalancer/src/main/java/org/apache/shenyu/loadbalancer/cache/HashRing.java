@@ -0,0 +1,214 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.loadbalancer.cache;
+
+import org.apache.shenyu.loadbalancer.entity.Upstream;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The consistent hash ring of an upstream list, built once and shared by every lookup.
+ * The virtual node positions are kept in a sorted primitive array and looked up by binary search,
+ * every virtual node holds the index of its upstream in the list so a walk over the ring does not search the list.
+ * The positions only depend on the urls, a reordered list gets a new ring with the same positions.
+ */
+public final class HashRing {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    /**
+     * the urls of the upstream list in the order of the list.
+     */
+    private final String[] urls;
+
+    private final long[] points;
+
+    /**
+     * the index in the upstream list of the owner of each virtual node.
+     */
+    private final int[] owners;
+
+    private final int urlCount;
+
+    private HashRing(final String[] urls, final long[] points, final int[] owners, final int urlCount) {
+        this.urls = urls;
+        this.points = points;
+        this.owners = owners;
+        this.urlCount = urlCount;
+    }
+
+    /**
+     * Build the ring of the upstream list, an url listed twice owns the virtual nodes of its first index.
+     *
+     * @param upstreamList the upstream list
+     * @param virtualNodes the virtual nodes per upstream
+     * @return the ring
+     */
+    public static HashRing build(final List<Upstream> upstreamList, final int virtualNodes) {
+        String[] urls = upstreamList.stream().map(Upstream::getUrl).toArray(String[]::new);
+        Map<String, Integer> indexes = new LinkedHashMap<>();
+        for (int i = 0; i < urls.length; i++) {
+            if (Objects.nonNull(urls[i])) {
+                indexes.putIfAbsent(urls[i], i);
+            }
+        }
+        int nodes = Math.max(virtualNodes, 1);
+        int size = indexes.size() * nodes;
+        long[] hashes = new long[size];
+        int[] indexOfNode = new int[size];
+        Integer[] order = new Integer[size];
+        int node = 0;
+        for (Map.Entry<String, Integer> entry : indexes.entrySet()) {
+            for (int j = 0; j < nodes; j++, node++) {
+                hashes[node] = hash("SHENYU-" + entry.getKey() + "-HASH-" + j);
+                indexOfNode[node] = entry.getValue();
+                order[node] = node;
+            }
+        }
+        Arrays.sort(order, Comparator.comparingLong(index -> hashes[index]));
+        long[] points = new long[size];
+        int[] owners = new int[size];
+        for (int i = 0; i < size; i++) {
+            points[i] = hashes[order[i]];
+            owners[i] = indexOfNode[order[i]];
+        }
+        return new HashRing(urls, points, owners, indexes.size());
+    }
+
+    /**
+     * A fingerprint of the upstream urls in the order of the list.
+     *
+     * @param upstreamList the upstream list
+     * @return the fingerprint
+     */
+    public static long fingerprint(final List<Upstream> upstreamList) {
+        long fingerprint = upstreamList.size();
+        for (Upstream upstream : upstreamList) {
+            fingerprint = fingerprint * 31 + mix(Objects.hashCode(upstream.getUrl()));
+        }
+        return fingerprint;
+    }
+
+    /**
+     * Hash the key with 64 bit FNV-1a and a murmur3 finalizer, no bytes are allocated.
+     *
+     * @param key the key
+     * @return the hash
+     */
+    public static long hash(final String key) {
+        long hash = FNV_OFFSET;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(final long value) {
+        long hash = value;
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    /**
+     * Whether the ring was built from the same urls in the same order as the upstream list.
+     *
+     * @param upstreamList the upstream list
+     * @return true if the ring can serve the list
+     */
+    public boolean matches(final List<Upstream> upstreamList) {
+        if (upstreamList.size() != urls.length) {
+            return false;
+        }
+        for (int i = 0; i < urls.length; i++) {
+            if (!Objects.equals(urls[i], upstreamList.get(i).getUrl())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Locate the first virtual node clockwise from the hash.
+     *
+     * @param hash the hash of the key
+     * @return the position of the virtual node
+     */
+    public int locate(final long hash) {
+        int low = 0;
+        int high = points.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (points[mid] < hash) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low == points.length ? 0 : low;
+    }
+
+    /**
+     * Get the index in the upstream list of the upstream owning the virtual node.
+     *
+     * @param position the position of the virtual node
+     * @return the index
+     */
+    public int getIndex(final int position) {
+        return owners[position];
+    }
+
+    /**
+     * Get the url owning the virtual node.
+     *
+     * @param position the position of the virtual node
+     * @return the url
+     */
+    public String getUrl(final int position) {
+        return urls[owners[position]];
+    }
+
+    /**
+     * Get the count of virtual nodes.
+     *
+     * @return the size
+     */
+    public int size() {
+        return points.length;
+    }
+
+    /**
+     * Get the count of distinct upstream urls.
+     *
+     * @return the count
+     */
+    public int getUrlCount() {
+        return urlCount;
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.loadbalancer.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The token bucket of the retries of a rule, every request deposits a fraction of a token and every retry
+ * withdraws a whole one, so the retries stay under a percent of the requests when the upstreams brown out.
+ * The bucket starts full, so a burst of {@link #MAX_TOKENS} retries is allowed before the first requests.
+ */
+public final class RetryBudget {
+
+    /**
+     * The max tokens in the bucket.
+     */
+    public static final int MAX_TOKENS = 10;
+
+    private static final long TOKEN = 1000L;
+
+    private static final long CAPACITY = MAX_TOKENS * TOKEN;
+
+    private volatile int percent;
+
+    private volatile long deposit;
+
+    private final AtomicLong balance = new AtomicLong(CAPACITY);
+
+    /**
+     * Instantiates a new retry budget.
+     *
+     * @param percent the retries allowed per hundred requests
+     */
+    public RetryBudget(final int percent) {
+        setPercent(percent);
+    }
+
+    /**
+     * get the retries allowed per hundred requests.
+     *
+     * @return the percent
+     */
+    public int getPercent() {
+        return percent;
+    }
+
+    /**
+     * set the retries allowed per hundred requests, the tokens in the bucket are kept.
+     *
+     * @param percent the percent
+     */
+    public void setPercent(final int percent) {
+        this.deposit = Math.max(0, percent) * TOKEN / 100;
+        this.percent = percent;
+    }
+
+    /**
+     * Deposit the share of a request.
+     */
+    public void deposit() {
+        if (balance.get() >= CAPACITY) {
+            return;
+        }
+        balance.accumulateAndGet(deposit, (current, value) -> Math.min(CAPACITY, current + value));
+    }
+
+    /**
+     * Withdraw a token for a retry.
+     *
+     * @return true if the retry is allowed
+     */
+    public boolean tryWithdraw() {
+        long current = balance.get();
+        while (current >= TOKEN) {
+            if (balance.compareAndSet(current, current - TOKEN)) {
+                return true;
+            }
+            current = balance.get();
+        }
+        return false;
+    }
+
+    /**
+     * get the whole tokens in the bucket.
+     *
+     * @return the tokens
+     */
+    public long getTokens() {
+        return balance.get() / TOKEN;
+    }
+}
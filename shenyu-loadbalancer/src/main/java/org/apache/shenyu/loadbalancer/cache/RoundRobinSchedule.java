@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.loadbalancer.cache;
+
+import org.apache.shenyu.loadbalancer.entity.Upstream;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The smooth weighted round-robin sequence of an upstream list, built once and walked with an atomic cursor.
+ * The weights are reduced by their gcd, and scaled down when the sequence would be longer than {@link #MAX_LENGTH}.
+ */
+public final class RoundRobinSchedule {
+
+    /**
+     * The max length of the sequence.
+     */
+    public static final int MAX_LENGTH = 1 << 14;
+
+    private final Upstream[] upstreams;
+
+    private final boolean[] statuses;
+
+    private final int[] weights;
+
+    private final int[] sequence;
+
+    private final long warmupEnd;
+
+    private final AtomicLong cursor = new AtomicLong();
+
+    private RoundRobinSchedule(final Upstream[] upstreams, final int[] weights, final int[] sequence) {
+        this.upstreams = upstreams;
+        this.weights = weights;
+        this.sequence = sequence;
+        this.statuses = new boolean[upstreams.length];
+        long end = 0;
+        for (int i = 0; i < upstreams.length; i++) {
+            Upstream upstream = upstreams[i];
+            statuses[i] = upstream.isStatus();
+            if (upstream.getWarmup() > 0 && upstream.getTimestamp() > 0) {
+                end = Math.max(end, upstream.getTimestamp() + upstream.getWarmup());
+            }
+        }
+        this.warmupEnd = end;
+    }
+
+    /**
+     * Build the schedule of the upstream list.
+     *
+     * @param upstreamList the upstream list
+     * @param weights      the current weights of the upstreams
+     * @return the schedule
+     */
+    public static RoundRobinSchedule build(final List<Upstream> upstreamList, final int[] weights) {
+        Upstream[] upstreams = upstreamList.toArray(new Upstream[0]);
+        return new RoundRobinSchedule(upstreams, weights.clone(), sequence(reduce(weights)));
+    }
+
+    /**
+     * A fingerprint of the upstream instances in the list order.
+     *
+     * @param upstreamList the upstream list
+     * @return the fingerprint
+     */
+    public static long fingerprint(final List<Upstream> upstreamList) {
+        long fingerprint = upstreamList.size();
+        for (Upstream upstream : upstreamList) {
+            fingerprint = fingerprint * 31 + System.identityHashCode(upstream);
+        }
+        return fingerprint;
+    }
+
+    private static int[] reduce(final int[] weights) {
+        int gcd = 0;
+        long total = 0;
+        for (int weight : weights) {
+            if (weight > 0) {
+                gcd = gcd(gcd, weight);
+                total += weight;
+            }
+        }
+        int[] reduced = new int[weights.length];
+        if (total == 0) {
+            return reduced;
+        }
+        total /= gcd;
+        double scale = total > MAX_LENGTH ? (double) MAX_LENGTH / total : 1D;
+        for (int i = 0; i < weights.length; i++) {
+            if (weights[i] > 0) {
+                reduced[i] = Math.max(1, (int) (weights[i] / gcd * scale));
+            }
+        }
+        return reduced;
+    }
+
+    private static int gcd(final int a, final int b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+
+    private static int[] sequence(final int[] weights) {
+        int total = Arrays.stream(weights).sum();
+        if (total == 0) {
+            // no upstream has weight, always pick the first one
+            return new int[]{0};
+        }
+        int[] sequence = new int[total];
+        long[] current = new long[weights.length];
+        for (int i = 0; i < total; i++) {
+            int selected = 0;
+            for (int j = 0; j < weights.length; j++) {
+                current[j] += weights[j];
+                if (current[j] > current[selected]) {
+                    selected = j;
+                }
+            }
+            current[selected] -= total;
+            sequence[i] = selected;
+        }
+        return sequence;
+    }
+
+    /**
+     * Whether the schedule was built from the same upstream instances in the same order with the same status.
+     *
+     * @param upstreamList the upstream list
+     * @return true if the schedule can serve the list
+     */
+    public boolean matches(final List<Upstream> upstreamList) {
+        if (upstreamList.size() != upstreams.length) {
+            return false;
+        }
+        for (int i = 0; i < upstreams.length; i++) {
+            Upstream upstream = upstreamList.get(i);
+            if (upstream != upstreams[i] || upstream.isStatus() != statuses[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Whether some upstream may still be warming up, so the weights should be checked again.
+     *
+     * @return true if warming up
+     */
+    public boolean isWarmingUp() {
+        return warmupEnd > 0 && System.currentTimeMillis() < warmupEnd;
+    }
+
+    /**
+     * Whether the schedule was built with the weights.
+     *
+     * @param weights the weights
+     * @return true if the weights are the same
+     */
+    public boolean hasWeights(final int[] weights) {
+        return Arrays.equals(this.weights, weights);
+    }
+
+    /**
+     * Get the next upstream.
+     *
+     * @return the upstream
+     */
+    public Upstream next() {
+        return upstreams[sequence[(int) (cursor.getAndIncrement() % sequence.length)]];
+    }
+
+    /**
+     * Get the length of the sequence.
+     *
+     * @return the length
+     */
+    public int length() {
+        return sequence.length;
+    }
+}
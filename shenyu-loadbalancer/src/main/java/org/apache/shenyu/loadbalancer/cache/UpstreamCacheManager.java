@@ -21,6 +21,8 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.shenyu.common.concurrent.ShenyuThreadFactory;
+import org.apache.shenyu.common.config.HashRingConfig;
+import org.apache.shenyu.common.config.OutlierDetectionConfig;
 import org.apache.shenyu.common.config.ShenyuConfig;
 import org.apache.shenyu.common.config.ShenyuConfig.UpstreamCheck;
 import org.apache.shenyu.common.utils.MapUtils;
@@ -29,10 +31,12 @@ import org.apache.shenyu.loadbalancer.entity.Upstream;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
 
 /**
@@ -44,6 +48,25 @@ public final class UpstreamCacheManager {
 
     private static final Map<String, List<Upstream>> UPSTREAM_MAP = Maps.newConcurrentMap();
 
+    private static final int MAX_HASH_RINGS = 1024;
+
+    /**
+     * upstream url fingerprint -> hash ring.
+     */
+    private static final Map<Long, HashRing> HASH_RING_MAP = Maps.newConcurrentMap();
+
+    private static final int MAX_ROUND_ROBIN_SCHEDULES = 1024;
+
+    /**
+     * upstream instances fingerprint -> round-robin schedule.
+     */
+    private static final Map<Long, RoundRobinSchedule> ROUND_ROBIN_MAP = Maps.newConcurrentMap();
+
+    /**
+     * selector id -> rule id -> retry budget.
+     */
+    private static final Map<String, Map<String, RetryBudget>> RETRY_BUDGET_MAP = Maps.newConcurrentMap();
+
     private UpstreamCheckTask task;
 
     /**
@@ -68,12 +91,38 @@ public final class UpstreamCacheManager {
 
     private Integer printInterval;
 
+    /**
+     * hash ring parameters.
+     */
+    private int virtualNodes;
+
+    private boolean boundedLoad;
+
+    private double loadFactor;
+
+    /**
+     * passive outlier detection parameters.
+     */
+    private int outlierThreshold;
+
     private UpstreamCacheManager() {
-        initHealthCheck();
+        ShenyuConfig shenyuConfig = Optional.ofNullable(Singleton.INST.get(ShenyuConfig.class)).orElse(new ShenyuConfig());
+        initHashRing(shenyuConfig.getHashRing());
+        initOutlierDetection(shenyuConfig.getOutlierDetection());
+        initHealthCheck(shenyuConfig);
     }
 
-    private void initHealthCheck() {
-        ShenyuConfig shenyuConfig = Optional.ofNullable(Singleton.INST.get(ShenyuConfig.class)).orElse(new ShenyuConfig());
+    private void initHashRing(final HashRingConfig hashRing) {
+        virtualNodes = Optional.ofNullable(hashRing.getVirtualNodes()).orElse(160);
+        boundedLoad = hashRing.getBoundedLoad();
+        loadFactor = Math.max(Optional.ofNullable(hashRing.getLoadFactor()).orElse(1.25D), 1D);
+    }
+
+    private void initOutlierDetection(final OutlierDetectionConfig outlierDetection) {
+        outlierThreshold = outlierDetection.getEnabled() ? Math.max(Optional.ofNullable(outlierDetection.getConsecutiveFailures()).orElse(5), 1) : 0;
+    }
+
+    private void initHealthCheck(final ShenyuConfig shenyuConfig) {
         UpstreamCheck upstreamCheck = shenyuConfig.getUpstreamCheck();
         checkEnable = upstreamCheck.getEnabled();
         poolSize = upstreamCheck.getPoolSize();
@@ -93,6 +142,7 @@ public final class UpstreamCacheManager {
         task.setCheckTimeout(checkTimeout);
         task.setHealthyThreshold(healthyThreshold);
         task.setUnhealthyThreshold(unhealthyThreshold);
+        task.setOutlierThreshold(outlierThreshold);
     }
 
     private void scheduleHealthCheck() {
@@ -133,6 +183,7 @@ public final class UpstreamCacheManager {
      */
     public void removeByKey(final String key) {
         UPSTREAM_MAP.remove(key);
+        RETRY_BUDGET_MAP.remove(key);
         task.triggerRemoveAll(key);
     }
 
@@ -153,7 +204,124 @@ public final class UpstreamCacheManager {
             UPSTREAM_MAP.put(selectorId, validUpstreamList);
         } else {
             UPSTREAM_MAP.remove(selectorId);
+            RETRY_BUDGET_MAP.remove(selectorId);
             task.triggerRemoveAll(selectorId);
         }
     }
+
+    /**
+     * Record the outcome of a request to the upstream, it is ejected after consecutive failures.
+     *
+     * @param selectorId the selector id
+     * @param url        the upstream url, host:port
+     * @param success    whether the request succeeded
+     */
+    public void recordOutcome(final String selectorId, final String url, final boolean success) {
+        task.recordOutcome(selectorId, url, success);
+    }
+
+    /**
+     * Whether the upstreams are ejected after consecutive failed requests.
+     *
+     * @return true if the request outcomes are recorded
+     */
+    public boolean isOutlierDetectionEnabled() {
+        return outlierThreshold > 0 && checkEnable;
+    }
+
+    /**
+     * Obtain the retry budget of the rule, a changed percent is applied to the existing bucket without refilling it.
+     *
+     * @param selectorId the selector id
+     * @param ruleId     the rule id
+     * @param percent    the retries allowed per hundred requests
+     * @return the retry budget
+     */
+    public RetryBudget obtainRetryBudget(final String selectorId, final String ruleId, final int percent) {
+        Map<String, RetryBudget> budgets = MapUtils.computeIfAbsent(RETRY_BUDGET_MAP, selectorId, k -> Maps.newConcurrentMap());
+        RetryBudget budget = MapUtils.computeIfAbsent(budgets, ruleId, k -> new RetryBudget(percent));
+        if (budget.getPercent() != percent) {
+            budget.setPercent(percent);
+        }
+        return budget;
+    }
+
+    /**
+     * Remove the retry budget of the rule.
+     *
+     * @param selectorId the selector id
+     * @param ruleId     the rule id
+     */
+    public void removeRetryBudget(final String selectorId, final String ruleId) {
+        if (Objects.isNull(selectorId) || Objects.isNull(ruleId)) {
+            return;
+        }
+        Map<String, RetryBudget> budgets = RETRY_BUDGET_MAP.get(selectorId);
+        if (Objects.nonNull(budgets)) {
+            budgets.remove(ruleId);
+        }
+    }
+
+    /**
+     * Obtain the hash ring of the upstream list, it is only rebuilt when the upstream urls change.
+     *
+     * @param upstreamList the upstream list
+     * @return the hash ring
+     */
+    public HashRing obtainHashRing(final List<Upstream> upstreamList) {
+        Long fingerprint = HashRing.fingerprint(upstreamList);
+        HashRing ring = HASH_RING_MAP.get(fingerprint);
+        if (Objects.nonNull(ring) && ring.matches(upstreamList)) {
+            return ring;
+        }
+        ring = HashRing.build(upstreamList, virtualNodes);
+        if (HASH_RING_MAP.size() >= MAX_HASH_RINGS) {
+            HASH_RING_MAP.clear();
+        }
+        HASH_RING_MAP.put(fingerprint, ring);
+        return ring;
+    }
+
+    /**
+     * Obtain the round-robin schedule of the upstream list, it is only rebuilt when the upstreams or their weights change.
+     *
+     * @param upstreamList the upstream list
+     * @param weigher      the current weight of an upstream
+     * @return the schedule
+     */
+    public RoundRobinSchedule obtainRoundRobinSchedule(final List<Upstream> upstreamList, final ToIntFunction<Upstream> weigher) {
+        Long fingerprint = RoundRobinSchedule.fingerprint(upstreamList);
+        RoundRobinSchedule schedule = ROUND_ROBIN_MAP.get(fingerprint);
+        if (Objects.nonNull(schedule) && schedule.matches(upstreamList) && !schedule.isWarmingUp()) {
+            return schedule;
+        }
+        int[] weights = upstreamList.stream().mapToInt(weigher).toArray();
+        if (Objects.nonNull(schedule) && schedule.matches(upstreamList) && schedule.hasWeights(weights)) {
+            return schedule;
+        }
+        schedule = RoundRobinSchedule.build(upstreamList, weights);
+        if (ROUND_ROBIN_MAP.size() >= MAX_ROUND_ROBIN_SCHEDULES) {
+            ROUND_ROBIN_MAP.clear();
+        }
+        ROUND_ROBIN_MAP.put(fingerprint, schedule);
+        return schedule;
+    }
+
+    /**
+     * Whether the hash load balancer bounds the load of each upstream.
+     *
+     * @return true if bounded
+     */
+    public boolean isBoundedLoad() {
+        return boundedLoad;
+    }
+
+    /**
+     * Get the max load of an upstream relative to the average load.
+     *
+     * @return the load factor
+     */
+    public double getLoadFactor() {
+        return loadFactor;
+    }
 }
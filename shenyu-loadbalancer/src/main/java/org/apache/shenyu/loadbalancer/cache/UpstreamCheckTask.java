@@ -17,10 +17,13 @@
 
 package org.apache.shenyu.loadbalancer.cache;
 
-import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.shenyu.common.concurrent.ShenyuThreadFactory;
+import org.apache.shenyu.common.timer.TaskEntity;
+import org.apache.shenyu.common.timer.Timer;
+import org.apache.shenyu.common.timer.TimerTask;
+import org.apache.shenyu.common.timer.WheelTimerFactory;
 import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.common.utils.MapUtils;
 import org.apache.shenyu.common.utils.UpstreamCheckUtils;
@@ -28,12 +31,13 @@ import org.apache.shenyu.loadbalancer.entity.Upstream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
@@ -42,6 +46,8 @@ import java.util.stream.Collectors;
 
 /**
  * Health check manager for upstream servers.
+ * Every upstream is checked by its own timer task, and the result is applied as soon as its check finishes.
+ * Upstreams can also be ejected passively after consecutive failed requests, the active check brings them back.
  */
 public final class UpstreamCheckTask implements Runnable {
 
@@ -50,19 +56,28 @@ public final class UpstreamCheckTask implements Runnable {
      */
     private static final Logger LOG = LoggerFactory.getLogger(UpstreamCheckTask.class);
 
+    private static final long FIRST_CHECK_DELAY = 3000L;
+
     private final Map<String, List<Upstream>> healthyUpstream = Maps.newConcurrentMap();
 
     private final Map<String, List<Upstream>> unhealthyUpstream = Maps.newConcurrentMap();
 
+    /**
+     * selectorId -> upstream -> check timer task.
+     */
+    private final Map<String, Map<Upstream, CheckTimerTask>> checkTasks = Maps.newConcurrentMap();
+
     private final Object lock = new Object();
 
     private final AtomicBoolean checkStarted = new AtomicBoolean(false);
 
-    private final List<CompletableFuture<UpstreamWithSelectorId>> futures = Lists.newArrayList();
-
     private final int checkInterval;
 
-    private ExecutorService executor;
+    private ScheduledExecutorService executor;
+
+    private Timer timer;
+
+    private volatile boolean scheduled;
 
     private int poolSize;
 
@@ -71,6 +86,8 @@ public final class UpstreamCheckTask implements Runnable {
     private int healthyThreshold = 1;
 
     private int unhealthyThreshold = 1;
+
+    private int outlierThreshold;
     
     /**
      * Instantiates a new Upstream check task.
@@ -94,14 +111,15 @@ public final class UpstreamCheckTask implements Runnable {
      * Schedule health check task.
      */
     public void schedule() {
-        // executor for health check
-        ThreadFactory healthCheckFactory = ShenyuThreadFactory.create("upstream-health-check", true);
-        new ScheduledThreadPoolExecutor(1, healthCheckFactory)
-                .scheduleWithFixedDelay(this, 3000, checkInterval, TimeUnit.MILLISECONDS);
-
-        // executor for async request, avoid request block health check thread
+        // executor for async request, avoid request block the timer thread
         ThreadFactory requestFactory = ShenyuThreadFactory.create("upstream-health-check-request", true);
         executor = new ScheduledThreadPoolExecutor(poolSize, requestFactory);
+        timer = WheelTimerFactory.getSharedTimer();
+        synchronized (lock) {
+            scheduled = true;
+            healthyUpstream.forEach((selectorId, list) -> list.forEach(upstream -> startCheck(selectorId, upstream)));
+            unhealthyUpstream.forEach((selectorId, list) -> list.forEach(upstream -> startCheck(selectorId, upstream)));
+        }
     }
     
     /**
@@ -149,44 +167,37 @@ public final class UpstreamCheckTask implements Runnable {
         this.unhealthyThreshold = unhealthyThreshold;
     }
 
-    @Override
-    public void run() {
-        healthCheck();
+    /**
+     * Set the number of consecutive failed requests after which an upstream is ejected, 0 disables the ejection.
+     *
+     * @param outlierThreshold outlier threshold
+     */
+    public void setOutlierThreshold(final int outlierThreshold) {
+        this.outlierThreshold = outlierThreshold;
     }
 
-    private void healthCheck() {
+    /**
+     * Check all the upstreams at once and wait for the results.
+     */
+    @Override
+    public void run() {
+        if (!checkStarted.compareAndSet(false, true)) {
+            return;
+        }
         try {
-            /*
-             * If there is no synchronized. when check is done and all upstream check result is in the futures list.
-             * In the same time, triggerRemoveAll() called before waitFinish(), there will be dirty data stay in map.
-             */
-            synchronized (lock) {
-                if (tryStartHealthCheck()) {
-                    doHealthCheck();
-                    waitFinish();
-                }
-            }
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            healthyUpstream.forEach((selectorId, list) -> list.forEach(upstream -> futures.add(checkAsync(selectorId, upstream))));
+            unhealthyUpstream.forEach((selectorId, list) -> list.forEach(upstream -> futures.add(checkAsync(selectorId, upstream))));
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
         } catch (Exception e) {
             LOG.error("[Health Check] Meet problem: ", e);
         } finally {
-            finishHealthCheck();
+            checkStarted.set(false);
         }
     }
 
-    private void doHealthCheck() {
-        check(healthyUpstream);
-        check(unhealthyUpstream);
-    }
-
-    private void check(final Map<String, List<Upstream>> map) {
-        for (Map.Entry<String, List<Upstream>> entry : map.entrySet()) {
-            String key = entry.getKey();
-            List<Upstream> value = entry.getValue();
-            for (Upstream upstream : value) {
-                CompletableFuture<UpstreamWithSelectorId> future = CompletableFuture.supplyAsync(() -> check(key, upstream), executor);
-                futures.add(future);
-            }
-        }
+    private CompletableFuture<Void> checkAsync(final String selectorId, final Upstream upstream) {
+        return CompletableFuture.supplyAsync(() -> check(selectorId, upstream), executor).thenAccept(this::putEntityToMap);
     }
 
     private UpstreamWithSelectorId check(final String selectorId, final Upstream upstream) {
@@ -221,32 +232,99 @@ public final class UpstreamCheckTask implements Runnable {
         return new UpstreamWithSelectorId(selectorId, upstream);
     }
 
-    private boolean tryStartHealthCheck() {
-        return checkStarted.compareAndSet(false, true);
+    private void putEntityToMap(final UpstreamWithSelectorId entity) {
+        Upstream upstream = entity.getUpstream();
+        synchronized (lock) {
+            // the upstream may have been removed while it was checked
+            if (!isRegistered(entity.getSelectorId(), upstream)) {
+                return;
+            }
+            if (upstream.isHealthy()) {
+                putToMap(healthyUpstream, entity.getSelectorId(), upstream);
+                removeFromMap(unhealthyUpstream, entity.getSelectorId(), upstream);
+            } else {
+                putToMap(unhealthyUpstream, entity.getSelectorId(), upstream);
+                removeFromMap(healthyUpstream, entity.getSelectorId(), upstream);
+            }
+        }
+    }
+
+    private boolean isRegistered(final String selectorId, final Upstream upstream) {
+        return contains(healthyUpstream, selectorId, upstream) || contains(unhealthyUpstream, selectorId, upstream);
+    }
+
+    private boolean contains(final Map<String, List<Upstream>> map, final String selectorId, final Upstream upstream) {
+        List<Upstream> list = map.get(selectorId);
+        return Objects.nonNull(list) && list.contains(upstream);
     }
 
-    private void waitFinish() throws ExecutionException, InterruptedException {
-        for (CompletableFuture<UpstreamWithSelectorId> future : futures) {
-            UpstreamWithSelectorId entity = future.get();
-            putEntityToMap(entity);
+    /**
+     * Record the outcome of a request to a healthy upstream,
+     * the upstream is ejected after {@code outlierThreshold} consecutive failures until the health check passes again.
+     *
+     * @param selectorId selectorId
+     * @param url        the upstream url, host:port
+     * @param success    whether the request succeeded
+     */
+    public void recordOutcome(final String selectorId, final String url, final boolean success) {
+        // without the health check an ejected upstream would never come back
+        if (outlierThreshold <= 0 || !scheduled) {
+            return;
+        }
+        List<Upstream> list = healthyUpstream.get(selectorId);
+        if (CollectionUtils.isEmpty(list)) {
+            return;
+        }
+        for (Upstream upstream : list) {
+            if (!url.equals(upstream.getAddress())) {
+                continue;
+            }
+            if (success) {
+                if (upstream.getFailures().get() != 0) {
+                    upstream.getFailures().set(0);
+                }
+            } else if (upstream.getFailures().incrementAndGet() >= outlierThreshold) {
+                eject(selectorId, upstream);
+            }
+            return;
         }
+    }
 
-        futures.clear();
+    private void eject(final String selectorId, final Upstream upstream) {
+        synchronized (lock) {
+            List<Upstream> list = healthyUpstream.get(selectorId);
+            // never eject the last healthy upstream of the selector
+            if (Objects.isNull(list) || list.size() <= 1 || !list.contains(upstream)) {
+                return;
+            }
+            upstream.getFailures().set(0);
+            upstream.setHealthy(false);
+            upstream.setLastUnhealthyTimestamp(System.currentTimeMillis());
+            putToMap(unhealthyUpstream, selectorId, upstream);
+            removeFromMap(healthyUpstream, selectorId, upstream);
+        }
+        LOG.warn("[Health Check] Selector [{}] upstream {} failed {} consecutive requests, server is ejected.",
+                selectorId, upstream.getUrl(), outlierThreshold);
     }
 
-    private void putEntityToMap(final UpstreamWithSelectorId entity) {
-        Upstream upstream = entity.getUpstream();
-        if (upstream.isHealthy()) {
-            putToMap(healthyUpstream, entity.getSelectorId(), upstream);
-            removeFromMap(unhealthyUpstream, entity.getSelectorId(), upstream);
-        } else {
-            putToMap(unhealthyUpstream, entity.getSelectorId(), upstream);
-            removeFromMap(healthyUpstream, entity.getSelectorId(), upstream);
+    private void startCheck(final String selectorId, final Upstream upstream) {
+        Map<Upstream, CheckTimerTask> tasks = MapUtils.computeIfAbsent(checkTasks, selectorId, k -> Maps.newConcurrentMap());
+        if (!tasks.containsKey(upstream)) {
+            CheckTimerTask checkTask = new CheckTimerTask(selectorId, upstream);
+            tasks.put(upstream, checkTask);
+            // the first check runs shortly after, the timer schedules the next one when it finishes
+            executor.schedule(() -> checkTask.run(null), Math.min(FIRST_CHECK_DELAY, checkInterval), TimeUnit.MILLISECONDS);
         }
     }
 
-    private void finishHealthCheck() {
-        checkStarted.set(false);
+    private void cancelCheck(final String selectorId, final Upstream upstream) {
+        Map<Upstream, CheckTimerTask> tasks = checkTasks.get(selectorId);
+        if (Objects.nonNull(tasks)) {
+            CheckTimerTask checkTask = tasks.remove(upstream);
+            if (Objects.nonNull(checkTask)) {
+                checkTask.cancel();
+            }
+        }
     }
     
     /**
@@ -256,7 +334,12 @@ public final class UpstreamCheckTask implements Runnable {
      * @param upstream upstream
      */
     public void triggerAddOne(final String selectorId, final Upstream upstream) {
-        putToMap(healthyUpstream, selectorId, upstream);
+        synchronized (lock) {
+            putToMap(healthyUpstream, selectorId, upstream);
+            if (scheduled) {
+                startCheck(selectorId, upstream);
+            }
+        }
     }
     
     /**
@@ -266,13 +349,17 @@ public final class UpstreamCheckTask implements Runnable {
      * @param upstream upstream
      */
     public void triggerRemoveOne(final String selectorId, final Upstream upstream) {
-        removeFromMap(healthyUpstream, selectorId, upstream);
-        removeFromMap(unhealthyUpstream, selectorId, upstream);
+        synchronized (lock) {
+            removeFromMap(healthyUpstream, selectorId, upstream);
+            removeFromMap(unhealthyUpstream, selectorId, upstream);
+            cancelCheck(selectorId, upstream);
+        }
     }
 
     private void putToMap(final Map<String, List<Upstream>> map, final String selectorId, final Upstream upstream) {
         synchronized (lock) {
-            List<Upstream> list = MapUtils.computeIfAbsent(map, selectorId, k -> Lists.newArrayList());
+            // copy on write, the lists are read by the requests without locking
+            List<Upstream> list = MapUtils.computeIfAbsent(map, selectorId, k -> new CopyOnWriteArrayList<>());
             if (!list.contains(upstream)) {
                 list.add(upstream);
             }
@@ -297,9 +384,13 @@ public final class UpstreamCheckTask implements Runnable {
         synchronized (lock) {
             healthyUpstream.remove(selectorId);
             unhealthyUpstream.remove(selectorId);
+            Map<Upstream, CheckTimerTask> tasks = checkTasks.remove(selectorId);
+            if (Objects.nonNull(tasks)) {
+                tasks.values().forEach(CheckTimerTask::cancel);
+            }
         }
     }
-    
+
     /**
      * Print healthy and unhealthy check log.
      */
@@ -343,4 +434,44 @@ public final class UpstreamCheckTask implements Runnable {
     public Map<String, List<Upstream>> getUnhealthyUpstream() {
         return unhealthyUpstream;
     }
+
+    /**
+     * Checks one upstream every check interval, the next check is scheduled when the current one finishes,
+     * so a slow upstream never delays the others.
+     */
+    private final class CheckTimerTask extends TimerTask {
+
+        private final String selectorId;
+
+        private final Upstream upstream;
+
+        private volatile boolean cancelled;
+
+        CheckTimerTask(final String selectorId, final Upstream upstream) {
+            super(checkInterval);
+            this.selectorId = selectorId;
+            this.upstream = upstream;
+        }
+
+        @Override
+        public void run(final TaskEntity taskEntity) {
+            if (cancelled) {
+                return;
+            }
+            checkAsync(selectorId, upstream).whenComplete((v, throwable) -> {
+                if (Objects.nonNull(throwable)) {
+                    LOG.error("[Health Check] Selector [{}] upstream {} meet problem: ", selectorId, upstream.getUrl(), throwable);
+                }
+                if (!cancelled) {
+                    timer.add(this);
+                }
+            });
+        }
+
+        @Override
+        public synchronized void cancel() {
+            cancelled = true;
+            super.cancel();
+        }
+    }
 }
@@ -20,6 +20,7 @@ package org.apache.shenyu.loadbalancer.entity;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -102,6 +103,16 @@ public final class Upstream {
      */
     private AtomicLong inflight = new AtomicLong(1);
 
+    /**
+     * Number of requests sent by the bounded load hash which are not completed.
+     */
+    private final AtomicLong hashInflight = new AtomicLong();
+
+    /**
+     * Number of consecutive failed requests.
+     */
+    private final AtomicInteger failures = new AtomicInteger();
+
     private Upstream(final Builder builder) {
         this.protocol = builder.protocol;
         this.url = builder.url;
@@ -349,6 +360,24 @@ public final class Upstream {
         this.inflight = inflight;
     }
 
+    /**
+     * Gets the inflight requests of the bounded load hash, they are counted by the caller of the balancer.
+     *
+     * @return the hash inflight
+     */
+    public AtomicLong getHashInflight() {
+        return hashInflight;
+    }
+
+    /**
+     * Gets consecutive failures.
+     *
+     * @return the consecutive failures
+     */
+    public AtomicInteger getFailures() {
+        return failures;
+    }
+
     /**
      * build request domain.
      *
@@ -362,6 +391,26 @@ public final class Upstream {
         return protocol + this.getUrl().trim();
     }
 
+    /**
+     * get the address of the upstream, host:port, with the default port of the protocol when the url has none.
+     *
+     * @return address
+     */
+    public String getAddress() {
+        String address = this.getUrl().trim();
+        return address.indexOf(':') < 0 ? address + ":" + defaultPort(this.getProtocol()) : address;
+    }
+
+    /**
+     * get the default port of the protocol.
+     *
+     * @param protocol the protocol, such as https or https://
+     * @return 443 for https, otherwise 80
+     */
+    public static int defaultPort(final String protocol) {
+        return StringUtils.startsWithIgnoreCase(protocol, "https") ? 443 : 80;
+    }
+
     /**
      * class builder.
      *
@@ -17,13 +17,9 @@
 
 package org.apache.shenyu.loadbalancer.spi;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.util.List;
-import java.util.SortedMap;
-import java.util.concurrent.ConcurrentSkipListMap;
-import java.util.stream.IntStream;
+import org.apache.shenyu.loadbalancer.cache.HashRing;
+import org.apache.shenyu.loadbalancer.cache.UpstreamCacheManager;
 import org.apache.shenyu.loadbalancer.entity.Upstream;
 import org.apache.shenyu.spi.Join;
 
@@ -33,13 +29,11 @@ import org.apache.shenyu.spi.Join;
 @Join
 public class HashLoadBalancer extends AbstractLoadBalancer {
 
-    /**
-     * virtual node used to solve unbalanced load.
-     */
-    private static final int VIRTUAL_NODE_NUM = 5;
-
     /**
      * consistent hash with virtual node to select upstream.
+     * The ring is cached per upstream url list, with bounded load the walk skips upstreams
+     * whose inflight requests are over loadFactor times the average.
+     * The inflight requests are counted by the caller which sends the request, the balancer only reads them.
      *
      * @param upstreamList the upstream list
      * @param ip           the ip
@@ -47,37 +41,27 @@ public class HashLoadBalancer extends AbstractLoadBalancer {
      */
     @Override
     public Upstream doSelect(final List<Upstream> upstreamList, final String ip) {
-        final ConcurrentSkipListMap<Long, Upstream> treeMap = new ConcurrentSkipListMap<>();
-        upstreamList.forEach(upstream -> IntStream.range(0, VIRTUAL_NODE_NUM).forEach(i -> {
-            long addressHash = hash("SHENYU-" + upstream.getUrl() + "-HASH-" + i);
-            treeMap.put(addressHash, upstream);
-        }));
-        long hash = hash(ip);
-        SortedMap<Long, Upstream> lastRing = treeMap.tailMap(hash);
-        if (!lastRing.isEmpty()) {
-            return lastRing.get(lastRing.firstKey());
+        UpstreamCacheManager cacheManager = UpstreamCacheManager.getInstance();
+        HashRing ring = cacheManager.obtainHashRing(upstreamList);
+        if (ring.size() == 0) {
+            return upstreamList.get(0);
         }
-        return treeMap.firstEntry().getValue();
-    }
-
-    private static long hash(final String key) {
-        // md5 byte
-        MessageDigest md5;
-        try {
-            md5 = MessageDigest.getInstance("MD5");
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("MD5 not supported", e);
+        int position = ring.locate(HashRing.hash(ip));
+        Upstream selected = upstreamList.get(ring.getIndex(position));
+        if (!cacheManager.isBoundedLoad()) {
+            return selected;
+        }
+        long total = 0;
+        for (Upstream upstream : upstreamList) {
+            total += upstream.getHashInflight().get();
+        }
+        long capacity = (long) Math.ceil(cacheManager.getLoadFactor() * (total + 1) / upstreamList.size());
+        for (int i = 1; i < ring.size() && selected.getHashInflight().get() >= capacity; i++) {
+            Upstream next = upstreamList.get(ring.getIndex((position + i) % ring.size()));
+            if (next.getHashInflight().get() < capacity) {
+                selected = next;
+            }
         }
-        md5.reset();
-        byte[] keyBytes;
-        keyBytes = key.getBytes(StandardCharsets.UTF_8);
-        md5.update(keyBytes);
-        byte[] digest = md5.digest();
-        // hash code, Truncate to 32-bits
-        long hashCode = (long) (digest[3] & 0xFF) << 24
-                | ((long) (digest[2] & 0xFF) << 16)
-                | ((long) (digest[1] & 0xFF) << 8)
-                | (digest[0] & 0xFF);
-        return hashCode & 0xffffffffL;
+        return selected;
     }
 }
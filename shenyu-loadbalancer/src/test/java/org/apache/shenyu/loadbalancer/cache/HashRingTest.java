@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.loadbalancer.cache;
+
+import org.apache.shenyu.loadbalancer.entity.Upstream;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The type Hash ring test.
+ */
+public final class HashRingTest {
+
+    @Test
+    public void buildTest() {
+        List<Upstream> upstreamList = upstreams("upstream-1", "upstream-2", "upstream-3");
+        HashRing ring = HashRing.build(upstreamList, 10);
+        assertEquals(30, ring.size());
+        assertEquals(3, ring.getUrlCount());
+        assertTrue(ring.matches(upstreams("upstream-1", "upstream-2", "upstream-3")));
+        assertFalse(ring.matches(upstreams("upstream-3", "upstream-1", "upstream-2")));
+        assertFalse(ring.matches(upstreams("upstream-1", "upstream-2")));
+        assertFalse(ring.matches(upstreams("upstream-1", "upstream-2", "upstream-4")));
+        assertEquals(HashRing.fingerprint(upstreamList), HashRing.fingerprint(upstreams("upstream-1", "upstream-2", "upstream-3")));
+    }
+
+    @Test
+    public void indexTest() {
+        List<Upstream> upstreamList = upstreams("upstream-3", "upstream-1", "upstream-2");
+        HashRing ring = HashRing.build(upstreamList, 10);
+        HashRing reordered = HashRing.build(upstreams("upstream-1", "upstream-2", "upstream-3"), 10);
+        for (int position = 0; position < ring.size(); position++) {
+            assertEquals(ring.getUrl(position), upstreamList.get(ring.getIndex(position)).getUrl());
+            assertEquals(reordered.getUrl(position), ring.getUrl(position));
+        }
+    }
+
+    @Test
+    public void locateTest() {
+        HashRing ring = HashRing.build(upstreams("upstream-1", "upstream-2"), 5);
+        assertEquals(0, ring.locate(Long.MIN_VALUE));
+        assertEquals(0, ring.locate(Long.MAX_VALUE));
+        int position = ring.locate(HashRing.hash("SHENYU-upstream-2-HASH-3"));
+        assertEquals("upstream-2", ring.getUrl(position));
+    }
+
+    @Test
+    public void distributionTest() {
+        HashRing ring = HashRing.build(upstreams("10.0.0.1:8080", "10.0.0.2:8080", "10.0.0.3:8080", "10.0.0.4:8080"), 160);
+        Map<String, Integer> counts = new HashMap<>();
+        IntStream.range(0, 40000).forEach(i -> counts.merge(ring.getUrl(ring.locate(HashRing.hash("192.168." + (i >> 8) + "." + (i & 0xff)))), 1, Integer::sum));
+        assertEquals(4, counts.size());
+        counts.values().forEach(count -> assertTrue(count > 7000 && count < 13000));
+    }
+
+    private List<Upstream> upstreams(final String... urls) {
+        return Arrays.stream(urls).map(url -> Upstream.builder().url(url).build()).collect(Collectors.toList());
+    }
+}
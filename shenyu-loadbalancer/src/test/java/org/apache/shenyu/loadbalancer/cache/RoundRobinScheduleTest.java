@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.loadbalancer.cache;
+
+import org.apache.shenyu.loadbalancer.entity.Upstream;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The type Round robin schedule test.
+ */
+public final class RoundRobinScheduleTest {
+
+    @Test
+    public void smoothSequenceTest() {
+        List<Upstream> upstreamList = upstreams("a", "b", "c");
+        RoundRobinSchedule schedule = RoundRobinSchedule.build(upstreamList, new int[]{50, 10, 10});
+        assertEquals(7, schedule.length());
+        String sequence = IntStream.range(0, 7).mapToObj(i -> schedule.next().getUrl()).collect(Collectors.joining());
+        assertEquals("aabacaa", sequence);
+        assertEquals("a", schedule.next().getUrl());
+    }
+
+    @Test
+    public void reduceTest() {
+        List<Upstream> upstreamList = upstreams("a", "b", "c");
+        assertEquals(1, RoundRobinSchedule.build(upstreamList, new int[]{0, 0, 0}).length());
+        assertEquals(2, RoundRobinSchedule.build(upstreamList, new int[]{100, 0, 100}).length());
+        RoundRobinSchedule large = RoundRobinSchedule.build(upstreamList, new int[]{Integer.MAX_VALUE, 1, 3});
+        assertTrue(large.length() <= RoundRobinSchedule.MAX_LENGTH + upstreamList.size());
+    }
+
+    @Test
+    public void matchesTest() {
+        List<Upstream> upstreamList = upstreams("a", "b");
+        RoundRobinSchedule schedule = RoundRobinSchedule.build(upstreamList, new int[]{1, 1});
+        assertTrue(schedule.matches(new ArrayList<>(upstreamList)));
+        assertFalse(schedule.matches(Arrays.asList(upstreamList.get(1), upstreamList.get(0))));
+        assertFalse(schedule.matches(upstreams("a", "b")));
+        assertTrue(schedule.hasWeights(new int[]{1, 1}));
+        assertFalse(schedule.isWarmingUp());
+        upstreamList.get(0).setStatus(false);
+        assertFalse(schedule.matches(upstreamList));
+    }
+
+    @Test
+    public void warmupTest() {
+        Upstream warming = Upstream.builder().url("a").timestamp(System.currentTimeMillis()).warmup(60000).build();
+        RoundRobinSchedule schedule = RoundRobinSchedule.build(Arrays.asList(warming, Upstream.builder().url("b").build()), new int[]{1, 50});
+        assertTrue(schedule.isWarmingUp());
+    }
+
+    private List<Upstream> upstreams(final String... urls) {
+        return Arrays.stream(urls).map(url -> Upstream.builder().url(url).build()).collect(Collectors.toList());
+    }
+}
@@ -27,6 +27,7 @@ import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Assertions;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 
@@ -79,4 +80,49 @@ public class UpstreamCacheManagerTest {
         final UpstreamCacheManager upstreamCacheManager = UpstreamCacheManager.getInstance();
         Assertions.assertNull(upstreamCacheManager.findUpstreamListBySelectorId(SELECTOR_ID));
     }
+
+    @Test
+    @Order(5)
+    public void obtainHashRingTest() {
+        final UpstreamCacheManager upstreamCacheManager = UpstreamCacheManager.getInstance();
+        List<Upstream> upstreamList = new ArrayList<>(2);
+        upstreamList.add(Upstream.builder().url("url").build());
+        upstreamList.add(Upstream.builder().url("url2").build());
+        HashRing ring = upstreamCacheManager.obtainHashRing(upstreamList);
+        Assertions.assertSame(ring, upstreamCacheManager.obtainHashRing(Arrays.asList(upstreamList.get(0), upstreamList.get(1))));
+        Assertions.assertNotSame(ring, upstreamCacheManager.obtainHashRing(Arrays.asList(upstreamList.get(1), upstreamList.get(0))));
+        upstreamList.add(Upstream.builder().url("url3").build());
+        Assertions.assertNotSame(ring, upstreamCacheManager.obtainHashRing(upstreamList));
+    }
+
+    @Test
+    public void obtainRoundRobinScheduleTest() {
+        final UpstreamCacheManager upstreamCacheManager = UpstreamCacheManager.getInstance();
+        List<Upstream> upstreamList = new ArrayList<>(2);
+        upstreamList.add(Upstream.builder().url("url").weight(2).build());
+        upstreamList.add(Upstream.builder().url("url2").weight(1).build());
+        RoundRobinSchedule schedule = upstreamCacheManager.obtainRoundRobinSchedule(upstreamList, Upstream::getWeight);
+        Assertions.assertEquals(3, schedule.length());
+        Assertions.assertSame(schedule, upstreamCacheManager.obtainRoundRobinSchedule(new ArrayList<>(upstreamList), Upstream::getWeight));
+        Assertions.assertNotSame(schedule, upstreamCacheManager.obtainRoundRobinSchedule(Arrays.asList(upstreamList.get(1), upstreamList.get(0)), Upstream::getWeight));
+        upstreamList.add(Upstream.builder().url("url3").build());
+        Assertions.assertNotSame(schedule, upstreamCacheManager.obtainRoundRobinSchedule(upstreamList, Upstream::getWeight));
+    }
+
+    @Test
+    public void obtainRetryBudgetTest() {
+        final UpstreamCacheManager upstreamCacheManager = UpstreamCacheManager.getInstance();
+        RetryBudget budget = upstreamCacheManager.obtainRetryBudget("budget", "rule1", 20);
+        Assertions.assertSame(budget, upstreamCacheManager.obtainRetryBudget("budget", "rule1", 20));
+        Assertions.assertNotSame(budget, upstreamCacheManager.obtainRetryBudget("budget", "rule2", 10));
+        // a changed percent keeps the spent tokens
+        Assertions.assertTrue(budget.tryWithdraw());
+        Assertions.assertSame(budget, upstreamCacheManager.obtainRetryBudget("budget", "rule1", 10));
+        Assertions.assertEquals(10, budget.getPercent());
+        Assertions.assertEquals(RetryBudget.MAX_TOKENS - 1, budget.getTokens());
+        upstreamCacheManager.removeRetryBudget("budget", "rule1");
+        Assertions.assertNotSame(budget, upstreamCacheManager.obtainRetryBudget("budget", "rule1", 10));
+        upstreamCacheManager.removeByKey("budget");
+        Assertions.assertEquals(RetryBudget.MAX_TOKENS, upstreamCacheManager.obtainRetryBudget("budget", "rule1", 10).getTokens());
+    }
 }
@@ -24,6 +24,7 @@ import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
 
+import java.util.Collections;
 import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -123,4 +124,53 @@ public class UpstreamCheckTaskTest {
         healthCheckTask.triggerRemoveAll(selectorId);
         assertFalse(healthCheckTask.getHealthyUpstream().containsKey(selectorId));
     }
+
+    /**
+     * Test each upstream is checked by its own timer.
+     */
+    @Test
+    public void testScheduleCheck() {
+        final String selectorId = "s1";
+        UpstreamCheckTask task = new UpstreamCheckTask(100);
+        task.setPoolSize(1);
+        Upstream upstream = Upstream.builder().url("").build();
+        task.schedule();
+        task.triggerAddOne(selectorId, upstream);
+        Awaitility.await().atMost(5, TimeUnit.SECONDS)
+                .untilAsserted(() -> assertTrue(task.getUnhealthyUpstream().getOrDefault(selectorId, Collections.emptyList()).contains(upstream)));
+        assertFalse(task.getHealthyUpstream().get(selectorId).contains(upstream));
+        task.triggerRemoveAll(selectorId);
+        Awaitility.await().pollDelay(300, TimeUnit.MILLISECONDS).untilAsserted(() -> assertFalse(task.getUnhealthyUpstream().containsKey(selectorId)));
+    }
+
+    /**
+     * Test upstreams are ejected after consecutive failed requests.
+     */
+    @Test
+    public void testRecordOutcome() {
+        final String selectorId = "s1";
+        UpstreamCheckTask task = new UpstreamCheckTask(50000);
+        task.setPoolSize(1);
+        task.setOutlierThreshold(2);
+        Upstream first = Upstream.builder().url("127.0.0.1:8080").build();
+        Upstream second = Upstream.builder().url("127.0.0.1").build();
+        task.triggerAddOne(selectorId, first);
+        task.triggerAddOne(selectorId, second);
+        // not ejected without the health check to bring it back
+        task.recordOutcome(selectorId, "127.0.0.1:8080", false);
+        task.recordOutcome(selectorId, "127.0.0.1:8080", false);
+        assertThat(task.getHealthyUpstream().get(selectorId).size(), is(2));
+        task.schedule();
+        task.recordOutcome(selectorId, "127.0.0.1:8080", false);
+        task.recordOutcome(selectorId, "127.0.0.1:8080", true);
+        task.recordOutcome(selectorId, "127.0.0.1:8080", false);
+        assertThat(task.getHealthyUpstream().get(selectorId).size(), is(2));
+        task.recordOutcome(selectorId, "127.0.0.1:8080", false);
+        assertFalse(task.getHealthyUpstream().get(selectorId).contains(first));
+        assertTrue(task.getUnhealthyUpstream().get(selectorId).contains(first));
+        // the last healthy upstream is kept
+        task.recordOutcome(selectorId, "127.0.0.1:80", false);
+        task.recordOutcome(selectorId, "127.0.0.1:80", false);
+        assertTrue(task.getHealthyUpstream().get(selectorId).contains(second));
+    }
 }
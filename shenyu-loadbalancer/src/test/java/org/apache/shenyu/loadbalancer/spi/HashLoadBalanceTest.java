@@ -17,33 +17,25 @@
 
 package org.apache.shenyu.loadbalancer.spi;
 
+import org.apache.shenyu.loadbalancer.cache.HashRing;
+import org.apache.shenyu.loadbalancer.cache.UpstreamCacheManager;
 import org.apache.shenyu.loadbalancer.entity.Upstream;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.MockedStatic;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import java.lang.reflect.Field;
 import java.util.List;
-import java.util.SortedMap;
-import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.Mockito.mockStatic;
 
 /**
  * The type Hash balance test.
  */
 public final class HashLoadBalanceTest {
 
-    private Method hash;
-
     private List<Upstream> onlyOneList;
 
     private List<Upstream> hashLoadBalancesOrdered;
@@ -52,61 +44,17 @@ public final class HashLoadBalanceTest {
 
     private List<Upstream> hashLoadBalancesReversed;
 
-    private ConcurrentSkipListMap<Long, Upstream> treeMapOrdered;
-
-    private ConcurrentSkipListMap<Long, Upstream> treeMapDisordered;
-
-    private ConcurrentSkipListMap<Long, Upstream> treeMapReversed;
-
     @BeforeEach
-    public void setUp() throws Exception {
-        this.hash = HashLoadBalancer.class.getDeclaredMethod("hash", String.class);
-        this.hash.setAccessible(true);
+    public void setUp() {
         this.onlyOneList = Stream.of(1)
                 .map(weight -> Upstream.builder()
                         .url("upstream-" + weight)
                         .status(false)
                         .build())
                 .collect(Collectors.toList());
-        this.hashLoadBalancesOrdered = Stream.of(1, 2, 3)
-                .map(weight -> Upstream.builder()
-                        .url("upstream-" + weight)
-                        .build())
-                .collect(Collectors.toList());
-        this.hashLoadBalancesDisordered = Stream.of(2, 1, 3)
-                .map(weight -> Upstream.builder()
-                        .url("upstream-" + weight)
-                        .build())
-                .collect(Collectors.toList());
-        this.hashLoadBalancesReversed = Stream.of(3, 2, 1)
-                .map(weight -> Upstream.builder()
-                        .url("upstream-" + weight)
-                        .build())
-                .collect(Collectors.toList());
-        this.treeMapOrdered = new ConcurrentSkipListMap<>();
-        this.treeMapDisordered = new ConcurrentSkipListMap<>();
-        this.treeMapReversed = new ConcurrentSkipListMap<>();
-        for (Upstream address : hashLoadBalancesOrdered) {
-            for (int i = 0; i < 5; i++) {
-                String hashKey = "SHENYU-" + address.getUrl() + "-HASH-" + i;
-                Object o = hash.invoke(null, hashKey);
-                treeMapOrdered.put(Long.parseLong(o.toString()), address);
-            }
-        }
-        for (Upstream address : hashLoadBalancesReversed) {
-            for (int i = 0; i < 5; i++) {
-                String hashKey = "SHENYU-" + address.getUrl() + "-HASH-" + i;
-                Object o = hash.invoke(null, hashKey);
-                treeMapReversed.put(Long.parseLong(o.toString()), address);
-            }
-        }
-        for (Upstream address : hashLoadBalancesDisordered) {
-            for (int i = 0; i < 5; i++) {
-                String hashKey = "SHENYU-" + address.getUrl() + "-HASH-" + i;
-                Object o = hash.invoke(null, hashKey);
-                treeMapDisordered.put(Long.parseLong(o.toString()), address);
-            }
-        }
+        this.hashLoadBalancesOrdered = upstreams(1, 2, 3);
+        this.hashLoadBalancesDisordered = upstreams(2, 1, 3);
+        this.hashLoadBalancesReversed = upstreams(3, 2, 1);
     }
 
     /**
@@ -153,55 +101,65 @@ public final class HashLoadBalanceTest {
      * Hash load balance test.
      */
     @Test
-    public void hashLoadBalanceOrderedWeightTest() throws Exception {
+    public void hashLoadBalanceOrderedWeightTest() {
         final String ip = "127.0.0.1";
         final HashLoadBalancer hashLoadBalance = new HashLoadBalancer();
         Assertions.assertNull(hashLoadBalance.select(null, ip));
         final Upstream upstream = hashLoadBalance.select(hashLoadBalancesOrdered, ip);
-        final Long hashKey = Long.parseLong(hash.invoke(null, ip).toString());
-        final SortedMap<Long, Upstream> lastRing = treeMapOrdered.tailMap(hashKey);
-        final Upstream assertUp = lastRing.get(lastRing.firstKey());
-        assertEquals(assertUp.getUrl(), upstream.getUrl());
+        final HashRing ring = HashRing.build(hashLoadBalancesOrdered, 160);
+        assertEquals(ring.getUrl(ring.locate(HashRing.hash(ip))), upstream.getUrl());
     }
 
     @Test
     public void selectTest() {
         final String ip = "SHENYU-upstream-2-HASH-100";
         final HashLoadBalancer hashLoadBalance = new HashLoadBalancer();
-        Assertions.assertNull(hashLoadBalance.select(null, ip));
         final Upstream upstream = hashLoadBalance.select(hashLoadBalancesOrdered, ip);
-        assertEquals(treeMapOrdered.firstEntry().getValue().getUrl(), upstream.getUrl());
+        assertEquals("upstream-2", upstream.getUrl());
     }
 
     @Test
-    public void hashErrorTest() throws NoSuchAlgorithmException {
+    public void hashLoadBalanceDisorderedWeightTest() {
         final String ip = "127.0.0.1";
-        MockedStatic<MessageDigest> messageDigestMockedStatic = mockStatic(MessageDigest.class);
-        messageDigestMockedStatic.when((MockedStatic.Verification) MessageDigest.getInstance("MD5")).thenThrow(NoSuchAlgorithmException.class);
-        assertThrows(InvocationTargetException.class, () -> hash.invoke(null, ip));
-        messageDigestMockedStatic.close();
+        final HashLoadBalancer hashLoadBalance = new HashLoadBalancer();
+        final Upstream upstream = hashLoadBalance.select(hashLoadBalancesDisordered, ip);
+        assertEquals(hashLoadBalance.select(hashLoadBalancesOrdered, ip).getUrl(), upstream.getUrl());
     }
 
     @Test
-    public void hashLoadBalanceDisorderedWeightTest() throws Exception {
+    public void hashLoadBalanceReversedWeightTest() {
         final String ip = "127.0.0.1";
         final HashLoadBalancer hashLoadBalance = new HashLoadBalancer();
-        final Upstream upstream = hashLoadBalance.select(hashLoadBalancesDisordered, ip);
-        final Long hashKey = Long.parseLong(hash.invoke(null, ip).toString());
-        final SortedMap<Long, Upstream> lastRing = treeMapDisordered.tailMap(hashKey);
-        final Upstream assertUp = lastRing.get(lastRing.firstKey());
-        assertEquals(assertUp.getUrl(), upstream.getUrl());
-
+        final Upstream divideUpstream = hashLoadBalance.select(hashLoadBalancesReversed, ip);
+        assertEquals(hashLoadBalance.select(hashLoadBalancesOrdered, ip).getUrl(), divideUpstream.getUrl());
     }
 
     @Test
-    public void hashLoadBalanceReversedWeightTest() throws Exception {
+    public void boundedLoadTest() throws Exception {
         final String ip = "127.0.0.1";
         final HashLoadBalancer hashLoadBalance = new HashLoadBalancer();
-        final Upstream divideUpstream = hashLoadBalance.select(hashLoadBalancesReversed, ip);
-        final Long hashKey = Long.parseLong(hash.invoke(null, ip).toString());
-        final SortedMap<Long, Upstream> lastRing = treeMapReversed.tailMap(hashKey);
-        final Upstream assertUp = lastRing.get(lastRing.firstKey());
-        assertEquals(assertUp.getUrl(), divideUpstream.getUrl());
+        final Upstream preferred = hashLoadBalance.select(hashLoadBalancesOrdered, ip);
+        final Field boundedLoad = UpstreamCacheManager.class.getDeclaredField("boundedLoad");
+        boundedLoad.setAccessible(true);
+        boundedLoad.set(UpstreamCacheManager.getInstance(), true);
+        try {
+            assertEquals(preferred.getUrl(), hashLoadBalance.select(hashLoadBalancesOrdered, ip).getUrl());
+            assertEquals(0L, preferred.getHashInflight().get());
+            preferred.getHashInflight().set(100);
+            final Upstream upstream = hashLoadBalance.select(hashLoadBalancesOrdered, ip);
+            Assertions.assertNotEquals(preferred.getUrl(), upstream.getUrl());
+            assertEquals(0L, upstream.getHashInflight().get());
+        } finally {
+            preferred.getHashInflight().set(0);
+            boundedLoad.set(UpstreamCacheManager.getInstance(), false);
+        }
+    }
+
+    private List<Upstream> upstreams(final Integer... weights) {
+        return Stream.of(weights)
+                .map(weight -> Upstream.builder()
+                        .url("upstream-" + weight)
+                        .build())
+                .collect(Collectors.toList());
     }
 }
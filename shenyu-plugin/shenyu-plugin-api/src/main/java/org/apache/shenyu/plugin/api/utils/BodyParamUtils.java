@@ -17,8 +17,9 @@
 
 package org.apache.shenyu.plugin.api.utils;
 
-import com.google.gson.JsonArray;
-import com.google.gson.JsonObject;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import org.apache.commons.lang3.ClassUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.ImmutablePair;
@@ -27,10 +28,14 @@ import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.common.utils.ReflectUtils;
 import org.springframework.util.LinkedMultiValueMap;
 
+import java.io.IOException;
+import java.io.StringReader;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -40,6 +45,13 @@ import java.util.regex.Pattern;
 public final class BodyParamUtils {
 
     private static final Pattern QUERY_PARAM_PATTERN = Pattern.compile("([^&=]+)(=?)([^&]+)?");
+
+    private static final int MAX_LAYOUTS = 4096;
+
+    /**
+     * parameterTypes of the meta data -> parsed layout.
+     */
+    private static final Map<String, ParamLayout> LAYOUT_CACHE = new ConcurrentHashMap<>();
     
     private BodyParamUtils() {
     }
@@ -70,57 +82,180 @@ public final class BodyParamUtils {
      * @return the parameters.
      */
     public static Pair<String[], Object[]> buildSingleParameter(final String body, final String parameterTypes) {
-        final Map<String, Object> paramMap = GsonUtils.getInstance().toObjectMap(body);
-        for (String key : paramMap.keySet()) {
-            Object obj = paramMap.get(key);
-            if (obj instanceof JsonObject) {
-                paramMap.put(key, GsonUtils.getInstance().convertToMap(obj.toString()));
-            } else if (obj instanceof JsonArray) {
-                paramMap.put(key, GsonUtils.getInstance().fromList(obj.toString(), Object.class));
-            } else {
-                paramMap.put(key, obj);
-            }
-        }
-        return new ImmutablePair<>(new String[]{parameterTypes}, new Object[]{paramMap});
+        return new ImmutablePair<>(new String[]{parameterTypes}, new Object[]{readBody(body)});
     }
 
     /**
      * build multi parameters.
+     * The body is read in a single streaming pass, and the layout of the parameter types is cached.
      *
      * @param body           the parameter body.
      * @param parameterTypes the parameter types.
      * @return the parameters.
      */
     public static Pair<String[], Object[]> buildParameters(final String body, final String parameterTypes) {
-        List<String> paramNameList = new ArrayList<>();
-        List<String> paramTypeList = new ArrayList<>();
-
-        if (isNameMapping(parameterTypes)) {
-            Map<String, String> paramNameMap = GsonUtils.getInstance().toObjectMap(parameterTypes, String.class);
-            paramNameList.addAll(paramNameMap.keySet());
-            paramTypeList.addAll(paramNameMap.values());
+        ParamLayout layout = obtainLayout(parameterTypes);
+        Map<String, Object> paramMap = readBody(body);
+        if (layout.isSingle()) {
+            return new ImmutablePair<>(new String[]{parameterTypes}, new Object[]{paramMap});
+        }
+        Object[] objects;
+        if (Objects.isNull(layout.getNames())) {
+            objects = paramMap.values().toArray();
         } else {
-            Map<String, Object> paramMap = GsonUtils.getInstance().toObjectMap(body);
-            paramNameList.addAll(paramMap.keySet());
-            paramTypeList.addAll(Arrays.asList(StringUtils.split(parameterTypes, ",")));
+            objects = new Object[layout.getNames().length];
+            for (int i = 0; i < objects.length; i++) {
+                objects[i] = paramMap.get(layout.getNames()[i]);
+            }
         }
+        return new ImmutablePair<>(layout.getTypes().clone(), objects);
+    }
 
-        if (paramTypeList.size() == 1 && !isBaseType(paramTypeList.get(0))) {
-            return buildSingleParameter(body, parameterTypes);
+    private static ParamLayout obtainLayout(final String parameterTypes) {
+        ParamLayout layout = LAYOUT_CACHE.get(parameterTypes);
+        if (Objects.isNull(layout)) {
+            if (LAYOUT_CACHE.size() >= MAX_LAYOUTS) {
+                LAYOUT_CACHE.clear();
+            }
+            layout = new ParamLayout(parameterTypes);
+            LAYOUT_CACHE.put(parameterTypes, layout);
         }
-        Map<String, Object> paramMap = GsonUtils.getInstance().toObjectMap(body);
-        Object[] objects = paramNameList.stream().map(key -> {
-            Object obj = paramMap.get(key);
-            if (obj instanceof JsonObject) {
-                return GsonUtils.getInstance().convertToMap(obj.toString());
-            } else if (obj instanceof JsonArray) {
-                return GsonUtils.getInstance().fromList(obj.toString(), Object.class);
+        return layout;
+    }
+
+    /**
+     * Read the json body into a map, objects nested in the body become maps and arrays become lists,
+     * the same as converting the parsed elements again with {@link GsonUtils}.
+     */
+    private static Map<String, Object> readBody(final String body) {
+        try (JsonReader reader = new JsonReader(new StringReader(body))) {
+            reader.setLenient(true);
+            Map<String, Object> paramMap = new LinkedHashMap<>();
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String name = reader.nextName();
+                JsonToken token = reader.peek();
+                if (token == JsonToken.BEGIN_OBJECT) {
+                    paramMap.put(name, readMap(reader));
+                } else if (token == JsonToken.BEGIN_ARRAY) {
+                    paramMap.put(name, readObjectList(reader));
+                } else {
+                    paramMap.put(name, readPrimitive(reader, token));
+                }
+            }
+            reader.endObject();
+            return paramMap;
+        } catch (IOException e) {
+            throw new JsonSyntaxException(e);
+        }
+    }
+
+    /**
+     * Read an object the way {@link GsonUtils#convertToMap(String)} does.
+     */
+    private static Map<String, Object> readMap(final JsonReader reader) throws IOException {
+        Map<String, Object> map = new LinkedHashMap<>();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            JsonToken token = reader.peek();
+            if (token == JsonToken.BEGIN_OBJECT) {
+                map.put(name, readMap(reader));
+            } else if (token == JsonToken.BEGIN_ARRAY) {
+                map.put(name, readStringList(reader));
+            } else if (token == JsonToken.STRING) {
+                map.put(name, convertString(reader.nextString()));
             } else {
-                return obj;
+                map.put(name, readPrimitive(reader, token));
             }
-        }).toArray();
-        String[] paramTypes = paramTypeList.toArray(new String[0]);
-        return new ImmutablePair<>(paramTypes, objects);
+        }
+        reader.endObject();
+        return map;
+    }
+
+    /**
+     * Read an array nested in an object, scalars are kept as strings like {@link GsonUtils#convertToMap(String)} does.
+     */
+    private static List<Object> readStringList(final JsonReader reader) throws IOException {
+        List<Object> list = new ArrayList<>();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            JsonToken token = reader.peek();
+            if (token == JsonToken.BEGIN_OBJECT) {
+                list.add(readMap(reader));
+            } else if (token == JsonToken.BEGIN_ARRAY) {
+                list.add(readStringList(reader));
+            } else if (token == JsonToken.NULL) {
+                reader.nextNull();
+                list.add(null);
+            } else if (token == JsonToken.BOOLEAN) {
+                list.add(String.valueOf(reader.nextBoolean()));
+            } else {
+                list.add(convertString(reader.nextString()));
+            }
+        }
+        reader.endArray();
+        return list;
+    }
+
+    /**
+     * Read a top level array the way {@link GsonUtils#fromList(String, Class)} does for {@code Object}.
+     */
+    private static List<Object> readObjectList(final JsonReader reader) throws IOException {
+        List<Object> list = new ArrayList<>();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            list.add(readObject(reader));
+        }
+        reader.endArray();
+        return list;
+    }
+
+    private static Object readObject(final JsonReader reader) throws IOException {
+        switch (reader.peek()) {
+            case BEGIN_OBJECT:
+                Map<String, Object> map = new LinkedHashMap<>();
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    map.put(reader.nextName(), readObject(reader));
+                }
+                reader.endObject();
+                return map;
+            case BEGIN_ARRAY:
+                return readObjectList(reader);
+            case NUMBER:
+                return reader.nextDouble();
+            case BOOLEAN:
+                return reader.nextBoolean();
+            case NULL:
+                reader.nextNull();
+                return null;
+            default:
+                return reader.nextString();
+        }
+    }
+
+    private static Object readPrimitive(final JsonReader reader, final JsonToken token) throws IOException {
+        switch (token) {
+            case NUMBER:
+                String number = reader.nextString();
+                return StringUtils.containsAny(number, '.', 'e', 'E') ? (Object) Double.valueOf(number) : (Object) Long.valueOf(number);
+            case BOOLEAN:
+                return reader.nextBoolean();
+            case NULL:
+                reader.nextNull();
+                return null;
+            default:
+                return reader.nextString();
+        }
+    }
+
+    private static Object convertString(final String value) {
+        String trimmed = value.trim();
+        if (trimmed.startsWith("{") && trimmed.endsWith("}")) {
+            return GsonUtils.getInstance().convertToMap(value);
+        }
+        return value;
     }
 
     private static boolean isNameMapping(final String parameterTypes) {
@@ -140,4 +275,40 @@ public final class BodyParamUtils {
             return false;
         }
     }
+
+    /**
+     * The parsed parameterTypes of a meta data.
+     */
+    private static final class ParamLayout {
+
+        private final String[] names;
+
+        private final String[] types;
+
+        private final boolean single;
+
+        ParamLayout(final String parameterTypes) {
+            if (isNameMapping(parameterTypes)) {
+                Map<String, String> paramNameMap = GsonUtils.getInstance().toObjectMap(parameterTypes, String.class);
+                names = paramNameMap.keySet().toArray(new String[0]);
+                types = paramNameMap.values().toArray(new String[0]);
+            } else {
+                names = null;
+                types = StringUtils.split(parameterTypes, ",");
+            }
+            single = types.length == 1 && !isBaseType(types[0]);
+        }
+
+        String[] getNames() {
+            return names;
+        }
+
+        String[] getTypes() {
+            return types;
+        }
+
+        boolean isSingle() {
+            return single;
+        }
+    }
 }
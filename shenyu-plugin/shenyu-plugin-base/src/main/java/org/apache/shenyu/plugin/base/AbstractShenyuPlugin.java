@@ -17,31 +17,29 @@
 
 package org.apache.shenyu.plugin.base;
 
-import java.util.Collection;
-import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.shenyu.common.config.ShenyuConfig;
+import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.dto.ConditionData;
 import org.apache.shenyu.common.dto.PluginData;
 import org.apache.shenyu.common.dto.RuleData;
 import org.apache.shenyu.common.dto.SelectorData;
-import org.apache.shenyu.common.enums.MatchModeEnum;
 import org.apache.shenyu.common.enums.SelectorTypeEnum;
 import org.apache.shenyu.plugin.api.ShenyuPlugin;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
 import org.apache.shenyu.plugin.api.utils.SpringBeanUtils;
 import org.apache.shenyu.plugin.base.cache.BaseDataCache;
+import org.apache.shenyu.plugin.base.cache.CompiledMatcherCache;
 import org.apache.shenyu.plugin.base.cache.MatchDataCache;
-import org.apache.shenyu.plugin.base.condition.strategy.MatchStrategyFactory;
-import org.apache.shenyu.plugin.base.trie.ShenyuTrie;
-import org.apache.shenyu.plugin.base.trie.ShenyuTrieNode;
+import org.apache.shenyu.plugin.base.condition.compiled.CompiledMatcher;
+import org.apache.shenyu.plugin.base.profile.PluginProfile;
+import org.apache.shenyu.plugin.base.profile.PluginProfile.MatchSource;
+import org.apache.shenyu.plugin.base.profile.PluginProfiler;
+import org.apache.shenyu.plugin.base.trie.RuleTrie;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.web.server.ServerWebExchange;
@@ -58,7 +56,7 @@ public abstract class AbstractShenyuPlugin implements ShenyuPlugin {
 
     private ShenyuConfig.MatchCache matchCacheConfig;
     
-    private ShenyuTrie trie;
+    private RuleTrie trie;
 
     /**
      * this is Template Method child has Implement your own logic.
@@ -89,8 +87,12 @@ public abstract class AbstractShenyuPlugin implements ShenyuPlugin {
             return chain.execute(exchange);
         }
         final String path = exchange.getRequest().getURI().getPath();
+        final PluginProfile profile = PluginProfiler.getInstance().obtainProfile(exchange, pluginName);
         List<SelectorData> selectors = BaseDataCache.getInstance().obtainSelectorData(pluginName);
         SelectorData selectorData = obtainSelectorDataCacheIfEnabled(path);
+        if (Objects.nonNull(profile) && Objects.nonNull(selectorData)) {
+            profile.recordSelectorMatch(MatchSource.CACHE);
+        }
         // handle Selector
         if (Objects.nonNull(selectorData) && StringUtils.isBlank(selectorData.getId())) {
             return handleSelectorIfNull(pluginName, exchange, chain);
@@ -100,6 +102,9 @@ public abstract class AbstractShenyuPlugin implements ShenyuPlugin {
                 return handleSelectorIfNull(pluginName, exchange, chain);
             }
             Pair<Boolean, SelectorData> matchSelectorData = matchSelector(exchange, selectors);
+            if (Objects.nonNull(profile)) {
+                profile.recordSelectorMatch(MatchSource.MATCH);
+            }
             selectorData = matchSelectorData.getRight();
             if (Objects.isNull(selectorData)) {
                 if (matchCacheConfig.getSelector().getSelectorEnabled() && matchSelectorData.getLeft()) {
@@ -117,7 +122,7 @@ public abstract class AbstractShenyuPlugin implements ShenyuPlugin {
         printLog(selectorData, pluginName);
         if (Objects.nonNull(selectorData.getContinued()) && !selectorData.getContinued()) {
             // if continued， not match rules
-            return doExecute(exchange, chain, selectorData, defaultRuleData(selectorData));
+            return executeMatched(exchange, chain, selectorData, defaultRuleData(selectorData));
         }
         List<RuleData> rules = BaseDataCache.getInstance().obtainRuleData(selectorData.getId());
         if (CollectionUtils.isEmpty(rules)) {
@@ -131,29 +136,48 @@ public abstract class AbstractShenyuPlugin implements ShenyuPlugin {
             //get last
             RuleData rule = rules.get(rules.size() - 1);
             printLog(rule, pluginName);
-            return doExecute(exchange, chain, selectorData, rule);
+            return executeMatched(exchange, chain, selectorData, rule);
         } else {
             // lru map as L1 cache,the cache is enabled by default.
             // if the L1 cache fails to hit, using L2 cache based on trie cache.
             // if the L2 cache fails to hit, execute default strategy.
             if (Objects.isNull(ruleData)) {
-                // L1 cache not exist data, try to get data through trie cache
-                ruleData = trieMatchRule(exchange, selectorData, path);
-                // trie cache fails to hit, execute default strategy
-                if (Objects.isNull(ruleData)) {
-                    Pair<Boolean, RuleData> matchRuleData = matchRule(exchange, rules);
-                    ruleData = matchRuleData.getRight();
-                    if (matchRuleData.getLeft()) {
-                        cacheRuleData(path, ruleData);
-                    }
-                }
+                ruleData = matchRuleData(exchange, selectorData, rules, path, profile);
+            } else if (Objects.nonNull(profile)) {
+                profile.recordRuleMatch(MatchSource.CACHE);
             }
             if (Objects.isNull(ruleData)) {
                 return handleRuleIfNull(pluginName, exchange, chain);
             }
         }
         printLog(ruleData, pluginName);
-        return doExecute(exchange, chain, selectorData, ruleData);
+        return executeMatched(exchange, chain, selectorData, ruleData);
+    }
+
+    private RuleData matchRuleData(final ServerWebExchange exchange, final SelectorData selectorData, final List<RuleData> rules,
+                                   final String path, final PluginProfile profile) {
+        // L1 cache not exist data, try to get data through trie cache
+        RuleData ruleData = trieMatchRule(exchange, selectorData, path);
+        MatchSource ruleSource = MatchSource.TRIE;
+        // trie cache fails to hit, execute default strategy
+        if (Objects.isNull(ruleData)) {
+            Pair<Boolean, RuleData> matchRuleData = matchRule(exchange, selectorData.getId(), rules);
+            ruleData = matchRuleData.getRight();
+            ruleSource = MatchSource.MATCH;
+            if (matchRuleData.getLeft()) {
+                cacheRuleData(path, ruleData);
+            }
+        }
+        if (Objects.nonNull(profile)) {
+            profile.recordRuleMatch(ruleSource);
+        }
+        return ruleData;
+    }
+
+    private Mono<Void> executeMatched(final ServerWebExchange exchange, final ShenyuPluginChain chain, final SelectorData selector, final RuleData rule) {
+        exchange.getAttributes().put(Constants.MATCHED_SELECTOR, selector);
+        exchange.getAttributes().put(Constants.MATCHED_RULE, rule);
+        return doExecute(exchange, chain, selector, rule);
     }
 
     private void initCacheConfig() {
@@ -161,7 +185,7 @@ public abstract class AbstractShenyuPlugin implements ShenyuPlugin {
             matchCacheConfig = SpringBeanUtils.getInstance().getBean(ShenyuConfig.class).getMatchCache();
         }
         if (Objects.isNull(trie)) {
-            trie = SpringBeanUtils.getInstance().getBean(ShenyuTrie.class);
+            trie = SpringBeanUtils.getInstance().getBean(RuleTrie.class);
         }
     }
 
@@ -205,74 +229,12 @@ public abstract class AbstractShenyuPlugin implements ShenyuPlugin {
         return chain.execute(exchange);
     }
 
-    private Pair<Boolean, SelectorData> matchSelector(final ServerWebExchange exchange, final Collection<SelectorData> selectors) {
-        List<SelectorData> filterCollectors = selectors.stream()
-                .filter(selector -> selector.getEnabled() && filterSelector(selector, exchange))
-                .distinct()
-                .collect(Collectors.toList());
-        if (filterCollectors.size() > 1) {
-            return Pair.of(Boolean.FALSE, manyMatchSelector(filterCollectors));
-        } else {
-            return Pair.of(Boolean.TRUE, filterCollectors.stream().findFirst().orElse(null));
-        }
+    private Pair<Boolean, SelectorData> matchSelector(final ServerWebExchange exchange, final List<SelectorData> selectors) {
+        return CompiledMatcherCache.getInstance().obtainSelectorMatcher(named(), selectors).match(exchange);
     }
 
-    private SelectorData manyMatchSelector(final List<SelectorData> filterCollectors) {
-        //What needs to be dealt with here is the and condition. If the number of and conditions is the same and is matched at the same time,
-        // it will be sorted by the sort field.
-        Map<Integer, List<Pair<Integer, SelectorData>>> collect =
-                filterCollectors.stream().map(selector -> {
-                    boolean match = MatchModeEnum.match(selector.getMatchMode(), MatchModeEnum.AND);
-                    int sort = 0;
-                    if (match) {
-                        sort = selector.getConditionList().size();
-                    }
-                    return Pair.of(sort, selector);
-                }).collect(Collectors.groupingBy(Pair::getLeft));
-        Integer max = Collections.max(collect.keySet());
-        List<Pair<Integer, SelectorData>> pairs = collect.get(max);
-        return pairs.stream().map(Pair::getRight).min(Comparator.comparing(SelectorData::getSort)).orElse(null);
-    }
-
-    private Boolean filterSelector(final SelectorData selector, final ServerWebExchange exchange) {
-        if (selector.getType() == SelectorTypeEnum.CUSTOM_FLOW.getCode()) {
-            if (CollectionUtils.isEmpty(selector.getConditionList())) {
-                return false;
-            }
-            return MatchStrategyFactory.match(selector.getMatchMode(), selector.getConditionList(), exchange);
-        }
-        return true;
-    }
-
-    private Pair<Boolean, RuleData> matchRule(final ServerWebExchange exchange, final Collection<RuleData> rules) {
-        List<RuleData> filterRuleData = rules.stream()
-                .filter(rule -> filterRule(rule, exchange))
-                .distinct()
-                .collect(Collectors.toList());
-        if (filterRuleData.size() > 1) {
-            return Pair.of(Boolean.FALSE, manyMatchRule(filterRuleData));
-        } else {
-            return Pair.of(Boolean.TRUE, filterRuleData.stream().findFirst().orElse(null));
-        }
-    }
-
-    private RuleData manyMatchRule(final List<RuleData> filterRuleData) {
-        Map<Integer, List<Pair<Integer, RuleData>>> collect =
-                filterRuleData.stream().map(rule -> {
-                    boolean match = MatchModeEnum.match(rule.getMatchMode(), MatchModeEnum.AND);
-                    int sort = 0;
-                    if (match) {
-                        sort = rule.getConditionDataList().size();
-                    }
-                    return Pair.of(sort, rule);
-                }).collect(Collectors.groupingBy(Pair::getLeft));
-        Integer max = Collections.max(collect.keySet());
-        List<Pair<Integer, RuleData>> pairs = collect.get(max);
-        return pairs.stream().map(Pair::getRight).min(Comparator.comparing(RuleData::getSort)).orElse(null);
-    }
-
-    private Boolean filterRule(final RuleData ruleData, final ServerWebExchange exchange) {
-        return ruleData.getEnabled() && MatchStrategyFactory.match(ruleData.getMatchMode(), ruleData.getConditionDataList(), exchange);
+    private Pair<Boolean, RuleData> matchRule(final ServerWebExchange exchange, final String selectorId, final List<RuleData> rules) {
+        return CompiledMatcherCache.getInstance().obtainRuleMatcher(selectorId, rules).match(exchange);
     }
     
     private RuleData obtainRuleDataCache(final String path) {
@@ -300,16 +262,13 @@ public abstract class AbstractShenyuPlugin implements ShenyuPlugin {
     
     private RuleData trieMatchRule(final ServerWebExchange exchange, final SelectorData selectorData, final String path) {
         RuleData ruleData = null;
-        ShenyuTrieNode shenyuTrieNode = trie.match(path, selectorData.getId());
-        if (Objects.nonNull(shenyuTrieNode)) {
-            List<RuleData> ruleDataList = shenyuTrieNode.getPathRuleCache().getIfPresent(selectorData.getId());
-            if (CollectionUtils.isNotEmpty(ruleDataList)) {
-                Pair<Boolean, RuleData> ruleDataPair = matchRule(exchange, ruleDataList);
-                ruleData = ruleDataPair.getRight();
-                if (ruleDataPair.getLeft()) {
-                    // exist only one rule data, cache rule
-                    cacheRuleData(path, ruleData);
-                }
+        List<RuleData> ruleDataList = trie.matchRules(path, selectorData.getId());
+        if (CollectionUtils.isNotEmpty(ruleDataList)) {
+            Pair<Boolean, RuleData> ruleDataPair = CompiledMatcher.matchRules(ruleDataList, exchange);
+            ruleData = ruleDataPair.getRight();
+            if (ruleDataPair.getLeft()) {
+                // exist only one rule data, cache rule
+                cacheRuleData(path, ruleData);
             }
         }
         return ruleData;
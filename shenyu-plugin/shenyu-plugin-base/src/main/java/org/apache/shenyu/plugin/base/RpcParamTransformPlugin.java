@@ -119,9 +119,9 @@ public class RpcParamTransformPlugin implements ShenyuPlugin {
 
     @NonNull
     private String resolveBodyFromRequest(final DataBuffer dataBuffer) {
-        byte[] bytes = new byte[dataBuffer.readableByteCount()];
-        dataBuffer.read(bytes);
+        // decode the joined buffer directly, without copying it into an intermediate byte array
+        String body = dataBuffer.toString(StandardCharsets.UTF_8);
         DataBufferUtils.release(dataBuffer);
-        return new String(bytes, StandardCharsets.UTF_8);
+        return body;
     }
 }
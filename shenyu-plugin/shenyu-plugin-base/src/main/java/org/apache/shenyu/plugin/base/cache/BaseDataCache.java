@@ -23,10 +23,17 @@ import org.apache.shenyu.common.dto.PluginData;
 import org.apache.shenyu.common.dto.RuleData;
 import org.apache.shenyu.common.dto.SelectorData;
 
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -125,6 +132,18 @@ public final class BaseDataCache {
         Optional.ofNullable(selectorData).ifPresent(this::selectorAccept);
     }
     
+    /**
+     * Cache a chunk of select data, the selectors of a plugin are sorted and compiled once per chunk.
+     *
+     * @param selectorDataList the selector data list
+     */
+    public void cacheSelectDataList(final List<SelectorData> selectorDataList) {
+        synchronized (SELECTOR_MAP) {
+            acceptAll(SELECTOR_MAP, selectorDataList, SelectorData::getPluginName, SelectorData::getId,
+                    Comparator.comparing(SelectorData::getSort), CompiledMatcherCache.getInstance()::refreshSelectorMatcher);
+        }
+    }
+    
     /**
      * Remove select data.
      *
@@ -132,9 +151,13 @@ public final class BaseDataCache {
      */
     public void removeSelectData(final SelectorData selectorData) {
         Optional.ofNullable(selectorData).ifPresent(data -> {
-            final List<SelectorData> selectorDataList = SELECTOR_MAP.get(data.getPluginName());
             synchronized (SELECTOR_MAP) {
-                Optional.ofNullable(selectorDataList).ifPresent(list -> list.removeIf(e -> e.getId().equals(data.getId())));
+                final List<SelectorData> selectorDataList = SELECTOR_MAP.get(data.getPluginName());
+                Optional.ofNullable(selectorDataList).ifPresent(list -> {
+                    final List<SelectorData> resultList = list.stream().filter(e -> !e.getId().equals(data.getId())).collect(Collectors.toList());
+                    SELECTOR_MAP.put(data.getPluginName(), resultList);
+                    CompiledMatcherCache.getInstance().refreshSelectorMatcher(data.getPluginName(), resultList);
+                });
             }
         });
     }
@@ -146,6 +169,7 @@ public final class BaseDataCache {
      */
     public void removeSelectDataByPluginName(final String pluginName) {
         SELECTOR_MAP.remove(pluginName);
+        CompiledMatcherCache.getInstance().removeSelectorMatcher(pluginName);
     }
     
     /**
@@ -153,6 +177,7 @@ public final class BaseDataCache {
      */
     public void cleanSelectorData() {
         SELECTOR_MAP.clear();
+        CompiledMatcherCache.getInstance().cleanSelectorMatcher();
     }
     
     /**
@@ -161,7 +186,10 @@ public final class BaseDataCache {
      * @param selectorDataList the selector data list
      */
     public void cleanSelectorDataSelf(final List<SelectorData> selectorDataList) {
-        selectorDataList.forEach(this::removeSelectData);
+        synchronized (SELECTOR_MAP) {
+            removeAll(SELECTOR_MAP, selectorDataList, SelectorData::getPluginName, SelectorData::getId,
+                    CompiledMatcherCache.getInstance()::refreshSelectorMatcher);
+        }
     }
     
     /**
@@ -183,6 +211,18 @@ public final class BaseDataCache {
         Optional.ofNullable(ruleData).ifPresent(this::ruleAccept);
     }
     
+    /**
+     * Cache a chunk of rule data, the rules of a selector are sorted and compiled once per chunk.
+     *
+     * @param ruleDataList the rule data list
+     */
+    public void cacheRuleDataList(final List<RuleData> ruleDataList) {
+        synchronized (RULE_MAP) {
+            acceptAll(RULE_MAP, ruleDataList, RuleData::getSelectorId, RuleData::getId,
+                    Comparator.comparing(RuleData::getSort), CompiledMatcherCache.getInstance()::refreshRuleMatcher);
+        }
+    }
+    
     /**
      * Remove rule data.
      *
@@ -190,9 +230,13 @@ public final class BaseDataCache {
      */
     public void removeRuleData(final RuleData ruleData) {
         Optional.ofNullable(ruleData).ifPresent(data -> {
-            final List<RuleData> ruleDataList = RULE_MAP.get(data.getSelectorId());
             synchronized (RULE_MAP) {
-                Optional.ofNullable(ruleDataList).ifPresent(list -> list.removeIf(rule -> rule.getId().equals(data.getId())));
+                final List<RuleData> ruleDataList = RULE_MAP.get(data.getSelectorId());
+                Optional.ofNullable(ruleDataList).ifPresent(list -> {
+                    final List<RuleData> resultList = list.stream().filter(rule -> !rule.getId().equals(data.getId())).collect(Collectors.toList());
+                    RULE_MAP.put(data.getSelectorId(), resultList);
+                    CompiledMatcherCache.getInstance().refreshRuleMatcher(data.getSelectorId(), resultList);
+                });
             }
         });
     }
@@ -204,6 +248,7 @@ public final class BaseDataCache {
      */
     public void removeRuleDataBySelectorId(final String selectorId) {
         RULE_MAP.remove(selectorId);
+        CompiledMatcherCache.getInstance().removeRuleMatcher(selectorId);
     }
     
     /**
@@ -211,6 +256,7 @@ public final class BaseDataCache {
      */
     public void cleanRuleData() {
         RULE_MAP.clear();
+        CompiledMatcherCache.getInstance().cleanRuleMatcher();
     }
     
     /**
@@ -219,7 +265,10 @@ public final class BaseDataCache {
      * @param ruleDataList the rule data list
      */
     public void cleanRuleDataSelf(final List<RuleData> ruleDataList) {
-        ruleDataList.forEach(this::removeRuleData);
+        synchronized (RULE_MAP) {
+            removeAll(RULE_MAP, ruleDataList, RuleData::getSelectorId, RuleData::getId,
+                    CompiledMatcherCache.getInstance()::refreshRuleMatcher);
+        }
     }
     
     /**
@@ -249,6 +298,7 @@ public final class BaseDataCache {
             } else {
                 RULE_MAP.put(selectorId, Lists.newArrayList(data));
             }
+            CompiledMatcherCache.getInstance().refreshRuleMatcher(selectorId, RULE_MAP.get(selectorId));
         }
     }
 
@@ -269,6 +319,62 @@ public final class BaseDataCache {
             } else {
                 SELECTOR_MAP.put(key, Lists.newArrayList(data));
             }
+            CompiledMatcherCache.getInstance().refreshSelectorMatcher(key, SELECTOR_MAP.get(key));
         }
     }
+
+    /**
+     * replace the data of the chunk by id, every key of the chunk is copied, sorted and refreshed once.
+     *
+     * @param map        the cache map
+     * @param dataList   the data of the chunk
+     * @param keyMapper  the key of the data
+     * @param idMapper   the id of the data
+     * @param comparator the order of the data of a key
+     * @param refresher  refresh the matchers of a key
+     * @param <T>        the type of the data
+     */
+    private static <T> void acceptAll(final ConcurrentMap<String, List<T>> map, final List<T> dataList,
+                                      final Function<T, String> keyMapper, final Function<T, String> idMapper,
+                                      final Comparator<T> comparator, final BiConsumer<String, List<T>> refresher) {
+        // key -> id -> data, the last one of the same id in the chunk wins
+        Map<String, Map<String, T>> chunk = new LinkedHashMap<>();
+        dataList.stream().filter(Objects::nonNull)
+                .forEach(data -> chunk.computeIfAbsent(keyMapper.apply(data), key -> new LinkedHashMap<>()).put(idMapper.apply(data), data));
+        chunk.forEach((key, accepted) -> {
+            List<T> resultList = map.getOrDefault(key, Collections.emptyList()).stream()
+                    .filter(data -> !accepted.containsKey(idMapper.apply(data)))
+                    .collect(Collectors.toList());
+            resultList.addAll(accepted.values());
+            resultList.sort(comparator);
+            map.put(key, resultList);
+            refresher.accept(key, resultList);
+        });
+    }
+
+    /**
+     * remove the data of the chunk by id, every key of the chunk is copied and refreshed once.
+     *
+     * @param map       the cache map
+     * @param dataList  the data of the chunk
+     * @param keyMapper the key of the data
+     * @param idMapper  the id of the data
+     * @param refresher refresh the matchers of a key
+     * @param <T>       the type of the data
+     */
+    private static <T> void removeAll(final ConcurrentMap<String, List<T>> map, final List<T> dataList,
+                                      final Function<T, String> keyMapper, final Function<T, String> idMapper,
+                                      final BiConsumer<String, List<T>> refresher) {
+        Map<String, Set<String>> chunk = dataList.stream().filter(Objects::nonNull)
+                .collect(Collectors.groupingBy(keyMapper, LinkedHashMap::new, Collectors.mapping(idMapper, Collectors.toSet())));
+        chunk.forEach((key, removed) -> {
+            List<T> existList = map.get(key);
+            if (Objects.isNull(existList)) {
+                return;
+            }
+            List<T> resultList = existList.stream().filter(data -> !removed.contains(idMapper.apply(data))).collect(Collectors.toList());
+            map.put(key, resultList);
+            refresher.accept(key, resultList);
+        });
+    }
 }
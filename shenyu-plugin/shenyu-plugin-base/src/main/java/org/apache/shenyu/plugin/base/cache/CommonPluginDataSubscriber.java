@@ -28,7 +28,7 @@ import org.apache.shenyu.common.utils.MapUtils;
 import org.apache.shenyu.plugin.api.utils.SpringBeanUtils;
 import org.apache.shenyu.plugin.base.event.RuleTrieEvent;
 import org.apache.shenyu.plugin.base.handler.PluginDataHandler;
-import org.apache.shenyu.plugin.base.trie.ShenyuTrie;
+import org.apache.shenyu.plugin.base.trie.RuleTrie;
 import org.apache.shenyu.sync.data.api.PluginDataSubscriber;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -119,6 +119,20 @@ public class CommonPluginDataSubscriber implements PluginDataSubscriber {
         subscribeDataHandler(selectorData, DataEventTypeEnum.UPDATE);
     }
     
+    @Override
+    public void onSelectorChunkSubscribe(final List<SelectorData> selectorDataList) {
+        if (CollectionUtils.isEmpty(selectorDataList)) {
+            return;
+        }
+        // the selectors of a plugin are sorted and compiled once for the chunk
+        BaseDataCache.getInstance().cacheSelectDataList(selectorDataList);
+        selectorDataList.stream().filter(Objects::nonNull).map(SelectorData::getPluginName).distinct()
+                .forEach(MatchDataCache.getInstance()::removeSelectorData);
+        selectorDataList.stream().filter(Objects::nonNull)
+                .forEach(selectorData -> Optional.ofNullable(handlerMap.get(selectorData.getPluginName()))
+                        .ifPresent(handler -> handler.handlerSelector(selectorData)));
+    }
+    
     @Override
     public void unSelectorSubscribe(final SelectorData selectorData) {
         subscribeDataHandler(selectorData, DataEventTypeEnum.DELETE);
@@ -143,6 +157,22 @@ public class CommonPluginDataSubscriber implements PluginDataSubscriber {
         subscribeDataHandler(ruleData, DataEventTypeEnum.UPDATE);
     }
     
+    @Override
+    public void onRuleChunkSubscribe(final List<RuleData> ruleDataList) {
+        if (CollectionUtils.isEmpty(ruleDataList)) {
+            return;
+        }
+        // the rules of a selector are sorted and compiled once for the chunk
+        BaseDataCache.getInstance().cacheRuleDataList(ruleDataList);
+        ruleDataList.stream().filter(Objects::nonNull).forEach(ruleData -> {
+            Optional.ofNullable(handlerMap.get(ruleData.getPluginName()))
+                    .ifPresent(handler -> handler.handlerRule(ruleData));
+            publishRuleTrieEvent(ruleData);
+        });
+        ruleDataList.stream().filter(Objects::nonNull).map(RuleData::getPluginName).distinct()
+                .forEach(MatchDataCache.getInstance()::removeRuleData);
+    }
+    
     @Override
     public void unRuleSubscribe(final RuleData ruleData) {
         subscribeDataHandler(ruleData, DataEventTypeEnum.DELETE);
@@ -152,7 +182,7 @@ public class CommonPluginDataSubscriber implements PluginDataSubscriber {
     public void refreshRuleDataAll() {
         BaseDataCache.getInstance().cleanRuleData();
         MatchDataCache.getInstance().cleanRuleDataData();
-        SpringBeanUtils.getInstance().getBean(ShenyuTrie.class).clear();
+        SpringBeanUtils.getInstance().getBean(RuleTrie.class).clear();
     }
     
     @Override
@@ -207,12 +237,16 @@ public class CommonPluginDataSubscriber implements PluginDataSubscriber {
             Optional.ofNullable(handlerMap.get(ruleData.getPluginName()))
                     .ifPresent(handler -> handler.handlerRule(ruleData));
             MatchDataCache.getInstance().removeRuleData(ruleData.getPluginName());
-            if (CollectionUtils.isEmpty(ruleData.getBeforeConditionDataList())) {
-                eventPublisher.publishEvent(new RuleTrieEvent(RuleTrieEventEnum.INSERT, ruleData));
-            } else {
-                // if rule data has before condition, update trie
-                eventPublisher.publishEvent(new RuleTrieEvent(RuleTrieEventEnum.UPDATE, ruleData));
-            }
+            publishRuleTrieEvent(ruleData);
+        }
+    }
+
+    private void publishRuleTrieEvent(final RuleData ruleData) {
+        if (CollectionUtils.isEmpty(ruleData.getBeforeConditionDataList())) {
+            eventPublisher.publishEvent(new RuleTrieEvent(RuleTrieEventEnum.INSERT, ruleData));
+        } else {
+            // if rule data has before condition, update trie
+            eventPublisher.publishEvent(new RuleTrieEvent(RuleTrieEventEnum.UPDATE, ruleData));
         }
     }
 
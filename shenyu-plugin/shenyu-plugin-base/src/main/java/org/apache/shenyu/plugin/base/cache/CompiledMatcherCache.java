@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.cache;
+
+import com.google.common.collect.Maps;
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.plugin.base.condition.compiled.CompiledMatcher;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The compiled matcher cache, the matchers are rebuilt when the lists in {@linkplain BaseDataCache} change.
+ */
+public final class CompiledMatcherCache {
+
+    private static final CompiledMatcherCache INSTANCE = new CompiledMatcherCache();
+
+    /**
+     * pluginName -> compiled selector matcher.
+     */
+    private static final ConcurrentMap<String, CompiledMatcher<SelectorData>> SELECTOR_MATCHER_MAP = Maps.newConcurrentMap();
+
+    /**
+     * selectorId -> compiled rule matcher.
+     */
+    private static final ConcurrentMap<String, CompiledMatcher<RuleData>> RULE_MATCHER_MAP = Maps.newConcurrentMap();
+
+    private CompiledMatcherCache() {
+    }
+
+    /**
+     * Gets instance.
+     *
+     * @return the instance
+     */
+    public static CompiledMatcherCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Obtain the selector matcher, it is recompiled when the selector list has been replaced.
+     *
+     * @param pluginName the plugin name
+     * @param selectors  the current selectors of the plugin
+     * @return the compiled matcher
+     */
+    public CompiledMatcher<SelectorData> obtainSelectorMatcher(final String pluginName, final List<SelectorData> selectors) {
+        CompiledMatcher<SelectorData> matcher = SELECTOR_MATCHER_MAP.get(pluginName);
+        if (Objects.isNull(matcher) || matcher.getSource() != selectors) {
+            matcher = CompiledMatcher.compileSelectors(selectors);
+            SELECTOR_MATCHER_MAP.put(pluginName, matcher);
+        }
+        return matcher;
+    }
+
+    /**
+     * Obtain the rule matcher, it is recompiled when the rule list has been replaced.
+     *
+     * @param selectorId the selector id
+     * @param rules      the current rules of the selector
+     * @return the compiled matcher
+     */
+    public CompiledMatcher<RuleData> obtainRuleMatcher(final String selectorId, final List<RuleData> rules) {
+        CompiledMatcher<RuleData> matcher = RULE_MATCHER_MAP.get(selectorId);
+        if (Objects.isNull(matcher) || matcher.getSource() != rules) {
+            matcher = CompiledMatcher.compileRules(rules);
+            RULE_MATCHER_MAP.put(selectorId, matcher);
+        }
+        return matcher;
+    }
+
+    /**
+     * Compile the selectors of the plugin.
+     *
+     * @param pluginName the plugin name
+     * @param selectors  the selectors
+     */
+    public void refreshSelectorMatcher(final String pluginName, final List<SelectorData> selectors) {
+        SELECTOR_MATCHER_MAP.put(pluginName, CompiledMatcher.compileSelectors(selectors));
+    }
+
+    /**
+     * Compile the rules of the selector.
+     *
+     * @param selectorId the selector id
+     * @param rules      the rules
+     */
+    public void refreshRuleMatcher(final String selectorId, final List<RuleData> rules) {
+        RULE_MATCHER_MAP.put(selectorId, CompiledMatcher.compileRules(rules));
+    }
+
+    /**
+     * Remove selector matcher.
+     *
+     * @param pluginName the plugin name
+     */
+    public void removeSelectorMatcher(final String pluginName) {
+        SELECTOR_MATCHER_MAP.remove(pluginName);
+    }
+
+    /**
+     * Remove rule matcher.
+     *
+     * @param selectorId the selector id
+     */
+    public void removeRuleMatcher(final String selectorId) {
+        RULE_MATCHER_MAP.remove(selectorId);
+    }
+
+    /**
+     * Clean selector matchers.
+     */
+    public void cleanSelectorMatcher() {
+        SELECTOR_MATCHER_MAP.clear();
+    }
+
+    /**
+     * Clean rule matchers.
+     */
+    public void cleanRuleMatcher() {
+        RULE_MATCHER_MAP.clear();
+    }
+}
@@ -0,0 +1,542 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.condition.compiled;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.shenyu.common.dto.ConditionData;
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.enums.MatchModeEnum;
+import org.apache.shenyu.common.enums.OperatorEnum;
+import org.apache.shenyu.common.enums.ParamTypeEnum;
+import org.apache.shenyu.common.enums.SelectorTypeEnum;
+import org.apache.shenyu.plugin.base.condition.data.ParameterDataFactory;
+import org.apache.shenyu.plugin.base.condition.judge.PredicateJudgeFactory;
+import org.apache.shenyu.plugin.base.condition.strategy.AndMatchStrategy;
+import org.apache.shenyu.plugin.base.condition.strategy.MatchStrategy;
+import org.apache.shenyu.plugin.base.condition.strategy.MatchStrategyFactory;
+import org.apache.shenyu.plugin.base.condition.strategy.OrMatchStrategy;
+import org.apache.shenyu.plugin.base.utils.HostAddressUtils;
+import org.apache.shenyu.plugin.base.utils.PathMatchUtils;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * The compiled matcher is an immutable decision structure built from the selectors of a plugin
+ * or the rules of a selector.
+ *
+ * <p>Every candidate is indexed on the most selective condition that must hold for it to match
+ * (uri, header, uri prefix, domain, request method or host), so a request only evaluates
+ * the candidates it can possibly match. The result is the same as the linear matching:
+ * the candidate with the most {@code and} conditions wins, ties are broken by sort and then by list order,
+ * and the result is only cacheable when exactly one candidate matched.
+ * A candidate whose match mode is served by a {@linkplain MatchStrategy} extension instead of the built-in
+ * {@code and} and {@code or} strategies is not indexed and it is matched by the extension.</p>
+ *
+ * @param <T> {@linkplain SelectorData} or {@linkplain RuleData}
+ */
+public final class CompiledMatcher<T> {
+
+    private static final int[] EMPTY_BUCKET = new int[0];
+
+    private static final long NO_MATCH = 0xFFFFFFFFL;
+
+    private static final int RANK_URI = 6;
+
+    private static final int RANK_HEADER = 5;
+
+    private static final int RANK_URI_PREFIX = 4;
+
+    private static final int RANK_DOMAIN = 3;
+
+    private static final int RANK_METHOD = 2;
+
+    private static final int RANK_HOST = 1;
+
+    @SuppressWarnings("rawtypes")
+    private static final Pair NOT_MATCHED = Pair.of(Boolean.TRUE, null);
+
+    private final List<T> source;
+
+    private final Integer[] matchModes;
+
+    private final List<ConditionData>[] conditions;
+
+    private final boolean[] unconditional;
+
+    private final MatchStrategy[] customStrategies;
+
+    private final int[] scores;
+
+    private final int[] sorts;
+
+    private final Pair<Boolean, T>[] singleMatched;
+
+    private final Pair<Boolean, T>[] manyMatched;
+
+    private final int[] generic;
+
+    private final Map<String, int[]> uriIndex;
+
+    private final PrefixNode uriPrefixIndex;
+
+    private final String[] headerNames;
+
+    private final Map<String, int[]>[] headerIndex;
+
+    private final Map<String, int[]> domainIndex;
+
+    private final Map<String, int[]> methodIndex;
+
+    private final Map<String, int[]> hostIndex;
+
+    @SuppressWarnings("unchecked")
+    private CompiledMatcher(final List<T> source, final Function<T, Candidate> candidateFunction) {
+        this.source = source;
+        int size = Objects.isNull(source) ? 0 : source.size();
+        this.matchModes = new Integer[size];
+        this.conditions = new List[size];
+        this.unconditional = new boolean[size];
+        this.customStrategies = new MatchStrategy[size];
+        this.scores = new int[size];
+        this.sorts = new int[size];
+        this.singleMatched = new Pair[size];
+        this.manyMatched = new Pair[size];
+        List<Integer> genericList = new ArrayList<>();
+        Map<String, List<Integer>> uriMap = new HashMap<>();
+        PrefixNodeBuilder prefixBuilder = new PrefixNodeBuilder();
+        Map<String, Map<String, List<Integer>>> headerMap = new HashMap<>();
+        Map<String, List<Integer>> domainMap = new HashMap<>();
+        Map<String, List<Integer>> methodMap = new HashMap<>();
+        Map<String, List<Integer>> hostMap = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            T data = source.get(i);
+            Candidate candidate = candidateFunction.apply(data);
+            matchModes[i] = candidate.matchMode;
+            conditions[i] = Objects.isNull(candidate.conditions) ? Collections.emptyList() : candidate.conditions;
+            unconditional[i] = candidate.unconditional;
+            customStrategies[i] = candidate.unconditional ? null : customStrategy(candidate.matchMode);
+            scores[i] = score(candidate.matchMode, conditions[i]);
+            sorts[i] = Objects.isNull(candidate.sort) ? Integer.MAX_VALUE : candidate.sort;
+            singleMatched[i] = Pair.of(Boolean.TRUE, data);
+            manyMatched[i] = Pair.of(Boolean.FALSE, data);
+            if (!candidate.enabled) {
+                continue;
+            }
+            conditions[i].forEach(PathMatchUtils::precompile);
+            ConditionData key = candidate.unconditional || isOrMode(candidate.matchMode) || Objects.nonNull(customStrategies[i])
+                    ? null : selectIndexKey(conditions[i]);
+            if (Objects.isNull(key)) {
+                genericList.add(i);
+                continue;
+            }
+            String value = key.getParamValue().trim();
+            switch (rank(key)) {
+                case RANK_URI:
+                    uriMap.computeIfAbsent(value, k -> new ArrayList<>()).add(i);
+                    break;
+                case RANK_HEADER:
+                    headerMap.computeIfAbsent(key.getParamName(), k -> new HashMap<>()).computeIfAbsent(value, k -> new ArrayList<>()).add(i);
+                    break;
+                case RANK_URI_PREFIX:
+                    prefixBuilder.add(literalPrefix(key), i);
+                    break;
+                case RANK_DOMAIN:
+                    domainMap.computeIfAbsent(value, k -> new ArrayList<>()).add(i);
+                    break;
+                case RANK_METHOD:
+                    methodMap.computeIfAbsent(value, k -> new ArrayList<>()).add(i);
+                    break;
+                default:
+                    hostMap.computeIfAbsent(value, k -> new ArrayList<>()).add(i);
+                    break;
+            }
+        }
+        this.generic = toBucket(genericList);
+        this.uriIndex = freeze(uriMap);
+        this.uriPrefixIndex = prefixBuilder.build();
+        this.headerNames = headerMap.keySet().toArray(new String[0]);
+        this.headerIndex = new Map[headerNames.length];
+        for (int i = 0; i < headerNames.length; i++) {
+            headerIndex[i] = freeze(headerMap.get(headerNames[i]));
+        }
+        this.domainIndex = freeze(domainMap);
+        this.methodIndex = freeze(methodMap);
+        this.hostIndex = freeze(hostMap);
+    }
+
+    /**
+     * Compile the selectors of a plugin.
+     *
+     * @param selectors the selectors, sorted as in {@linkplain org.apache.shenyu.plugin.base.cache.BaseDataCache}
+     * @return the compiled matcher
+     */
+    public static CompiledMatcher<SelectorData> compileSelectors(final List<SelectorData> selectors) {
+        return new CompiledMatcher<>(selectors, selector -> {
+            boolean fullFlow = !Objects.equals(selector.getType(), SelectorTypeEnum.CUSTOM_FLOW.getCode());
+            boolean enabled = Boolean.TRUE.equals(selector.getEnabled())
+                    && (fullFlow || (Objects.nonNull(selector.getConditionList()) && !selector.getConditionList().isEmpty()));
+            return new Candidate(enabled, fullFlow, selector.getMatchMode(), selector.getConditionList(), selector.getSort());
+        });
+    }
+
+    /**
+     * Compile the rules of a selector.
+     *
+     * @param rules the rules, sorted as in {@linkplain org.apache.shenyu.plugin.base.cache.BaseDataCache}
+     * @return the compiled matcher
+     */
+    public static CompiledMatcher<RuleData> compileRules(final List<RuleData> rules) {
+        return new CompiledMatcher<>(rules, rule -> new Candidate(Boolean.TRUE.equals(rule.getEnabled()), false,
+                rule.getMatchMode(), rule.getConditionDataList(), rule.getSort()));
+    }
+
+    /**
+     * Match the rules one by one, used for the rule list found by the trie.
+     *
+     * @param rules    the rules
+     * @param exchange the exchange
+     * @return left is whether the result can be cached, right is the matched rule
+     */
+    @SuppressWarnings("unchecked")
+    public static Pair<Boolean, RuleData> matchRules(final List<RuleData> rules, final ServerWebExchange exchange) {
+        int matched = 0;
+        RuleData best = null;
+        int bestScore = -1;
+        int bestSort = Integer.MAX_VALUE;
+        for (RuleData rule : rules) {
+            List<ConditionData> conditionList = Objects.isNull(rule.getConditionDataList()) ? Collections.emptyList() : rule.getConditionDataList();
+            if (!Boolean.TRUE.equals(rule.getEnabled()) || !matchConditions(customStrategy(rule.getMatchMode()), rule.getMatchMode(), conditionList, exchange)) {
+                continue;
+            }
+            matched++;
+            int score = score(rule.getMatchMode(), conditionList);
+            int sort = Objects.isNull(rule.getSort()) ? Integer.MAX_VALUE : rule.getSort();
+            if (score > bestScore || (score == bestScore && sort < bestSort)) {
+                best = rule;
+                bestScore = score;
+                bestSort = sort;
+            }
+        }
+        if (matched == 0) {
+            return (Pair<Boolean, RuleData>) NOT_MATCHED;
+        }
+        return Pair.of(matched == 1, best);
+    }
+
+    /**
+     * Get the list this matcher was compiled from.
+     *
+     * @return the source list
+     */
+    public List<T> getSource() {
+        return source;
+    }
+
+    /**
+     * Match the request.
+     *
+     * @param exchange the exchange
+     * @return left is whether the result can be cached, right is the matched data or null
+     */
+    @SuppressWarnings("unchecked")
+    public Pair<Boolean, T> match(final ServerWebExchange exchange) {
+        long state = scan(generic, NO_MATCH, exchange);
+        if (!uriIndex.isEmpty() || uriPrefixIndex.hasChildren()) {
+            String path = exchange.getRequest().getURI().getPath();
+            if (Objects.nonNull(path)) {
+                state = scan(uriIndex.getOrDefault(path, EMPTY_BUCKET), state, exchange);
+                PrefixNode node = uriPrefixIndex;
+                for (int i = 0; i < path.length() && node.hasChildren(); i++) {
+                    node = node.child(path.charAt(i));
+                    if (Objects.isNull(node)) {
+                        break;
+                    }
+                    state = scan(node.bucket, state, exchange);
+                }
+            }
+        }
+        for (int i = 0; i < headerNames.length; i++) {
+            // a missing header is matched as an empty value, as the header parameter data does
+            state = scan(lookup(headerIndex[i], StringUtils.defaultString(exchange.getRequest().getHeaders().getFirst(headerNames[i]))), state, exchange);
+        }
+        if (!domainIndex.isEmpty()) {
+            state = scan(lookup(domainIndex, exchange.getRequest().getURI().getHost()), state, exchange);
+        }
+        if (!methodIndex.isEmpty()) {
+            state = scan(lookup(methodIndex, exchange.getRequest().getMethodValue()), state, exchange);
+        }
+        if (!hostIndex.isEmpty()) {
+            state = scan(lookup(hostIndex, HostAddressUtils.acquireHost(exchange)), state, exchange);
+        }
+        int matched = (int) (state >>> 32);
+        if (matched == 0) {
+            return (Pair<Boolean, T>) NOT_MATCHED;
+        }
+        int best = (int) state;
+        return matched == 1 ? singleMatched[best] : manyMatched[best];
+    }
+
+    /**
+     * Evaluate the candidates of a bucket, the state keeps the matched count in the high
+     * 32 bits and the best position in the low 32 bits.
+     */
+    private long scan(final int[] bucket, final long state, final ServerWebExchange exchange) {
+        long result = state;
+        for (int index : bucket) {
+            if (!unconditional[index] && !matchConditions(customStrategies[index], matchModes[index], conditions[index], exchange)) {
+                continue;
+            }
+            int best = (int) result;
+            if (best < 0 || isBetter(index, best)) {
+                best = index;
+            }
+            result = (((result >>> 32) + 1) << 32) | (best & NO_MATCH);
+        }
+        return result;
+    }
+
+    private boolean isBetter(final int index, final int best) {
+        if (scores[index] != scores[best]) {
+            return scores[index] > scores[best];
+        }
+        if (sorts[index] != sorts[best]) {
+            return sorts[index] < sorts[best];
+        }
+        return index < best;
+    }
+
+    private static boolean matchConditions(final MatchStrategy customStrategy, final Integer matchMode,
+                                           final List<ConditionData> conditionList, final ServerWebExchange exchange) {
+        if (Objects.nonNull(customStrategy)) {
+            return customStrategy.match(conditionList, exchange);
+        }
+        boolean or = isOrMode(matchMode);
+        for (int i = 0; i < conditionList.size(); i++) {
+            ConditionData condition = conditionList.get(i);
+            boolean pass = PredicateJudgeFactory.judge(condition, ParameterDataFactory.builderData(condition.getParamType(), condition.getParamName(), exchange));
+            if (or == pass) {
+                return or;
+            }
+        }
+        return !or;
+    }
+
+    /**
+     * The extension serving the match mode, null when it is the built-in {@code and} or {@code or} strategy.
+     */
+    private static MatchStrategy customStrategy(final Integer matchMode) {
+        if (Objects.isNull(matchMode)) {
+            return null;
+        }
+        MatchStrategy strategy = MatchStrategyFactory.newInstance(matchMode);
+        if (Objects.isNull(strategy) || strategy.getClass() == AndMatchStrategy.class || strategy.getClass() == OrMatchStrategy.class) {
+            return null;
+        }
+        return strategy;
+    }
+
+    private static boolean isOrMode(final Integer matchMode) {
+        return MatchModeEnum.match(matchMode, MatchModeEnum.OR);
+    }
+
+    private static int score(final Integer matchMode, final List<ConditionData> conditionList) {
+        return MatchModeEnum.match(matchMode, MatchModeEnum.AND) ? conditionList.size() : 0;
+    }
+
+    private static ConditionData selectIndexKey(final List<ConditionData> conditionList) {
+        ConditionData key = null;
+        int keyRank = 0;
+        for (ConditionData condition : conditionList) {
+            int rank = rank(condition);
+            if (rank > keyRank || (rank == RANK_URI_PREFIX && keyRank == RANK_URI_PREFIX
+                    && literalPrefix(condition).length() > literalPrefix(key).length())) {
+                key = condition;
+                keyRank = rank;
+            }
+        }
+        return key;
+    }
+
+    private static int rank(final ConditionData condition) {
+        if (Objects.isNull(condition) || Objects.isNull(condition.getParamValue()) || Objects.isNull(condition.getParamType())) {
+            return 0;
+        }
+        String paramType = condition.getParamType();
+        boolean equals = OperatorEnum.EQ.getAlias().equals(condition.getOperator());
+        if (ParamTypeEnum.URI.getName().equals(paramType)) {
+            if (equals) {
+                return RANK_URI;
+            }
+            return literalPrefix(condition).isEmpty() ? 0 : RANK_URI_PREFIX;
+        }
+        if (!equals) {
+            return 0;
+        }
+        if (ParamTypeEnum.HEADER.getName().equals(paramType)) {
+            return Objects.isNull(condition.getParamName()) ? 0 : RANK_HEADER;
+        }
+        if (ParamTypeEnum.DOMAIN.getName().equals(paramType)) {
+            return RANK_DOMAIN;
+        }
+        if (ParamTypeEnum.REQUEST_METHOD.getName().equals(paramType)) {
+            return RANK_METHOD;
+        }
+        if (ParamTypeEnum.HOST.getName().equals(paramType)) {
+            return RANK_HOST;
+        }
+        return 0;
+    }
+
+    /**
+     * The literal prefix every path matched by the uri condition must start with, empty when unknown.
+     */
+    private static String literalPrefix(final ConditionData condition) {
+        String value = condition.getParamValue().trim();
+        String operator = condition.getOperator();
+        if (OperatorEnum.STARTS_WITH.getAlias().equals(operator)) {
+            return value;
+        }
+        if (!OperatorEnum.PATH_PATTERN.getAlias().equals(operator) && !OperatorEnum.MATCH.getAlias().equals(operator)) {
+            return "";
+        }
+        if (!value.startsWith("/") || value.indexOf('%') >= 0) {
+            return "";
+        }
+        int end = 0;
+        while (end < value.length() && "*?{".indexOf(value.charAt(end)) < 0) {
+            end++;
+        }
+        // the pattern also matches the path without the trailing separator, such as /http/** and /http
+        return value.substring(0, value.lastIndexOf('/', end));
+    }
+
+    private static int[] lookup(final Map<String, int[]> index, final String value) {
+        if (Objects.isNull(value)) {
+            return EMPTY_BUCKET;
+        }
+        return index.getOrDefault(value, EMPTY_BUCKET);
+    }
+
+    private static Map<String, int[]> freeze(final Map<String, List<Integer>> map) {
+        Map<String, int[]> result = new HashMap<>(map.size());
+        map.forEach((key, value) -> result.put(key, toBucket(value)));
+        return result;
+    }
+
+    private static int[] toBucket(final List<Integer> list) {
+        return list.isEmpty() ? EMPTY_BUCKET : list.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static final class Candidate {
+
+        private final boolean enabled;
+
+        private final boolean unconditional;
+
+        private final Integer matchMode;
+
+        private final List<ConditionData> conditions;
+
+        private final Integer sort;
+
+        Candidate(final boolean enabled, final boolean unconditional, final Integer matchMode,
+                  final List<ConditionData> conditions, final Integer sort) {
+            this.enabled = enabled;
+            this.unconditional = unconditional;
+            this.matchMode = matchMode;
+            this.conditions = conditions;
+            this.sort = sort;
+        }
+    }
+
+    /**
+     * Immutable char trie of uri prefixes, children are kept in sorted arrays for binary search.
+     */
+    private static final class PrefixNode {
+
+        private final char[] keys;
+
+        private final PrefixNode[] children;
+
+        private final int[] bucket;
+
+        PrefixNode(final char[] keys, final PrefixNode[] children, final int[] bucket) {
+            this.keys = keys;
+            this.children = children;
+            this.bucket = bucket;
+        }
+
+        boolean hasChildren() {
+            return keys.length > 0;
+        }
+
+        PrefixNode child(final char key) {
+            int low = 0;
+            int high = keys.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (keys[mid] < key) {
+                    low = mid + 1;
+                } else if (keys[mid] > key) {
+                    high = mid - 1;
+                } else {
+                    return children[mid];
+                }
+            }
+            return null;
+        }
+    }
+
+    private static final class PrefixNodeBuilder {
+
+        private final SortedMap<Character, PrefixNodeBuilder> children = new TreeMap<>();
+
+        private final List<Integer> bucket = new ArrayList<>();
+
+        void add(final String prefix, final int index) {
+            PrefixNodeBuilder node = this;
+            for (int i = 0; i < prefix.length(); i++) {
+                node = node.children.computeIfAbsent(prefix.charAt(i), k -> new PrefixNodeBuilder());
+            }
+            node.bucket.add(index);
+        }
+
+        PrefixNode build() {
+            char[] keys = new char[children.size()];
+            PrefixNode[] nodes = new PrefixNode[children.size()];
+            int i = 0;
+            for (Map.Entry<Character, PrefixNodeBuilder> entry : children.entrySet()) {
+                keys[i] = entry.getKey();
+                nodes[i] = entry.getValue().build();
+                i++;
+            }
+            return new PrefixNode(keys, nodes, toBucket(bucket));
+        }
+    }
+}
@@ -0,0 +1,259 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.profile;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The profile of a plugin, collected from the sampled requests.
+ */
+public final class PluginProfile {
+
+    private final String pluginName;
+
+    private final LongAdder executed = new LongAdder();
+
+    private final LongAdder skipped = new LongAdder();
+
+    private final LongAdder syncNanos = new LongAdder();
+
+    private final LongAdder completionNanos = new LongAdder();
+
+    private final LongAdder selectorCacheHits = new LongAdder();
+
+    private final LongAdder selectorMatches = new LongAdder();
+
+    private final LongAdder ruleCacheHits = new LongAdder();
+
+    private final LongAdder ruleTrieHits = new LongAdder();
+
+    private final LongAdder ruleMatches = new LongAdder();
+
+    /**
+     * Instantiates a new plugin profile.
+     *
+     * @param pluginName the plugin name
+     */
+    public PluginProfile(final String pluginName) {
+        this.pluginName = pluginName;
+    }
+
+    /**
+     * Record an execution.
+     *
+     * @param nanos the nanos spent in {@code execute} before it returns
+     */
+    public void recordExecute(final long nanos) {
+        executed.increment();
+        syncNanos.add(nanos);
+    }
+
+    /**
+     * Record the completion of an execution.
+     *
+     * @param nanos the nanos from {@code execute} being called until the returned mono terminates
+     */
+    public void recordCompletion(final long nanos) {
+        completionNanos.add(nanos);
+    }
+
+    /**
+     * Record a skip.
+     */
+    public void recordSkip() {
+        skipped.increment();
+    }
+
+    /**
+     * Record how the selector is matched.
+     *
+     * @param source the match source
+     */
+    public void recordSelectorMatch(final MatchSource source) {
+        if (source == MatchSource.CACHE) {
+            selectorCacheHits.increment();
+        } else {
+            selectorMatches.increment();
+        }
+    }
+
+    /**
+     * Record how the rule is matched.
+     *
+     * @param source the match source
+     */
+    public void recordRuleMatch(final MatchSource source) {
+        switch (source) {
+            case CACHE:
+                ruleCacheHits.increment();
+                break;
+            case TRIE:
+                ruleTrieHits.increment();
+                break;
+            default:
+                ruleMatches.increment();
+                break;
+        }
+    }
+
+    /**
+     * Gets plugin name.
+     *
+     * @return the plugin name
+     */
+    public String getPluginName() {
+        return pluginName;
+    }
+
+    /**
+     * Gets the count of the sampled executions.
+     *
+     * @return the executed count
+     */
+    public long getExecuted() {
+        return executed.sum();
+    }
+
+    /**
+     * Gets the count of the sampled skips.
+     *
+     * @return the skipped count
+     */
+    public long getSkipped() {
+        return skipped.sum();
+    }
+
+    /**
+     * Gets skip rate.
+     *
+     * @return the skip rate
+     */
+    public double getSkipRate() {
+        return rate(getSkipped(), getSkipped() + getExecuted());
+    }
+
+    /**
+     * Gets the average nanos spent in {@code execute} before it returns.
+     *
+     * @return the average nanos
+     */
+    public long getAvgSyncNanos() {
+        return average(syncNanos.sum(), getExecuted());
+    }
+
+    /**
+     * Gets the average nanos until the mono returned by {@code execute} terminates, including the following plugins.
+     *
+     * @return the average nanos
+     */
+    public long getAvgCompletionNanos() {
+        return average(completionNanos.sum(), getExecuted());
+    }
+
+    /**
+     * Gets selector cache hits.
+     *
+     * @return the selector cache hits
+     */
+    public long getSelectorCacheHits() {
+        return selectorCacheHits.sum();
+    }
+
+    /**
+     * Gets selector full matches.
+     *
+     * @return the selector matches
+     */
+    public long getSelectorMatches() {
+        return selectorMatches.sum();
+    }
+
+    /**
+     * Gets selector cache hit rate.
+     *
+     * @return the selector cache hit rate
+     */
+    public double getSelectorCacheHitRate() {
+        return rate(getSelectorCacheHits(), getSelectorCacheHits() + getSelectorMatches());
+    }
+
+    /**
+     * Gets rule cache hits.
+     *
+     * @return the rule cache hits
+     */
+    public long getRuleCacheHits() {
+        return ruleCacheHits.sum();
+    }
+
+    /**
+     * Gets rule trie hits.
+     *
+     * @return the rule trie hits
+     */
+    public long getRuleTrieHits() {
+        return ruleTrieHits.sum();
+    }
+
+    /**
+     * Gets rule full matches.
+     *
+     * @return the rule matches
+     */
+    public long getRuleMatches() {
+        return ruleMatches.sum();
+    }
+
+    /**
+     * Gets rule cache hit rate, the trie hits are not counted as cache hits.
+     *
+     * @return the rule cache hit rate
+     */
+    public double getRuleCacheHitRate() {
+        return rate(getRuleCacheHits(), getRuleCacheHits() + getRuleTrieHits() + getRuleMatches());
+    }
+
+    private static double rate(final long count, final long total) {
+        return total == 0 ? 0d : (double) count / total;
+    }
+
+    private static long average(final long sum, final long count) {
+        return count == 0 ? 0L : sum / count;
+    }
+
+    /**
+     * How the selector or rule is matched.
+     */
+    public enum MatchSource {
+
+        /**
+         * Matched by the match data cache.
+         */
+        CACHE,
+
+        /**
+         * Matched by the trie.
+         */
+        TRIE,
+
+        /**
+         * Matched by the conditions.
+         */
+        MATCH
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.profile;
+
+import org.apache.shenyu.common.constant.Constants;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Profiles the plugins of one in every {@code sampleInterval} requests, it is disabled until enabled by the profiler config or the local endpoint.
+ */
+public final class PluginProfiler {
+
+    private static final PluginProfiler INSTANCE = new PluginProfiler();
+
+    /**
+     * pluginName -> profile.
+     */
+    private static final ConcurrentMap<String, PluginProfile> PROFILE_MAP = new ConcurrentHashMap<>();
+
+    private volatile boolean enabled;
+
+    private volatile int sampleInterval = 100;
+
+    private PluginProfiler() {
+    }
+
+    /**
+     * Gets instance.
+     *
+     * @return the instance
+     */
+    public static PluginProfiler getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Enable the profiler.
+     *
+     * @param sampleInterval profile one in every sampleInterval requests
+     */
+    public void enable(final int sampleInterval) {
+        this.sampleInterval = Math.max(1, sampleInterval);
+        this.enabled = true;
+    }
+
+    /**
+     * Disable the profiler, the collected profiles are kept.
+     */
+    public void disable() {
+        this.enabled = false;
+    }
+
+    /**
+     * Clear the collected profiles.
+     */
+    public void reset() {
+        PROFILE_MAP.clear();
+    }
+
+    /**
+     * Whether the profiler is enabled.
+     *
+     * @return true if enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Gets sample interval.
+     *
+     * @return the sample interval
+     */
+    public int getSampleInterval() {
+        return sampleInterval;
+    }
+
+    /**
+     * Decide whether the request is profiled, the profiled requests are marked in the exchange attributes.
+     *
+     * @param exchange the exchange
+     * @return true if the request is profiled
+     */
+    public boolean sample(final ServerWebExchange exchange) {
+        if (!enabled || ThreadLocalRandom.current().nextInt(sampleInterval) != 0) {
+            return false;
+        }
+        exchange.getAttributes().put(Constants.PLUGIN_PROFILED, Boolean.TRUE);
+        return true;
+    }
+
+    /**
+     * Obtain the profile of the plugin if the request is profiled.
+     *
+     * @param exchange   the exchange
+     * @param pluginName the plugin name
+     * @return the profile, null if the request is not profiled
+     */
+    public PluginProfile obtainProfile(final ServerWebExchange exchange, final String pluginName) {
+        if (!enabled || Objects.isNull(exchange.getAttribute(Constants.PLUGIN_PROFILED))) {
+            return null;
+        }
+        return obtainProfile(pluginName);
+    }
+
+    /**
+     * Obtain the profile of the plugin.
+     *
+     * @param pluginName the plugin name
+     * @return the profile
+     */
+    public PluginProfile obtainProfile(final String pluginName) {
+        return PROFILE_MAP.computeIfAbsent(pluginName, PluginProfile::new);
+    }
+
+    /**
+     * Execute the plugin and record the time spent in execute and until the returned mono terminates.
+     *
+     * @param pluginName the plugin name
+     * @param execution  the execution of the plugin
+     * @return the mono returned by the plugin
+     */
+    public Mono<Void> execute(final String pluginName, final Supplier<Mono<Void>> execution) {
+        final PluginProfile profile = obtainProfile(pluginName);
+        final long start = System.nanoTime();
+        Mono<Void> result = execution.get();
+        profile.recordExecute(System.nanoTime() - start);
+        return result.doFinally(signal -> profile.recordCompletion(System.nanoTime() - start));
+    }
+
+    /**
+     * Gets the profiles sorted by the plugin name.
+     *
+     * @return the profiles
+     */
+    public Map<String, PluginProfile> getProfiles() {
+        return new TreeMap<>(PROFILE_MAP);
+    }
+}
@@ -0,0 +1,466 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.trie;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.enums.TrieMatchModeEvent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The lock-free {@linkplain RuleTrie}.
+ *
+ * <p>The nodes are immutable, an update copies the nodes on the updated path and publishes the new root,
+ * the other nodes are shared with the previous version. Matching scans the raw path by index and looks up
+ * the child maps by region, so it neither splits the path nor takes a lock nor allocates.
+ * Every path variable of one level shares a single node, because the variable name does not take part in matching.
+ * Like {@linkplain ShenyuTrie}, a * or ** segment is put as a wildcard in pathPattern mode,
+ * but only at the end of the path in antPathMatch mode, elsewhere it is put as a plain segment.</p>
+ */
+public class LockFreeShenyuTrie implements RuleTrie {
+
+    private static final String WILDCARD = "*";
+
+    private static final String MATCH_ALL = "**";
+
+    private static final Comparator<RuleData> RULE_COMPARATOR = Comparator.comparing(RuleData::getSort, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final Object writeLock = new Object();
+
+    /**
+     * the same segment of different paths share one string, guarded by the write lock.
+     */
+    private final Map<String, String> segmentPool = new HashMap<>();
+
+    /**
+     * the mode includes antPathMatch and pathPattern, please see {@linkplain TrieMatchModeEvent}.
+     */
+    private final String matchMode;
+
+    private volatile Node root = Node.empty("/");
+
+    public LockFreeShenyuTrie(final String matchMode) {
+        this.matchMode = matchMode;
+    }
+
+    @Override
+    public void clear() {
+        synchronized (writeLock) {
+            segmentPool.clear();
+            root = Node.empty("/");
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return root.isEmpty();
+    }
+
+    @Override
+    public void putNode(final String uriPath, final RuleData ruleData, final Object bizInfo) {
+        if (StringUtils.isBlank(uriPath)) {
+            return;
+        }
+        String[] segments = StringUtils.split(StringUtils.strip(uriPath, "/"), "/");
+        if (segments.length == 0) {
+            return;
+        }
+        synchronized (writeLock) {
+            for (int i = 0; i < segments.length; i++) {
+                segments[i] = segmentPool.computeIfAbsent(segments[i], segment -> segment);
+            }
+            root = insert(root, segments, 0, uriPath, ruleData, bizInfo);
+        }
+    }
+
+    @Override
+    public ShenyuTrieNode match(final String uriPath, final String selectorId) {
+        Node node = matchNode(uriPath, selectorId);
+        return Objects.isNull(node) ? null : node.toTrieNode();
+    }
+
+    @Override
+    public List<RuleData> matchRules(final String uriPath, final String selectorId) {
+        Node node = matchNode(uriPath, selectorId);
+        return Objects.isNull(node) ? null : node.rules.get(selectorId);
+    }
+
+    @Override
+    public void remove(final String path, final RuleData ruleData) {
+        if (StringUtils.isBlank(path)) {
+            return;
+        }
+        String[] segments = StringUtils.split(StringUtils.strip(path, "/"), "/");
+        if (segments.length == 0) {
+            return;
+        }
+        synchronized (writeLock) {
+            Node removed = delete(root, segments, 0, ruleData);
+            root = Objects.isNull(removed) ? Node.empty("/") : removed;
+        }
+    }
+
+    @Override
+    public ShenyuTrieNode getNode(final String uriPath) {
+        if (StringUtils.isBlank(uriPath)) {
+            return null;
+        }
+        String[] segments = StringUtils.split(StringUtils.strip(uriPath, "/"), "/");
+        if (segments.length == 0) {
+            return null;
+        }
+        Node node = root;
+        for (String segment : segments) {
+            node = node.child(segment);
+            if (Objects.isNull(node)) {
+                return null;
+            }
+        }
+        return node.toTrieNode();
+    }
+
+    /**
+     * match node, the priority of children is path &gt; * &gt; ** &gt; path variable.
+     *
+     * @param uriPath uri path
+     * @param selectorId selector id
+     * @return the node has the rules of the selector
+     */
+    private Node matchNode(final String uriPath, final String selectorId) {
+        Objects.requireNonNull(selectorId);
+        if (StringUtils.isEmpty(uriPath)) {
+            return null;
+        }
+        final int length = uriPath.length();
+        int start = skipSlash(uriPath, 0, length);
+        Node node = root;
+        while (start < length) {
+            int end = uriPath.indexOf('/', start);
+            if (end < 0) {
+                end = length;
+            }
+            node = node.match(uriPath, start, end);
+            if (Objects.isNull(node)) {
+                return null;
+            }
+            start = skipSlash(uriPath, end, length);
+            boolean endPath = start >= length;
+            if ((endPath || (node.matchAll && node.isEndOfPath())) && node.rules.containsKey(selectorId)) {
+                return node;
+            }
+        }
+        return null;
+    }
+
+    private static int skipSlash(final String path, final int from, final int length) {
+        int index = from;
+        while (index < length && path.charAt(index) == '/') {
+            index++;
+        }
+        return index;
+    }
+
+    private Node insert(final Node node, final String[] segments, final int index,
+                        final String fullPath, final RuleData ruleData, final Object bizInfo) {
+        if (index == segments.length) {
+            return node.withRule(fullPath, ruleData, bizInfo);
+        }
+        String segment = segments[index];
+        Node child = node.child(segment);
+        if (Objects.isNull(child)) {
+            child = Node.empty(segment);
+        }
+        if (isWildcard(segment, index == segments.length - 1)) {
+            child = child.asWildcard();
+        }
+        return node.withChild(segment, insert(child, segments, index + 1, fullPath, ruleData, bizInfo));
+    }
+
+    /**
+     * whether the segment is put as a wildcard, the same as {@linkplain ShenyuTrie} does.
+     *
+     * @param segment the segment
+     * @param endOfPath whether the segment is the last one of the path
+     * @return true if the segment is put as a wildcard
+     */
+    private boolean isWildcard(final String segment, final boolean endOfPath) {
+        if (!WILDCARD.equals(segment) && !MATCH_ALL.equals(segment)) {
+            return false;
+        }
+        if (TrieMatchModeEvent.PATH_PATTERN.getMatchMode().equals(matchMode)) {
+            return true;
+        }
+        return TrieMatchModeEvent.ANT_PATH_MATCH.getMatchMode().equals(matchMode) && endOfPath;
+    }
+
+    private static Node delete(final Node node, final String[] segments, final int index, final RuleData ruleData) {
+        Node result;
+        if (index == segments.length) {
+            result = node.withoutRule(ruleData);
+        } else {
+            String segment = segments[index];
+            Node child = node.child(segment);
+            if (Objects.isNull(child)) {
+                return node;
+            }
+            Node removed = delete(child, segments, index + 1, ruleData);
+            result = removed == child ? node : node.withChild(segment, removed);
+        }
+        // prune the node which has neither rules nor children
+        return result.isEmpty() ? null : result;
+    }
+
+    private static boolean isPathVariable(final String segment) {
+        return segment.startsWith("{") && segment.endsWith("}");
+    }
+
+    /**
+     * The immutable trie node.
+     */
+    private static final class Node {
+
+        private final String matchStr;
+
+        /**
+         * plain children, the writers copy it, the readers use the open addressing table below.
+         */
+        private final Map<String, Node> children;
+
+        private final String[] childKeys;
+
+        private final Node[] childNodes;
+
+        private final Node wildcardChild;
+
+        private final Node matchAllChild;
+
+        private final Node pathVariableChild;
+
+        private final boolean matchAll;
+
+        /**
+         * whether the * or ** segment is put as a wildcard, it is never reset like {@linkplain ShenyuTrieNode#getWildcard()}.
+         */
+        private final boolean wildcard;
+
+        /**
+         * selectorId mapping to the rules sorted by sort.
+         */
+        private final Map<String, List<RuleData>> rules;
+
+        private final String fullPath;
+
+        private final Object bizInfo;
+
+        private volatile ShenyuTrieNode trieNode;
+
+        private Node(final String matchStr, final boolean wildcard, final Map<String, Node> children, final Node wildcardChild, final Node matchAllChild,
+                     final Node pathVariableChild, final Map<String, List<RuleData>> rules, final String fullPath, final Object bizInfo) {
+            this.matchStr = matchStr;
+            this.wildcard = wildcard;
+            this.children = children;
+            this.wildcardChild = wildcardChild;
+            this.matchAllChild = matchAllChild;
+            this.pathVariableChild = pathVariableChild;
+            this.matchAll = MATCH_ALL.equals(matchStr);
+            this.rules = rules;
+            this.fullPath = fullPath;
+            this.bizInfo = bizInfo;
+            if (children.isEmpty()) {
+                this.childKeys = null;
+                this.childNodes = null;
+            } else {
+                int capacity = Integer.highestOneBit(children.size() * 2 - 1) << 1;
+                String[] keys = new String[capacity];
+                Node[] nodes = new Node[capacity];
+                int mask = capacity - 1;
+                children.forEach((key, value) -> {
+                    int slot = spread(key.hashCode()) & mask;
+                    while (Objects.nonNull(keys[slot])) {
+                        slot = (slot + 1) & mask;
+                    }
+                    keys[slot] = key;
+                    nodes[slot] = value;
+                });
+                this.childKeys = keys;
+                this.childNodes = nodes;
+            }
+        }
+
+        static Node empty(final String matchStr) {
+            return new Node(matchStr, false, Collections.emptyMap(), null, null, null, Collections.emptyMap(), null, null);
+        }
+
+        /**
+         * find the child which matches the path region.
+         *
+         * @param path the path
+         * @param start the start of the segment
+         * @param end the end of the segment
+         * @return the child
+         */
+        Node match(final String path, final int start, final int end) {
+            if (Objects.nonNull(childKeys)) {
+                int hash = 0;
+                for (int i = start; i < end; i++) {
+                    hash = 31 * hash + path.charAt(i);
+                }
+                int mask = childKeys.length - 1;
+                int length = end - start;
+                for (int slot = spread(hash) & mask; Objects.nonNull(childKeys[slot]); slot = (slot + 1) & mask) {
+                    String key = childKeys[slot];
+                    if (key.length() == length && path.regionMatches(start, key, 0, length)) {
+                        return childNodes[slot];
+                    }
+                }
+            }
+            if (Objects.nonNull(wildcardChild)) {
+                return wildcardChild;
+            }
+            if (Objects.nonNull(matchAllChild)) {
+                return matchAllChild;
+            }
+            return pathVariableChild;
+        }
+
+        /**
+         * get the child of the segment as it is put.
+         *
+         * @param segment the segment
+         * @return the child
+         */
+        Node child(final String segment) {
+            if (WILDCARD.equals(segment)) {
+                return wildcardChild;
+            }
+            if (MATCH_ALL.equals(segment)) {
+                return matchAllChild;
+            }
+            if (isPathVariable(segment)) {
+                return pathVariableChild;
+            }
+            return children.get(segment);
+        }
+
+        Node withChild(final String segment, final Node child) {
+            if (WILDCARD.equals(segment)) {
+                return new Node(matchStr, wildcard, children, child, matchAllChild, pathVariableChild, rules, fullPath, bizInfo);
+            }
+            if (MATCH_ALL.equals(segment)) {
+                return new Node(matchStr, wildcard, children, wildcardChild, child, pathVariableChild, rules, fullPath, bizInfo);
+            }
+            if (isPathVariable(segment)) {
+                return new Node(matchStr, wildcard, children, wildcardChild, matchAllChild, child, rules, fullPath, bizInfo);
+            }
+            Map<String, Node> newChildren = new HashMap<>(children);
+            if (Objects.isNull(child)) {
+                newChildren.remove(segment);
+            } else {
+                newChildren.put(segment, child);
+            }
+            return new Node(matchStr, wildcard, newChildren.isEmpty() ? Collections.emptyMap() : Collections.unmodifiableMap(newChildren),
+                    wildcardChild, matchAllChild, pathVariableChild, rules, fullPath, bizInfo);
+        }
+
+        Node asWildcard() {
+            return wildcard ? this : new Node(matchStr, true, children, wildcardChild, matchAllChild, pathVariableChild, rules, fullPath, bizInfo);
+        }
+
+        Node withRule(final String path, final RuleData ruleData, final Object info) {
+            List<RuleData> ruleDataList = new ArrayList<>(rules.getOrDefault(ruleData.getSelectorId(), Collections.emptyList()));
+            ruleDataList.removeIf(rule -> Objects.equals(rule.getId(), ruleData.getId()));
+            ruleDataList.add(ruleData);
+            ruleDataList.sort(RULE_COMPARATOR);
+            Map<String, List<RuleData>> newRules = new HashMap<>(rules);
+            newRules.put(ruleData.getSelectorId(), Collections.unmodifiableList(ruleDataList));
+            return new Node(matchStr, wildcard, children, wildcardChild, matchAllChild, pathVariableChild,
+                    Collections.unmodifiableMap(newRules), path, info);
+        }
+
+        Node withoutRule(final RuleData ruleData) {
+            List<RuleData> ruleDataList = rules.get(ruleData.getSelectorId());
+            if (Objects.isNull(ruleDataList)) {
+                return this;
+            }
+            List<RuleData> newRuleDataList = new ArrayList<>(ruleDataList);
+            if (!newRuleDataList.removeIf(rule -> Objects.equals(rule.getId(), ruleData.getId()))) {
+                return this;
+            }
+            Map<String, List<RuleData>> newRules = new HashMap<>(rules);
+            if (newRuleDataList.isEmpty()) {
+                newRules.remove(ruleData.getSelectorId());
+            } else {
+                newRules.put(ruleData.getSelectorId(), Collections.unmodifiableList(newRuleDataList));
+            }
+            if (newRules.isEmpty()) {
+                return new Node(matchStr, wildcard, children, wildcardChild, matchAllChild, pathVariableChild, Collections.emptyMap(), null, null);
+            }
+            return new Node(matchStr, wildcard, children, wildcardChild, matchAllChild, pathVariableChild,
+                    Collections.unmodifiableMap(newRules), fullPath, bizInfo);
+        }
+
+        /**
+         * a node is the end of a path when a rule is put on it, or when it is put as a wildcard like {@linkplain ShenyuTrie} does.
+         *
+         * @return true if end of path
+         */
+        boolean isEndOfPath() {
+            return wildcard || !rules.isEmpty();
+        }
+
+        boolean isEmpty() {
+            return rules.isEmpty() && children.isEmpty()
+                    && Objects.isNull(wildcardChild) && Objects.isNull(matchAllChild) && Objects.isNull(pathVariableChild);
+        }
+
+        /**
+         * the detached {@linkplain ShenyuTrieNode} of this node, it is built once for every version of the node.
+         *
+         * @return the trie node
+         */
+        ShenyuTrieNode toTrieNode() {
+            ShenyuTrieNode node = trieNode;
+            if (Objects.isNull(node)) {
+                node = new ShenyuTrieNode();
+                node.setMatchStr(matchStr);
+                node.setFullPath(fullPath);
+                node.setEndOfPath(isEndOfPath());
+                node.setWildcard(wildcard && WILDCARD.equals(matchStr));
+                node.setBizInfo(bizInfo);
+                Cache<String, List<RuleData>> pathRuleCache = Caffeine.newBuilder().build();
+                pathRuleCache.putAll(rules);
+                node.setPathRuleCache(pathRuleCache);
+                trieNode = node;
+            }
+            return node;
+        }
+
+        private static int spread(final int hash) {
+            return hash ^ (hash >>> 16);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.trie;
+
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.shenyu.common.dto.RuleData;
+
+import java.util.List;
+
+/**
+ * The trie of the uri paths of the rules, the rules of a selector are matched by the request path.
+ */
+public interface RuleTrie {
+
+    /**
+     * clear the trie.
+     */
+    void clear();
+
+    /**
+     * judge the trie is empty.
+     *
+     * @return status
+     */
+    boolean isEmpty();
+
+    /**
+     * put node to trie.
+     *
+     * @param uriPaths uri path
+     * @param ruleData rule data
+     * @param bizInfo biz info
+     */
+    default void putNode(final List<String> uriPaths, final RuleData ruleData, final Object bizInfo) {
+        if (CollectionUtils.isNotEmpty(uriPaths)) {
+            uriPaths.forEach(path -> putNode(path, ruleData, bizInfo));
+        }
+    }
+
+    /**
+     * put node to trie.
+     *
+     * @param uriPath uri path
+     * @param ruleData rule data
+     * @param bizInfo biz info
+     */
+    void putNode(String uriPath, RuleData ruleData, Object bizInfo);
+
+    /**
+     * match trie, trie exist and match the path will return current node.
+     *
+     * @param uriPath uri path
+     * @param selectorId selectorId
+     * @return {@linkplain ShenyuTrieNode}
+     */
+    ShenyuTrieNode match(String uriPath, String selectorId);
+
+    /**
+     * match trie, trie exist and match the path will return the rules of the selector.
+     *
+     * @param uriPath uri path
+     * @param selectorId selectorId
+     * @return the rules of the selector, null when not matched
+     */
+    List<RuleData> matchRules(String uriPath, String selectorId);
+
+    /**
+     * remove the rule from the nodes of the paths.
+     *
+     * @param paths paths
+     * @param ruleData ruleData
+     */
+    default void remove(final List<String> paths, final RuleData ruleData) {
+        if (CollectionUtils.isNotEmpty(paths)) {
+            paths.forEach(path -> remove(path, ruleData));
+        }
+    }
+
+    /**
+     * remove the rule from the node of the path.
+     *
+     * @param path path
+     * @param ruleData ruleData
+     */
+    void remove(String path, RuleData ruleData);
+
+    /**
+     * get node from trie.
+     *
+     * @param uriPath uri path
+     * @return {@linkplain ShenyuTrieNode}
+     */
+    ShenyuTrieNode getNode(String uriPath);
+}
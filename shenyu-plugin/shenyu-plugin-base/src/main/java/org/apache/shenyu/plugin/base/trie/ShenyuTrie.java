@@ -30,7 +30,7 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 
-public class ShenyuTrie {
+public class ShenyuTrie implements RuleTrie {
 
     private static final String WILDCARD = "*";
 
@@ -61,6 +61,7 @@ public class ShenyuTrie {
     /**
      * clear the trie.
      */
+    @Override
     public void clear() {
         cleanup(this.root.getChildren());
         cleanup(this.root.getPathRuleCache());
@@ -73,6 +74,7 @@ public class ShenyuTrie {
      *
      * @return status
      */
+    @Override
     public boolean isEmpty() {
         return this.root.getChildren().estimatedSize() == 0
                 && this.root.getPathVariablesSet().estimatedSize() == 0
@@ -86,6 +88,7 @@ public class ShenyuTrie {
      * @param ruleData rule data
      * @param bizInfo biz info
      */
+    @Override
     public void putNode(final List<String> uriPaths, final RuleData ruleData, final Object bizInfo) {
         if (CollectionUtils.isNotEmpty(uriPaths)) {
             uriPaths.forEach(path -> putNode(path, ruleData, bizInfo));
@@ -99,6 +102,7 @@ public class ShenyuTrie {
      * @param ruleData rule data
      * @param bizInfo biz info
      */
+    @Override
     public void putNode(final String uriPath, final RuleData ruleData, final Object bizInfo) {
         if (StringUtils.isNotBlank(uriPath)) {
             String strippedPath = StringUtils.strip(uriPath, "/");
@@ -216,6 +220,7 @@ public class ShenyuTrie {
      * @param selectorId selectorId
      * @return {@linkplain ShenyuTrieNode}
      */
+    @Override
     public ShenyuTrieNode match(final String uriPath, final String selectorId) {
         Objects.requireNonNull(selectorId);
         if (!StringUtils.isEmpty(uriPath)) {
@@ -247,6 +252,19 @@ public class ShenyuTrie {
         return null;
     }
     
+    /**
+     * match trie, trie exist and match the path will return the rules of the selector.
+     *
+     * @param uriPath uri path
+     * @param selectorId selectorId
+     * @return the rules of the selector, null when not matched
+     */
+    @Override
+    public List<RuleData> matchRules(final String uriPath, final String selectorId) {
+        ShenyuTrieNode node = match(uriPath, selectorId);
+        return Objects.isNull(node) ? null : getVal(node.getPathRuleCache(), selectorId);
+    }
+
     /**
      * match node.
      * <p> priority: path > * > ** > pathVariableNode </p>
@@ -287,6 +305,7 @@ public class ShenyuTrie {
      * @param paths paths
      * @param ruleData ruleData
      */
+    @Override
     public void remove(final List<String> paths, final RuleData ruleData) {
         if (CollectionUtils.isNotEmpty(paths)) {
             paths.forEach(path -> remove(path, ruleData));
@@ -303,6 +322,7 @@ public class ShenyuTrie {
      * @param path path
      * @param ruleData ruleData
      */
+    @Override
     public void remove(final String path, final RuleData ruleData) {
         if (StringUtils.isNotBlank(path)) {
             String strippedPath = StringUtils.strip(path, "/");
@@ -340,6 +360,7 @@ public class ShenyuTrie {
      * @param uriPath uri path
      * @return {@linkplain ShenyuTrieNode}
      */
+    @Override
     public ShenyuTrieNode getNode(final String uriPath) {
         if (StringUtils.isNotBlank(uriPath)) {
             String strippedPath = StringUtils.strip(uriPath, "/");
@@ -48,7 +48,7 @@ public class ShenyuTrieRuleListener implements ApplicationListener<RuleTrieEvent
 
         if (CollectionUtils.isNotEmpty(filterConditions)) {
             List<String> uriPaths = filterConditions.stream().map(ConditionData::getParamValue).collect(Collectors.toList());
-            final ShenyuTrie shenyuTrie = SpringBeanUtils.getInstance().getBean(ShenyuTrie.class);
+            final RuleTrie shenyuTrie = SpringBeanUtils.getInstance().getBean(RuleTrie.class);
             switch (eventEnum) {
                 case INSERT:
                     shenyuTrie.putNode(uriPaths, ruleData, ruleData.getId());
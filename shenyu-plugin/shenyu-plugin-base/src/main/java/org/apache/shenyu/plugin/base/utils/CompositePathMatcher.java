@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.utils;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Match a path against many ant style patterns at once.
+ * Literal patterns are looked up in a set, {@code /literal/**} patterns are looked up by the
+ * prefixes of the path, and only the remaining patterns are matched one by one with {@link PathMatchUtils#match}.
+ */
+public final class CompositePathMatcher {
+
+    private static final String SEPARATOR = "/";
+
+    private static final String ANY_SUFFIX = "/**";
+
+    private final Set<String> exactPaths = new HashSet<>();
+
+    private final Set<String> prefixes = new HashSet<>();
+
+    private final List<String> patterns = new ArrayList<>();
+
+    private final List<String> allPatterns = new ArrayList<>();
+
+    private CompositePathMatcher(final Collection<String> sourcePatterns) {
+        for (String pattern : sourcePatterns) {
+            if (Objects.isNull(pattern)) {
+                continue;
+            }
+            allPatterns.add(pattern);
+            if (!pattern.startsWith(SEPARATOR)) {
+                patterns.add(pattern);
+            } else if (isLiteral(pattern)) {
+                exactPaths.add(pattern);
+            } else if (pattern.endsWith(ANY_SUFFIX) && isLiteral(pattern.substring(0, pattern.length() - ANY_SUFFIX.length()))) {
+                prefixes.add(pattern.substring(0, pattern.length() - ANY_SUFFIX.length()));
+            } else {
+                patterns.add(pattern);
+            }
+        }
+    }
+
+    /**
+     * Compile the patterns.
+     *
+     * @param patterns the ant style patterns
+     * @return the matcher
+     */
+    public static CompositePathMatcher compile(final Collection<String> patterns) {
+        return new CompositePathMatcher(patterns);
+    }
+
+    /**
+     * Whether any pattern matches the path, the same as matching the patterns one by one.
+     *
+     * @param path the path
+     * @return true if matched
+     */
+    public boolean match(final String path) {
+        if (Objects.isNull(path)) {
+            return false;
+        }
+        if (!path.startsWith(SEPARATOR) || path.contains("//")) {
+            // the ant matcher ignores empty segments, leave such paths to it
+            return allPatterns.stream().anyMatch(pattern -> PathMatchUtils.match(pattern, path));
+        }
+        if (exactPaths.contains(path) || matchPrefix(path)) {
+            return true;
+        }
+        for (String pattern : patterns) {
+            if (PathMatchUtils.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean matchPrefix(final String path) {
+        if (prefixes.isEmpty()) {
+            return false;
+        }
+        // "/**" matches every path, the other prefixes match themselves and everything below them
+        if (prefixes.contains(StringUtils.EMPTY) || prefixes.contains(path)) {
+            return true;
+        }
+        int index = path.indexOf(SEPARATOR, 1);
+        while (index > 0) {
+            if (prefixes.contains(path.substring(0, index))) {
+                return true;
+            }
+            index = path.indexOf(SEPARATOR, index + 1);
+        }
+        return false;
+    }
+
+    private static boolean isLiteral(final String pattern) {
+        return StringUtils.containsNone(pattern, '*', '?', '{', '}') && !pattern.contains("//");
+    }
+}
@@ -17,11 +17,20 @@
 
 package org.apache.shenyu.plugin.base.utils;
 
+import org.apache.shenyu.common.dto.ConditionData;
+import org.apache.shenyu.common.enums.OperatorEnum;
+import org.apache.shenyu.common.enums.ParamTypeEnum;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.server.PathContainer;
 import org.springframework.util.AntPathMatcher;
 import org.springframework.web.util.pattern.PathPattern;
 import org.springframework.web.util.pattern.PathPatternParser;
+import org.springframework.web.util.pattern.PatternParseException;
 
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -30,7 +39,16 @@ import java.util.regex.Pattern;
  */
 public class PathMatchUtils {
 
+    private static final Logger LOG = LoggerFactory.getLogger(PathMatchUtils.class);
+
     private static final AntPathMatcher MATCHER = new AntPathMatcher();
+
+    private static final int MAX_PATH_PATTERNS = 10000;
+
+    /**
+     * pattern -> parsed path pattern.
+     */
+    private static final Map<String, PathPattern> PATH_PATTERN_MAP = new ConcurrentHashMap<>();
     
     /**
      * replace url {id} to real param.
@@ -63,7 +81,42 @@ public class PathMatchUtils {
      * @return the boolean
      */
     public static boolean pathPattern(final String pathPattern, final String realPath) {
-        PathPattern pattern = PathPatternParser.defaultInstance.parse(pathPattern);
-        return pattern.matches(PathContainer.parsePath(realPath));
+        return compile(pathPattern).matches(PathContainer.parsePath(realPath));
+    }
+
+    /**
+     * Obtain the parsed path pattern, it is only parsed the first time.
+     *
+     * @param pathPattern the path pattern
+     * @return the parsed path pattern
+     */
+    public static PathPattern compile(final String pathPattern) {
+        PathPattern pattern = PATH_PATTERN_MAP.get(pathPattern);
+        if (Objects.isNull(pattern)) {
+            pattern = PathPatternParser.defaultInstance.parse(pathPattern);
+            if (PATH_PATTERN_MAP.size() >= MAX_PATH_PATTERNS) {
+                PATH_PATTERN_MAP.clear();
+            }
+            PATH_PATTERN_MAP.put(pathPattern, pattern);
+        }
+        return pattern;
+    }
+
+    /**
+     * Parse the path pattern of the condition ahead of the requests, when the condition data is synced.
+     *
+     * @param conditionData the condition data
+     */
+    public static void precompile(final ConditionData conditionData) {
+        if (!Objects.equals(ParamTypeEnum.URI.getName(), conditionData.getParamType())
+                || !Objects.equals(OperatorEnum.PATH_PATTERN.getAlias(), conditionData.getOperator())
+                || Objects.isNull(conditionData.getParamValue())) {
+            return;
+        }
+        try {
+            compile(conditionData.getParamValue().trim());
+        } catch (PatternParseException e) {
+            LOG.warn("invalid path pattern: {}", conditionData.getParamValue());
+        }
     }
 }
@@ -135,6 +135,22 @@ public final class BaseDataCacheTest {
         assertEquals(Lists.newArrayList(firstCachedSelectorData, secondCachedSelectorData), selectorMap.get(mockPluginName1));
     }
 
+    @Test
+    public void testCacheSelectDataList() throws NoSuchFieldException, IllegalAccessException {
+        SelectorData cachedSelectorData = SelectorData.builder().id("1").pluginName(mockPluginName1).sort(1).build();
+        ConcurrentHashMap<String, List<SelectorData>> selectorMap = getFieldByName(selectorMapStr);
+        selectorMap.put(mockPluginName1, Lists.newArrayList(cachedSelectorData));
+        selectorMap.remove(mockPluginName2);
+
+        SelectorData updatedSelectorData = SelectorData.builder().id("1").pluginName(mockPluginName1).sort(3).build();
+        SelectorData addedSelectorData = SelectorData.builder().id("2").pluginName(mockPluginName1).sort(2).build();
+        SelectorData otherSelectorData = SelectorData.builder().id("3").pluginName(mockPluginName2).sort(1).build();
+        BaseDataCache.getInstance().cacheSelectDataList(Lists.newArrayList(updatedSelectorData, addedSelectorData, otherSelectorData));
+        assertEquals(Lists.newArrayList(addedSelectorData, updatedSelectorData), selectorMap.get(mockPluginName1));
+        assertEquals(Lists.newArrayList(otherSelectorData), selectorMap.get(mockPluginName2));
+        BaseDataCache.getInstance().cleanSelectorData();
+    }
+
     @Test
     public void testRemoveSelectData() throws NoSuchFieldException, IllegalAccessException {
         SelectorData selectorData = SelectorData.builder().id("1").pluginName(mockPluginName1).build();
@@ -193,6 +209,22 @@ public final class BaseDataCacheTest {
         assertEquals(Lists.newArrayList(firstCachedRuleData, secondCachedRuleData), ruleMap.get(mockSelectorId1));
     }
 
+    @Test
+    public void testCacheRuleDataList() throws NoSuchFieldException, IllegalAccessException {
+        RuleData cachedRuleData = RuleData.builder().id("1").selectorId(mockSelectorId1).sort(1).build();
+        ConcurrentHashMap<String, List<RuleData>> ruleMap = getFieldByName(ruleMapStr);
+        ruleMap.put(mockSelectorId1, Lists.newArrayList(cachedRuleData));
+        ruleMap.remove(mockSelectorId2);
+
+        RuleData updatedRuleData = RuleData.builder().id("1").selectorId(mockSelectorId1).sort(3).build();
+        RuleData addedRuleData = RuleData.builder().id("2").selectorId(mockSelectorId1).sort(2).build();
+        RuleData otherRuleData = RuleData.builder().id("3").selectorId(mockSelectorId2).sort(1).build();
+        BaseDataCache.getInstance().cacheRuleDataList(Lists.newArrayList(updatedRuleData, addedRuleData, otherRuleData));
+        assertEquals(Lists.newArrayList(addedRuleData, updatedRuleData), ruleMap.get(mockSelectorId1));
+        assertEquals(Lists.newArrayList(otherRuleData), ruleMap.get(mockSelectorId2));
+        BaseDataCache.getInstance().cleanRuleData();
+    }
+
     @Test
     public void testRemoveRuleData() throws NoSuchFieldException, IllegalAccessException {
         RuleData ruleData = RuleData.builder().id("1").selectorId(mockSelectorId1).build();
@@ -24,6 +24,7 @@ import org.apache.shenyu.common.dto.SelectorData;
 import org.apache.shenyu.common.enums.TrieMatchModeEvent;
 import org.apache.shenyu.plugin.api.utils.SpringBeanUtils;
 import org.apache.shenyu.plugin.base.handler.PluginDataHandler;
+import org.apache.shenyu.plugin.base.trie.RuleTrie;
 import org.apache.shenyu.plugin.base.trie.ShenyuTrie;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -139,6 +140,16 @@ public final class CommonPluginDataSubscriberTest {
         assertEquals(Lists.newArrayList(selectorData), obtainSelectorData);
     }
 
+    @Test
+    public void testOnSelectorChunkSubscribe() {
+        baseDataCache.cleanSelectorData();
+
+        SelectorData firstSelectorData = SelectorData.builder().id("1").pluginName(mockPluginName1).sort(2).build();
+        SelectorData secondSelectorData = SelectorData.builder().id("2").pluginName(mockPluginName1).sort(1).build();
+        commonPluginDataSubscriber.onSelectorChunkSubscribe(Lists.newArrayList(firstSelectorData, secondSelectorData));
+        assertEquals(Lists.newArrayList(secondSelectorData, firstSelectorData), baseDataCache.obtainSelectorData(mockPluginName1));
+    }
+
     @Test
     public void testUnSelectorSubscribe() {
         baseDataCache.cleanSelectorData();
@@ -190,6 +201,16 @@ public final class CommonPluginDataSubscriberTest {
         assertEquals(Lists.newArrayList(ruleData), baseDataCache.obtainRuleData(ruleData.getSelectorId()));
     }
 
+    @Test
+    public void testOnRuleChunkSubscribe() {
+        baseDataCache.cleanRuleData();
+
+        RuleData firstRuleData = RuleData.builder().id("1").selectorId(mockSelectorId1).pluginName(mockPluginName1).sort(2).build();
+        RuleData secondRuleData = RuleData.builder().id("2").selectorId(mockSelectorId1).pluginName(mockPluginName1).sort(1).build();
+        commonPluginDataSubscriber.onRuleChunkSubscribe(Lists.newArrayList(firstRuleData, secondRuleData));
+        assertEquals(Lists.newArrayList(secondRuleData, firstRuleData), baseDataCache.obtainRuleData(mockSelectorId1));
+    }
+
     @Test
     public void testUnRuleSubscribe() {
         baseDataCache.cleanRuleData();
@@ -233,7 +254,7 @@ public final class CommonPluginDataSubscriberTest {
 
     private void mockShenyuTrieConfig() {
         ConfigurableApplicationContext context = mock(ConfigurableApplicationContext.class);
-        when(context.getBean(ShenyuTrie.class)).thenReturn(new ShenyuTrie(100L, 100L, 100L, TrieMatchModeEvent.ANT_PATH_MATCH.getMatchMode()));
+        when(context.getBean(RuleTrie.class)).thenReturn(new ShenyuTrie(100L, 100L, 100L, TrieMatchModeEvent.ANT_PATH_MATCH.getMatchMode()));
         SpringBeanUtils.getInstance().setApplicationContext(context);
     }
 }
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.condition.compiled;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.shenyu.common.dto.ConditionData;
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.SelectorData;
+import org.apache.shenyu.common.enums.SelectorTypeEnum;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test cases for CompiledMatcher.
+ */
+public final class CompiledMatcherTest {
+
+    @Test
+    public void testMatchSingleSelector() {
+        SelectorData order = selector("1", 1, 0, condition("uri", "match", "/http/order/**"));
+        SelectorData user = selector("2", 2, 0, condition("uri", "=", "/http/user/findById"));
+        SelectorData post = selector("3", 3, 0, condition("req_method", "=", "POST"));
+        CompiledMatcher<SelectorData> matcher = CompiledMatcher.compileSelectors(Arrays.asList(order, user, post));
+        Pair<Boolean, SelectorData> result = matcher.match(exchange("/http/order/findById"));
+        assertTrue(result.getLeft());
+        assertEquals(order, result.getRight());
+        result = matcher.match(exchange("/http/user/findById"));
+        assertTrue(result.getLeft());
+        assertEquals(user, result.getRight());
+        result = matcher.match(exchange("/http/order"));
+        assertEquals(order, result.getRight());
+    }
+
+    @Test
+    public void testNotMatch() {
+        SelectorData order = selector("1", 1, 0, condition("uri", "startsWith", "/http/order"));
+        SelectorData disabled = selector("2", 2, 0, condition("uri", "startsWith", "/http"));
+        disabled.setEnabled(false);
+        SelectorData empty = selector("3", 3, 0);
+        CompiledMatcher<SelectorData> matcher = CompiledMatcher.compileSelectors(Arrays.asList(order, disabled, empty));
+        Pair<Boolean, SelectorData> result = matcher.match(exchange("/http/user"));
+        assertTrue(result.getLeft());
+        assertNull(result.getRight());
+    }
+
+    @Test
+    public void testManyMatchedPrefersMostAndConditionsThenSort() {
+        SelectorData prefix = selector("1", 1, 0, condition("uri", "pathPattern", "/http/**"));
+        SelectorData moreConditions = selector("2", 5, 0, condition("uri", "pathPattern", "/http/**"), condition("header", "=", "v2"));
+        SelectorData sameConditions = selector("3", 3, 0, condition("header", "=", "v2"), condition("uri", "contains", "order"));
+        SelectorData fullFlow = SelectorData.builder().id("4").enabled(true).sort(0).type(SelectorTypeEnum.FULL_FLOW.getCode()).build();
+        fullFlow.setConditionList(Collections.emptyList());
+        CompiledMatcher<SelectorData> matcher = CompiledMatcher.compileSelectors(Arrays.asList(fullFlow, prefix, sameConditions, moreConditions));
+        ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/http/order/save").header("version", "v2").build());
+        Pair<Boolean, SelectorData> result = matcher.match(exchange);
+        assertFalse(result.getLeft());
+        assertEquals(sameConditions, result.getRight());
+    }
+
+    @Test
+    public void testOrSelector() {
+        SelectorData or = selector("1", 1, 1, condition("uri", "=", "/http/a"), condition("uri", "=", "/http/b"));
+        CompiledMatcher<SelectorData> matcher = CompiledMatcher.compileSelectors(Collections.singletonList(or));
+        assertEquals(or, matcher.match(exchange("/http/b")).getRight());
+        assertNull(matcher.match(exchange("/http/c")).getRight());
+    }
+
+    @Test
+    public void testMissingHeader() {
+        List<RuleData> rules = Arrays.asList(rule("1", 1, condition("header", "=", "")), rule("2", 2, condition("header", "=", "v2")));
+        CompiledMatcher<RuleData> matcher = CompiledMatcher.compileRules(rules);
+        // a missing header is matched as an empty value, as the linear matching does
+        assertEquals(CompiledMatcher.matchRules(rules, exchange("/http/order")), matcher.match(exchange("/http/order")));
+        ServerWebExchange versioned = MockServerWebExchange.from(MockServerHttpRequest.get("/http/order").header("version", "v2").build());
+        assertEquals(rules.get(1), matcher.match(versioned).getRight());
+    }
+
+    @Test
+    public void testMatchRules() {
+        RuleData first = rule("1", 1, condition("uri", "=", "/http/order/save"));
+        RuleData second = rule("2", 2, condition("uri", "match", "/http/order/**"));
+        List<RuleData> rules = Arrays.asList(first, second);
+        Pair<Boolean, RuleData> compiled = CompiledMatcher.compileRules(rules).match(exchange("/http/order/save"));
+        Pair<Boolean, RuleData> linear = CompiledMatcher.matchRules(rules, exchange("/http/order/save"));
+        assertFalse(compiled.getLeft());
+        assertEquals(first, compiled.getRight());
+        assertEquals(linear, compiled);
+        compiled = CompiledMatcher.compileRules(rules).match(exchange("/http/order/findById"));
+        assertTrue(compiled.getLeft());
+        assertEquals(second, compiled.getRight());
+        assertEquals(CompiledMatcher.matchRules(rules, exchange("/http/order/findById")), compiled);
+    }
+
+    private ServerWebExchange exchange(final String path) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get(path).build());
+    }
+
+    private SelectorData selector(final String id, final int sort, final int matchMode, final ConditionData... conditions) {
+        SelectorData selectorData = SelectorData.builder().id(id).enabled(true).sort(sort).matchMode(matchMode)
+                .type(SelectorTypeEnum.CUSTOM_FLOW.getCode()).build();
+        selectorData.setConditionList(Arrays.asList(conditions));
+        return selectorData;
+    }
+
+    private RuleData rule(final String id, final int sort, final ConditionData... conditions) {
+        return RuleData.builder().id(id).enabled(true).sort(sort).matchMode(0).conditionDataList(Arrays.asList(conditions)).build();
+    }
+
+    private ConditionData condition(final String paramType, final String operator, final String paramValue) {
+        ConditionData conditionData = new ConditionData();
+        conditionData.setParamType(paramType);
+        conditionData.setOperator(operator);
+        conditionData.setParamName("header".equals(paramType) ? "version" : "/");
+        conditionData.setParamValue(paramValue);
+        return conditionData;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.profile;
+
+import org.apache.shenyu.plugin.base.profile.PluginProfile.MatchSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test cases for PluginProfiler.
+ */
+public final class PluginProfilerTest {
+
+    private final PluginProfiler profiler = PluginProfiler.getInstance();
+
+    @AfterEach
+    public void tearDown() {
+        profiler.disable();
+        profiler.reset();
+    }
+
+    @Test
+    public void testSample() {
+        ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/http").build());
+        assertFalse(profiler.sample(exchange));
+        assertNull(profiler.obtainProfile(exchange, "divide"));
+        profiler.enable(1);
+        assertTrue(profiler.sample(exchange));
+        assertNotNull(profiler.obtainProfile(exchange, "divide"));
+        ServerWebExchange notSampled = MockServerWebExchange.from(MockServerHttpRequest.get("/http").build());
+        assertNull(profiler.obtainProfile(notSampled, "divide"));
+    }
+
+    @Test
+    public void testExecute() {
+        profiler.execute("divide", () -> Mono.delay(Duration.ofMillis(20)).then()).block();
+        profiler.obtainProfile("divide").recordSkip();
+        PluginProfile profile = profiler.getProfiles().get("divide");
+        // the completion is recorded in doFinally, which runs after block has returned
+        await().atMost(Duration.ofSeconds(1)).until(() -> profile.getAvgCompletionNanos() > 0);
+        assertEquals(1, profile.getExecuted());
+        assertEquals(1, profile.getSkipped());
+        assertEquals(0.5d, profile.getSkipRate());
+        assertTrue(profile.getAvgCompletionNanos() >= Duration.ofMillis(20).toNanos());
+        assertTrue(profile.getAvgSyncNanos() < profile.getAvgCompletionNanos());
+    }
+
+    @Test
+    public void testMatchSource() {
+        PluginProfile profile = profiler.obtainProfile("divide");
+        profile.recordSelectorMatch(MatchSource.CACHE);
+        profile.recordSelectorMatch(MatchSource.MATCH);
+        profile.recordRuleMatch(MatchSource.CACHE);
+        profile.recordRuleMatch(MatchSource.TRIE);
+        profile.recordRuleMatch(MatchSource.TRIE);
+        profile.recordRuleMatch(MatchSource.MATCH);
+        assertEquals(0.5d, profile.getSelectorCacheHitRate());
+        assertEquals(2, profile.getRuleTrieHits());
+        assertEquals(0.25d, profile.getRuleCacheHitRate());
+    }
+}
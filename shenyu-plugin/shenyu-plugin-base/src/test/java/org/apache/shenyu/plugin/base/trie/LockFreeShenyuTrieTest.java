@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.trie;
+
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.enums.TrieMatchModeEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Test cases for LockFreeShenyuTrie.
+ */
+class LockFreeShenyuTrieTest {
+
+    private RuleTrie shenyuTrie;
+
+    @BeforeEach
+    public void setUp() {
+        shenyuTrie = new LockFreeShenyuTrie(TrieMatchModeEvent.ANT_PATH_MATCH.getMatchMode());
+    }
+
+    @AfterEach
+    public void clear() {
+        shenyuTrie.clear();
+        Assertions.assertTrue(shenyuTrie.isEmpty());
+    }
+
+    @Test
+    public void match() {
+        RuleData ruleData = rule("1", "1", 1);
+        shenyuTrie.putNode("/a/b/c/**", ruleData, null);
+        Assertions.assertNotNull(shenyuTrie.match("/a/b/c/d/e/f", "1"));
+        Assertions.assertNull(shenyuTrie.match("/a/b/d", "1"));
+
+        RuleData ruleData2 = rule("2", "2", 1);
+        shenyuTrie.putNode("/a/*/b/c", ruleData2, null);
+        Assertions.assertNull(shenyuTrie.match("/a/m/b/c", "1"));
+        Assertions.assertNotNull(shenyuTrie.match("/a/m/b/c", "2"));
+
+        shenyuTrie.putNode("/path1/{name}/{age}", ruleData, null);
+        Assertions.assertEquals("/path1/{name}/{age}", shenyuTrie.match("/path1/111/222", "1").getFullPath());
+        Assertions.assertNull(shenyuTrie.match("/path1/111/222/333", "1"));
+
+        shenyuTrie.putNode("path1/name/age", ruleData, null);
+        Assertions.assertEquals("path1/name/age", shenyuTrie.match("//path1//name/age/", "1").getFullPath());
+    }
+
+    @Test
+    public void matchSpec() {
+        final String uriPath = "/a/b/c/**";
+        final String uriPath1 = "/a/*/c/**";
+        final String uriPath2 = "/a/*/*/{d}";
+        final String uriPath3 = "/a/*/{c}/{d}";
+        shenyuTrie.putNode(Arrays.asList(uriPath, uriPath1, uriPath2, uriPath3), rule("1", "1", 1), null);
+        Assertions.assertEquals(uriPath, shenyuTrie.match("/a/b/c/d/e/f", "1").getFullPath());
+        Assertions.assertEquals(uriPath1, shenyuTrie.match("/a/g/c/e/ef/hi", "1").getFullPath());
+        Assertions.assertEquals(uriPath2, shenyuTrie.match("/a/g/hi/def", "1").getFullPath());
+        Assertions.assertEquals(uriPath2, shenyuTrie.match("/a/egh/fij/klm", "1").getFullPath());
+    }
+
+    @Test
+    public void matchRules() {
+        RuleData second = rule("2", "1", 2);
+        RuleData first = rule("1", "1", 1);
+        shenyuTrie.putNode("/http/order/**", second, null);
+        shenyuTrie.putNode("/http/order/**", first, null);
+        shenyuTrie.putNode("/http/order/**", first, null);
+        List<RuleData> ruleDataList = shenyuTrie.matchRules("/http/order/findById", "1");
+        Assertions.assertEquals(Arrays.asList(first, second), ruleDataList);
+        Assertions.assertNull(shenyuTrie.matchRules("/http/order/findById", "2"));
+    }
+
+    @Test
+    public void remove() {
+        RuleData ruleData = rule("1", "2", 1);
+        RuleData ruleData2 = rule("2", "2", 2);
+        shenyuTrie.putNode("/a/b/c/**", ruleData, null);
+        shenyuTrie.putNode("/a/b/c/**", ruleData2, null);
+        final ShenyuTrieNode before = shenyuTrie.match("/a/b/c/d", "2");
+        shenyuTrie.remove("/a/b/c/**", ruleData2);
+        Assertions.assertNotNull(shenyuTrie.getNode("/a/b/c/**"));
+        Assertions.assertEquals(1, shenyuTrie.matchRules("/a/b/c/d", "2").size());
+        // the node matched before the update is not changed
+        Assertions.assertEquals(2, before.getPathRuleCache().getIfPresent("2").size());
+
+        RuleData ruleData3 = rule("3", "3", 2);
+        shenyuTrie.putNode("/path1/{id}/path2", ruleData3, null);
+        shenyuTrie.remove("/path1/{id}/path2", ruleData3);
+        Assertions.assertNull(shenyuTrie.getNode("/path1/{id}/path2"));
+        Assertions.assertNull(shenyuTrie.getNode("/path1"));
+        shenyuTrie.remove("/a/b/c/**", ruleData);
+        Assertions.assertTrue(shenyuTrie.isEmpty());
+    }
+
+    @Test
+    public void antPathMatchMode() {
+        assertSameAsShenyuTrie(TrieMatchModeEvent.ANT_PATH_MATCH.getMatchMode());
+        // a * or ** which is not at the end of the path is put as a plain segment
+        Assertions.assertFalse(shenyuTrie.getNode("/m/*").getWildcard());
+        Assertions.assertFalse(shenyuTrie.getNode("/m/*").getEndOfPath());
+        Assertions.assertFalse(shenyuTrie.getNode("/w/*/y/**").getEndOfPath());
+        Assertions.assertTrue(shenyuTrie.getNode("/w/*").getWildcard());
+    }
+
+    @Test
+    public void pathPatternMode() {
+        shenyuTrie = new LockFreeShenyuTrie(TrieMatchModeEvent.PATH_PATTERN.getMatchMode());
+        assertSameAsShenyuTrie(TrieMatchModeEvent.PATH_PATTERN.getMatchMode());
+        // every * or ** is put as a wildcard
+        Assertions.assertTrue(shenyuTrie.getNode("/m/*").getWildcard());
+        Assertions.assertTrue(shenyuTrie.getNode("/m/*").getEndOfPath());
+        Assertions.assertTrue(shenyuTrie.getNode("/w/*/y/**").getEndOfPath());
+        Assertions.assertTrue(shenyuTrie.getNode("/w/*").getWildcard());
+    }
+
+    private void assertSameAsShenyuTrie(final String matchMode) {
+        ShenyuTrie expected = new ShenyuTrie(100L, 100L, 100L, matchMode);
+        List<String> paths = Arrays.asList("/w/*/y/**/z", "/w/*", "/w/**/x", "/m/*/n", "/a/b/**", "/a/*/{c}");
+        RuleData ruleData = rule("1", "1", 1);
+        expected.putNode(paths, ruleData, null);
+        shenyuTrie.putNode(paths, ruleData, null);
+        for (String path : Arrays.asList("/w/x/y/z", "/w/x/y/q/z", "/w/x", "/w/x/x", "/m/x/n", "/a/b/c/d", "/a/q/c", "/a/q/c/d")) {
+            ShenyuTrieNode expectedNode = expected.match(path, "1");
+            ShenyuTrieNode node = shenyuTrie.match(path, "1");
+            Assertions.assertEquals(Objects.isNull(expectedNode), Objects.isNull(node), path);
+            if (Objects.nonNull(node)) {
+                Assertions.assertEquals(expectedNode.getFullPath(), node.getFullPath(), path);
+                Assertions.assertEquals(expectedNode.getWildcard(), node.getWildcard(), path);
+                Assertions.assertEquals(expectedNode.getEndOfPath(), node.getEndOfPath(), path);
+            }
+        }
+        for (String path : Arrays.asList("/w/*/y", "/w/*/y/**", "/w/*", "/w/**", "/m/*")) {
+            Assertions.assertEquals(expected.getNode(path).getWildcard(), shenyuTrie.getNode(path).getWildcard(), path);
+            Assertions.assertEquals(expected.getNode(path).getEndOfPath(), shenyuTrie.getNode(path).getEndOfPath(), path);
+        }
+    }
+
+    private RuleData rule(final String id, final String selectorId, final int sort) {
+        return RuleData.builder().id(id).pluginName("test").selectorId(selectorId).name("rule" + id).enabled(true).sort(sort).build();
+    }
+}
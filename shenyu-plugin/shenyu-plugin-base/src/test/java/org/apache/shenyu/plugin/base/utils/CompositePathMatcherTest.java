@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.base.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test cases for CompositePathMatcher.
+ */
+public final class CompositePathMatcherTest {
+
+    @Test
+    public void testMatch() {
+        CompositePathMatcher matcher = CompositePathMatcher.compile(Arrays.asList("/http/order/save", "/http/user/**", "/http/*/findById"));
+        assertTrue(matcher.match("/http/order/save"));
+        assertTrue(matcher.match("/http/user"));
+        assertTrue(matcher.match("/http/user/a/b"));
+        assertTrue(matcher.match("/http/pay/findById"));
+        assertFalse(matcher.match("/http/order/save/"));
+        assertFalse(matcher.match("/http/users"));
+        assertFalse(matcher.match(null));
+        assertFalse(CompositePathMatcher.compile(Collections.emptyList()).match("/http"));
+        assertTrue(CompositePathMatcher.compile(Collections.singletonList("/**")).match("/"));
+    }
+
+    @Test
+    public void testSameAsLinearMatch() {
+        List<String> patterns = Arrays.asList("/a", "/a/**", "/b/c/", "/b//c", "/d/**/e", "/f/{id}", "x/**", "/g?");
+        List<String> paths = Arrays.asList("/a", "/a/", "/ab", "/a/b/c", "//a", "/b/c", "/b/c/", "/b//c",
+                "/d/x/y/e", "/f/1", "/f/1/2", "x/y", "/gh", "/g", "", "/");
+        CompositePathMatcher matcher = CompositePathMatcher.compile(patterns);
+        for (String path : paths) {
+            boolean expected = patterns.stream().anyMatch(pattern -> PathMatchUtils.match(pattern, path));
+            assertEquals(expected, matcher.match(path), path);
+        }
+    }
+}
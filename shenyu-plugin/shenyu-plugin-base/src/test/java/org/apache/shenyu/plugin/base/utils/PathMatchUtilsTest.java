@@ -17,11 +17,15 @@
 
 package org.apache.shenyu.plugin.base.utils;
 
+import org.apache.shenyu.common.dto.ConditionData;
+import org.apache.shenyu.common.enums.OperatorEnum;
+import org.apache.shenyu.common.enums.ParamTypeEnum;
 import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -71,4 +75,18 @@ public final class PathMatchUtilsTest {
                 "/demo/order/path/1/godfje@".substring("demo/order/path/{id}/{name}".indexOf("{") + 1));
         assertThat(realPath, is("demo/order/path/1/godfje@"));
     }
+
+    @Test
+    public void testCompile() {
+        assertSame(PathMatchUtils.compile("/http/**"), PathMatchUtils.compile("/http/**"));
+        ConditionData conditionData = new ConditionData();
+        conditionData.setParamType(ParamTypeEnum.URI.getName());
+        conditionData.setOperator(OperatorEnum.PATH_PATTERN.getAlias());
+        conditionData.setParamValue(" /http/order/** ");
+        PathMatchUtils.precompile(conditionData);
+        assertSame(PathMatchUtils.compile("/http/order/**"), PathMatchUtils.compile("/http/order/**"));
+        conditionData.setParamValue("/http/{");
+        PathMatchUtils.precompile(conditionData);
+        assertTrue(PathMatchUtils.pathPattern("/http/order/**", "/http/order/findById"));
+    }
 }
@@ -17,6 +17,7 @@
 
 package org.apache.shenyu.plugin.cache;
 
+import com.google.common.collect.Maps;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.shenyu.common.dto.RuleData;
 import org.apache.shenyu.common.dto.SelectorData;
@@ -28,22 +29,45 @@ import org.apache.shenyu.plugin.base.utils.CacheKeyUtils;
 import org.apache.shenyu.plugin.cache.handler.CachePluginDataHandler;
 import org.apache.shenyu.plugin.cache.utils.CacheUtils;
 import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.AbstractServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
 import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebExchangeDecorator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 import reactor.core.scheduler.Schedulers;
 import reactor.util.annotation.NonNull;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * CacheWritePlugin.
  */
 public class CachePlugin extends AbstractShenyuPlugin {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CachePlugin.class);
+
+    /**
+     * dataKey -> the upstream call in flight.
+     */
+    private static final ConcurrentMap<String, Flight> FLIGHTS = Maps.newConcurrentMap();
     
     private final CacheRuleHandle defaultRuleHandle = new CacheRuleHandle();
 
@@ -51,25 +75,32 @@ public class CachePlugin extends AbstractShenyuPlugin {
     public Mono<Void> doExecute(final ServerWebExchange exchange, final ShenyuPluginChain chain,
                                 final SelectorData selector, final RuleData rule) {
         ICache cache = CacheUtils.getCache();
+        CacheRuleHandle cacheRuleHandle = buildRuleHandle(rule);
         if (Objects.nonNull(cache)) {
-            return cache.getData(CacheUtils.dataKey(exchange))
-                    .zipWith(cache.getData(CacheUtils.contentTypeKey(exchange)))
-                    .flatMap(data -> Mono.just(Optional.of(data)))
+            final String dataKey = CacheUtils.dataKey(exchange);
+            return cache.getBody(dataKey)
+                    .flatMap(chunks -> Mono.justOrEmpty(CachedResponse.decode(chunks)))
+                    .map(Optional::of)
                     .defaultIfEmpty(Optional.empty())
-                    .flatMap(dataFlg -> {
-                        if (dataFlg.isPresent()) {
-                            byte[] bytes = dataFlg.get().getT1();
-                            byte[] contentTypeBytes = dataFlg.get().getT2();
-                            cache.setContentType(exchange, contentTypeBytes);
-                            return exchange.getResponse().writeWith(Mono.just(exchange.getResponse().bufferFactory().wrap(bytes))
-                                    .doOnNext(data -> exchange.getResponse().getHeaders().setContentLength(data.readableByteCount())));
+                    .flatMap(cached -> {
+                        if (cached.isPresent()) {
+                            if (cached.get().isFresh(System.currentTimeMillis())) {
+                                return writeCachedResponse(exchange, cached.get());
+                            }
+                            // stale while revalidate, every request is served the stale response and one of them refreshes it in the background
+                            Flight flight = new Flight(dataKey);
+                            if (Objects.isNull(FLIGHTS.putIfAbsent(dataKey, flight))) {
+                                revalidate(exchange, chain, cacheRuleHandle, flight);
+                            }
+                            return writeCachedResponse(exchange, cached.get());
                         }
-                        CacheRuleHandle cacheRuleHandle = buildRuleHandle(rule);
-                        return chain.execute(exchange.mutate().response(new CacheHttpResponse(exchange, cacheRuleHandle)).build());
+                        if (!Boolean.TRUE.equals(cacheRuleHandle.getSingleFlight())) {
+                            return executeChain(exchange, chain, cacheRuleHandle, null);
+                        }
+                        return joinFlight(exchange, chain, cacheRuleHandle, dataKey);
                     });
         }
-        CacheRuleHandle cacheRuleHandle = buildRuleHandle(rule);
-        return chain.execute(exchange.mutate().response(new CacheHttpResponse(exchange, cacheRuleHandle)).build());
+        return executeChain(exchange, chain, cacheRuleHandle, null);
     }
 
     @Override
@@ -81,7 +112,46 @@ public class CachePlugin extends AbstractShenyuPlugin {
     public String named() {
         return PluginEnum.CACHE.getName();
     }
+
+    private Mono<Void> executeChain(final ServerWebExchange exchange, final ShenyuPluginChain chain,
+                                    final CacheRuleHandle cacheRuleHandle, final Flight flight) {
+        Mono<Void> execute = chain.execute(exchange.mutate().response(new CacheHttpResponse(exchange, cacheRuleHandle, flight)).build());
+        if (Objects.isNull(flight)) {
+            return execute;
+        }
+        // release the followers when the response is not cached, e.g. error or cancel
+        return execute.doFinally(signal -> flight.finish(null));
+    }
     
+    private Mono<Void> joinFlight(final ServerWebExchange exchange, final ShenyuPluginChain chain,
+                                  final CacheRuleHandle cacheRuleHandle, final String dataKey) {
+        Flight flight = new Flight(dataKey);
+        Flight leader = FLIGHTS.putIfAbsent(dataKey, flight);
+        if (Objects.isNull(leader)) {
+            return executeChain(exchange, chain, cacheRuleHandle, flight);
+        }
+        // share the response of the leader, one of the followers takes over the flight when the leader does not cache it
+        return leader.result().flatMap(response -> response.isPresent()
+                ? writeCachedResponse(exchange, response.get())
+                : joinFlight(exchange, chain, cacheRuleHandle, dataKey));
+    }
+
+    private void revalidate(final ServerWebExchange exchange, final ShenyuPluginChain chain,
+                            final CacheRuleHandle cacheRuleHandle, final Flight flight) {
+        // the refresh is detached from the request, it has its own attributes and its response is only cached
+        ServerWebExchange revalidation = new RevalidateExchange(exchange);
+        executeChain(revalidation, chain, cacheRuleHandle, flight)
+                .subscribe(null, error -> LOG.warn("revalidate the cached response of {} failed", flight.dataKey, error));
+    }
+
+    private Mono<Void> writeCachedResponse(final ServerWebExchange exchange, final CachedResponse cachedResponse) {
+        final ServerHttpResponse response = exchange.getResponse();
+        response.getHeaders().setContentType(Optional.ofNullable(cachedResponse.getContentType()).orElse(MediaType.APPLICATION_JSON));
+        response.getHeaders().setContentLength(cachedResponse.getContentLength());
+        // wrap the cached chunks, the data is not copied
+        return response.writeWith(Flux.fromIterable(cachedResponse.getBody()).map(chunk -> response.bufferFactory().wrap(chunk.duplicate())));
+    }
+
     private CacheRuleHandle buildRuleHandle(final RuleData rule) {
         if (StringUtils.isNotEmpty(rule.getId())) {
             return CachePluginDataHandler.CACHED_HANDLE.get().obtainHandle(CacheKeyUtils.INST.getKey(rule));
@@ -90,17 +160,127 @@ public class CachePlugin extends AbstractShenyuPlugin {
         }
     }
 
+    /**
+     * The upstream call shared by the concurrent requests of one key.
+     */
+    static final class Flight {
+
+        private final String dataKey;
+
+        private final Sinks.One<Optional<CachedResponse>> sink = Sinks.one();
+
+        Flight(final String dataKey) {
+            this.dataKey = dataKey;
+        }
+
+        /**
+         * the cached response of the leader, empty when the leader does not cache it.
+         *
+         * @return the result
+         */
+        Mono<Optional<CachedResponse>> result() {
+            return sink.asMono();
+        }
+
+        /**
+         * finish the flight, only the first call takes effect.
+         *
+         * @param cachedResponse the cached response
+         */
+        void finish(final CachedResponse cachedResponse) {
+            FLIGHTS.remove(dataKey, this);
+            sink.tryEmitValue(Optional.ofNullable(cachedResponse));
+        }
+    }
+
+    /**
+     * The copy of a request that refreshes a stale response, its response is discarded once it is cached.
+     */
+    static final class RevalidateExchange extends ServerWebExchangeDecorator {
+
+        private final Map<String, Object> attributes;
+
+        private final ServerHttpResponse response;
+
+        RevalidateExchange(final ServerWebExchange exchange) {
+            super(exchange);
+            this.attributes = new ConcurrentHashMap<>(exchange.getAttributes());
+            this.response = new DiscardHttpResponse(exchange.getResponse().bufferFactory());
+        }
+
+        @Override
+        @NonNull
+        public ServerHttpResponse getResponse() {
+            return response;
+        }
+
+        @Override
+        @NonNull
+        public Map<String, Object> getAttributes() {
+            return attributes;
+        }
+    }
+
+    /**
+     * The response of a revalidation, nothing is sent to the client.
+     */
+    static final class DiscardHttpResponse extends AbstractServerHttpResponse {
+
+        DiscardHttpResponse(final DataBufferFactory dataBufferFactory) {
+            super(dataBufferFactory);
+        }
+
+        @Override
+        @NonNull
+        public <T> T getNativeResponse() {
+            throw new IllegalStateException("the response of a revalidation has no native response");
+        }
+
+        @Override
+        @NonNull
+        protected Mono<Void> writeWithInternal(@NonNull final Publisher<? extends DataBuffer> body) {
+            return Flux.from(body).doOnNext(DataBufferUtils::release).then();
+        }
+
+        @Override
+        @NonNull
+        protected Mono<Void> writeAndFlushWithInternal(@NonNull final Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            return Flux.from(body).concatMap(this::writeWithInternal).then();
+        }
+
+        @Override
+        protected void applyStatusCode() {
+        }
+
+        @Override
+        protected void applyHeaders() {
+        }
+
+        @Override
+        protected void applyCookies() {
+        }
+    }
+
     static class CacheHttpResponse extends ServerHttpResponseDecorator {
 
         private final ServerWebExchange exchange;
 
         private final CacheRuleHandle cacheRuleHandle;
 
+        private final Flight flight;
+
         CacheHttpResponse(final ServerWebExchange exchange,
                           final CacheRuleHandle cacheRuleHandle) {
+            this(exchange, cacheRuleHandle, null);
+        }
+
+        CacheHttpResponse(final ServerWebExchange exchange,
+                          final CacheRuleHandle cacheRuleHandle,
+                          final Flight flight) {
             super(exchange.getResponse());
             this.exchange = exchange;
             this.cacheRuleHandle = cacheRuleHandle;
+            this.flight = flight;
         }
 
         @Override
@@ -114,13 +294,74 @@ public class CachePlugin extends AbstractShenyuPlugin {
             final ICache cache = CacheUtils.getCache();
             if (Objects.nonNull(cache)) {
                 final MediaType contentType = this.getHeaders().getContentType();
-                return Flux.from(body).doOnNext(buffer -> {
-                    cache.cacheData(CacheUtils.dataKey(this.exchange), buffer.asByteBuffer().array(),
-                            this.cacheRuleHandle.getTimeoutSeconds()).subscribeOn(Schedulers.boundedElastic()).subscribe();
-                    cache.cacheContentType(CacheUtils.contentTypeKey(this.exchange), contentType, this.cacheRuleHandle.getTimeoutSeconds());
-                });
+                final CachedBody cachedBody = new CachedBody(Optional.ofNullable(this.cacheRuleHandle.getMaxBodySize()).orElse(Long.MAX_VALUE));
+                // retain every buffer and copy the whole body into one chunk when it completes
+                return Flux.from(body).doOnNext(cachedBody::add).doOnComplete(() -> {
+                    if (cachedBody.overflow) {
+                        return;
+                    }
+                    final long timeoutSeconds = this.cacheRuleHandle.getTimeoutSeconds();
+                    final long staleSeconds = Optional.ofNullable(this.cacheRuleHandle.getStaleSeconds()).orElse(0L);
+                    CachedResponse cachedResponse = new CachedResponse(contentType,
+                            System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(timeoutSeconds), Collections.singletonList(cachedBody.copy(cache)));
+                    cache.cacheBody(CacheUtils.dataKey(this.exchange), cachedResponse.encode(), timeoutSeconds + staleSeconds)
+                            .subscribeOn(Schedulers.boundedElastic()).subscribe();
+                    if (Objects.nonNull(flight)) {
+                        flight.finish(cachedResponse);
+                    }
+                }).doFinally(signal -> cachedBody.release());
             }
             return Flux.from(body);
         }
     }
+
+    /**
+     * The buffers of a response being cached, it gives up once the body is larger than the max body size.
+     */
+    private static final class CachedBody {
+
+        private final long maxBodySize;
+
+        private final List<DataBuffer> buffers = new ArrayList<>();
+
+        private final List<ByteBuffer> views = new ArrayList<>();
+
+        private long size;
+
+        private boolean overflow;
+
+        CachedBody(final long maxBodySize) {
+            // the body is copied into one chunk
+            this.maxBodySize = Math.min(maxBodySize, Integer.MAX_VALUE);
+        }
+
+        void add(final DataBuffer buffer) {
+            if (overflow) {
+                return;
+            }
+            size += buffer.readableByteCount();
+            if (size > maxBodySize) {
+                // the body is passed through without being cached, the retained buffers are not pinned until it completes
+                overflow = true;
+                release();
+                return;
+            }
+            buffers.add(DataBufferUtils.retain(buffer));
+            // the view keeps the readable bytes after the buffer is written
+            views.add(buffer.asByteBuffer());
+        }
+
+        ByteBuffer copy(final ICache cache) {
+            ByteBuffer chunk = cache.allocateChunk((int) size);
+            ByteBuffer writer = chunk.duplicate();
+            views.forEach(writer::put);
+            return chunk;
+        }
+
+        void release() {
+            buffers.forEach(DataBufferUtils::release);
+            buffers.clear();
+            views.clear();
+        }
+    }
 }
@@ -17,6 +17,9 @@
 
 package org.apache.shenyu.plugin.cache;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
 import org.apache.shenyu.common.dto.RuleData;
 import org.apache.shenyu.common.dto.convert.rule.impl.CacheRuleHandle;
 import org.apache.shenyu.common.enums.PluginEnum;
@@ -29,18 +32,29 @@ import org.apache.shenyu.plugin.cache.utils.CacheUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.mock.http.client.reactive.MockClientHttpResponse;
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
 import org.springframework.mock.web.server.MockServerWebExchange;
 import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 
@@ -80,6 +94,129 @@ public class CachePluginTest {
         StepVerifier.create(mono).expectSubscription().verifyComplete();
     }
 
+    @Test
+    public void cacheWholeBodyTest() {
+        ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("localhost/whole").build());
+        final MemoryCache memoryCache = new MemoryCache();
+        Singleton.INST.single(ICache.class, memoryCache);
+        final CacheRuleHandle cacheRuleHandle = new CacheRuleHandle();
+        CachePlugin.CacheHttpResponse cacheHttpResponse = new CachePlugin.CacheHttpResponse(exchange, cacheRuleHandle);
+        cacheHttpResponse.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        DefaultDataBufferFactory bufferFactory = new DefaultDataBufferFactory(true);
+        Flux<DataBuffer> body = Flux.just("{\"a\":", "1}").map(chunk -> bufferFactory.wrap(chunk.getBytes(StandardCharsets.UTF_8)));
+        StepVerifier.create(cacheHttpResponse.writeWith(body)).expectSubscription().verifyComplete();
+        // the body is cached asynchronously
+        CachedResponse cachedResponse = memoryCache.getBody(CacheUtils.dataKey(exchange))
+                .repeatWhenEmpty(repeat -> repeat.delayElements(Duration.ofMillis(10)).take(100))
+                .map(CachedResponse::decode).block(Duration.ofSeconds(5));
+        Assertions.assertEquals(MediaType.APPLICATION_JSON, cachedResponse.getContentType());
+        Assertions.assertEquals(1, cachedResponse.getBody().size());
+        Assertions.assertEquals(7L, cachedResponse.getContentLength());
+    }
+
+    @Test
+    public void oversizedBodyTest() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("localhost/oversized").build());
+        final MemoryCache memoryCache = new MemoryCache();
+        Singleton.INST.single(ICache.class, memoryCache);
+        final CacheRuleHandle cacheRuleHandle = new CacheRuleHandle();
+        cacheRuleHandle.setMaxBodySize(3L);
+        CachePlugin.CacheHttpResponse cacheHttpResponse = new CachePlugin.CacheHttpResponse(exchange, cacheRuleHandle);
+        NettyDataBufferFactory bufferFactory = new NettyDataBufferFactory(UnpooledByteBufAllocator.DEFAULT);
+        List<ByteBuf> buffers = Arrays.asList(Unpooled.copiedBuffer("{\"a\":", StandardCharsets.UTF_8), Unpooled.copiedBuffer("1}", StandardCharsets.UTF_8));
+        StepVerifier.create(cacheHttpResponse.writeWith(Flux.fromIterable(buffers).map(bufferFactory::wrap))).expectSubscription().verifyComplete();
+        Assertions.assertEquals("{\"a\":1}", exchange.getResponse().getBodyAsString().block(Duration.ofSeconds(5)));
+        // the body is not retained by the cache
+        buffers.forEach(buffer -> Assertions.assertEquals(0, buffer.refCnt()));
+        Assertions.assertNull(memoryCache.getBody(CacheUtils.dataKey(exchange)).block(Duration.ofSeconds(5)));
+    }
+
+    @Test
+    public void cachedResponseTest() {
+        CachedResponse cachedResponse = new CachedResponse(MediaType.TEXT_PLAIN, 100L,
+                Collections.singletonList(ByteBuffer.wrap("body".getBytes(StandardCharsets.UTF_8))));
+        List<ByteBuffer> chunks = cachedResponse.encode();
+        byte[] bytes = new byte[chunks.get(0).remaining() + chunks.get(1).remaining()];
+        ByteBuffer.wrap(bytes).put(chunks.get(0).duplicate()).put(chunks.get(1).duplicate());
+        CachedResponse decoded = CachedResponse.decode(Collections.singletonList(ByteBuffer.wrap(bytes)));
+        Assertions.assertEquals(MediaType.TEXT_PLAIN, decoded.getContentType());
+        Assertions.assertEquals(4L, decoded.getContentLength());
+        Assertions.assertTrue(decoded.isFresh(99L));
+        Assertions.assertFalse(decoded.isFresh(100L));
+        Assertions.assertNull(CachedResponse.decode(Collections.singletonList(ByteBuffer.wrap("body".getBytes(StandardCharsets.UTF_8)))));
+    }
+
+    @Test
+    public void singleFlightTest() {
+        final MemoryCache memoryCache = new MemoryCache();
+        Singleton.INST.single(ICache.class, memoryCache);
+        final CacheRuleHandle cacheRuleHandle = new CacheRuleHandle();
+        cacheRuleHandle.setSingleFlight(true);
+        final RuleData ruleData = RuleData.builder().id("singleFlight").selectorId("singleFlight").name("singleFlight").build();
+        CachePluginDataHandler.CACHED_HANDLE.get().cachedHandle(CacheKeyUtils.INST.getKey(ruleData), cacheRuleHandle);
+        final AtomicInteger upstreamCalls = new AtomicInteger();
+        final ShenyuPluginChain shenyuPluginChain = upstream(upstreamCalls, "fresh");
+        final MockServerWebExchange first = MockServerWebExchange.from(MockServerHttpRequest.get("localhost/singleFlight").build());
+        final MockServerWebExchange second = MockServerWebExchange.from(MockServerHttpRequest.get("localhost/singleFlight").build());
+        final CachePlugin cachePlugin = new CachePlugin();
+        Mono.when(cachePlugin.doExecute(first, shenyuPluginChain, null, ruleData),
+                cachePlugin.doExecute(second, shenyuPluginChain, null, ruleData)).block(Duration.ofSeconds(5));
+        Assertions.assertEquals(1, upstreamCalls.get());
+        Assertions.assertEquals("fresh", second.getResponse().getBodyAsString().block(Duration.ofSeconds(5)));
+    }
+
+    @Test
+    public void staleWhileRevalidateTest() {
+        final MemoryCache memoryCache = new MemoryCache();
+        Singleton.INST.single(ICache.class, memoryCache);
+        final MockServerWebExchange first = MockServerWebExchange.from(MockServerHttpRequest.get("localhost/stale").build());
+        final MockServerWebExchange second = MockServerWebExchange.from(MockServerHttpRequest.get("localhost/stale").build());
+        final CachedResponse stale = new CachedResponse(MediaType.TEXT_PLAIN, System.currentTimeMillis() - 1000L,
+                Collections.singletonList(ByteBuffer.wrap("stale".getBytes(StandardCharsets.UTF_8))));
+        memoryCache.cacheBody(CacheUtils.dataKey(first), stale.encode(), 60L).block();
+        final AtomicInteger upstreamCalls = new AtomicInteger();
+        final ShenyuPluginChain shenyuPluginChain = upstream(upstreamCalls, "fresh");
+        final CachePlugin cachePlugin = new CachePlugin();
+        final RuleData ruleData = new RuleData();
+        Mono.when(cachePlugin.doExecute(first, shenyuPluginChain, null, ruleData),
+                cachePlugin.doExecute(second, shenyuPluginChain, null, ruleData)).block(Duration.ofSeconds(5));
+        Assertions.assertEquals("stale", first.getResponse().getBodyAsString().block(Duration.ofSeconds(5)));
+        Assertions.assertEquals("stale", second.getResponse().getBodyAsString().block(Duration.ofSeconds(5)));
+        // the response is refreshed in the background
+        await().atMost(Duration.ofSeconds(5)).until(() -> memoryCache.getBody(CacheUtils.dataKey(first))
+                .map(CachedResponse::decode).map(cached -> cached.isFresh(System.currentTimeMillis())).blockOptional().orElse(false));
+        Assertions.assertEquals(1, upstreamCalls.get());
+        Assertions.assertNull(first.getAttribute("revalidated"));
+    }
+
+    @Test
+    public void singleFlightTakeOverTest() {
+        final MemoryCache memoryCache = new MemoryCache();
+        Singleton.INST.single(ICache.class, memoryCache);
+        final CacheRuleHandle cacheRuleHandle = new CacheRuleHandle();
+        cacheRuleHandle.setSingleFlight(true);
+        final RuleData ruleData = RuleData.builder().id("takeOver").selectorId("takeOver").name("takeOver").build();
+        CachePluginDataHandler.CACHED_HANDLE.get().cachedHandle(CacheKeyUtils.INST.getKey(ruleData), cacheRuleHandle);
+        final AtomicInteger upstreamCalls = new AtomicInteger();
+        final ShenyuPluginChain succeeded = upstream(upstreamCalls, "fresh");
+        final ShenyuPluginChain shenyuPluginChain = mock(ShenyuPluginChain.class);
+        // the leader fails, the next call succeeds
+        Mockito.when(shenyuPluginChain.execute(any())).thenAnswer(invocation -> upstreamCalls.get() == 0
+                ? Mono.delay(Duration.ofMillis(100)).doOnSubscribe(subscription -> upstreamCalls.incrementAndGet()).then(Mono.error(new IllegalStateException("leader")))
+                : succeeded.execute(invocation.getArgument(0)));
+        final MockServerWebExchange leader = MockServerWebExchange.from(MockServerHttpRequest.get("localhost/takeOver").build());
+        final MockServerWebExchange first = MockServerWebExchange.from(MockServerHttpRequest.get("localhost/takeOver").build());
+        final MockServerWebExchange second = MockServerWebExchange.from(MockServerHttpRequest.get("localhost/takeOver").build());
+        final CachePlugin cachePlugin = new CachePlugin();
+        Mono.when(cachePlugin.doExecute(leader, shenyuPluginChain, null, ruleData).onErrorResume(error -> Mono.empty()),
+                cachePlugin.doExecute(first, shenyuPluginChain, null, ruleData),
+                cachePlugin.doExecute(second, shenyuPluginChain, null, ruleData)).block(Duration.ofSeconds(5));
+        // only one follower calls the upstream after the leader failed
+        Assertions.assertEquals(2, upstreamCalls.get());
+        Assertions.assertEquals("fresh", first.getResponse().getBodyAsString().block(Duration.ofSeconds(5)));
+        Assertions.assertEquals("fresh", second.getResponse().getBodyAsString().block(Duration.ofSeconds(5)));
+    }
+
     @Test
     public void pluginTest() {
         ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("localhost").build());
@@ -104,4 +241,16 @@ public class CachePluginTest {
         StepVerifier.create(result3).expectSubscription().verifyComplete();
     }
 
+    private ShenyuPluginChain upstream(final AtomicInteger upstreamCalls, final String body) {
+        final ShenyuPluginChain shenyuPluginChain = mock(ShenyuPluginChain.class);
+        Mockito.when(shenyuPluginChain.execute(any())).thenAnswer(invocation -> {
+            upstreamCalls.incrementAndGet();
+            ServerWebExchange exchange = invocation.getArgument(0);
+            exchange.getAttributes().put("revalidated", true);
+            exchange.getResponse().getHeaders().setContentType(MediaType.TEXT_PLAIN);
+            return Mono.delay(Duration.ofMillis(100)).then(exchange.getResponse()
+                    .writeWith(Mono.just(exchange.getResponse().bufferFactory().wrap(body.getBytes(StandardCharsets.UTF_8)))));
+        });
+        return shenyuPluginChain;
+    }
 }
@@ -17,26 +17,53 @@
 
 package org.apache.shenyu.plugin.cache.memory;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import org.apache.shenyu.plugin.cache.ICache;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
-import java.util.Map;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
 /**
  * MemoryCache.
+ *
+ * <p>The bodies share one byte budget, they are evicted by W-TinyLFU and expire with their own timeout.
+ * A body is kept in the one chunk allocated for it and the hits are served with views of it.</p>
  */
 public final class MemoryCache implements ICache {
 
-    private final Map<String, Cache<String, byte[]>> mainCache;
+    /**
+     * the estimated bytes of an entry besides the key and the body.
+     */
+    private static final int ENTRY_OVERHEAD = 64;
+
+    private static final int DEFAULT_MAX_MEMORY_SIZE = 256;
+
+    private final Cache<String, CachedBody> mainCache;
+
+    private final boolean offHeap;
 
     public MemoryCache() {
-        this.mainCache = new ConcurrentHashMap<>();
+        this(new MemoryConfigProperties());
+    }
+
+    public MemoryCache(final MemoryConfigProperties properties) {
+        this.offHeap = !Boolean.FALSE.equals(properties.getOffHeap());
+        final int maxMemorySize = Optional.ofNullable(properties.getMaxMemorySize()).orElse(DEFAULT_MAX_MEMORY_SIZE);
+        this.mainCache = Caffeine.newBuilder()
+                .maximumWeight(maxMemorySize * 1024L * 1024L)
+                .weigher((String key, CachedBody body) -> body.weight(key))
+                .expireAfter(new BodyExpiry())
+                // the maintenance is cheap without a removal listener, run it in the caller thread to keep the budget tight
+                .executor(Runnable::run)
+                .build();
     }
 
     /**
@@ -49,10 +76,30 @@ public final class MemoryCache implements ICache {
      */
     @Override
     public Mono<Boolean> cacheData(final String key, final byte[] bytes, final long timeoutSeconds) {
-        final Cache<String, byte[]> cache = CacheBuilder.newBuilder().expireAfterWrite(timeoutSeconds, TimeUnit.SECONDS).build();
-        cache.put(key, bytes);
-        this.mainCache.put(key, cache);
-        return Mono.fromCallable(() -> Boolean.TRUE).subscribeOn(Schedulers.boundedElastic());
+        return cacheBody(key, Collections.singletonList(ByteBuffer.wrap(bytes)), timeoutSeconds);
+    }
+
+    /**
+     * Cache the body made of the chunks with the key.
+     *
+     * @param key            the cache key
+     * @param chunks         the body chunks
+     * @param timeoutSeconds the timeout seconds
+     * @return success or not
+     */
+    @Override
+    public Mono<Boolean> cacheBody(final String key, final List<ByteBuffer> chunks, final long timeoutSeconds) {
+        if (timeoutSeconds <= 0) {
+            return Mono.just(Boolean.FALSE);
+        }
+        ByteBuffer[] readOnlyChunks = new ByteBuffer[chunks.size()];
+        long size = 0;
+        for (int i = 0; i < readOnlyChunks.length; i++) {
+            readOnlyChunks[i] = chunks.get(i).asReadOnlyBuffer();
+            size += readOnlyChunks[i].remaining();
+        }
+        this.mainCache.put(key, new CachedBody(readOnlyChunks, size, TimeUnit.SECONDS.toNanos(timeoutSeconds)));
+        return Mono.just(Boolean.TRUE);
     }
 
     /**
@@ -63,13 +110,7 @@ public final class MemoryCache implements ICache {
      */
     @Override
     public Mono<Boolean> isExist(final String key) {
-        final Cache<String, byte[]> cache = this.mainCache.get(key);
-        if (Objects.isNull(cache) || !cache.asMap().containsKey(key)) {
-            // remove from main cache
-            this.mainCache.remove(key);
-            return Mono.fromCallable(() -> Boolean.FALSE).subscribeOn(Schedulers.boundedElastic());
-        }
-        return Mono.fromCallable(() -> Boolean.TRUE).subscribeOn(Schedulers.boundedElastic());
+        return Mono.just(Objects.nonNull(this.mainCache.getIfPresent(key)));
     }
 
     /**
@@ -80,12 +121,29 @@ public final class MemoryCache implements ICache {
      */
     @Override
     public Mono<byte[]> getData(final String key) {
-        return isExist(key).mapNotNull(exist -> {
-            if (exist) {
-                return this.mainCache.get(key).asMap().get(key);
-            }
-            return null;
-        });
+        return Mono.justOrEmpty(this.mainCache.getIfPresent(key)).map(CachedBody::toBytes);
+    }
+
+    /**
+     * Get the body chunks with the key.
+     *
+     * @param key the cache key
+     * @return the read only views of the chunks
+     */
+    @Override
+    public Mono<List<ByteBuffer>> getBody(final String key) {
+        return Mono.justOrEmpty(this.mainCache.getIfPresent(key)).map(CachedBody::views);
+    }
+
+    /**
+     * Allocate the chunk off heap unless it is disabled.
+     *
+     * @param capacity the capacity
+     * @return the buffer
+     */
+    @Override
+    public ByteBuffer allocateChunk(final int capacity) {
+        return offHeap ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
     }
 
     /**
@@ -93,6 +151,66 @@ public final class MemoryCache implements ICache {
      */
     @Override
     public void close() {
-        this.mainCache.clear();
+        this.mainCache.invalidateAll();
+        this.mainCache.cleanUp();
+    }
+
+    private static final class CachedBody {
+
+        private final ByteBuffer[] chunks;
+
+        private final long size;
+
+        private final long timeoutNanos;
+
+        CachedBody(final ByteBuffer[] chunks, final long size, final long timeoutNanos) {
+            this.chunks = chunks;
+            this.size = size;
+            this.timeoutNanos = timeoutNanos;
+        }
+
+        int weight(final String key) {
+            return (int) Math.min(Integer.MAX_VALUE, size + key.length() * 2L + ENTRY_OVERHEAD);
+        }
+
+        List<ByteBuffer> views() {
+            if (chunks.length == 1) {
+                return Collections.singletonList(chunks[0].duplicate());
+            }
+            List<ByteBuffer> views = new ArrayList<>(chunks.length);
+            for (ByteBuffer chunk : chunks) {
+                views.add(chunk.duplicate());
+            }
+            return views;
+        }
+
+        byte[] toBytes() {
+            byte[] bytes = new byte[(int) size];
+            int offset = 0;
+            for (ByteBuffer chunk : chunks) {
+                int length = chunk.remaining();
+                chunk.duplicate().get(bytes, offset, length);
+                offset += length;
+            }
+            return bytes;
+        }
+    }
+
+    private static final class BodyExpiry implements Expiry<String, CachedBody> {
+
+        @Override
+        public long expireAfterCreate(final String key, final CachedBody body, final long currentTime) {
+            return body.timeoutNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(final String key, final CachedBody body, final long currentTime, final long currentDuration) {
+            return body.timeoutNanos;
+        }
+
+        @Override
+        public long expireAfterRead(final String key, final CachedBody body, final long currentTime, final long currentDuration) {
+            return currentDuration;
+        }
     }
 }
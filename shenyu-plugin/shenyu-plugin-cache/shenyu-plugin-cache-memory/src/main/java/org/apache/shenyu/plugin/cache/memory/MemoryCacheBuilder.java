@@ -17,10 +17,13 @@
 
 package org.apache.shenyu.plugin.cache.memory;
 
+import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.plugin.cache.ICache;
 import org.apache.shenyu.plugin.cache.ICacheBuilder;
 import org.apache.shenyu.spi.Join;
 
+import java.util.Objects;
+
 /**
  * MemoryCacheBuilder.
  */
@@ -35,6 +38,7 @@ public class MemoryCacheBuilder implements ICacheBuilder {
      */
     @Override
     public ICache builderCache(final String cacheConfig) {
-        return new MemoryCache();
+        MemoryConfigProperties memoryConfigProperties = GsonUtils.getInstance().fromJson(cacheConfig, MemoryConfigProperties.class);
+        return new MemoryCache(Objects.isNull(memoryConfigProperties) ? new MemoryConfigProperties() : memoryConfigProperties);
     }
 }
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.cache.memory;
+
+/**
+ * The configuration for memory cache.
+ */
+public class MemoryConfigProperties {
+
+    /**
+     * the max bytes of all cached bodies, in megabytes.
+     */
+    private Integer maxMemorySize = 256;
+
+    /**
+     * store the bodies off heap.
+     */
+    private Boolean offHeap = true;
+
+    /**
+     * Gets max memory size.
+     *
+     * @return the max memory size
+     */
+    public Integer getMaxMemorySize() {
+        return maxMemorySize;
+    }
+
+    /**
+     * Sets max memory size.
+     *
+     * @param maxMemorySize the max memory size
+     */
+    public void setMaxMemorySize(final Integer maxMemorySize) {
+        this.maxMemorySize = maxMemorySize;
+    }
+
+    /**
+     * Gets off heap.
+     *
+     * @return the off heap
+     */
+    public Boolean getOffHeap() {
+        return offHeap;
+    }
+
+    /**
+     * Sets off heap.
+     *
+     * @param offHeap the off heap
+     */
+    public void setOffHeap(final Boolean offHeap) {
+        this.offHeap = offHeap;
+    }
+}
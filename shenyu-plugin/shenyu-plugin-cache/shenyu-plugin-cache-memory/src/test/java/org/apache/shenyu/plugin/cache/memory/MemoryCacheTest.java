@@ -17,18 +17,20 @@
 
 package org.apache.shenyu.plugin.cache.memory;
 
-import org.junit.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.junit.jupiter.MockitoExtension;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * MemoryCacheTest.
  */
-@ExtendWith(MockitoExtension.class)
 public class MemoryCacheTest {
 
     @Test
@@ -42,4 +44,43 @@ public class MemoryCacheTest {
         memoryCache.getData(key).subscribe(v -> assertEquals("data", new String(v, StandardCharsets.UTF_8)));
     }
 
+    @Test
+    public void testCacheBody() {
+        final MemoryCache memoryCache = new MemoryCache();
+        final ByteBuffer first = memoryCache.allocateChunk(3);
+        first.duplicate().put("abc".getBytes(StandardCharsets.UTF_8));
+        final ByteBuffer second = memoryCache.allocateChunk(2);
+        second.duplicate().put("de".getBytes(StandardCharsets.UTF_8));
+        assertTrue(first.isDirect());
+        StepVerifier.create(memoryCache.cacheBody("body", Arrays.asList(first, second), 10)).expectNext(Boolean.TRUE).verifyComplete();
+        final List<ByteBuffer> chunks = memoryCache.getBody("body").block();
+        assertEquals(2, chunks.size());
+        assertEquals(3, chunks.get(0).remaining());
+        assertTrue(chunks.get(0).isReadOnly());
+        chunks.get(0).get();
+        assertEquals(3, memoryCache.getBody("body").block().get(0).remaining());
+        StepVerifier.create(memoryCache.getData("body")).expectNextMatches(bytes -> "abcde".equals(new String(bytes, StandardCharsets.UTF_8)))
+                .verifyComplete();
+    }
+
+    @Test
+    public void testMemoryBudget() {
+        final MemoryConfigProperties properties = new MemoryConfigProperties();
+        properties.setMaxMemorySize(1);
+        properties.setOffHeap(false);
+        final MemoryCache memoryCache = new MemoryCache(properties);
+        final byte[] bytes = new byte[256 * 1024];
+        for (int i = 0; i < 16; i++) {
+            memoryCache.cacheData("key" + i, bytes, 10).block();
+        }
+        long cached = 0;
+        for (int i = 0; i < 16; i++) {
+            if (Boolean.TRUE.equals(memoryCache.isExist("key" + i).block())) {
+                cached++;
+            }
+        }
+        assertTrue(cached <= 4);
+        StepVerifier.create(memoryCache.cacheData("expired", bytes, 0)).expectNext(Boolean.FALSE).verifyComplete();
+        StepVerifier.create(memoryCache.getData("expired")).verifyComplete();
+    }
 }
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.cache;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The cached response, the content type and the body are stored as one entry.
+ *
+ * <p>The first chunk of the entry is the header: magic, the time in millis the response is fresh until,
+ * the length of the content type and the content type, the body follows it.</p>
+ */
+public final class CachedResponse {
+
+    private static final int MAGIC = 0x53594331;
+
+    private static final int HEADER_LENGTH = Integer.BYTES + Long.BYTES + Integer.BYTES;
+
+    private final MediaType contentType;
+
+    private final long freshUntil;
+
+    private final List<ByteBuffer> body;
+
+    public CachedResponse(final MediaType contentType, final long freshUntil, final List<ByteBuffer> body) {
+        this.contentType = contentType;
+        this.freshUntil = freshUntil;
+        this.body = body;
+    }
+
+    /**
+     * Decode the cached entry.
+     *
+     * @param chunks the chunks of the entry
+     * @return the cached response, null when the entry is not written by this class
+     */
+    public static CachedResponse decode(final List<ByteBuffer> chunks) {
+        if (Objects.isNull(chunks) || chunks.isEmpty()) {
+            return null;
+        }
+        ByteBuffer header = chunks.get(0).duplicate();
+        if (header.remaining() < HEADER_LENGTH || header.getInt() != MAGIC) {
+            return null;
+        }
+        final long freshUntil = header.getLong();
+        int contentTypeLength = header.getInt();
+        if (contentTypeLength < 0 || contentTypeLength > header.remaining()) {
+            return null;
+        }
+        MediaType contentType = null;
+        if (contentTypeLength > 0) {
+            byte[] contentTypeBytes = new byte[contentTypeLength];
+            header.get(contentTypeBytes);
+            try {
+                contentType = MediaType.valueOf(new String(contentTypeBytes, StandardCharsets.UTF_8));
+            } catch (InvalidMediaTypeException e) {
+                return null;
+            }
+        }
+        List<ByteBuffer> body = new ArrayList<>(chunks.size());
+        if (header.hasRemaining()) {
+            body.add(header.slice());
+        }
+        body.addAll(chunks.subList(1, chunks.size()));
+        return new CachedResponse(contentType, freshUntil, body);
+    }
+
+    /**
+     * Encode the response to the chunks of the entry, the body chunks are not copied.
+     *
+     * @return the chunks
+     */
+    public List<ByteBuffer> encode() {
+        byte[] contentTypeBytes = Objects.isNull(contentType) ? new byte[0] : contentType.toString().getBytes(StandardCharsets.UTF_8);
+        byte[] header = new byte[HEADER_LENGTH + contentTypeBytes.length];
+        ByteBuffer.wrap(header).putInt(MAGIC).putLong(freshUntil).putInt(contentTypeBytes.length).put(contentTypeBytes);
+        List<ByteBuffer> chunks = new ArrayList<>(body.size() + 1);
+        chunks.add(ByteBuffer.wrap(header));
+        chunks.addAll(body);
+        return chunks;
+    }
+
+    /**
+     * Whether the response is fresh.
+     *
+     * @param now the current time in millis
+     * @return fresh or not
+     */
+    public boolean isFresh(final long now) {
+        return now < freshUntil;
+    }
+
+    /**
+     * Gets content type.
+     *
+     * @return the content type, null when the response has none
+     */
+    public MediaType getContentType() {
+        return contentType;
+    }
+
+    /**
+     * Gets the body chunks.
+     *
+     * @return the body
+     */
+    public List<ByteBuffer> getBody() {
+        return Collections.unmodifiableList(body);
+    }
+
+    /**
+     * Gets the length of the body.
+     *
+     * @return the content length
+     */
+    public long getContentLength() {
+        long contentLength = 0;
+        for (ByteBuffer chunk : body) {
+            contentLength += chunk.remaining();
+        }
+        return contentLength;
+    }
+}
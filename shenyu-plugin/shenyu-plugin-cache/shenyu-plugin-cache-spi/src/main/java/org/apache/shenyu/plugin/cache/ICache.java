@@ -22,7 +22,10 @@ import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * ICache.
@@ -52,6 +55,42 @@ public interface ICache {
      */
     Mono<byte[]> getData(String key);
 
+    /**
+     * Cache the body made of the chunks with the key, the cache owns the chunks after the call.
+     * @param key the cache key
+     * @param chunks the body chunks, they are allocated by {@linkplain #allocateChunk(int)}
+     * @param timeoutSeconds value valid time
+     * @return success or not
+     */
+    default Mono<Boolean> cacheBody(final String key, final List<ByteBuffer> chunks, final long timeoutSeconds) {
+        byte[] bytes = new byte[chunks.stream().mapToInt(ByteBuffer::remaining).sum()];
+        int offset = 0;
+        for (ByteBuffer chunk : chunks) {
+            int length = chunk.remaining();
+            chunk.duplicate().get(bytes, offset, length);
+            offset += length;
+        }
+        return cacheData(key, bytes, timeoutSeconds);
+    }
+
+    /**
+     * Get the body chunks with the key, the chunks are views of the cached data and must not be modified.
+     * @param key the cache key
+     * @return the body chunks
+     */
+    default Mono<List<ByteBuffer>> getBody(final String key) {
+        return getData(key).map(bytes -> Collections.singletonList(ByteBuffer.wrap(bytes)));
+    }
+
+    /**
+     * Allocate the buffer holding a chunk of the body to be cached.
+     * @param capacity the capacity
+     * @return the buffer
+     */
+    default ByteBuffer allocateChunk(final int capacity) {
+        return ByteBuffer.allocate(capacity);
+    }
+
     /**
      * cache the content type.
      * @param key the key
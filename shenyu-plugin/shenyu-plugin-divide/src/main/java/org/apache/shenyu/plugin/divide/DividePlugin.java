@@ -108,8 +108,17 @@ public class DividePlugin extends AbstractShenyuPlugin {
         exchange.getAttributes().put(Constants.HTTP_RETRY, ruleHandle.getRetry());
         // set retry strategy stuff
         exchange.getAttributes().put(Constants.RETRY_STRATEGY, StringUtils.defaultString(ruleHandle.getRetryStrategy(), RetryEnum.CURRENT.getName()));
+        exchange.getAttributes().put(Constants.HTTP_HEDGE_DELAY, ruleHandle.getHedgeDelay());
+        exchange.getAttributes().put(Constants.RETRY_BUDGET, ruleHandle.getRetryBudget());
         exchange.getAttributes().put(Constants.LOAD_BALANCE, StringUtils.defaultString(ruleHandle.getLoadBalance(), LoadBalanceEnum.RANDOM.getName()));
         exchange.getAttributes().put(Constants.DIVIDE_SELECTOR_ID, selector.getId());
+        exchange.getAttributes().put(Constants.DIVIDE_RULE_ID, rule.getId());
+        if (upstreamList.size() > 1 && LoadBalanceEnum.HASH.getName().equals(ruleHandle.getLoadBalance())
+                && UpstreamCacheManager.getInstance().isBoundedLoad()) {
+            // the bounded load hash only reads the inflight count, it is taken and released around the request here
+            upstream.getHashInflight().incrementAndGet();
+            return chain.execute(exchange).doFinally(signal -> upstream.getHashInflight().decrementAndGet());
+        }
         return ruleHandle.getLoadBalance().equals(P2C) ? chain.execute(exchange).doOnSuccess(e -> responseTrigger(upstream
         )).doOnError(throwable -> responseTrigger(upstream)) : chain.execute(exchange);
     }
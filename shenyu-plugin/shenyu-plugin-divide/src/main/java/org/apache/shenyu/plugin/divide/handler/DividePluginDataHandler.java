@@ -76,6 +76,7 @@ public class DividePluginDataHandler implements PluginDataHandler {
     @Override
     public void removeRule(final RuleData ruleData) {
         Optional.ofNullable(ruleData.getHandle()).ifPresent(s -> CACHED_HANDLE.get().removeHandle(CacheKeyUtils.INST.getKey(ruleData)));
+        UpstreamCacheManager.getInstance().removeRetryBudget(ruleData.getSelectorId(), ruleData.getId());
         MetaDataCache.getInstance().clean();
     }
 
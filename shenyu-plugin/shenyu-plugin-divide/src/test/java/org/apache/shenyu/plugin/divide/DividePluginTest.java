@@ -231,6 +231,7 @@ public final class DividePluginTest {
         DivideRuleHandle handle = new DivideRuleHandle();
         when(selectorData.getId()).thenReturn("mock");
         when(selectorData.getHandle()).thenReturn(GsonUtils.getGson().toJson(divideUpstreamList));
+        when(ruleData.getId()).thenReturn("mock");
         when(ruleData.getHandle()).thenReturn(GsonUtils.getGson().toJson(handle));
         DividePluginDataHandler dividePluginDataHandler = new DividePluginDataHandler();
         dividePluginDataHandler.handlerRule(ruleData);
@@ -17,7 +17,9 @@
 
 package org.apache.shenyu.plugin.dubbo.common.param;
 
+import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
+import org.apache.shenyu.common.utils.GsonUtils;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -31,6 +33,8 @@ import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
 /**
@@ -80,5 +84,26 @@ public class DubboParamResolveServiceTest {
         assertNull(idList1.get(0));
         assertNull(idList1.get(1));
     }
-}
 
+    @Test
+    public void testBuildParameterInOnePass() {
+        String body = "{\"id\":1,\"price\":1.5,\"name\":\"shenyu\",\"enabled\":true,\"ids\":[1,2],"
+                + "\"bean\":{\"count\":2,\"tags\":[1,\"a\",true,{\"k\":\"v\"}],\"ext\":\"{\\\"a\\\":1}\"}}";
+        String parameterTypes = "java.lang.Long,java.lang.Double,java.lang.String,java.lang.Boolean,java.util.List,java.util.Map";
+        Pair<String[], Object[]> pair = impl.buildParameter(body, parameterTypes);
+        assertArrayEquals(StringUtils.split(parameterTypes, ","), pair.getLeft());
+        assertEquals(1L, pair.getRight()[0]);
+        assertEquals(1.5D, pair.getRight()[1]);
+        assertEquals("shenyu", pair.getRight()[2]);
+        assertEquals(true, pair.getRight()[3]);
+        assertEquals(GsonUtils.getInstance().fromList("[1,2]", Object.class), pair.getRight()[4]);
+        Map<String, Object> expected = GsonUtils.getInstance().convertToMap(
+                "{\"count\":2,\"tags\":[1,\"a\",true,{\"k\":\"v\"}],\"ext\":\"{\\\"a\\\":1}\"}");
+        assertEquals(expected, pair.getRight()[5]);
+
+        parameterTypes = "{\"name\":\"java.lang.String\",\"id\":\"java.lang.Long\"}";
+        pair = impl.buildParameter(body, parameterTypes);
+        assertArrayEquals(new String[]{"java.lang.String", "java.lang.Long"}, pair.getLeft());
+        assertArrayEquals(new Object[]{"shenyu", 1L}, pair.getRight());
+    }
+}
@@ -24,6 +24,7 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.enums.RetryEnum;
 import org.apache.shenyu.common.exception.ShenyuException;
+import org.apache.shenyu.loadbalancer.cache.RetryBudget;
 import org.apache.shenyu.loadbalancer.cache.UpstreamCacheManager;
 import org.apache.shenyu.loadbalancer.entity.Upstream;
 import org.apache.shenyu.loadbalancer.factory.LoadBalancerFactory;
@@ -39,11 +40,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 import reactor.util.retry.Retry;
 import reactor.util.retry.RetryBackoffSpec;
 
@@ -54,6 +57,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -65,6 +69,8 @@ public abstract class AbstractHttpClientPlugin<R> implements ShenyuPlugin {
 
     protected static final Logger LOG = LoggerFactory.getLogger(AbstractHttpClientPlugin.class);
 
+    private static final String HEDGE_STATE = "hedgeState";
+
     @Override
     public final Mono<Void> execute(final ServerWebExchange exchange, final ShenyuPluginChain chain) {
         final ShenyuContext shenyuContext = exchange.getAttribute(Constants.CONTEXT);
@@ -80,9 +86,7 @@ public abstract class AbstractHttpClientPlugin<R> implements ShenyuPlugin {
         final String retryStrategy = (String) Optional.ofNullable(exchange.getAttribute(Constants.RETRY_STRATEGY)).orElseGet(RetryEnum.CURRENT::getName);
         LOG.info("The request urlPath is {}, retryTimes is {}, retryStrategy is {}", uri, retryTimes, retryStrategy);
         final HttpHeaders httpHeaders = buildHttpHeaders(exchange);
-        final Mono<R> response = doRequest(exchange, exchange.getRequest().getMethodValue(), uri, httpHeaders, exchange.getRequest().getBody())
-                .timeout(duration, Mono.error(new TimeoutException("Response took longer than timeout: " + duration)))
-                .doOnError(e -> LOG.error(e.getMessage(), e));
+        final Mono<R> response = request(exchange, uri, httpHeaders, duration);
         if (RetryEnum.CURRENT.getName().equals(retryStrategy)) {
             //old version of DividePlugin and SpringCloudPlugin will run on this
             RetryBackoffSpec retryBackoffSpec = Retry.backoff(retryTimes, Duration.ofMillis(20L))
@@ -94,28 +98,122 @@ public abstract class AbstractHttpClientPlugin<R> implements ShenyuPlugin {
                     .onRetryExhaustedThrow((retryBackoffSpecErr, retrySignal) -> {
                         throw new ShenyuTimeoutException("Request timeout, the maximum number of retry times has been exceeded");
                     });
-            return response.retryWhen(retryBackoffSpec)
+            return recordLatency(exchange, response.retryWhen(retryBackoffSpec))
                     .onErrorMap(ShenyuTimeoutException.class, th -> new ResponseStatusException(HttpStatus.REQUEST_TIMEOUT, th.getMessage(), th))
                     .onErrorMap(TimeoutException.class, th -> new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT, th.getMessage(), th))
                     .flatMap((Function<Object, Mono<? extends Void>>) o -> chain.execute(exchange));
         }
-        final Set<URI> exclude = Sets.newHashSet(uri);
-        return resend(response, exchange, duration, httpHeaders, exclude, retryTimes)
+        final Set<String> exclude = Sets.newHashSet(upstreamKey(uri));
+        final RetryBudget budget = obtainRetryBudget(exchange, retryStrategy);
+        final Mono<R> result;
+        if (RetryEnum.HEDGE.getName().equals(retryStrategy) && retryTimes > 0 && Objects.nonNull(budget) && isIdempotent(exchange)) {
+            final Mono<R> hedged = hedge(response, exchange, duration, httpHeaders, exclude, budget);
+            result = resend(hedged, exchange, duration, httpHeaders, exclude, retryTimes - 1, budget);
+        } else {
+            result = resend(response, exchange, duration, httpHeaders, exclude, retryTimes, budget);
+        }
+        return recordLatency(exchange, result)
                 .onErrorMap(ShenyuException.class, th -> new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
                         ShenyuResultEnum.CANNOT_FIND_HEALTHY_UPSTREAM_URL_AFTER_FAILOVER.getMsg(), th))
                 .onErrorMap(TimeoutException.class, th -> new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT, th.getMessage(), th))
                 .flatMap((Function<Object, Mono<? extends Void>>) o -> chain.execute(exchange));
     }
 
+    /**
+     * Claim the response of the request, only one response of a hedged request is claimed and a 5xx response
+     * is not claimed while the other attempt is still running. The response that is not claimed must be released
+     * without touching the exchange. The outcome of the upstream is recorded from its own status code first,
+     * whether the response is claimed or not.
+     *
+     * @param exchange   the current server exchange
+     * @param uri        the request uri
+     * @param statusCode the status code of the response
+     * @return true if the response is claimed
+     */
+    protected boolean claimResponse(final ServerWebExchange exchange, final URI uri, final int statusCode) {
+        final boolean serverError = statusCode >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+        recordOutcome(exchange, uri, !serverError);
+        final HedgeState state = exchange.getAttribute(HEDGE_STATE);
+        return Objects.isNull(state) || state.claim(serverError);
+    }
+
+    private Mono<R> recordLatency(final ServerWebExchange exchange, final Mono<R> response) {
+        // the plugin is executed when the chain is subscribed, so the latency includes the retries
+        final long start = System.nanoTime();
+        return response.doOnSuccess(r -> exchange.getAttributes().put(Constants.UPSTREAM_LATENCY_NANOS, System.nanoTime() - start))
+                .doOnError(th -> exchange.getAttributes().put(Constants.UPSTREAM_LATENCY_NANOS, System.nanoTime() - start));
+    }
+
+    private RetryBudget obtainRetryBudget(final ServerWebExchange exchange, final String retryStrategy) {
+        final String selectorId = exchange.getAttribute(Constants.DIVIDE_SELECTOR_ID);
+        final String ruleId = exchange.getAttribute(Constants.DIVIDE_RULE_ID);
+        if (Objects.isNull(selectorId) || Objects.isNull(ruleId)
+                || !RetryEnum.BUDGET.getName().equals(retryStrategy) && !RetryEnum.HEDGE.getName().equals(retryStrategy)) {
+            return null;
+        }
+        final int percent = (int) Optional.ofNullable(exchange.getAttribute(Constants.RETRY_BUDGET)).orElse(20);
+        final RetryBudget budget = UpstreamCacheManager.getInstance().obtainRetryBudget(selectorId, ruleId, percent);
+        // every request earns a share of a retry, whether it is retried or not
+        budget.deposit();
+        return budget;
+    }
+
+    private boolean isIdempotent(final ServerWebExchange exchange) {
+        // the request body can only be subscribed once, so only the requests without a body are hedged
+        final HttpMethod method = exchange.getRequest().getMethod();
+        return HttpMethod.GET == method || HttpMethod.HEAD == method || HttpMethod.OPTIONS == method;
+    }
+
+    private Mono<R> hedge(final Mono<R> response,
+                          final ServerWebExchange exchange,
+                          final Duration duration,
+                          final HttpHeaders httpHeaders,
+                          final Set<String> exclude,
+                          final RetryBudget budget) {
+        final long hedgeDelay = (long) Optional.ofNullable(exchange.getAttribute(Constants.HTTP_HEDGE_DELAY)).orElse(100L);
+        return Mono.defer(() -> {
+            final HedgeState state = new HedgeState();
+            exchange.getAttributes().put(HEDGE_STATE, state);
+            final Sinks.Empty<Void> failed = Sinks.empty();
+            final AtomicReference<Throwable> error = new AtomicReference<>();
+            // the hedged attempt starts after the delay, or as soon as the first attempt fails
+            final Mono<R> hedged = Mono.firstWithSignal(Mono.delay(Duration.ofMillis(hedgeDelay)).then(), failed.asMono())
+                    .then(Mono.defer(() -> {
+                        final URI newUri = selectRetryUri(exchange, exclude);
+                        if (Objects.isNull(newUri) || !budget.tryWithdraw()) {
+                            return Mono.empty();
+                        }
+                        exclude.add(upstreamKey(newUri));
+                        state.start();
+                        return request(exchange, newUri, httpHeaders, duration).doOnError(th -> state.finish());
+                    }));
+            final Mono<R> primary = response.doOnError(th -> {
+                state.finish();
+                failed.tryEmitEmpty();
+            });
+            // the claimed response wins and the other attempt is cancelled
+            return Flux.merge(primary.onErrorResume(th -> keepError(error, th)), hedged.onErrorResume(th -> keepError(error, th)))
+                    .next()
+                    .switchIfEmpty(Mono.defer(() -> Mono.error(error.get())))
+                    .doOnError(th -> exchange.getAttributes().remove(HEDGE_STATE));
+        });
+    }
+
+    private Mono<R> keepError(final AtomicReference<Throwable> error, final Throwable th) {
+        error.compareAndSet(null, th);
+        return Mono.empty();
+    }
+
     private Mono<R> resend(final Mono<R> clientResponse,
                            final ServerWebExchange exchange,
                            final Duration duration,
                            final HttpHeaders httpHeaders,
-                           final Set<URI> exclude,
-                           final int retryTimes) {
+                           final Set<String> exclude,
+                           final int retryTimes,
+                           final RetryBudget budget) {
         Mono<R> result = clientResponse;
         for (int i = 0; i < retryTimes; i++) {
-            result = resend(result, exchange, duration, httpHeaders, exclude);
+            result = resend(result, exchange, duration, httpHeaders, exclude, budget);
         }
         return result;
     }
@@ -124,42 +222,63 @@ public abstract class AbstractHttpClientPlugin<R> implements ShenyuPlugin {
                            final ServerWebExchange exchange,
                            final Duration duration,
                            final HttpHeaders httpHeaders,
-                           final Set<URI> exclude) {
+                           final Set<String> exclude,
+                           final RetryBudget budget) {
         // does it necessary to add backoff interval time ?
         return response.onErrorResume(th -> {
-            final String selectorId = exchange.getAttribute(Constants.DIVIDE_SELECTOR_ID);
-            final String loadBalance = exchange.getAttribute(Constants.LOAD_BALANCE);
-            //always query the latest available list
-            final List<Upstream> upstreamList = UpstreamCacheManager.getInstance().findUpstreamListBySelectorId(selectorId)
-                    .stream().filter(data -> {
-                        final String trimUri = data.getUrl().trim();
-                        for (URI needToExclude : exclude) {
-                            // exclude already called
-                            if ((needToExclude.getHost() + ":" + needToExclude.getPort()).equals(trimUri)) {
-                                return false;
-                            }
-                        }
-                        return true;
-                    }).collect(Collectors.toList());
-            if (CollectionUtils.isEmpty(upstreamList)) {
+            final URI newUri = selectRetryUri(exchange, exclude);
+            if (Objects.isNull(newUri)) {
                 // no need to retry anymore
                 return Mono.error(new ShenyuException(ShenyuResultEnum.CANNOT_FIND_HEALTHY_UPSTREAM_URL_AFTER_FAILOVER.getMsg()));
             }
-            final String ip = Objects.requireNonNull(exchange.getRequest().getRemoteAddress()).getAddress().getHostAddress();
-            final Upstream upstream = LoadBalancerFactory.selector(upstreamList, loadBalance, ip);
-            if (Objects.isNull(upstream)) {
-                // no need to retry anymore
-                return Mono.error(new ShenyuException(ShenyuResultEnum.CANNOT_FIND_HEALTHY_UPSTREAM_URL_AFTER_FAILOVER.getMsg()));
+            if (Objects.nonNull(budget) && !budget.tryWithdraw()) {
+                // the retry budget of the selector is spent, fail fast with the error of the last attempt
+                return Mono.error(th);
             }
-            final URI newUri = RequestUrlUtils.buildRequestUri(exchange, upstream.buildDomain());
             // in order not to affect the next retry call, newUri needs to be excluded
-            exclude.add(newUri);
-            return doRequest(exchange, exchange.getRequest().getMethodValue(), newUri, httpHeaders, exchange.getRequest().getBody())
-                    .timeout(duration, Mono.error(new TimeoutException("Response took longer than timeout: " + duration)))
-                    .doOnError(e -> LOG.error(e.getMessage(), e));
+            exclude.add(upstreamKey(newUri));
+            return request(exchange, newUri, httpHeaders, duration);
         });
     }
 
+    private URI selectRetryUri(final ServerWebExchange exchange, final Set<String> exclude) {
+        final String selectorId = exchange.getAttribute(Constants.DIVIDE_SELECTOR_ID);
+        final String loadBalance = exchange.getAttribute(Constants.LOAD_BALANCE);
+        //always query the latest available list, exclude already called
+        final List<Upstream> upstreamList = UpstreamCacheManager.getInstance().findUpstreamListBySelectorId(selectorId)
+                .stream().filter(data -> !exclude.contains(data.getAddress())).collect(Collectors.toList());
+        if (CollectionUtils.isEmpty(upstreamList)) {
+            return null;
+        }
+        final String ip = Objects.requireNonNull(exchange.getRequest().getRemoteAddress()).getAddress().getHostAddress();
+        final Upstream upstream = LoadBalancerFactory.selector(upstreamList, loadBalance, ip);
+        if (Objects.isNull(upstream)) {
+            return null;
+        }
+        return RequestUrlUtils.buildRequestUri(exchange, upstream.buildDomain());
+    }
+
+    private static String upstreamKey(final URI uri) {
+        return uri.getHost() + ":" + (uri.getPort() < 0 ? Upstream.defaultPort(uri.getScheme()) : uri.getPort());
+    }
+
+    private Mono<R> request(final ServerWebExchange exchange, final URI uri, final HttpHeaders httpHeaders, final Duration duration) {
+        return doRequest(exchange, exchange.getRequest().getMethodValue(), uri, httpHeaders, exchange.getRequest().getBody())
+                .timeout(duration, Mono.error(new TimeoutException("Response took longer than timeout: " + duration)))
+                .doOnError(e -> {
+                    LOG.error(e.getMessage(), e);
+                    recordOutcome(exchange, uri, false);
+                });
+    }
+
+    private void recordOutcome(final ServerWebExchange exchange, final URI uri, final boolean success) {
+        // feed the passive outlier detection of the divide upstreams
+        final String selectorId = exchange.getAttribute(Constants.DIVIDE_SELECTOR_ID);
+        if (Objects.nonNull(selectorId) && UpstreamCacheManager.getInstance().isOutlierDetectionEnabled()) {
+            UpstreamCacheManager.getInstance().recordOutcome(selectorId, upstreamKey(uri), success);
+        }
+    }
+
     /**
      * Build the http request headers.
      *
@@ -193,4 +312,34 @@ public abstract class AbstractHttpClientPlugin<R> implements ShenyuPlugin {
     protected abstract Mono<R> doRequest(ServerWebExchange exchange, String httpMethod,
                                          URI uri, HttpHeaders httpHeaders, Flux<DataBuffer> body);
 
+    /**
+     * The attempts of a hedged request, a 5xx response only wins when no other attempt is still running.
+     */
+    private static final class HedgeState {
+
+        private int running = 1;
+
+        private boolean claimed;
+
+        synchronized void start() {
+            running++;
+        }
+
+        synchronized void finish() {
+            running--;
+        }
+
+        synchronized boolean claim(final boolean serverError) {
+            if (claimed) {
+                return false;
+            }
+            if (serverError && running > 1) {
+                // the other attempt may still succeed, this one is given up
+                running--;
+                return false;
+            }
+            claimed = true;
+            return true;
+        }
+    }
 }
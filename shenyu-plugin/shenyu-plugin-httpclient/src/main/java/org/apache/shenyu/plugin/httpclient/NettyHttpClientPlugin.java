@@ -21,6 +21,7 @@ import io.netty.handler.codec.http.HttpMethod;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.enums.PluginEnum;
+import org.apache.shenyu.plugin.httpclient.pool.UpstreamConnectionPools;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.NettyDataBuffer;
 import org.springframework.http.HttpHeaders;
@@ -34,6 +35,7 @@ import reactor.netty.http.client.HttpClient;
 import reactor.netty.http.client.HttpClientResponse;
 
 import java.net.URI;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
 
@@ -44,22 +46,54 @@ public class NettyHttpClientPlugin extends AbstractHttpClientPlugin<HttpClientRe
 
     private final HttpClient httpClient;
 
+    private final UpstreamConnectionPools upstreamPools;
+
     /**
      * Instantiates a new Netty http client plugin.
      *
      * @param httpClient the http client
      */
     public NettyHttpClientPlugin(final HttpClient httpClient) {
+        this(httpClient, null);
+    }
+
+    /**
+     * Instantiates a new Netty http client plugin.
+     *
+     * @param httpClient    the http client
+     * @param upstreamPools the connection pools of the upstreams, the http client is used if it is null
+     */
+    public NettyHttpClientPlugin(final HttpClient httpClient, final UpstreamConnectionPools upstreamPools) {
         this.httpClient = httpClient;
+        this.upstreamPools = upstreamPools;
     }
 
     @Override
     protected Mono<HttpClientResponse> doRequest(final ServerWebExchange exchange, final String httpMethod, final URI uri,
                                 final HttpHeaders httpHeaders, final Flux<DataBuffer> body) {
-        return Mono.from(httpClient.headers(headers -> httpHeaders.forEach(headers::add))
+        if (Objects.isNull(upstreamPools)) {
+            return request(httpClient, exchange, httpMethod, uri, httpHeaders, body);
+        }
+        return Mono.defer(() -> {
+            final long start = System.nanoTime();
+            final UpstreamConnectionPools.UpstreamClient upstream = upstreamPools.obtain(uri);
+            HttpClient client = upstream.getClient()
+                    .doOnRequest((req, connection) -> upstream.recordAcquire(System.nanoTime() - start));
+            return request(client, exchange, httpMethod, uri, httpHeaders, body);
+        });
+    }
+
+    private Mono<HttpClientResponse> request(final HttpClient client, final ServerWebExchange exchange, final String httpMethod, final URI uri,
+                                             final HttpHeaders httpHeaders, final Flux<DataBuffer> body) {
+        return Mono.from(client.headers(headers -> httpHeaders.forEach(headers::add))
                 .request(HttpMethod.valueOf(httpMethod)).uri(uri.toASCIIString())
                 .send((req, nettyOutbound) -> nettyOutbound.send(body.map(dataBuffer -> ((NettyDataBuffer) dataBuffer).getNativeBuffer())))
                 .responseConnection((res, connection) -> {
+                    if (!claimResponse(exchange, uri, res.status().code())) {
+                        // the other attempt of the hedged request has won
+                        connection.dispose();
+                        return Mono.empty();
+                    }
                     exchange.getAttributes().put(Constants.CLIENT_RESPONSE_ATTR, res);
                     exchange.getAttributes().put(Constants.CLIENT_RESPONSE_CONN_ATTR, connection);
                     ServerHttpResponse response = exchange.getResponse();
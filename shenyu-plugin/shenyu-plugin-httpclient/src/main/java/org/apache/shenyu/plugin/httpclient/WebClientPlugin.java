@@ -32,6 +32,7 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.net.URI;
+import java.util.Objects;
 import java.util.Optional;
 
 /**
@@ -70,7 +71,12 @@ public class WebClientPlugin extends AbstractHttpClientPlugin<ClientResponse> {
                             }
                             return Mono.just(builder.build());
                         }))
+                .filter(res -> claimResponse(exchange, uri, res.rawStatusCode()))
                 .doOnSuccess(res -> {
+                    if (Objects.isNull(res)) {
+                        // the other attempt of the hedged request has won
+                        return;
+                    }
                     if (res.statusCode().is2xxSuccessful()) {
                         exchange.getAttributes().put(Constants.CLIENT_RESPONSE_RESULT_TYPE, ResultEnum.SUCCESS.getName());
                     } else {
@@ -38,7 +38,9 @@ import java.security.cert.X509Certificate;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -422,6 +424,34 @@ public class HttpClientProperties {
          */
         private Long maxIdleTime;
 
+        /**
+         * Only for type UPSTREAM, the maximum number of pending acquires, -1 means no limit,
+         * if NULL it is twice the max connections.
+         */
+        private Integer pendingAcquireMaxCount;
+
+        /**
+         * Only for type UPSTREAM, the interval in millis to evict the idle connections in background,
+         * if NULL the idle connections are only evicted when they are acquired.
+         */
+        private Long evictionInterval;
+
+        /**
+         * Only for type UPSTREAM, the time in millis after which the pool of an upstream without requests is disposed
+         * with its metrics, 0 means the pools are never disposed.
+         */
+        private Long expireTime = 600000L;
+
+        /**
+         * Only for type UPSTREAM, negotiate HTTP/2: by ALPN for https upstreams and by h2c upgrade for http upstreams.
+         */
+        private boolean http2;
+
+        /**
+         * Only for type UPSTREAM, the pool settings of the upstreams, keyed by the upstream url (host:port).
+         */
+        private Map<String, UpstreamPool> upstreams = new LinkedHashMap<>();
+
         /**
          * Gets type.
          *
@@ -513,6 +543,96 @@ public class HttpClientProperties {
             this.maxIdleTime = maxIdleTime;
         }
 
+        /**
+         * Gets pending acquire max count.
+         *
+         * @return the pending acquire max count
+         */
+        public Integer getPendingAcquireMaxCount() {
+            return pendingAcquireMaxCount;
+        }
+
+        /**
+         * Sets pending acquire max count.
+         *
+         * @param pendingAcquireMaxCount the pending acquire max count
+         */
+        public void setPendingAcquireMaxCount(final Integer pendingAcquireMaxCount) {
+            this.pendingAcquireMaxCount = pendingAcquireMaxCount;
+        }
+
+        /**
+         * Gets eviction interval.
+         *
+         * @return the eviction interval
+         */
+        public Duration getEvictionInterval() {
+            return Optional.ofNullable(evictionInterval).map(Duration::ofMillis).orElse(Duration.ZERO);
+        }
+
+        /**
+         * Sets eviction interval.
+         *
+         * @param evictionInterval the eviction interval in millis
+         */
+        public void setEvictionInterval(final Long evictionInterval) {
+            this.evictionInterval = evictionInterval;
+        }
+
+        /**
+         * Gets expire time.
+         *
+         * @return the expire time
+         */
+        public Duration getExpireTime() {
+            return Optional.ofNullable(expireTime).map(Duration::ofMillis).orElse(Duration.ZERO);
+        }
+
+        /**
+         * Sets expire time.
+         *
+         * @param expireTime the expire time in millis
+         */
+        public void setExpireTime(final Long expireTime) {
+            this.expireTime = expireTime;
+        }
+
+        /**
+         * Whether to negotiate HTTP/2.
+         *
+         * @return true if enabled
+         */
+        public boolean isHttp2() {
+            return http2;
+        }
+
+        /**
+         * Sets http2.
+         *
+         * @param http2 whether to negotiate HTTP/2
+         */
+        public void setHttp2(final boolean http2) {
+            this.http2 = http2;
+        }
+
+        /**
+         * Gets the pool settings of the upstreams.
+         *
+         * @return the upstream pools
+         */
+        public Map<String, UpstreamPool> getUpstreams() {
+            return upstreams;
+        }
+
+        /**
+         * Sets the pool settings of the upstreams.
+         *
+         * @param upstreams the upstream pools
+         */
+        public void setUpstreams(final Map<String, UpstreamPool> upstreams) {
+            this.upstreams = upstreams;
+        }
+
         /**
          * The enum Pool type.
          */
@@ -531,7 +651,118 @@ public class HttpClientProperties {
             /**
              * Disabled pool type.
              */
-            DISABLED
+            DISABLED,
+
+            /**
+             * A fixed pool for every upstream, only for the netty http client plugin.
+             */
+            UPSTREAM
+        }
+    }
+
+    /**
+     * The pool settings of an upstream, the unset values are taken from the {@linkplain Pool}.
+     */
+    public static class UpstreamPool {
+
+        private Integer maxConnections;
+
+        private Integer pendingAcquireMaxCount;
+
+        private Long acquireTimeout;
+
+        private Long maxIdleTime;
+
+        private Boolean http2;
+
+        /**
+         * Gets max connections.
+         *
+         * @return the max connections
+         */
+        public Integer getMaxConnections() {
+            return maxConnections;
+        }
+
+        /**
+         * Sets max connections.
+         *
+         * @param maxConnections the max connections
+         */
+        public void setMaxConnections(final Integer maxConnections) {
+            this.maxConnections = maxConnections;
+        }
+
+        /**
+         * Gets pending acquire max count.
+         *
+         * @return the pending acquire max count
+         */
+        public Integer getPendingAcquireMaxCount() {
+            return pendingAcquireMaxCount;
+        }
+
+        /**
+         * Sets pending acquire max count.
+         *
+         * @param pendingAcquireMaxCount the pending acquire max count
+         */
+        public void setPendingAcquireMaxCount(final Integer pendingAcquireMaxCount) {
+            this.pendingAcquireMaxCount = pendingAcquireMaxCount;
+        }
+
+        /**
+         * Gets acquire timeout.
+         *
+         * @return the acquire timeout in millis
+         */
+        public Long getAcquireTimeout() {
+            return acquireTimeout;
+        }
+
+        /**
+         * Sets acquire timeout.
+         *
+         * @param acquireTimeout the acquire timeout in millis
+         */
+        public void setAcquireTimeout(final Long acquireTimeout) {
+            this.acquireTimeout = acquireTimeout;
+        }
+
+        /**
+         * Gets max idle time.
+         *
+         * @return the max idle time in millis
+         */
+        public Long getMaxIdleTime() {
+            return maxIdleTime;
+        }
+
+        /**
+         * Sets max idle time.
+         *
+         * @param maxIdleTime the max idle time in millis
+         */
+        public void setMaxIdleTime(final Long maxIdleTime) {
+            this.maxIdleTime = maxIdleTime;
+        }
+
+        /**
+         * Gets http2.
+         *
+         * @return whether to negotiate HTTP/2
+         */
+        public Boolean getHttp2() {
+            return http2;
+        }
+
+        /**
+         * Sets http2.
+         *
+         * @param http2 whether to negotiate HTTP/2
+         */
+        public void setHttp2(final Boolean http2) {
+            this.http2 = http2;
         }
     }
 
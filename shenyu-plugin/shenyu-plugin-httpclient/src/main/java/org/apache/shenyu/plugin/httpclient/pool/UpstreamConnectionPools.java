@@ -0,0 +1,236 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.httpclient.pool;
+
+import com.google.common.collect.Maps;
+import org.apache.shenyu.common.concurrent.ShenyuThreadFactory;
+import org.apache.shenyu.plugin.httpclient.config.HttpClientProperties;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * The connection pools of the upstreams, every upstream has its own {@link ConnectionProvider},
+ * so a slow upstream only exhausts its own connections and pending acquires.
+ * The pool of an upstream without requests for the expire time is disposed, so the pools of the removed upstreams are not kept.
+ */
+public final class UpstreamConnectionPools {
+
+    private static final String HTTPS = "https";
+
+    /**
+     * scheme://host:port -> the client of the upstream.
+     */
+    private final ConcurrentMap<String, UpstreamClient> clients = Maps.newConcurrentMap();
+
+    private final HttpClientProperties.Pool pool;
+
+    private final Function<ConnectionProvider, HttpClient> clientFactory;
+
+    private final ScheduledExecutorService expireExecutor;
+
+    private volatile Consumer<UpstreamPoolMetrics> listener;
+
+    private volatile Consumer<UpstreamPoolMetrics> removeListener;
+
+    /**
+     * Instantiates the upstream connection pools.
+     *
+     * @param pool          the pool properties
+     * @param clientFactory create the configured http client with the connection provider
+     */
+    public UpstreamConnectionPools(final HttpClientProperties.Pool pool, final Function<ConnectionProvider, HttpClient> clientFactory) {
+        this.pool = pool;
+        this.clientFactory = clientFactory;
+        long expireTime = pool.getExpireTime().toMillis();
+        if (expireTime > 0) {
+            expireExecutor = Executors.newSingleThreadScheduledExecutor(ShenyuThreadFactory.create("shenyu-upstream-pool-expire", true));
+            expireExecutor.scheduleWithFixedDelay(this::expire, expireTime, expireTime, TimeUnit.MILLISECONDS);
+        } else {
+            expireExecutor = null;
+        }
+    }
+
+    /**
+     * Obtain the client of the upstream of the uri, it is created with the first request to the upstream.
+     *
+     * @param uri the request uri
+     * @return the client
+     */
+    public HttpClient obtainClient(final URI uri) {
+        return obtain(uri).getClient();
+    }
+
+    /**
+     * Obtain the upstream of the uri, it is created with the first request to the upstream.
+     *
+     * @param uri the request uri
+     * @return the upstream client
+     */
+    public UpstreamClient obtain(final URI uri) {
+        String key = key(uri);
+        UpstreamClient client = clients.get(key);
+        if (Objects.isNull(client)) {
+            UpstreamClient created = clients.computeIfAbsent(key, k -> create(k, uri));
+            Optional.ofNullable(listener).ifPresent(l -> l.accept(created.metrics));
+            client = created;
+        }
+        client.lastAccess = System.nanoTime();
+        return client;
+    }
+
+    /**
+     * Get the metrics of the created pools.
+     *
+     * @return the metrics
+     */
+    public Collection<UpstreamPoolMetrics> getMetrics() {
+        Collection<UpstreamPoolMetrics> metrics = new ArrayList<>(clients.size());
+        clients.values().forEach(client -> metrics.add(client.metrics));
+        return metrics;
+    }
+
+    /**
+     * Listen to the metrics of the pools, the metrics of the created pools are sent at once.
+     *
+     * @param listener       the listener of the created pools
+     * @param removeListener the listener of the expired pools
+     */
+    public void listen(final Consumer<UpstreamPoolMetrics> listener, final Consumer<UpstreamPoolMetrics> removeListener) {
+        this.listener = listener;
+        this.removeListener = removeListener;
+        getMetrics().forEach(listener);
+    }
+
+    /**
+     * Dispose the pools.
+     */
+    public void dispose() {
+        Optional.ofNullable(expireExecutor).ifPresent(ScheduledExecutorService::shutdownNow);
+        clients.values().forEach(client -> client.provider.dispose());
+        clients.clear();
+    }
+
+    /**
+     * Dispose the pools without requests for the expire time and no connection in use.
+     */
+    void expire() {
+        long deadline = System.nanoTime() - pool.getExpireTime().toNanos();
+        clients.forEach((key, client) -> {
+            if (client.lastAccess - deadline < 0 && client.metrics.getActiveConnections() == 0
+                    && client.metrics.getPendingAcquires() == 0 && clients.remove(key, client)) {
+                client.provider.disposeLater().subscribe();
+                Optional.ofNullable(removeListener).ifPresent(l -> l.accept(client.metrics));
+            }
+        });
+    }
+
+    private UpstreamClient create(final String key, final URI uri) {
+        HttpClientProperties.UpstreamPool upstreamPool = pool.getUpstreams().getOrDefault(uri.getHost() + ":" + port(uri),
+                new HttpClientProperties.UpstreamPool());
+        UpstreamPoolMetrics metrics = new UpstreamPoolMetrics(key);
+        Long acquireTimeout = Optional.ofNullable(upstreamPool.getAcquireTimeout()).orElse(pool.getAcquireTimeout());
+        ConnectionProvider.Builder builder = ConnectionProvider.builder(pool.getName() + "-" + key)
+                .maxConnections(Optional.ofNullable(upstreamPool.getMaxConnections()).orElse(pool.getMaxConnections()))
+                .pendingAcquireTimeout(Duration.ofMillis(acquireTimeout))
+                .metrics(true, () -> (poolName, id, remoteAddress, poolMetrics) -> metrics.bind(poolMetrics));
+        Integer pendingAcquireMaxCount = Optional.ofNullable(upstreamPool.getPendingAcquireMaxCount()).orElse(pool.getPendingAcquireMaxCount());
+        if (Objects.nonNull(pendingAcquireMaxCount)) {
+            builder.pendingAcquireMaxCount(pendingAcquireMaxCount);
+        }
+        // a zero max idle time means no max idle time
+        Duration maxIdleTime = Optional.ofNullable(upstreamPool.getMaxIdleTime()).map(Duration::ofMillis).orElse(pool.getMaxIdleTime());
+        if (!maxIdleTime.isZero()) {
+            builder.maxIdleTime(maxIdleTime);
+        }
+        if (!pool.getEvictionInterval().isZero()) {
+            builder.evictInBackground(pool.getEvictionInterval());
+        }
+        ConnectionProvider provider = builder.build();
+        HttpClient client = clientFactory.apply(provider);
+        if (Optional.ofNullable(upstreamPool.getHttp2()).orElse(pool.isHttp2())) {
+            // h2 is negotiated by ALPN, h2c by the upgrade request, both fall back to HTTP/1.1
+            client = HTTPS.equalsIgnoreCase(uri.getScheme())
+                    ? client.protocol(HttpProtocol.H2, HttpProtocol.HTTP11)
+                    : client.protocol(HttpProtocol.HTTP11, HttpProtocol.H2C);
+        }
+        return new UpstreamClient(client, provider, metrics);
+    }
+
+    private static String key(final URI uri) {
+        return uri.getScheme() + "://" + uri.getHost() + ":" + port(uri);
+    }
+
+    private static int port(final URI uri) {
+        if (uri.getPort() > 0) {
+            return uri.getPort();
+        }
+        return HTTPS.equalsIgnoreCase(uri.getScheme()) ? 443 : 80;
+    }
+
+    /**
+     * The client of an upstream with its own connection pool.
+     */
+    public static final class UpstreamClient {
+
+        private final HttpClient client;
+
+        private final ConnectionProvider provider;
+
+        private final UpstreamPoolMetrics metrics;
+
+        private volatile long lastAccess = System.nanoTime();
+
+        UpstreamClient(final HttpClient client, final ConnectionProvider provider, final UpstreamPoolMetrics metrics) {
+            this.client = client;
+            this.provider = provider;
+            this.metrics = metrics;
+        }
+
+        /**
+         * get client.
+         *
+         * @return the http client of the upstream
+         */
+        public HttpClient getClient() {
+            return client;
+        }
+
+        /**
+         * Record the time spent to acquire a connection of the upstream.
+         *
+         * @param nanos the acquire time in nanos
+         */
+        public void recordAcquire(final long nanos) {
+            metrics.recordAcquire(nanos);
+        }
+    }
+}
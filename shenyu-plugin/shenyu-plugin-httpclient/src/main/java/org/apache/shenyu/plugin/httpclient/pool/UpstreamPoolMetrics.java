@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.httpclient.pool;
+
+import reactor.netty.resources.ConnectionPoolMetrics;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The connection pool metrics of an upstream.
+ */
+public final class UpstreamPoolMetrics {
+
+    private final String upstream;
+
+    private final LongAdder acquireCount = new LongAdder();
+
+    private final LongAdder acquireTime = new LongAdder();
+
+    private volatile ConnectionPoolMetrics poolMetrics;
+
+    UpstreamPoolMetrics(final String upstream) {
+        this.upstream = upstream;
+    }
+
+    /**
+     * Bind the metrics of the pool, it is called when the pool of the remote address is created.
+     *
+     * @param poolMetrics the pool metrics
+     */
+    void bind(final ConnectionPoolMetrics poolMetrics) {
+        this.poolMetrics = poolMetrics;
+    }
+
+    /**
+     * Record the time spent to acquire a connection.
+     *
+     * @param nanos the acquire time in nanos
+     */
+    void recordAcquire(final long nanos) {
+        acquireCount.increment();
+        acquireTime.add(nanos);
+    }
+
+    /**
+     * get upstream.
+     *
+     * @return the upstream, scheme://host:port
+     */
+    public String getUpstream() {
+        return upstream;
+    }
+
+    /**
+     * get the count of the acquired connections.
+     *
+     * @return the acquire count
+     */
+    public long getAcquireCount() {
+        return acquireCount.sum();
+    }
+
+    /**
+     * get the total time spent to acquire the connections.
+     *
+     * @return the acquire time in nanos
+     */
+    public long getAcquireTime() {
+        return acquireTime.sum();
+    }
+
+    /**
+     * get the connections in use.
+     *
+     * @return the active connections
+     */
+    public int getActiveConnections() {
+        return Objects.isNull(poolMetrics) ? 0 : poolMetrics.acquiredSize();
+    }
+
+    /**
+     * get the idle connections.
+     *
+     * @return the idle connections
+     */
+    public int getIdleConnections() {
+        return Objects.isNull(poolMetrics) ? 0 : poolMetrics.idleSize();
+    }
+
+    /**
+     * get the acquires waiting for a connection.
+     *
+     * @return the pending acquires
+     */
+    public int getPendingAcquires() {
+        return Objects.isNull(poolMetrics) ? 0 : poolMetrics.pendingAcquireSize();
+    }
+
+    /**
+     * get the max connections of the pool.
+     *
+     * @return the max connections
+     */
+    public int getMaxConnections() {
+        return Objects.isNull(poolMetrics) ? 0 : poolMetrics.maxAllocatedSize();
+    }
+}
@@ -19,7 +19,11 @@ package org.apache.shenyu.plugin.httpclient;
 
 import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.enums.PluginEnum;
+import org.apache.shenyu.common.enums.RetryEnum;
 import org.apache.shenyu.common.enums.RpcTypeEnum;
+import org.apache.shenyu.loadbalancer.cache.UpstreamCacheManager;
+import org.apache.shenyu.loadbalancer.cache.UpstreamCheckTask;
+import org.apache.shenyu.loadbalancer.entity.Upstream;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
 import org.apache.shenyu.plugin.api.context.ShenyuContext;
 import org.apache.shenyu.plugin.api.result.ShenyuResult;
@@ -38,6 +42,7 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
 import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.reactive.function.client.ClientRequest;
 import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.ExchangeFunction;
@@ -46,13 +51,23 @@ import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.net.InetSocketAddress;
 import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -117,6 +132,162 @@ public final class WebClientPluginTest {
         StepVerifier.create(monoErrorTest).expectSubscription().verifyError();
     }
 
+    /**
+     * test case for the hedged request of WebClientPlugin.
+     */
+    @Test
+    public void testHedge() {
+        final List<Upstream> upstreamList = new ArrayList<>();
+        upstreamList.add(Upstream.builder().url("localhost:8081").status(true).build());
+        upstreamList.add(Upstream.builder().url("localhost:8082").status(true).build());
+        UpstreamCacheManager.getInstance().submit("hedge", upstreamList);
+        final ClientResponse.Headers headers = mock(ClientResponse.Headers.class);
+        when(headers.asHttpHeaders()).thenReturn(new HttpHeaders());
+        final ClientResponse mockResponse = mock(ClientResponse.class);
+        when(mockResponse.statusCode()).thenReturn(HttpStatus.OK);
+        when(mockResponse.headers()).thenReturn(headers);
+        when(mockResponse.bodyToMono(byte[].class)).thenReturn(Mono.just("{\"test\":\"ok\"}".getBytes()));
+        when(mockResponse.releaseBody()).thenReturn(Mono.empty());
+        // the first upstream is slower than the hedge delay
+        final List<URI> requested = new CopyOnWriteArrayList<>();
+        given(this.exchangeFunction.exchange(this.captor.capture())).willAnswer(invocation -> {
+            ClientRequest request = invocation.getArgument(0);
+            requested.add(request.url());
+            Mono<ClientResponse> response = Mono.just(mockResponse);
+            return request.url().getPort() == 8081 ? response.delayElement(Duration.ofSeconds(2)) : response;
+        });
+        final WebClient webClient = WebClient.builder().exchangeFunction(this.exchangeFunction).build();
+        final ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/test")
+                .remoteAddress(new InetSocketAddress("127.0.0.1", 8080)).build());
+        exchange.getAttributes().put(Constants.CONTEXT, mock(ShenyuContext.class));
+        exchange.getAttributes().put(Constants.HTTP_URI, URI.create("http://localhost:8081/test"));
+        exchange.getAttributes().put(Constants.HTTP_RETRY, 1);
+        exchange.getAttributes().put(Constants.RETRY_STRATEGY, RetryEnum.HEDGE.getName());
+        exchange.getAttributes().put(Constants.HTTP_HEDGE_DELAY, 50L);
+        exchange.getAttributes().put(Constants.DIVIDE_SELECTOR_ID, "hedge");
+        exchange.getAttributes().put(Constants.DIVIDE_RULE_ID, "hedge");
+        exchange.getAttributes().put(Constants.LOAD_BALANCE, "random");
+        final ShenyuPluginChain chain = mock(ShenyuPluginChain.class);
+        when(chain.execute(exchange)).thenReturn(Mono.empty());
+        StepVerifier.create(new WebClientPlugin(webClient).execute(exchange, chain))
+                .expectSubscription().verifyComplete();
+        assertEquals(2, requested.size());
+        assertEquals(8082, requested.get(1).getPort());
+        assertTrue((long) exchange.getAttribute(Constants.UPSTREAM_LATENCY_NANOS) < Duration.ofSeconds(1).toNanos());
+        UpstreamCacheManager.getInstance().removeByKey("hedge");
+    }
+
+    /**
+     * test case for a 5xx response that must not win the hedged request while the other attempt is running.
+     */
+    @Test
+    public void testHedgeServerError() {
+        final List<Upstream> upstreamList = new ArrayList<>();
+        upstreamList.add(Upstream.builder().url("localhost:8081").status(true).build());
+        upstreamList.add(Upstream.builder().url("localhost:8082").status(true).build());
+        UpstreamCacheManager.getInstance().submit("hedgeError", upstreamList);
+        final ClientResponse.Headers headers = mock(ClientResponse.Headers.class);
+        when(headers.asHttpHeaders()).thenReturn(new HttpHeaders());
+        final ClientResponse okResponse = mock(ClientResponse.class);
+        when(okResponse.statusCode()).thenReturn(HttpStatus.OK);
+        when(okResponse.headers()).thenReturn(headers);
+        when(okResponse.bodyToMono(byte[].class)).thenReturn(Mono.just("{\"test\":\"ok\"}".getBytes()));
+        when(okResponse.releaseBody()).thenReturn(Mono.empty());
+        final ClientResponse errorResponse = mock(ClientResponse.class);
+        when(errorResponse.statusCode()).thenReturn(HttpStatus.SERVICE_UNAVAILABLE);
+        when(errorResponse.headers()).thenReturn(headers);
+        when(errorResponse.bodyToMono(byte[].class)).thenReturn(Mono.empty());
+        when(errorResponse.releaseBody()).thenReturn(Mono.empty());
+        // the hedged upstream fails fast while the first upstream succeeds slower
+        given(this.exchangeFunction.exchange(this.captor.capture())).willAnswer(invocation -> {
+            ClientRequest request = invocation.getArgument(0);
+            return request.url().getPort() == 8081 ? Mono.just(okResponse).delayElement(Duration.ofMillis(300)) : Mono.just(errorResponse);
+        });
+        final WebClient webClient = WebClient.builder().exchangeFunction(this.exchangeFunction).build();
+        final ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/test")
+                .remoteAddress(new InetSocketAddress("127.0.0.1", 8080)).build());
+        exchange.getAttributes().put(Constants.CONTEXT, mock(ShenyuContext.class));
+        exchange.getAttributes().put(Constants.HTTP_URI, URI.create("http://localhost:8081/test"));
+        exchange.getAttributes().put(Constants.HTTP_RETRY, 1);
+        exchange.getAttributes().put(Constants.RETRY_STRATEGY, RetryEnum.HEDGE.getName());
+        exchange.getAttributes().put(Constants.HTTP_HEDGE_DELAY, 50L);
+        exchange.getAttributes().put(Constants.DIVIDE_SELECTOR_ID, "hedgeError");
+        exchange.getAttributes().put(Constants.DIVIDE_RULE_ID, "hedgeError");
+        exchange.getAttributes().put(Constants.LOAD_BALANCE, "random");
+        final ShenyuPluginChain chain = mock(ShenyuPluginChain.class);
+        when(chain.execute(exchange)).thenReturn(Mono.empty());
+        StepVerifier.create(new WebClientPlugin(webClient).execute(exchange, chain))
+                .expectSubscription().verifyComplete();
+        assertEquals(HttpStatus.OK, exchange.getResponse().getStatusCode());
+        UpstreamCacheManager.getInstance().removeByKey("hedgeError");
+    }
+
+    /**
+     * test case for the outcome of each attempt of a hedged request, the hedge wins with a 200 while the primary returns a 5xx.
+     */
+    @Test
+    public void testHedgeOutcome() {
+        final List<Upstream> upstreamList = new ArrayList<>();
+        upstreamList.add(Upstream.builder().url("localhost:8081").status(true).build());
+        upstreamList.add(Upstream.builder().url("localhost:8082").status(true).build());
+        UpstreamCacheManager.getInstance().submit("hedgeOutcome", upstreamList);
+        final ClientResponse.Headers headers = mock(ClientResponse.Headers.class);
+        when(headers.asHttpHeaders()).thenReturn(new HttpHeaders());
+        final ClientResponse okResponse = mock(ClientResponse.class);
+        when(okResponse.statusCode()).thenReturn(HttpStatus.OK);
+        when(okResponse.rawStatusCode()).thenReturn(HttpStatus.OK.value());
+        when(okResponse.headers()).thenReturn(headers);
+        when(okResponse.bodyToMono(byte[].class)).thenReturn(Mono.just("{\"test\":\"ok\"}".getBytes()));
+        when(okResponse.releaseBody()).thenReturn(Mono.empty());
+        final ClientResponse errorResponse = mock(ClientResponse.class);
+        when(errorResponse.statusCode()).thenReturn(HttpStatus.SERVICE_UNAVAILABLE);
+        when(errorResponse.rawStatusCode()).thenReturn(HttpStatus.SERVICE_UNAVAILABLE.value());
+        when(errorResponse.headers()).thenReturn(headers);
+        when(errorResponse.bodyToMono(byte[].class)).thenReturn(Mono.empty());
+        when(errorResponse.releaseBody()).thenReturn(Mono.empty());
+        // the primary fails while the hedge started after the delay is still running, the hedge succeeds later
+        given(this.exchangeFunction.exchange(this.captor.capture())).willAnswer(invocation -> {
+            ClientRequest request = invocation.getArgument(0);
+            return request.url().getPort() == 8081 ? Mono.just(errorResponse).delayElement(Duration.ofMillis(100))
+                    : Mono.just(okResponse).delayElement(Duration.ofMillis(200));
+        });
+        final WebClient webClient = WebClient.builder().exchangeFunction(this.exchangeFunction).build();
+        final ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/test")
+                .remoteAddress(new InetSocketAddress("127.0.0.1", 8080)).build());
+        exchange.getAttributes().put(Constants.CONTEXT, mock(ShenyuContext.class));
+        exchange.getAttributes().put(Constants.HTTP_URI, URI.create("http://localhost:8081/test"));
+        exchange.getAttributes().put(Constants.HTTP_RETRY, 1);
+        exchange.getAttributes().put(Constants.RETRY_STRATEGY, RetryEnum.HEDGE.getName());
+        exchange.getAttributes().put(Constants.HTTP_HEDGE_DELAY, 50L);
+        exchange.getAttributes().put(Constants.DIVIDE_SELECTOR_ID, "hedgeOutcome");
+        exchange.getAttributes().put(Constants.DIVIDE_RULE_ID, "hedgeOutcome");
+        exchange.getAttributes().put(Constants.LOAD_BALANCE, "random");
+        final ShenyuPluginChain chain = mock(ShenyuPluginChain.class);
+        when(chain.execute(exchange)).thenReturn(Mono.empty());
+        // enable the outlier detection and capture the outcomes on a spied task
+        final UpstreamCacheManager upstreamCacheManager = UpstreamCacheManager.getInstance();
+        final UpstreamCheckTask task = (UpstreamCheckTask) ReflectionTestUtils.getField(upstreamCacheManager, "task");
+        final Object outlierThreshold = ReflectionTestUtils.getField(upstreamCacheManager, "outlierThreshold");
+        final Object checkEnable = ReflectionTestUtils.getField(upstreamCacheManager, "checkEnable");
+        final UpstreamCheckTask upstreamCheckTask = spy(task);
+        doNothing().when(upstreamCheckTask).recordOutcome(anyString(), anyString(), anyBoolean());
+        ReflectionTestUtils.setField(upstreamCacheManager, "task", upstreamCheckTask);
+        ReflectionTestUtils.setField(upstreamCacheManager, "outlierThreshold", 1);
+        ReflectionTestUtils.setField(upstreamCacheManager, "checkEnable", true);
+        try {
+            StepVerifier.create(new WebClientPlugin(webClient).execute(exchange, chain))
+                    .expectSubscription().verifyComplete();
+        } finally {
+            ReflectionTestUtils.setField(upstreamCacheManager, "task", task);
+            ReflectionTestUtils.setField(upstreamCacheManager, "outlierThreshold", outlierThreshold);
+            ReflectionTestUtils.setField(upstreamCacheManager, "checkEnable", checkEnable);
+            upstreamCacheManager.removeByKey("hedgeOutcome");
+        }
+        assertEquals(HttpStatus.OK, exchange.getResponse().getStatusCode());
+        verify(upstreamCheckTask).recordOutcome("hedgeOutcome", "localhost:8081", false);
+        verify(upstreamCheckTask).recordOutcome("hedgeOutcome", "localhost:8082", true);
+    }
+
     /**
      * test case for WebClientPlugin {@link WebClientPlugin#skip(ServerWebExchange)}.
      */
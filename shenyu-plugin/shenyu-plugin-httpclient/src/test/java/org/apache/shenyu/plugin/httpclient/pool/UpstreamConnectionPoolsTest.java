@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.httpclient.pool;
+
+import org.apache.shenyu.plugin.httpclient.config.HttpClientProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.client.HttpClient;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.await;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * The test case for {@link UpstreamConnectionPools}.
+ */
+public final class UpstreamConnectionPoolsTest {
+
+    private DisposableServer server;
+
+    private UpstreamConnectionPools pools;
+
+    private URI uri;
+
+    @BeforeEach
+    public void setUp() {
+        server = HttpServer.create().host("127.0.0.1").port(0)
+                .handle((request, response) -> response.sendString(Mono.just("ok")))
+                .bindNow();
+        uri = URI.create("http://127.0.0.1:" + server.port() + "/test");
+        HttpClientProperties.Pool pool = new HttpClientProperties.Pool();
+        pool.setType(HttpClientProperties.Pool.PoolType.UPSTREAM);
+        HttpClientProperties.UpstreamPool upstreamPool = new HttpClientProperties.UpstreamPool();
+        upstreamPool.setMaxConnections(2);
+        pool.getUpstreams().put("127.0.0.1:" + server.port(), upstreamPool);
+        pools = new UpstreamConnectionPools(pool, HttpClient::create);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        pools.dispose();
+        server.disposeNow();
+    }
+
+    @Test
+    public void testObtainClient() {
+        HttpClient client = pools.obtainClient(uri);
+        assertSame(client, pools.obtainClient(URI.create("http://127.0.0.1:" + server.port() + "/other")));
+        assertNotSame(client, pools.obtainClient(URI.create("http://127.0.0.1:1/test")));
+        assertNotSame(client, pools.obtainClient(URI.create("https://127.0.0.1:" + server.port() + "/test")));
+        assertEquals(3, pools.getMetrics().size());
+    }
+
+    @Test
+    public void testMetrics() {
+        List<UpstreamPoolMetrics> listened = new ArrayList<>();
+        pools.listen(listened::add, metrics -> { });
+        String body = pools.obtainClient(uri).get().uri(uri.toASCIIString()).responseContent().aggregate().asString().block();
+        pools.obtain(uri).recordAcquire(100L);
+        assertEquals("ok", body);
+        assertEquals(1, listened.size());
+        UpstreamPoolMetrics metrics = listened.get(0);
+        assertEquals("http://127.0.0.1:" + server.port(), metrics.getUpstream());
+        assertEquals(2, metrics.getMaxConnections());
+        assertEquals(1, metrics.getActiveConnections() + metrics.getIdleConnections());
+        assertEquals(1, metrics.getAcquireCount());
+        assertEquals(100L, metrics.getAcquireTime());
+        List<UpstreamPoolMetrics> replayed = new ArrayList<>();
+        pools.listen(replayed::add, removed -> { });
+        assertSame(metrics, replayed.get(0));
+    }
+
+    @Test
+    public void testExpire() {
+        HttpClientProperties.Pool pool = new HttpClientProperties.Pool();
+        pool.setType(HttpClientProperties.Pool.PoolType.UPSTREAM);
+        pool.setExpireTime(100L);
+        UpstreamConnectionPools expiring = new UpstreamConnectionPools(pool, HttpClient::create);
+        List<UpstreamPoolMetrics> removed = new CopyOnWriteArrayList<>();
+        expiring.listen(metrics -> { }, removed::add);
+        HttpClient client = expiring.obtainClient(uri);
+        assertEquals("ok", client.get().uri(uri.toASCIIString()).responseContent().aggregate().asString().block());
+        await().atMost(3, TimeUnit.SECONDS).until(() -> expiring.getMetrics().isEmpty());
+        assertEquals(1, removed.size());
+        assertEquals("http://127.0.0.1:" + server.port(), removed.get(0).getUpstream());
+        assertNotSame(client, expiring.obtainClient(uri));
+        expiring.dispose();
+    }
+}
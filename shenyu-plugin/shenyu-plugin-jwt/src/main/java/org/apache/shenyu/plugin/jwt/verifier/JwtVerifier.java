@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.jwt.verifier;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwt;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.plugin.jwt.config.JwtConfig;
+import org.apache.shenyu.plugin.jwt.exception.ThrowingFunction;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Verify tokens with a parser built once for the {@link JwtConfig}.
+ * The claims of verified tokens are cached by the SHA-256 digest of the token until the token expires,
+ * so a repeated token skips the signature check and the body decoding.
+ */
+public final class JwtVerifier {
+
+    private static final int DEFAULT_MAX_TOKENS = 10000;
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not supported", e);
+        }
+    });
+
+    private final JwtConfig jwtConfig;
+
+    private final JwtParser jwtParser;
+
+    private final int maxTokens;
+
+    private final Map<TokenKey, VerifiedToken> tokens = new ConcurrentHashMap<>();
+
+    /**
+     * Instantiates a new jwt verifier.
+     *
+     * @param jwtConfig the jwt config
+     */
+    public JwtVerifier(final JwtConfig jwtConfig) {
+        this(jwtConfig, DEFAULT_MAX_TOKENS);
+    }
+
+    /**
+     * Instantiates a new jwt verifier.
+     *
+     * @param jwtConfig the jwt config
+     * @param maxTokens the max verified tokens to cache
+     */
+    public JwtVerifier(final JwtConfig jwtConfig, final int maxTokens) {
+        this.jwtConfig = jwtConfig;
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(jwtConfig.getSecretKey().getBytes(StandardCharsets.UTF_8)).build();
+        this.maxTokens = maxTokens;
+    }
+
+    /**
+     * Verify the token.
+     *
+     * @param token the token
+     * @return the claims, null if the token is not signed or fails the verification
+     */
+    public Map<String, Object> verify(final String token) {
+        if (StringUtils.isEmpty(token)) {
+            return null;
+        }
+        TokenKey key = TokenKey.of(token);
+        long now = System.currentTimeMillis();
+        VerifiedToken verified = tokens.get(key);
+        if (Objects.nonNull(verified)) {
+            if (verified.isValid(now)) {
+                return verified.getClaims();
+            }
+            tokens.remove(key, verified);
+        }
+        if (!jwtParser.isSigned(token)) {
+            return null;
+        }
+        Jwt<?, ?> jwt = ThrowingFunction.wrap(() -> jwtParser.parse(token));
+        if (Objects.isNull(jwt) || !(jwt.getBody() instanceof Map)) {
+            return null;
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, Object> claims = Collections.unmodifiableMap((Map<String, Object>) jwt.getBody());
+        Date expiration = jwt.getBody() instanceof Claims ? ((Claims) jwt.getBody()).getExpiration() : null;
+        cache(key, new VerifiedToken(claims, Objects.isNull(expiration) ? Long.MAX_VALUE : expiration.getTime()), now);
+        return claims;
+    }
+
+    private void cache(final TokenKey key, final VerifiedToken verified, final long now) {
+        if (tokens.size() >= maxTokens) {
+            tokens.values().removeIf(token -> !token.isValid(now));
+            if (tokens.size() >= maxTokens) {
+                tokens.clear();
+            }
+        }
+        tokens.put(key, verified);
+    }
+
+    /**
+     * Whether the verifier was built from the config.
+     *
+     * @param config the current config
+     * @return true if it is the same config
+     */
+    public boolean isBuiltFrom(final JwtConfig config) {
+        return jwtConfig == config;
+    }
+
+    /**
+     * Get the count of cached tokens.
+     *
+     * @return the size
+     */
+    public int size() {
+        return tokens.size();
+    }
+
+    private static final class VerifiedToken {
+
+        private final Map<String, Object> claims;
+
+        private final long expireMillis;
+
+        VerifiedToken(final Map<String, Object> claims, final long expireMillis) {
+            this.claims = claims;
+            this.expireMillis = expireMillis;
+        }
+
+        Map<String, Object> getClaims() {
+            return claims;
+        }
+
+        boolean isValid(final long now) {
+            return now < expireMillis;
+        }
+    }
+
+    /**
+     * The first 128 bits of the SHA-256 digest of a token.
+     */
+    private static final class TokenKey {
+
+        private final long high;
+
+        private final long low;
+
+        private TokenKey(final long high, final long low) {
+            this.high = high;
+            this.low = low;
+        }
+
+        static TokenKey of(final String token) {
+            MessageDigest digest = SHA_256.get();
+            digest.reset();
+            ByteBuffer bytes = ByteBuffer.wrap(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+            return new TokenKey(bytes.getLong(), bytes.getLong());
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            TokenKey that = (TokenKey) o;
+            return high == that.high && low == that.low;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(high ^ low);
+        }
+    }
+}
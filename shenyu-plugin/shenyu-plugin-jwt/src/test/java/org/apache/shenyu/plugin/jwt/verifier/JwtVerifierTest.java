@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.jwt.verifier;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.apache.shenyu.plugin.jwt.config.JwtConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test case for {@link JwtVerifier}.
+ */
+public final class JwtVerifierTest {
+
+    private static final String SECRET_KEY = "shenyu-test-shenyu-test-shenyu-test";
+
+    private JwtConfig jwtConfig;
+
+    @BeforeEach
+    public void setUp() {
+        jwtConfig = new JwtConfig();
+        jwtConfig.setSecretKey(SECRET_KEY);
+    }
+
+    @Test
+    public void testVerifyAndCache() {
+        JwtVerifier verifier = new JwtVerifier(jwtConfig);
+        String token = token(SECRET_KEY, new Date(System.currentTimeMillis() + 60000L));
+        Map<String, Object> claims = verifier.verify(token);
+        assertEquals("1", claims.get("userId"));
+        assertEquals(1, verifier.size());
+        assertSame(claims, verifier.verify(token));
+        assertTrue(verifier.isBuiltFrom(jwtConfig));
+        assertFalse(verifier.isBuiltFrom(new JwtConfig()));
+    }
+
+    @Test
+    public void testRejectInvalidToken() {
+        JwtVerifier verifier = new JwtVerifier(jwtConfig);
+        assertNull(verifier.verify(null));
+        assertNull(verifier.verify(token("shenyu-other-shenyu-other-shenyu-other", null)));
+        assertNull(verifier.verify(token(SECRET_KEY, new Date(System.currentTimeMillis() - 60000L))));
+        assertNull(verifier.verify(Jwts.builder().claim("userId", "1").compact()));
+        assertEquals(0, verifier.size());
+    }
+
+    @Test
+    public void testExpireCachedToken() throws InterruptedException {
+        JwtVerifier verifier = new JwtVerifier(jwtConfig);
+        String token = token(SECRET_KEY, new Date(System.currentTimeMillis() + 2000L));
+        assertEquals("1", verifier.verify(token).get("userId"));
+        Thread.sleep(2100L);
+        assertNull(verifier.verify(token));
+        assertEquals(0, verifier.size());
+    }
+
+    @Test
+    public void testBounded() {
+        JwtVerifier verifier = new JwtVerifier(jwtConfig, 2);
+        for (int i = 0; i < 5; i++) {
+            verifier.verify(Jwts.builder().claim("userId", String.valueOf(i))
+                    .signWith(Keys.hmacShaKeyFor(SECRET_KEY.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256).compact());
+            assertTrue(verifier.size() <= 2);
+        }
+    }
+
+    private String token(final String secretKey, final Date expiration) {
+        return Jwts.builder()
+                .claim("userId", "1")
+                .setExpiration(expiration)
+                .signWith(Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .compact();
+    }
+}
@@ -28,7 +28,7 @@ import java.util.List;
 public interface LogConsumeClient<C extends GenericGlobalConfig, L extends ShenyuRequestLog> extends AutoCloseable {
     
     /**
-     * collect logs.
+     * collect logs, the list is reused by the collector and must not be kept after returning.
      *
      * @param logs list of log
      * @throws Exception produce exception
@@ -23,7 +23,6 @@ import org.apache.shenyu.common.concurrent.ShenyuThreadPoolExecutor;
 import org.apache.shenyu.common.config.ShenyuConfig;
 import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.utils.Singleton;
-import org.apache.shenyu.common.utils.ThreadUtils;
 import org.apache.shenyu.plugin.logging.common.client.AbstractLogConsumeClient;
 import org.apache.shenyu.plugin.logging.common.constant.GenericLoggingConstant;
 import org.apache.shenyu.plugin.logging.common.entity.ShenyuRequestLog;
@@ -36,11 +35,11 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
 
 import static org.apache.shenyu.plugin.logging.mask.api.utils.DataMaskUtils.maskForBody;
 import static org.apache.shenyu.plugin.logging.mask.api.utils.DataMaskUtils.maskForSingleWord;
@@ -53,18 +52,20 @@ public abstract class AbstractLogCollector<T extends AbstractLogConsumeClient<?,
 
     private static final Logger LOG = LoggerFactory.getLogger(AbstractLogCollector.class);
 
-    private int bufferSize;
+    private static final int BATCH_SIZE = 100;
 
-    private BlockingQueue<L> bufferQueue;
+    private static final long FLUSH_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
 
-    private long lastPushTime;
+    private static final long STOP_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(5);
 
-    private final AtomicBoolean started = new AtomicBoolean(true);
+    private final LogCollectMetrics metrics = LogCollectMetrics.of(getClass().getSimpleName());
+
+    private volatile LogConsumer consumer;
+
+    private final AtomicBoolean started = new AtomicBoolean(false);
 
     @Override
-    public void start() {
-        bufferSize = LogCollectConfigUtils.getGenericGlobalConfig().getBufferQueueSize();
-        bufferQueue = new LinkedBlockingDeque<>(bufferSize);
+    public synchronized void start() {
         ShenyuConfig config = Optional.ofNullable(Singleton.INST.get(ShenyuConfig.class)).orElse(new ShenyuConfig());
         final ShenyuConfig.SharedPool sharedPool = config.getSharedPool();
         ShenyuThreadPoolExecutor threadExecutor = new ShenyuThreadPoolExecutor(sharedPool.getCorePoolSize(),
@@ -72,18 +73,34 @@ public abstract class AbstractLogCollector<T extends AbstractLogConsumeClient<?,
                 new MemorySafeTaskQueue<>(Constants.THE_256_MB),
                 ShenyuThreadFactory.create(config.getSharedPool().getPrefix(), true),
                 new ThreadPoolExecutor.AbortPolicy());
+        final LogConsumer previous = consumer;
+        final LogConsumer next = new LogConsumer(new LogRingBuffer<>(LogCollectConfigUtils.getGenericGlobalConfig().getBufferQueueSize()), threadExecutor);
+        consumer = next;
+        // the config is refreshed, the previous consumer flushes the logs left in its buffer and exits
+        if (Objects.nonNull(previous)) {
+            previous.stop();
+        }
         started.set(true);
-        threadExecutor.execute(this::consume);
+        threadExecutor.execute(next);
+        LogCollectMetrics.export();
     }
 
     @Override
     public void collect(final L log) {
-        if (Objects.isNull(log) || Objects.isNull(getLogConsumeClient())) {
+        final LogConsumer current = consumer;
+        if (Objects.isNull(log) || Objects.isNull(current) || Objects.isNull(getLogConsumeClient())) {
             return;
         }
-        if (bufferQueue.size() < bufferSize) {
-            bufferQueue.add(log);
-        }
+        current.offer(log);
+    }
+
+    /**
+     * Get the metrics of this collector.
+     *
+     * @return the metrics
+     */
+    public LogCollectMetrics getMetrics() {
+        return metrics;
     }
 
     @Override
@@ -92,33 +109,24 @@ public abstract class AbstractLogCollector<T extends AbstractLogConsumeClient<?,
         this.maskLog(logInfo, keyWordMatch, dataMaskAlg);
     }
 
-    /**
-     * batch and async consume.
-     */
-    private void consume() {
-        while (started.get()) {
-            int diffTimeMSForPush = 100;
-            try {
-                List<L> logs = new ArrayList<>();
-                int size = bufferQueue.size();
-                long time = System.currentTimeMillis();
-                long timeDiffMs = time - lastPushTime;
-                int batchSize = 100;
-                if (size >= batchSize || timeDiffMs > diffTimeMSForPush) {
-                    bufferQueue.drainTo(logs, batchSize);
-                    AbstractLogConsumeClient<?, L> logCollectClient = getLogConsumeClient();
-                    if (Objects.nonNull(logCollectClient)) {
-                        logCollectClient.consume(logs);
-                    }
-                    lastPushTime = time;
-                } else {
-                    ThreadUtils.sleep(TimeUnit.MILLISECONDS, diffTimeMSForPush);
-                }
-            } catch (Exception e) {
-                LOG.error("DefaultLogCollector collect log error", e);
-                ThreadUtils.sleep(TimeUnit.MILLISECONDS, diffTimeMSForPush);
-            }
+    private void flush(final List<L> batch) {
+        AbstractLogConsumeClient<?, L> logCollectClient = getLogConsumeClient();
+        if (Objects.isNull(logCollectClient)) {
+            batch.clear();
+            return;
         }
+        final int batchSize = batch.size();
+        long start = System.nanoTime();
+        boolean success = true;
+        try {
+            logCollectClient.consume(batch);
+        } catch (Exception e) {
+            success = false;
+            LOG.error("DefaultLogCollector consume log error", e);
+        } finally {
+            batch.clear();
+        }
+        metrics.recordFlush(batchSize, System.nanoTime() - start, success);
     }
 
     private void maskShenyuRequestLog(final L logInfo, final KeyWordMatch keyWordMatch, final String dataMaskAlg) {
@@ -169,10 +177,122 @@ public abstract class AbstractLogCollector<T extends AbstractLogConsumeClient<?,
 
     @Override
     public void close() throws Exception {
-        started.set(false);
+        final LogConsumer current;
+        synchronized (this) {
+            current = consumer;
+            consumer = null;
+            started.set(false);
+        }
+        if (Objects.nonNull(current)) {
+            current.stop();
+        }
         AbstractLogConsumeClient<?, ?> logCollectClient = getLogConsumeClient();
         if (logCollectClient != null) {
             logCollectClient.close();
         }
     }
+
+    /**
+     * The consumer of one buffer, a new one is started each time the collector starts.
+     */
+    private final class LogConsumer implements Runnable {
+
+        private final LogRingBuffer<L> ringBuffer;
+
+        private final ShenyuThreadPoolExecutor executor;
+
+        private final CountDownLatch stopped = new CountDownLatch(1);
+
+        private volatile boolean running = true;
+
+        private volatile boolean waiting;
+
+        private volatile Thread thread;
+
+        LogConsumer(final LogRingBuffer<L> ringBuffer, final ShenyuThreadPoolExecutor executor) {
+            this.ringBuffer = ringBuffer;
+            this.executor = executor;
+        }
+
+        void offer(final L log) {
+            if (!ringBuffer.offer(log)) {
+                metrics.recordDrop();
+                return;
+            }
+            metrics.recordEnqueue();
+            if (waiting && ringBuffer.size() >= BATCH_SIZE) {
+                waiting = false;
+                LockSupport.unpark(thread);
+            }
+        }
+
+        /**
+         * batch and async consume, a batch is flushed once it is full or the flush interval has elapsed.
+         * the batch list is reused, clients must not keep a reference to it after consume returns.
+         */
+        @Override
+        public void run() {
+            thread = Thread.currentThread();
+            final List<L> batch = new ArrayList<>(BATCH_SIZE);
+            try {
+                consume(batch);
+                // flush the logs left in the buffer
+                ringBuffer.drainTo(batch, BATCH_SIZE - batch.size());
+                while (!batch.isEmpty()) {
+                    flush(batch);
+                    ringBuffer.drainTo(batch, BATCH_SIZE);
+                }
+            } finally {
+                stopped.countDown();
+            }
+        }
+
+        private void consume(final List<L> batch) {
+            long lastFlushTime = System.nanoTime();
+            while (running) {
+                try {
+                    ringBuffer.drainTo(batch, BATCH_SIZE - batch.size());
+                    long now = System.nanoTime();
+                    long remaining = FLUSH_INTERVAL_NANOS - (now - lastFlushTime);
+                    if (batch.size() >= BATCH_SIZE || (remaining <= 0 && !batch.isEmpty())) {
+                        flush(batch);
+                        lastFlushTime = now;
+                        continue;
+                    }
+                    if (batch.isEmpty()) {
+                        lastFlushTime = now;
+                        remaining = FLUSH_INTERVAL_NANOS;
+                    }
+                    waiting = true;
+                    if (running && ringBuffer.size() < BATCH_SIZE - batch.size()) {
+                        LockSupport.parkNanos(this, remaining);
+                    }
+                    waiting = false;
+                } catch (Exception e) {
+                    LOG.error("DefaultLogCollector collect log error", e);
+                    batch.clear();
+                }
+            }
+        }
+
+        /**
+         * stop the consumer and wait until it has flushed the buffer.
+         */
+        void stop() {
+            running = false;
+            Thread consumerThread = thread;
+            if (Objects.nonNull(consumerThread)) {
+                LockSupport.unpark(consumerThread);
+            }
+            try {
+                if (!stopped.await(STOP_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                    LOG.warn("DefaultLogCollector consumer is not stopped in {} ms", STOP_TIMEOUT_MILLIS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                executor.shutdown();
+            }
+        }
+    }
 }
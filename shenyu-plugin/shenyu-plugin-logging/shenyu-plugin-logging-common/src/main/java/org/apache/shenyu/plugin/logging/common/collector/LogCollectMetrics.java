@@ -0,0 +1,219 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.logging.common.collector;
+
+import org.springframework.util.ClassUtils;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of a log collector, one instance per log consume client.
+ */
+public final class LogCollectMetrics {
+
+    private static final Map<String, LogCollectMetrics> METRICS = new ConcurrentHashMap<>();
+
+    private static final boolean PROMETHEUS_PRESENT = ClassUtils.isPresent("io.prometheus.client.CollectorRegistry", LogCollectMetrics.class.getClassLoader());
+
+    private final String name;
+
+    private final LongAdder enqueued = new LongAdder();
+
+    private final LongAdder dropped = new LongAdder();
+
+    private final LongAdder flushedBatches = new LongAdder();
+
+    private final LongAdder flushedLogs = new LongAdder();
+
+    private final LongAdder flushFailures = new LongAdder();
+
+    private final LongAdder flushNanos = new LongAdder();
+
+    private final AtomicLong maxFlushNanos = new AtomicLong();
+
+    private final AtomicLong lastBatchSize = new AtomicLong();
+
+    private LogCollectMetrics(final String name) {
+        this.name = name;
+    }
+
+    /**
+     * Get or create the metrics of the client.
+     *
+     * @param name the client name
+     * @return the metrics
+     */
+    public static LogCollectMetrics of(final String name) {
+        return METRICS.computeIfAbsent(name, LogCollectMetrics::new);
+    }
+
+    /**
+     * Get all the registered metrics, keyed by client name.
+     *
+     * @return the metrics
+     */
+    public static Map<String, LogCollectMetrics> getAll() {
+        return Collections.unmodifiableMap(METRICS);
+    }
+
+    /**
+     * Export the metrics to the prometheus registry of the metrics plugin when the prometheus client is present.
+     */
+    public static void export() {
+        if (PROMETHEUS_PRESENT) {
+            PrometheusLogCollectMetrics.registerDefault();
+        }
+    }
+
+    /**
+     * Record an accepted log.
+     */
+    public void recordEnqueue() {
+        enqueued.increment();
+    }
+
+    /**
+     * Record a log dropped because the buffer is full.
+     */
+    public void recordDrop() {
+        dropped.increment();
+    }
+
+    /**
+     * Record a flushed batch.
+     *
+     * @param batchSize the batch size
+     * @param nanos the time spent by the client
+     * @param success whether the client consumed the batch without error
+     */
+    public void recordFlush(final int batchSize, final long nanos, final boolean success) {
+        flushedBatches.increment();
+        flushedLogs.add(batchSize);
+        flushNanos.add(nanos);
+        lastBatchSize.set(batchSize);
+        maxFlushNanos.accumulateAndGet(nanos, Math::max);
+        if (!success) {
+            flushFailures.increment();
+        }
+    }
+
+    /**
+     * Get name.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Get enqueued count.
+     *
+     * @return the enqueued count
+     */
+    public long getEnqueued() {
+        return enqueued.sum();
+    }
+
+    /**
+     * Get dropped count.
+     *
+     * @return the dropped count
+     */
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * Get flushed batch count.
+     *
+     * @return the flushed batch count
+     */
+    public long getFlushedBatches() {
+        return flushedBatches.sum();
+    }
+
+    /**
+     * Get flushed log count.
+     *
+     * @return the flushed log count
+     */
+    public long getFlushedLogs() {
+        return flushedLogs.sum();
+    }
+
+    /**
+     * Get failed flush count.
+     *
+     * @return the failed flush count
+     */
+    public long getFlushFailures() {
+        return flushFailures.sum();
+    }
+
+    /**
+     * Get the size of the last flushed batch.
+     *
+     * @return the last batch size
+     */
+    public long getLastBatchSize() {
+        return lastBatchSize.get();
+    }
+
+    /**
+     * Get the average batch size.
+     *
+     * @return the average batch size
+     */
+    public double getAverageBatchSize() {
+        long batches = flushedBatches.sum();
+        return batches == 0 ? 0 : (double) flushedLogs.sum() / batches;
+    }
+
+    /**
+     * Get the average flush latency in nanoseconds.
+     *
+     * @return the average flush latency
+     */
+    public long getAverageFlushNanos() {
+        long batches = flushedBatches.sum();
+        return batches == 0 ? 0 : flushNanos.sum() / batches;
+    }
+
+    /**
+     * Get the total flush latency in nanoseconds.
+     *
+     * @return the total flush latency
+     */
+    public long getFlushNanos() {
+        return flushNanos.sum();
+    }
+
+    /**
+     * Get the max flush latency in nanoseconds.
+     *
+     * @return the max flush latency
+     */
+    public long getMaxFlushNanos() {
+        return maxFlushNanos.get();
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.logging.common.collector;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded multi-producer single-consumer ring buffer for logs.
+ * Producers claim a sequence with a CAS on the tail and never block, the single consumer drains in order.
+ */
+public final class LogRingBuffer<L> {
+
+    private final int capacity;
+
+    private final int mask;
+
+    private final AtomicReferenceArray<L> slots;
+
+    private final AtomicLong tail = new AtomicLong();
+
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * Instantiates a new log ring buffer.
+     *
+     * @param capacity the max logs held by the buffer
+     */
+    public LogRingBuffer(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.capacity = capacity;
+        int length = Integer.highestOneBit(capacity);
+        if (length < capacity) {
+            length <<= 1;
+        }
+        this.mask = length - 1;
+        this.slots = new AtomicReferenceArray<>(length);
+    }
+
+    /**
+     * Offer a log, it is rejected when the buffer is full.
+     *
+     * @param log the log
+     * @return false when the buffer is full
+     */
+    public boolean offer(final L log) {
+        while (true) {
+            long current = tail.get();
+            if (current - head.get() >= capacity) {
+                return false;
+            }
+            if (tail.compareAndSet(current, current + 1)) {
+                slots.lazySet((int) (current & mask), log);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Drain the published logs into the batch, only the consumer thread may call it.
+     *
+     * @param batch the batch to fill
+     * @param limit the max logs to drain
+     * @return the drained count
+     */
+    public int drainTo(final List<L> batch, final int limit) {
+        long current = head.get();
+        int drained = 0;
+        while (drained < limit) {
+            int index = (int) (current & mask);
+            L log = slots.get(index);
+            if (log == null) {
+                // not claimed yet, or claimed but not published yet
+                break;
+            }
+            slots.lazySet(index, null);
+            batch.add(log);
+            current++;
+            drained++;
+        }
+        head.lazySet(current);
+        return drained;
+    }
+
+    /**
+     * Get the claimed but not yet drained size.
+     *
+     * @return the size
+     */
+    public int size() {
+        return (int) Math.max(0, tail.get() - head.get());
+    }
+
+    /**
+     * Get the capacity.
+     *
+     * @return the capacity
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.logging.common.collector;
+
+import io.prometheus.client.Collector;
+import io.prometheus.client.CollectorRegistry;
+import io.prometheus.client.CounterMetricFamily;
+import io.prometheus.client.GaugeMetricFamily;
+import io.prometheus.client.SummaryMetricFamily;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Export the counters of the log collectors to the prometheus registry served by the metrics plugin.
+ */
+final class PrometheusLogCollectMetrics extends Collector {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    private static final List<String> LABEL_NAMES = Collections.singletonList("collector");
+
+    private static final PrometheusLogCollectMetrics INSTANCE = new PrometheusLogCollectMetrics();
+
+    private PrometheusLogCollectMetrics() {
+    }
+
+    /**
+     * Register the collector, the registry is cleared when the metrics plugin stops so it is registered again.
+     */
+    static synchronized void registerDefault() {
+        try {
+            INSTANCE.register(CollectorRegistry.defaultRegistry);
+        } catch (IllegalArgumentException ignored) {
+            // the collector is registered
+        }
+    }
+
+    @Override
+    public List<MetricFamilySamples> collect() {
+        CounterMetricFamily enqueued = new CounterMetricFamily("shenyu_log_collect_enqueued", "the logs accepted by the log collector", LABEL_NAMES);
+        CounterMetricFamily dropped = new CounterMetricFamily("shenyu_log_collect_dropped", "the logs dropped because the buffer is full", LABEL_NAMES);
+        CounterMetricFamily failures = new CounterMetricFamily("shenyu_log_collect_flush_failures", "the batches the client failed to consume", LABEL_NAMES);
+        SummaryMetricFamily batchSize = new SummaryMetricFamily("shenyu_log_collect_batch_size", "the size of the flushed batches", LABEL_NAMES);
+        SummaryMetricFamily flushLatency = new SummaryMetricFamily("shenyu_log_collect_flush_seconds", "the time spent by the client to consume a batch", LABEL_NAMES);
+        GaugeMetricFamily maxFlushLatency = new GaugeMetricFamily("shenyu_log_collect_flush_seconds_max", "the max time spent by the client to consume a batch", LABEL_NAMES);
+        LogCollectMetrics.getAll().forEach((name, metrics) -> {
+            List<String> labelValues = Collections.singletonList(name);
+            enqueued.addMetric(labelValues, metrics.getEnqueued());
+            dropped.addMetric(labelValues, metrics.getDropped());
+            failures.addMetric(labelValues, metrics.getFlushFailures());
+            batchSize.addMetric(labelValues, metrics.getFlushedBatches(), metrics.getFlushedLogs());
+            flushLatency.addMetric(labelValues, metrics.getFlushedBatches(), metrics.getFlushNanos() / NANOS_PER_SECOND);
+            maxFlushLatency.addMetric(labelValues, metrics.getMaxFlushNanos() / NANOS_PER_SECOND);
+        });
+        return Arrays.asList(enqueued, dropped, failures, batchSize, flushLatency, maxFlushLatency);
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.logging.common.collector;
+
+import io.prometheus.client.CollectorRegistry;
+import org.apache.shenyu.plugin.logging.common.client.AbstractLogConsumeClient;
+import org.apache.shenyu.plugin.logging.common.entity.ShenyuRequestLog;
+import org.apache.shenyu.plugin.logging.mask.api.matcher.KeyWordMatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * The Test Case For AbstractLogCollector.
+ */
+public final class AbstractLogCollectorTest {
+
+    @SuppressWarnings("unchecked")
+    private final AbstractLogConsumeClient<?, ShenyuRequestLog> client = mock(AbstractLogConsumeClient.class);
+
+    private final TestLogCollector collector = new TestLogCollector(client);
+
+    private final List<Thread> consumers = new CopyOnWriteArrayList<>();
+
+    private final AtomicInteger consumed = new AtomicInteger();
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        collector.close();
+    }
+
+    @Test
+    public void testRestart() throws Exception {
+        recordConsume();
+        collector.start();
+        collector.collect(new ShenyuRequestLog());
+        // the previous consumer flushes its buffer and exits
+        collector.start();
+        assertEquals(1, consumed.get());
+        Thread previous = consumers.get(0);
+        previous.join(Duration.ofSeconds(5).toMillis());
+        assertFalse(previous.isAlive());
+        collector.collect(new ShenyuRequestLog());
+        await().atMost(Duration.ofSeconds(5)).until(() -> consumed.get() == 2);
+        assertNotSame(previous, consumers.get(1));
+    }
+
+    @Test
+    public void testClose() throws Exception {
+        recordConsume();
+        collector.start();
+        collector.collect(new ShenyuRequestLog());
+        collector.close();
+        assertEquals(1, consumed.get());
+        collector.collect(new ShenyuRequestLog());
+        assertEquals(1, collector.getMetrics().getEnqueued());
+    }
+
+    @Test
+    public void testExport() {
+        collector.start();
+        collector.collect(new ShenyuRequestLog());
+        Double enqueued = CollectorRegistry.defaultRegistry.getSampleValue("shenyu_log_collect_enqueued_total",
+                new String[]{"collector"}, new String[]{TestLogCollector.class.getSimpleName()});
+        assertEquals(collector.getMetrics().getEnqueued(), enqueued.longValue());
+    }
+
+    private void recordConsume() throws Exception {
+        doAnswer(invocation -> {
+            consumers.add(Thread.currentThread());
+            consumed.addAndGet(invocation.<List<?>>getArgument(0).size());
+            return null;
+        }).when(client).consume(anyList());
+    }
+
+    private static final class TestLogCollector extends AbstractLogCollector<AbstractLogConsumeClient<?, ShenyuRequestLog>, ShenyuRequestLog> {
+
+        private final AbstractLogConsumeClient<?, ShenyuRequestLog> client;
+
+        TestLogCollector(final AbstractLogConsumeClient<?, ShenyuRequestLog> client) {
+            this.client = client;
+        }
+
+        @Override
+        protected AbstractLogConsumeClient<?, ShenyuRequestLog> getLogConsumeClient() {
+            return client;
+        }
+
+        @Override
+        protected void maskLog(final ShenyuRequestLog log, final KeyWordMatch keyWordMatch, final String dataMaskAlg) {
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.logging.common.collector;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The Test Case For LogRingBuffer.
+ */
+public final class LogRingBufferTest {
+
+    @Test
+    public void testOfferAndDrain() {
+        LogRingBuffer<Integer> buffer = new LogRingBuffer<>(3);
+        assertTrue(buffer.offer(1));
+        assertTrue(buffer.offer(2));
+        assertTrue(buffer.offer(3));
+        assertFalse(buffer.offer(4));
+        assertEquals(3, buffer.size());
+        List<Integer> batch = new ArrayList<>();
+        assertEquals(2, buffer.drainTo(batch, 2));
+        assertEquals(2, batch.size());
+        assertTrue(buffer.offer(5));
+        batch.clear();
+        assertEquals(2, buffer.drainTo(batch, 10));
+        assertEquals(3, batch.get(0));
+        assertEquals(5, batch.get(1));
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    public void testConcurrentProducers() throws InterruptedException {
+        LogRingBuffer<Integer> buffer = new LogRingBuffer<>(1 << 16);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CountDownLatch latch = new CountDownLatch(4);
+        for (int t = 0; t < 4; t++) {
+            final int base = t * 10000;
+            executor.execute(() -> {
+                for (int i = 0; i < 10000; i++) {
+                    buffer.offer(base + i);
+                }
+                latch.countDown();
+            });
+        }
+        Set<Integer> received = new HashSet<>();
+        List<Integer> batch = new ArrayList<>();
+        while (received.size() < 40000) {
+            buffer.drainTo(batch, 100);
+            received.addAll(batch);
+            batch.clear();
+        }
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        executor.shutdown();
+        assertEquals(40000, received.size());
+    }
+
+    @Test
+    public void testMetrics() {
+        LogCollectMetrics metrics = LogCollectMetrics.of("testMetrics");
+        metrics.recordEnqueue();
+        metrics.recordEnqueue();
+        metrics.recordDrop();
+        metrics.recordFlush(2, 1000L, true);
+        metrics.recordFlush(4, 3000L, false);
+        assertEquals(2, metrics.getEnqueued());
+        assertEquals(1, metrics.getDropped());
+        assertEquals(2, metrics.getFlushedBatches());
+        assertEquals(1, metrics.getFlushFailures());
+        assertEquals(4, metrics.getLastBatchSize());
+        assertEquals(3.0, metrics.getAverageBatchSize());
+        assertEquals(2000L, metrics.getAverageFlushNanos());
+        assertEquals(3000L, metrics.getMaxFlushNanos());
+        assertEquals(metrics, LogCollectMetrics.getAll().get("testMetrics"));
+    }
+}
@@ -17,37 +17,85 @@
 
 package org.apache.shenyu.plugin.metrics;
 
+import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.common.config.ShenyuConfig.MetricsConfig;
 import org.apache.shenyu.common.constant.Constants;
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.SelectorData;
 import org.apache.shenyu.common.enums.PluginEnum;
-import org.apache.shenyu.common.utils.DateUtils;
 import org.apache.shenyu.plugin.api.ShenyuPlugin;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
 import org.apache.shenyu.plugin.api.context.ShenyuContext;
 import org.apache.shenyu.plugin.metrics.constant.LabelNames;
 import org.apache.shenyu.plugin.metrics.reporter.MetricsReporter;
+import org.apache.shenyu.plugin.metrics.reporter.PluginLatencyTimer;
+import org.apache.shenyu.plugin.metrics.reporter.RouteMetrics;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
-import java.time.LocalDateTime;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 /**
  * the monitor plugin.
+ * With the {@code label_mode: route} prop the requests are labeled by the matched selector and rule instead of the raw path,
+ * and the plugin and upstream latencies are recorded too.
  */
 public class MetricsPlugin implements ShenyuPlugin {
     
+    private static final String LABEL_MODE = "label_mode";
+    
+    private static final String ROUTE_LABEL_MODE = "route";
+    
+    private final boolean routeLabel;
+    
+    /**
+     * Instantiates a new Metrics plugin labeled by the raw path.
+     */
+    public MetricsPlugin() {
+        this.routeLabel = false;
+    }
+    
+    /**
+     * Instantiates a new Metrics plugin.
+     *
+     * @param metricsConfig the metrics config
+     */
+    public MetricsPlugin(final MetricsConfig metricsConfig) {
+        this.routeLabel = isRouteLabelMode(metricsConfig);
+    }
+    
+    /**
+     * Whether the requests are labeled by the matched route.
+     *
+     * @param metricsConfig the metrics config
+     * @return true if the label mode is route
+     */
+    public static boolean isRouteLabelMode(final MetricsConfig metricsConfig) {
+        return Optional.ofNullable(metricsConfig.getProps())
+                .map(props -> props.getProperty(LABEL_MODE))
+                .map(ROUTE_LABEL_MODE::equals)
+                .orElse(false);
+    }
+    
     @Override
     public Mono<Void> execute(final ServerWebExchange exchange, final ShenyuPluginChain chain) {
+        final long startNanos = System.nanoTime();
         MetricsReporter.counterIncrement(LabelNames.REQUEST_TOTAL);
         ShenyuContext shenyuContext = exchange.getAttribute(Constants.CONTEXT);
         assert shenyuContext != null;
-        MetricsReporter.counterIncrement(LabelNames.REQUEST_TYPE_TOTAL, new String[]{exchange.getRequest().getURI().getPath(), shenyuContext.getRpcType()});
-        LocalDateTime startDateTime = Optional.of(shenyuContext).map(ShenyuContext::getStartDateTime).orElseGet(LocalDateTime::now);
-        return chain.execute(exchange).doOnSuccess(e -> responseCommitted(exchange, startDateTime))
+        if (routeLabel) {
+            exchange.getAttributes().put(Constants.PLUGIN_TIMER, new PluginLatencyTimer());
+        } else {
+            MetricsReporter.counterIncrement(LabelNames.REQUEST_TYPE_TOTAL, new String[]{exchange.getRequest().getURI().getPath(), shenyuContext.getRpcType()});
+        }
+        return chain.execute(exchange).doOnSuccess(e -> responseCommitted(exchange, startNanos, false))
                 .doOnError(throwable -> {
                     MetricsReporter.counterIncrement(LabelNames.REQUEST_THROW_TOTAL);
-                    responseCommitted(exchange, startDateTime);
+                    responseCommitted(exchange, startNanos, true);
                 });
     }
 
@@ -61,20 +109,58 @@ public class MetricsPlugin implements ShenyuPlugin {
         return PluginEnum.METRICS.getName();
     }
     
-    private void responseCommitted(final ServerWebExchange exchange, final LocalDateTime startDateTime) {
+    private void responseCommitted(final ServerWebExchange exchange, final long startNanos, final boolean error) {
         ServerHttpResponse response = exchange.getResponse();
         if (response.isCommitted()) {
-            recordTime(startDateTime);
+            recordTime(exchange, startNanos, error);
         } else {
             response.beforeCommit(() -> {
-                recordTime(startDateTime);
+                recordTime(exchange, startNanos, error);
                 return Mono.empty();
             });
         }
     }
     
-    private void recordTime(final LocalDateTime startDateTime) {
-        long millisBetween = DateUtils.acquireMillisBetween(startDateTime, LocalDateTime.now());
-        MetricsReporter.recordTime(LabelNames.EXECUTE_LATENCY_NAME, millisBetween);
+    private void recordTime(final ServerWebExchange exchange, final long startNanos, final boolean error) {
+        final long nanoTime = System.nanoTime();
+        MetricsReporter.recordTime(LabelNames.EXECUTE_LATENCY_NAME, TimeUnit.NANOSECONDS.toMillis(nanoTime - startNanos));
+        if (!routeLabel) {
+            return;
+        }
+        PluginLatencyTimer timer = exchange.getAttribute(Constants.PLUGIN_TIMER);
+        if (Objects.nonNull(timer)) {
+            timer.finish(nanoTime);
+        }
+        recordRoute(exchange, nanoTime - startNanos);
+        recordUpstream(exchange, error);
+    }
+    
+    private void recordRoute(final ServerWebExchange exchange, final long nanos) {
+        SelectorData selector = exchange.getAttribute(Constants.MATCHED_SELECTOR);
+        RuleData rule = exchange.getAttribute(Constants.MATCHED_RULE);
+        ShenyuContext shenyuContext = exchange.getAttribute(Constants.CONTEXT);
+        String plugin = Objects.isNull(selector) ? StringUtils.EMPTY : StringUtils.defaultString(selector.getPluginName());
+        String selectorId = Objects.isNull(selector) ? StringUtils.EMPTY : StringUtils.defaultString(selector.getId());
+        String ruleId = Objects.isNull(rule) ? StringUtils.EMPTY : StringUtils.defaultString(rule.getId());
+        String type = Objects.isNull(shenyuContext) ? StringUtils.EMPTY : StringUtils.defaultString(shenyuContext.getRpcType());
+        RouteMetrics route = MetricsReporter.resolveRoute(plugin, selectorId, ruleId);
+        if (Objects.nonNull(route)) {
+            route.record(type, PluginLatencyTimer.toMillis(nanos));
+        }
+    }
+    
+    private void recordUpstream(final ServerWebExchange exchange, final boolean error) {
+        String upstream = exchange.getAttribute(Constants.HTTP_DOMAIN);
+        if (StringUtils.isEmpty(upstream)) {
+            return;
+        }
+        Long upstreamNanos = exchange.getAttribute(Constants.UPSTREAM_LATENCY_NANOS);
+        if (Objects.nonNull(upstreamNanos)) {
+            MetricsReporter.resolveUpstreamLatency(upstream).accept(PluginLatencyTimer.toMillis(upstreamNanos));
+        }
+        HttpStatus status = exchange.getResponse().getStatusCode();
+        if (error || (Objects.nonNull(status) && status.is5xxServerError())) {
+            MetricsReporter.resolveUpstreamError(upstream).accept(1);
+        }
     }
 }
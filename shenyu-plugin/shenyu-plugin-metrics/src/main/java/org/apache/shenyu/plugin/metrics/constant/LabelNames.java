@@ -41,4 +41,29 @@ public final class LabelNames {
      * The constant EXECUTE_LATENCY_NAME.
      */
     public static final String EXECUTE_LATENCY_NAME = "shenyu_execute_latency_millis";
+    
+    /**
+     * The constant ROUTE_REQUEST_TOTAL.
+     */
+    public static final String ROUTE_REQUEST_TOTAL = "shenyu_route_request_total";
+    
+    /**
+     * The constant ROUTE_LATENCY_NAME.
+     */
+    public static final String ROUTE_LATENCY_NAME = "shenyu_route_latency_millis";
+    
+    /**
+     * The constant PLUGIN_LATENCY_NAME.
+     */
+    public static final String PLUGIN_LATENCY_NAME = "shenyu_plugin_latency_millis";
+    
+    /**
+     * The constant UPSTREAM_LATENCY_NAME.
+     */
+    public static final String UPSTREAM_LATENCY_NAME = "shenyu_upstream_latency_millis";
+    
+    /**
+     * The constant UPSTREAM_ERROR_TOTAL.
+     */
+    public static final String UPSTREAM_ERROR_TOTAL = "shenyu_upstream_error_total";
 }
@@ -26,6 +26,8 @@ import org.apache.shenyu.spi.Join;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.DoubleConsumer;
+import java.util.function.LongConsumer;
 
 /**
  * Prometheus metric register.
@@ -72,6 +74,17 @@ public final class PrometheusMetricsRegister implements MetricsRegister {
         }
     }
     
+    @Override
+    public void registerHistogram(final String name, final String[] labelNames, final String document, final double[] buckets) {
+        if (!HISTOGRAM_MAP.containsKey(name)) {
+            Histogram.Builder builder = Histogram.build().name(name).help(document).buckets(buckets);
+            if (null != labelNames) {
+                builder.labelNames(labelNames);
+            }
+            HISTOGRAM_MAP.putIfAbsent(name, builder.register());
+        }
+    }
+    
     @Override
     public void counterIncrement(final String name, final String[] labelValues, final long count) {
         Counter counter = COUNTER_MAP.get(name);
@@ -113,15 +126,42 @@ public final class PrometheusMetricsRegister implements MetricsRegister {
     
     @Override
     public void recordTime(final String name, final String[] labelValues, final long duration) {
+        observe(name, labelValues, duration);
+    }
+    
+    @Override
+    public void observe(final String name, final String[] labelValues, final double value) {
         Histogram histogram = HISTOGRAM_MAP.get(name);
         if (Objects.isNull(histogram)) {
             return;
         }
         if (null != labelValues) {
-            histogram.labels(labelValues).observe(duration);
+            histogram.labels(labelValues).observe(value);
         } else {
-            histogram.observe(duration);
+            histogram.observe(value);
+        }
+    }
+    
+    @Override
+    public LongConsumer resolveCounter(final String name, final String[] labelValues) {
+        Counter counter = COUNTER_MAP.get(name);
+        if (Objects.isNull(counter)) {
+            return count -> {
+            };
+        }
+        Counter.Child child = counter.labels(labelValues);
+        return child::inc;
+    }
+    
+    @Override
+    public DoubleConsumer resolveHistogram(final String name, final String[] labelValues) {
+        Histogram histogram = HISTOGRAM_MAP.get(name);
+        if (Objects.isNull(histogram)) {
+            return value -> {
+            };
         }
+        Histogram.Child child = histogram.labels(labelValues);
+        return child::observe;
     }
     
     /**
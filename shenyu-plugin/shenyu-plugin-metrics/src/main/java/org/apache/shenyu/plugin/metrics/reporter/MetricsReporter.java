@@ -23,13 +23,48 @@ import org.apache.shenyu.plugin.metrics.spi.MetricsRegister;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.DoubleConsumer;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
 
 /**
  * Metrics reporter.
  */
 public final class MetricsReporter {
     
+    private static final double[] LATENCY_MILLIS_BUCKETS = {0.1, 0.5, 1, 2.5, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000};
+    
+    private static final LongConsumer NOOP_COUNTER = count -> {
+    };
+    
+    private static final DoubleConsumer NOOP_HISTOGRAM = value -> {
+    };
+    
+    /**
+     * rule id, or selector id if no rule is matched -> the metrics of the route.
+     * The children of a removed route are kept by the register anyway, so the routes are not evicted.
+     */
+    private static final Map<String, RouteMetrics> ROUTE_METRICS_MAP = new ConcurrentHashMap<>();
+    
+    /**
+     * plugin name -> the plugin latency histogram.
+     */
+    private static final Map<String, DoubleConsumer> PLUGIN_LATENCY_MAP = new ConcurrentHashMap<>();
+    
+    /**
+     * upstream -> the upstream latency histogram.
+     */
+    private static final Map<String, DoubleConsumer> UPSTREAM_LATENCY_MAP = new ConcurrentHashMap<>();
+    
+    /**
+     * upstream -> the upstream error counter.
+     */
+    private static final Map<String, LongConsumer> UPSTREAM_ERROR_MAP = new ConcurrentHashMap<>();
+    
     private static MetricsRegister metricsRegister;
     
     /**
@@ -43,6 +78,19 @@ public final class MetricsReporter {
         MetricsReporter.registerCounter(LabelNames.REQUEST_TYPE_TOTAL, new String[]{"path", "type"}, "shenyu http request type total count");
         MetricsReporter.registerCounter(LabelNames.REQUEST_THROW_TOTAL, "shenyu request error total count");
         MetricsReporter.registerHistogram(LabelNames.EXECUTE_LATENCY_NAME, "the shenyu executor latency millis");
+        clearResolved();
+    }
+    
+    /**
+     * Register the metrics labeled by the matched route, the plugins and the upstreams.
+     */
+    public static void registerRouteMetrics() {
+        MetricsReporter.registerCounter(LabelNames.ROUTE_REQUEST_TOTAL, new String[]{"plugin", "selector", "rule", "type"}, "shenyu request total count by the matched route");
+        MetricsReporter.registerHistogram(LabelNames.ROUTE_LATENCY_NAME, new String[]{"plugin", "selector", "rule"}, "shenyu request latency millis by the matched route",
+                LATENCY_MILLIS_BUCKETS);
+        MetricsReporter.registerHistogram(LabelNames.PLUGIN_LATENCY_NAME, new String[]{"plugin"}, "shenyu plugin execution latency millis", LATENCY_MILLIS_BUCKETS);
+        MetricsReporter.registerHistogram(LabelNames.UPSTREAM_LATENCY_NAME, new String[]{"upstream"}, "shenyu upstream latency millis", LATENCY_MILLIS_BUCKETS);
+        MetricsReporter.registerCounter(LabelNames.UPSTREAM_ERROR_TOTAL, new String[]{"upstream"}, "shenyu upstream error total count");
     }
     
     /**
@@ -131,6 +179,18 @@ public final class MetricsReporter {
         registerHistogram(name, null, document);
     }
     
+    /**
+     * Register histogram with the bucket bounds.
+     *
+     * @param name name
+     * @param labelNames label names
+     * @param document document for histogram
+     * @param buckets the upper bounds of the buckets
+     */
+    public static void registerHistogram(final String name, final String[] labelNames, final String document, final double[] buckets) {
+        Optional.ofNullable(metricsRegister).ifPresent(register -> register.registerHistogram(name, labelNames, document, buckets));
+    }
+    
     /**
      * Counter increment.
      *
@@ -220,12 +280,105 @@ public final class MetricsReporter {
         recordTime(name, null, duration);
     }
     
+    /**
+     * Resolve the counter of the label values, the caller should keep the resolved counter.
+     *
+     * @param name name
+     * @param labelValues label values
+     * @return the counter increment
+     */
+    public static LongConsumer resolveCounter(final String name, final String... labelValues) {
+        MetricsRegister register = metricsRegister;
+        return Objects.isNull(register) ? NOOP_COUNTER : register.resolveCounter(name, labelValues);
+    }
+    
+    /**
+     * Resolve the histogram of the label values, the caller should keep the resolved histogram.
+     *
+     * @param name name
+     * @param labelValues label values
+     * @return the histogram observation
+     */
+    public static DoubleConsumer resolveHistogram(final String name, final String... labelValues) {
+        MetricsRegister register = metricsRegister;
+        return Objects.isNull(register) ? NOOP_HISTOGRAM : register.resolveHistogram(name, labelValues);
+    }
+    
+    /**
+     * Resolve the metrics of the matched route, they are resolved once for the rule.
+     *
+     * @param plugin the plugin name
+     * @param selectorId the matched selector id
+     * @param ruleId the matched rule id
+     * @return the route metrics, null if no metrics register
+     */
+    public static RouteMetrics resolveRoute(final String plugin, final String selectorId, final String ruleId) {
+        MetricsRegister register = metricsRegister;
+        if (Objects.isNull(register)) {
+            return null;
+        }
+        String key = ruleId.isEmpty() ? selectorId : ruleId;
+        RouteMetrics route = ROUTE_METRICS_MAP.get(key);
+        if (Objects.isNull(route) || !route.matches(plugin, selectorId)) {
+            // the rule is new or it is moved to another selector
+            route = new RouteMetrics(register, plugin, selectorId, ruleId);
+            ROUTE_METRICS_MAP.put(key, route);
+        }
+        return route;
+    }
+    
+    /**
+     * Resolve the latency histogram of the plugin.
+     *
+     * @param plugin the plugin name
+     * @return the histogram observation
+     */
+    public static DoubleConsumer resolvePluginLatency(final String plugin) {
+        return resolve(PLUGIN_LATENCY_MAP, plugin, label -> resolveHistogram(LabelNames.PLUGIN_LATENCY_NAME, label), NOOP_HISTOGRAM);
+    }
+    
+    /**
+     * Resolve the latency histogram of the upstream.
+     *
+     * @param upstream the upstream
+     * @return the histogram observation
+     */
+    public static DoubleConsumer resolveUpstreamLatency(final String upstream) {
+        return resolve(UPSTREAM_LATENCY_MAP, upstream, label -> resolveHistogram(LabelNames.UPSTREAM_LATENCY_NAME, label), NOOP_HISTOGRAM);
+    }
+    
+    /**
+     * Resolve the error counter of the upstream.
+     *
+     * @param upstream the upstream
+     * @return the counter increment
+     */
+    public static LongConsumer resolveUpstreamError(final String upstream) {
+        return resolve(UPSTREAM_ERROR_MAP, upstream, label -> resolveCounter(LabelNames.UPSTREAM_ERROR_TOTAL, label), NOOP_COUNTER);
+    }
+    
     /**
      * Clean.
      */
     public static void clean() {
         Optional.ofNullable(metricsRegister).ifPresent(MetricsRegister::clean);
         metricsRegister = null;
+        clearResolved();
+    }
+    
+    private static <T> T resolve(final Map<String, T> resolvedMap, final String label, final Function<String, T> resolver, final T noop) {
+        if (Objects.isNull(metricsRegister)) {
+            return noop;
+        }
+        T resolved = resolvedMap.get(label);
+        return Objects.isNull(resolved) ? resolvedMap.computeIfAbsent(label, resolver) : resolved;
+    }
+    
+    private static void clearResolved() {
+        ROUTE_METRICS_MAP.clear();
+        PLUGIN_LATENCY_MAP.clear();
+        UPSTREAM_LATENCY_MAP.clear();
+        UPSTREAM_ERROR_MAP.clear();
     }
     
     private static String[] getLabelNames(final List<String> labels) {
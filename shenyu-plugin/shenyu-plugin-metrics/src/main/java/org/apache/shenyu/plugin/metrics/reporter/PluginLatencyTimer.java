@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.metrics.reporter;
+
+import org.apache.shenyu.plugin.api.PluginTimer;
+
+import java.util.Objects;
+
+/**
+ * Records the execution latency of the plugins of a request.
+ * A plugin runs from being entered until the next plugin is entered, the last one runs until the request is finished.
+ */
+public final class PluginLatencyTimer implements PluginTimer {
+    
+    private static final double NANOS_PER_MILLI = 1_000_000d;
+    
+    private String pluginName;
+    
+    private long enterNanos;
+    
+    @Override
+    public void enter(final String pluginName, final long nanoTime) {
+        record(nanoTime);
+        this.pluginName = pluginName;
+        this.enterNanos = nanoTime;
+    }
+    
+    /**
+     * Finish the request, the last entered plugin is recorded.
+     *
+     * @param nanoTime the {@link System#nanoTime()} when the request is finished
+     */
+    public void finish(final long nanoTime) {
+        record(nanoTime);
+        this.pluginName = null;
+    }
+    
+    /**
+     * Convert nanos to millis.
+     *
+     * @param nanos the nanos
+     * @return the millis
+     */
+    public static double toMillis(final long nanos) {
+        return nanos / NANOS_PER_MILLI;
+    }
+    
+    private void record(final long nanoTime) {
+        if (Objects.nonNull(pluginName)) {
+            MetricsReporter.resolvePluginLatency(pluginName).accept(toMillis(nanoTime - enterNanos));
+        }
+    }
+}
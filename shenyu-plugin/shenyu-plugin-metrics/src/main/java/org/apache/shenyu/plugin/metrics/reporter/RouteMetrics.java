@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.metrics.reporter;
+
+import org.apache.shenyu.plugin.metrics.constant.LabelNames;
+import org.apache.shenyu.plugin.metrics.spi.MetricsRegister;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.DoubleConsumer;
+import java.util.function.LongConsumer;
+
+/**
+ * The metrics of a matched route, its children are resolved once and kept with the route.
+ */
+public final class RouteMetrics {
+    
+    private final MetricsRegister register;
+    
+    private final String plugin;
+    
+    private final String selectorId;
+    
+    private final String ruleId;
+    
+    private final DoubleConsumer latency;
+    
+    /**
+     * rpc type -> the request counter.
+     */
+    private final Map<String, LongConsumer> requestCounters = new ConcurrentHashMap<>();
+    
+    RouteMetrics(final MetricsRegister register, final String plugin, final String selectorId, final String ruleId) {
+        this.register = register;
+        this.plugin = plugin;
+        this.selectorId = selectorId;
+        this.ruleId = ruleId;
+        this.latency = register.resolveHistogram(LabelNames.ROUTE_LATENCY_NAME, new String[]{plugin, selectorId, ruleId});
+    }
+    
+    /**
+     * Record a request of the route.
+     *
+     * @param type the rpc type
+     * @param millis the latency millis
+     */
+    public void record(final String type, final double millis) {
+        LongConsumer counter = requestCounters.get(type);
+        if (Objects.isNull(counter)) {
+            counter = requestCounters.computeIfAbsent(type,
+                t -> register.resolveCounter(LabelNames.ROUTE_REQUEST_TOTAL, new String[]{plugin, selectorId, ruleId, t}));
+        }
+        counter.accept(1);
+        latency.accept(millis);
+    }
+    
+    boolean matches(final String plugin, final String selectorId) {
+        return this.plugin.equals(plugin) && this.selectorId.equals(selectorId);
+    }
+}
@@ -19,6 +19,9 @@ package org.apache.shenyu.plugin.metrics.spi;
 
 import org.apache.shenyu.spi.SPI;
 
+import java.util.function.DoubleConsumer;
+import java.util.function.LongConsumer;
+
 /**
  * Metrics register.
  */
@@ -52,6 +55,18 @@ public interface MetricsRegister {
      */
     void registerHistogram(String name, String[] labelNames, String document);
     
+    /**
+     * Register histogram with the bucket bounds.
+     *
+     * @param name name
+     * @param labelNames label names
+     * @param document document for histogram
+     * @param buckets the upper bounds of the buckets
+     */
+    default void registerHistogram(String name, String[] labelNames, String document, double[] buckets) {
+        registerHistogram(name, labelNames, document);
+    }
+    
     /**
      * Counter increment by count.
      *
@@ -86,6 +101,39 @@ public interface MetricsRegister {
      */
     void recordTime(String name, String[] labelValues, long duration);
     
+    /**
+     * Resolve the counter of the label values, so it can be incremented without being looked up again.
+     *
+     * @param name name
+     * @param labelValues label values
+     * @return the counter increment
+     */
+    default LongConsumer resolveCounter(String name, String[] labelValues) {
+        return count -> counterIncrement(name, labelValues, count);
+    }
+    
+    /**
+     * Resolve the histogram of the label values, so it can be observed without being looked up again.
+     *
+     * @param name name
+     * @param labelValues label values
+     * @return the histogram observation
+     */
+    default DoubleConsumer resolveHistogram(String name, String[] labelValues) {
+        return value -> observe(name, labelValues, value);
+    }
+    
+    /**
+     * Observe the value of the histogram, the register should override it to keep the fraction.
+     *
+     * @param name name
+     * @param labelValues label values
+     * @param value the value
+     */
+    default void observe(String name, String[] labelValues, double value) {
+        recordTime(name, labelValues, Math.round(value));
+    }
+    
     /**
      * Clean.
      */
@@ -17,12 +17,19 @@
 
 package org.apache.shenyu.plugin.metrics;
 
+import org.apache.shenyu.common.config.ShenyuConfig.MetricsConfig;
 import org.apache.shenyu.common.constant.Constants;
+import org.apache.shenyu.common.dto.RuleData;
+import org.apache.shenyu.common.dto.SelectorData;
 import org.apache.shenyu.common.enums.PluginEnum;
+import org.apache.shenyu.plugin.api.PluginTimer;
 import org.apache.shenyu.plugin.api.RemoteAddressResolver;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
 import org.apache.shenyu.plugin.api.context.ShenyuContext;
 import org.apache.shenyu.plugin.api.utils.SpringBeanUtils;
+import org.apache.shenyu.plugin.metrics.constant.LabelNames;
+import org.apache.shenyu.plugin.metrics.reporter.MetricsReporter;
+import org.apache.shenyu.plugin.metrics.spi.MetricsRegister;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -36,6 +43,7 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.net.InetSocketAddress;
+import java.util.Properties;
 
 /**
  * The Test Case For MetricsPlugin.
@@ -75,6 +83,39 @@ public class MetricsPluginTest {
         StepVerifier.create(result).expectSubscription().verifyComplete();
     }
 
+    @Test
+    public void testRouteLabel() {
+        MetricsRegister metricsRegister = Mockito.mock(MetricsRegister.class);
+        Mockito.when(metricsRegister.resolveCounter(ArgumentMatchers.anyString(), ArgumentMatchers.any())).thenReturn(count -> {
+        });
+        Mockito.when(metricsRegister.resolveHistogram(ArgumentMatchers.anyString(), ArgumentMatchers.any())).thenReturn(value -> {
+        });
+        MetricsReporter.register(metricsRegister);
+        Properties props = new Properties();
+        props.setProperty("label_mode", "route");
+        MetricsConfig metricsConfig = new MetricsConfig();
+        metricsConfig.setProps(props);
+        SelectorData selectorData = SelectorData.builder().id("1").pluginName("divide").build();
+        exchange.getAttributes().put(Constants.MATCHED_SELECTOR, selectorData);
+        exchange.getAttributes().put(Constants.MATCHED_RULE, RuleData.builder().id("2").build());
+        exchange.getAttributes().put(Constants.HTTP_DOMAIN, "http://localhost:8080");
+        exchange.getAttributes().put(Constants.UPSTREAM_LATENCY_NANOS, 1_000_000L);
+        Mockito.when(chain.execute(ArgumentMatchers.any())).thenAnswer(invocation -> {
+            PluginTimer timer = exchange.getAttribute(Constants.PLUGIN_TIMER);
+            Assertions.assertNotNull(timer);
+            timer.enter("divide", System.nanoTime());
+            return Mono.empty();
+        });
+        StepVerifier.create(new MetricsPlugin(metricsConfig).execute(exchange, chain)).expectSubscription().verifyComplete();
+        exchange.getResponse().setComplete().block();
+        Mockito.verify(metricsRegister).resolveCounter(LabelNames.ROUTE_REQUEST_TOTAL, new String[]{"divide", "1", "2", ""});
+        Mockito.verify(metricsRegister).resolveHistogram(LabelNames.ROUTE_LATENCY_NAME, new String[]{"divide", "1", "2"});
+        Mockito.verify(metricsRegister).resolveHistogram(LabelNames.PLUGIN_LATENCY_NAME, new String[]{"divide"});
+        Mockito.verify(metricsRegister).resolveHistogram(LabelNames.UPSTREAM_LATENCY_NAME, new String[]{"http://localhost:8080"});
+        Mockito.verify(metricsRegister, Mockito.never()).resolveCounter(LabelNames.UPSTREAM_ERROR_TOTAL, new String[]{"http://localhost:8080"});
+        MetricsReporter.clean();
+    }
+
     @Test
     public void testGetOrder() {
         Assertions.assertEquals(metricsPlugin.getOrder(), PluginEnum.METRICS.getCode());
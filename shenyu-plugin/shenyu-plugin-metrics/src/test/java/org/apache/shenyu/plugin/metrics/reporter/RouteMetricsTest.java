@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.metrics.reporter;
+
+import org.apache.shenyu.plugin.metrics.constant.LabelNames;
+import org.apache.shenyu.plugin.metrics.spi.MetricsRegister;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.DoubleAdder;
+
+/**
+ * The Test Case For RouteMetrics.
+ */
+public final class RouteMetricsTest {
+
+    @Test
+    public void testRecord() {
+        MetricsRegister metricsRegister = Mockito.mock(MetricsRegister.class);
+        AtomicLong count = new AtomicLong();
+        DoubleAdder latency = new DoubleAdder();
+        Mockito.when(metricsRegister.resolveCounter(ArgumentMatchers.anyString(), ArgumentMatchers.any())).thenReturn(count::addAndGet);
+        Mockito.when(metricsRegister.resolveHistogram(ArgumentMatchers.anyString(), ArgumentMatchers.any())).thenReturn(latency::add);
+        RouteMetrics route = new RouteMetrics(metricsRegister, "divide", "1", "2");
+        route.record("http", 0.5);
+        route.record("http", 0.25);
+        route.record("springCloud", 1);
+        Assertions.assertEquals(3, count.get());
+        Assertions.assertEquals(1.75, latency.sum());
+        Mockito.verify(metricsRegister).resolveHistogram(LabelNames.ROUTE_LATENCY_NAME, new String[]{"divide", "1", "2"});
+        Mockito.verify(metricsRegister).resolveCounter(LabelNames.ROUTE_REQUEST_TOTAL, new String[]{"divide", "1", "2", "http"});
+        Mockito.verify(metricsRegister).resolveCounter(LabelNames.ROUTE_REQUEST_TOTAL, new String[]{"divide", "1", "2", "springCloud"});
+        Assertions.assertTrue(route.matches("divide", "1"));
+        Assertions.assertFalse(route.matches("divide", "3"));
+    }
+}
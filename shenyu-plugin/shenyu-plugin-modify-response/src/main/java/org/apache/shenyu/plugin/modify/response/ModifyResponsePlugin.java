@@ -17,8 +17,6 @@
 
 package org.apache.shenyu.plugin.modify.response;
 
-import com.jayway.jsonpath.DocumentContext;
-import com.jayway.jsonpath.JsonPath;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
 import org.apache.shenyu.common.constant.Constants;
@@ -32,6 +30,7 @@ import org.apache.shenyu.plugin.api.context.ShenyuContext;
 import org.apache.shenyu.plugin.base.AbstractShenyuPlugin;
 import org.apache.shenyu.plugin.base.utils.CacheKeyUtils;
 import org.apache.shenyu.plugin.base.utils.ResponseUtils;
+import org.apache.shenyu.plugin.modify.response.body.ResponseBodyModifier;
 import org.apache.shenyu.plugin.modify.response.handler.ModifyResponsePluginDataHandler;
 import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
@@ -47,7 +46,6 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.annotation.NonNull;
 
-import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
@@ -64,12 +62,14 @@ public class ModifyResponsePlugin extends AbstractShenyuPlugin {
     protected Mono<Void> doExecute(final ServerWebExchange exchange, final ShenyuPluginChain chain, final SelectorData selector, final RuleData rule) {
         ShenyuContext shenyuContext = exchange.getAttribute(Constants.CONTEXT);
         assert shenyuContext != null;
-        ModifyResponseRuleHandle ruleHandle = ModifyResponsePluginDataHandler.CACHED_HANDLE.get().obtainHandle(CacheKeyUtils.INST.getKey(rule));
+        String key = CacheKeyUtils.INST.getKey(rule);
+        ModifyResponseRuleHandle ruleHandle = ModifyResponsePluginDataHandler.CACHED_HANDLE.get().obtainHandle(key);
         if (Objects.isNull(ruleHandle)) {
             return chain.execute(exchange);
         }
+        ResponseBodyModifier bodyModifier = ModifyResponsePluginDataHandler.CACHED_BODY_MODIFIER.get().obtainHandle(key);
         return chain.execute(exchange.mutate()
-                .response(new ModifyResponseDecorator(exchange, ruleHandle)).build());
+                .response(new ModifyResponseDecorator(exchange, ruleHandle, bodyModifier)).build());
     }
 
     @Override
@@ -88,19 +88,42 @@ public class ModifyResponsePlugin extends AbstractShenyuPlugin {
 
         private final ModifyResponseRuleHandle ruleHandle;
 
+        private final ResponseBodyModifier bodyModifier;
+
         ModifyResponseDecorator(final ServerWebExchange exchange,
-                                final ModifyResponseRuleHandle ruleHandle) {
+                                final ModifyResponseRuleHandle ruleHandle,
+                                final ResponseBodyModifier bodyModifier) {
             super(exchange.getResponse());
             this.exchange = exchange;
             this.ruleHandle = ruleHandle;
+            this.bodyModifier = bodyModifier;
         }
 
         @Override
         @NonNull
         public Mono<Void> writeWith(@NonNull final Publisher<? extends DataBuffer> body) {
             ClientResponse clientResponse = this.buildModifiedResponse(body);
+            final ResponseBodyModifier modifier;
+            try {
+                // the paths are compiled when the rule is synced, an invalid path is compiled again to report the error
+                modifier = Objects.nonNull(this.bodyModifier) ? this.bodyModifier : ResponseBodyModifier.compile(this.ruleHandle);
+            } catch (Exception e) {
+                return Mono.error(modifyError(e));
+            }
+            if (modifier.isEmpty()) {
+                this.exchange.getAttributes().put(Constants.CLIENT_RESPONSE_ATTR, clientResponse);
+                return this.getDelegate().writeWith(body);
+            }
+            if (modifier.isStreaming()) {
+                HttpHeaders chunkedHeaders = ResponseUtils.chunkedHeader(this.getDelegate().getHeaders());
+                this.getDelegate().getHeaders().clear();
+                this.getDelegate().getHeaders().putAll(chunkedHeaders);
+                this.exchange.getAttributes().put(Constants.CLIENT_RESPONSE_ATTR, clientResponse);
+                return this.getDelegate().writeWith(modifier.modify(body, this.bufferFactory()).onErrorMap(this::modifyError));
+            }
+            // the remaining paths need the whole document
             Mono<byte[]> modifiedBody = clientResponse.bodyToMono(byte[].class)
-                    .flatMap(originalBody -> Mono.just(modifyBody(originalBody)));
+                    .map(originalBody -> modifyBody(modifier, originalBody));
             return ResponseUtils.writeWith(clientResponse, this.exchange, modifiedBody, byte[].class);
         }
 
@@ -153,29 +176,17 @@ public class ModifyResponsePlugin extends AbstractShenyuPlugin {
                     .body(Flux.from(body)).build();
         }
 
-        private byte[] modifyBody(final byte[] responseBody) {
+        private byte[] modifyBody(final ResponseBodyModifier modifier, final byte[] responseBody) {
             try {
-                String bodyStr = modifyBody(new String(responseBody, StandardCharsets.UTF_8));
-                LOG.info("the body string {}", bodyStr);
-                return bodyStr.getBytes(StandardCharsets.UTF_8);
+                return modifier.modify(responseBody);
             } catch (Exception e) {
-                LOG.error("modify response error", e);
-                throw new ShenyuException(String.format("response modify failure. %s", e.getLocalizedMessage()));
+                throw modifyError(e);
             }
         }
 
-        private String modifyBody(final String jsonValue) {
-            DocumentContext context = JsonPath.parse(jsonValue);
-            if (CollectionUtils.isNotEmpty(this.ruleHandle.getAddBodyKeys())) {
-                this.ruleHandle.getAddBodyKeys().forEach(info -> context.put(info.getPath(), info.getKey(), info.getValue()));
-            }
-            if (CollectionUtils.isNotEmpty(this.ruleHandle.getReplaceBodyKeys())) {
-                this.ruleHandle.getReplaceBodyKeys().forEach(info -> context.renameKey(info.getPath(), info.getKey(), info.getValue()));
-            }
-            if (CollectionUtils.isNotEmpty(this.ruleHandle.getRemoveBodyKeys())) {
-                this.ruleHandle.getRemoveBodyKeys().forEach(context::delete);
-            }
-            return context.jsonString();
+        private ShenyuException modifyError(final Throwable e) {
+            LOG.error("modify response error", e);
+            return new ShenyuException(String.format("response modify failure. %s", e.getLocalizedMessage()));
         }
     }
 }
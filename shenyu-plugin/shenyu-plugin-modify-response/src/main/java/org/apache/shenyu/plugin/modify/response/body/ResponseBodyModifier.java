@@ -0,0 +1,263 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.modify.response.body;
+
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.DocumentContext;
+import com.jayway.jsonpath.InvalidModificationException;
+import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.Option;
+import com.jayway.jsonpath.PathNotFoundException;
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.shenyu.common.dto.convert.rule.impl.ModifyResponseRuleHandle;
+import org.apache.shenyu.common.dto.convert.rule.impl.ParamMappingRuleHandle;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * The body operations of a modify response rule, compiled once when the rule is synced.
+ * The operations are applied by a streaming tokenizer over the response chunks when every path
+ * can be matched token by token, otherwise the whole body is buffered and modified with json path.
+ */
+public final class ResponseBodyModifier {
+
+    private static final Configuration PATH_LIST_CONFIGURATION = Configuration.builder()
+            .options(Option.AS_PATH_LIST, Option.SUPPRESS_EXCEPTIONS).build();
+
+    private final List<BodyOperation> addOperations;
+
+    private final List<BodyOperation> replaceOperations;
+
+    private final List<BodyOperation> removeOperations;
+
+    private final boolean streaming;
+
+    private ResponseBodyModifier(final List<BodyOperation> addOperations,
+                                 final List<BodyOperation> replaceOperations,
+                                 final List<BodyOperation> removeOperations) {
+        this.addOperations = addOperations;
+        this.replaceOperations = replaceOperations;
+        this.removeOperations = removeOperations;
+        this.streaming = isStreamable(addOperations, replaceOperations, removeOperations);
+    }
+
+    /**
+     * Compile the body operations of the rule handle.
+     *
+     * @param ruleHandle the rule handle
+     * @return the modifier
+     */
+    public static ResponseBodyModifier compile(final ModifyResponseRuleHandle ruleHandle) {
+        List<BodyOperation> removeOperations = new ArrayList<>();
+        if (CollectionUtils.isNotEmpty(ruleHandle.getRemoveBodyKeys())) {
+            ruleHandle.getRemoveBodyKeys().forEach(path -> removeOperations.add(new BodyOperation(path, null, null)));
+        }
+        return new ResponseBodyModifier(compile(ruleHandle.getAddBodyKeys()), compile(ruleHandle.getReplaceBodyKeys()), removeOperations);
+    }
+
+    private static List<BodyOperation> compile(final Collection<ParamMappingRuleHandle.ParamMapInfo> infos) {
+        if (CollectionUtils.isEmpty(infos)) {
+            return Collections.emptyList();
+        }
+        List<BodyOperation> operations = new ArrayList<>(infos.size());
+        infos.forEach(info -> operations.add(new BodyOperation(info.getPath(), info.getKey(), info.getValue())));
+        return operations;
+    }
+
+    /**
+     * Whether there is no body operation, the body can be written as it is.
+     *
+     * @return true if empty
+     */
+    public boolean isEmpty() {
+        return addOperations.isEmpty() && replaceOperations.isEmpty() && removeOperations.isEmpty();
+    }
+
+    /**
+     * Whether the operations can be applied while streaming.
+     *
+     * @return true if streaming
+     */
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    /**
+     * Modify the whole body with json path.
+     *
+     * @param body the body
+     * @return the modified body
+     */
+    public byte[] modify(final byte[] body) {
+        DocumentContext context = JsonPath.parse(new ByteArrayInputStream(body));
+        // like the streaming tokenizer, a path or key missing in the body is left unchanged instead of failing the response
+        addOperations.forEach(operation -> forEachMatch(context, operation, path -> context.put(path, operation.getKey(), operation.getValue())));
+        replaceOperations.forEach(operation -> forEachMatch(context, operation, path -> context.renameKey(path, operation.getKey(), operation.getValue())));
+        removeOperations.forEach(operation -> ignoreMissing(() -> context.delete(operation.getJsonPath())));
+        return context.jsonString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Modify the body chunk by chunk, only the tokens that do not fit in a chunk are held in memory.
+     *
+     * @param body          the body
+     * @param bufferFactory the buffer factory of the response
+     * @return the modified body
+     */
+    public Flux<DataBuffer> modify(final Publisher<? extends DataBuffer> body, final DataBufferFactory bufferFactory) {
+        return Flux.defer(() -> {
+            StreamingJsonRewriter rewriter = new StreamingJsonRewriter(this, bufferFactory);
+            return Flux.from(body).map(rewriter::rewrite).concatWith(Mono.fromCallable(rewriter::finish));
+        }).filter(buffer -> {
+            if (buffer.readableByteCount() > 0) {
+                return true;
+            }
+            DataBufferUtils.release(buffer);
+            return false;
+        });
+    }
+
+    /**
+     * get add operations.
+     *
+     * @return the add operations
+     */
+    List<BodyOperation> getAddOperations() {
+        return addOperations;
+    }
+
+    /**
+     * get replace operations.
+     *
+     * @return the replace operations
+     */
+    List<BodyOperation> getReplaceOperations() {
+        return replaceOperations;
+    }
+
+    /**
+     * get remove operations.
+     *
+     * @return the remove operations
+     */
+    List<BodyOperation> getRemoveOperations() {
+        return removeOperations;
+    }
+
+    private static void forEachMatch(final DocumentContext context, final BodyOperation operation, final Consumer<String> action) {
+        // json path stops at the first match without the key, so every match is modified on its own
+        Object document = context.json();
+        List<String> paths = JsonPath.using(PATH_LIST_CONFIGURATION).parse(document).read(operation.getJsonPath());
+        paths.forEach(path -> ignoreMissing(() -> action.accept(path)));
+    }
+
+    private static void ignoreMissing(final Runnable action) {
+        try {
+            action.run();
+        } catch (PathNotFoundException | InvalidModificationException ignored) {
+            // the streaming tokenizer only modifies the objects that have the path
+        }
+    }
+
+    private static boolean isStreamable(final List<BodyOperation> addOperations,
+                                        final List<BodyOperation> replaceOperations,
+                                        final List<BodyOperation> removeOperations) {
+        if (addOperations.stream().anyMatch(operation -> Objects.isNull(operation.getStreamingPath()))
+                || replaceOperations.stream().anyMatch(operation -> Objects.isNull(operation.getStreamingPath()))) {
+            return false;
+        }
+        for (BodyOperation operation : removeOperations) {
+            StreamingJsonPath path = operation.getStreamingPath();
+            // json path can not delete the root, and deleting array elements one by one shifts the indexes of the next deletes
+            if (Objects.isNull(path) || path.depth() == 0 || (path.endsWithIndex() && removeOperations.size() > 1)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A compiled body operation.
+     */
+    static final class BodyOperation {
+
+        private final JsonPath jsonPath;
+
+        private final StreamingJsonPath streamingPath;
+
+        private final String key;
+
+        private final String value;
+
+        BodyOperation(final String path, final String key, final String value) {
+            this.jsonPath = JsonPath.compile(path);
+            this.streamingPath = StreamingJsonPath.compile(path);
+            this.key = key;
+            this.value = value;
+        }
+
+        /**
+         * get json path.
+         *
+         * @return the json path
+         */
+        JsonPath getJsonPath() {
+            return jsonPath;
+        }
+
+        /**
+         * get streaming path.
+         *
+         * @return the streaming path, null if the path needs the whole document
+         */
+        StreamingJsonPath getStreamingPath() {
+            return streamingPath;
+        }
+
+        /**
+         * get key.
+         *
+         * @return the key
+         */
+        String getKey() {
+            return key;
+        }
+
+        /**
+         * get value, the new key name of a replace operation.
+         *
+         * @return the value
+         */
+        String getValue() {
+            return value;
+        }
+    }
+}
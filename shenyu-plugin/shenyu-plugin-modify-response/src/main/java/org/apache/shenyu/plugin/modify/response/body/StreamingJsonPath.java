@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.modify.response.body;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A json path that can be matched while the document is being tokenized.
+ * Only paths made of property names, array indexes and wildcards are supported,
+ * deep scans, filters, slices, unions and functions need the whole document.
+ */
+public final class StreamingJsonPath {
+
+    private static final String ROOT = "$";
+
+    private static final String WILDCARD = "*";
+
+    private final List<Object> segments;
+
+    private final boolean endsWithIndex;
+
+    private StreamingJsonPath(final List<Object> segments) {
+        this.segments = segments;
+        this.endsWithIndex = !segments.isEmpty() && segments.get(segments.size() - 1) instanceof Integer;
+    }
+
+    /**
+     * Compile the json path.
+     *
+     * @param path the json path
+     * @return the streaming path, or null if the path can not be matched while streaming
+     */
+    public static StreamingJsonPath compile(final String path) {
+        if (StringUtils.isBlank(path)) {
+            return null;
+        }
+        String source = path.trim();
+        if (!source.startsWith(ROOT)) {
+            source = ROOT + "." + source;
+        }
+        List<Object> segments = new ArrayList<>();
+        int index = ROOT.length();
+        while (index < source.length()) {
+            index = source.charAt(index) == '.' ? readProperty(source, index + 1, segments) : readBracket(source, index, segments);
+            if (index < 0) {
+                return null;
+            }
+        }
+        return new StreamingJsonPath(Collections.unmodifiableList(segments));
+    }
+
+    /**
+     * The depth of the value the path points to, the root document is at depth 0.
+     *
+     * @return the depth
+     */
+    public int depth() {
+        return segments.size();
+    }
+
+    /**
+     * Whether the path points to an array element.
+     *
+     * @return true if the last segment is an array index
+     */
+    public boolean endsWithIndex() {
+        return endsWithIndex;
+    }
+
+    /**
+     * Whether the path matches the location, the location holds the property names and array indexes from the root.
+     *
+     * @param location the location
+     * @param depth    the depth of the location
+     * @return true if matched
+     */
+    public boolean matches(final List<? extends Location> location, final int depth) {
+        if (depth != segments.size()) {
+            return false;
+        }
+        for (int i = 0; i < depth; i++) {
+            Object segment = segments.get(i);
+            if (segment != WILDCARD && !segment.equals(location.get(i).key())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int readProperty(final String source, final int start, final List<Object> segments) {
+        int end = start;
+        while (end < source.length() && source.charAt(end) != '.' && source.charAt(end) != '[') {
+            end++;
+        }
+        String name = source.substring(start, end);
+        // an empty name is a deep scan, parentheses are functions
+        if (name.isEmpty() || StringUtils.containsAny(name, '(', ')', '\'', '"', ']')) {
+            return -1;
+        }
+        segments.add(WILDCARD.equals(name) ? WILDCARD : name);
+        return end;
+    }
+
+    private static int readBracket(final String source, final int start, final List<Object> segments) {
+        int end = source.indexOf(']', start);
+        if (source.charAt(start) != '[' || end < 0) {
+            return -1;
+        }
+        String content = source.substring(start + 1, end).trim();
+        if (WILDCARD.equals(content)) {
+            segments.add(WILDCARD);
+        } else if (isQuoted(content)) {
+            String name = content.substring(1, content.length() - 1);
+            if (StringUtils.containsAny(name, '\'', '"', '\\', ',')) {
+                return -1;
+            }
+            segments.add(name);
+        } else if (StringUtils.isNumeric(content) && content.length() < 10) {
+            segments.add(Integer.valueOf(content));
+        } else {
+            return -1;
+        }
+        return end + 1;
+    }
+
+    private static boolean isQuoted(final String content) {
+        if (content.length() < 2) {
+            return false;
+        }
+        char quote = content.charAt(0);
+        return (quote == '\'' || quote == '"') && content.charAt(content.length() - 1) == quote;
+    }
+
+    /**
+     * A step of the location of the current token.
+     */
+    public interface Location {
+
+        /**
+         * The property name or the array index of the current value in its parent.
+         *
+         * @return the key
+         */
+        Object key();
+    }
+}
@@ -0,0 +1,412 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.modify.response.body;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Rewrite a json body token by token with a non-blocking parser, one instance per response.
+ * Every chunk is parsed as soon as it arrives and the tokens are written to an output buffer of the same chunk,
+ * so the memory held is bounded by the chunk size and the nesting depth rather than the body size.
+ * The only value held whole is an original key that a rename of the same object may still overwrite.
+ */
+final class StreamingJsonRewriter {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final ResponseBodyModifier modifier;
+
+    private final DataBufferFactory bufferFactory;
+
+    private final JsonParser parser;
+
+    private final ByteArrayFeeder feeder;
+
+    private final DataBufferOutputStream output = new DataBufferOutputStream();
+
+    private final JsonGenerator generator;
+
+    private final List<Frame> frames = new ArrayList<>();
+
+    private byte[] input = new byte[0];
+
+    private boolean skipValue;
+
+    private int skipDepth;
+
+    private JsonGenerator out;
+
+    private Frame holdFrame;
+
+    private int holdDepth;
+
+    private String holdName;
+
+    private ByteArrayOutputStream holdOutput;
+
+    StreamingJsonRewriter(final ResponseBodyModifier modifier, final DataBufferFactory bufferFactory) {
+        this.modifier = modifier;
+        this.bufferFactory = bufferFactory;
+        try {
+            this.parser = JSON_FACTORY.createNonBlockingByteArrayParser();
+            this.generator = JSON_FACTORY.createGenerator(output, JsonEncoding.UTF8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        this.out = generator;
+    }
+
+    /**
+     * Rewrite the tokens completed by the chunk, the chunk is released.
+     *
+     * @param chunk the chunk
+     * @return the rewritten tokens, may be empty
+     */
+    DataBuffer rewrite(final DataBuffer chunk) {
+        int length = chunk.readableByteCount();
+        try {
+            if (input.length < length) {
+                input = new byte[length];
+            }
+            chunk.read(input, 0, length);
+        } finally {
+            DataBufferUtils.release(chunk);
+        }
+        try {
+            // the parser copies the incomplete token, so the input array is reused once the tokens are drained
+            feeder.feedInput(input, 0, length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return drain(bufferFactory.allocateBuffer(length));
+    }
+
+    /**
+     * Rewrite the tokens left at the end of the body.
+     *
+     * @return the rewritten tokens, may be empty
+     */
+    DataBuffer finish() {
+        feeder.endOfInput();
+        DataBuffer buffer = drain(bufferFactory.allocateBuffer(64));
+        if (!frames.isEmpty()) {
+            DataBufferUtils.release(buffer);
+            throw new IllegalStateException("unexpected end of the json body");
+        }
+        return buffer;
+    }
+
+    private DataBuffer drain(final DataBuffer buffer) {
+        output.target = buffer;
+        try {
+            JsonToken token = parser.nextToken();
+            while (Objects.nonNull(token) && token != JsonToken.NOT_AVAILABLE) {
+                onToken(token);
+                token = parser.nextToken();
+            }
+            generator.flush();
+            return buffer;
+        } catch (IOException | RuntimeException e) {
+            DataBufferUtils.release(buffer);
+            throw e instanceof IOException ? new UncheckedIOException((IOException) e) : (RuntimeException) e;
+        } finally {
+            output.target = null;
+        }
+    }
+
+    private void onToken(final JsonToken token) throws IOException {
+        if (skipDepth > 0) {
+            if (token.isStructStart()) {
+                skipDepth++;
+            } else if (token.isStructEnd()) {
+                skipDepth--;
+            }
+            return;
+        }
+        switch (token) {
+            case FIELD_NAME:
+                onFieldName(parser.getCurrentName());
+                break;
+            case END_OBJECT:
+                onEndObject();
+                break;
+            case END_ARRAY:
+                frames.remove(frames.size() - 1);
+                out.writeEndArray();
+                break;
+            default:
+                onValue(token);
+                break;
+        }
+        if (Objects.nonNull(holdFrame) && token != JsonToken.FIELD_NAME && frames.size() == holdDepth) {
+            endHold();
+        }
+    }
+
+    private void onFieldName(final String name) throws IOException {
+        Frame frame = frames.get(frames.size() - 1);
+        // json path puts the new keys first, then renames the keys, then deletes the paths
+        final String added = frame.takeAdded(name);
+        final String renamed = frame.rename(name);
+        frame.key = renamed;
+        // a key written once is not written again, the renamed value replaces the original key like json path does
+        if (isRemoved() || frame.isWritten(renamed)) {
+            skipValue = true;
+            return;
+        }
+        if (Objects.isNull(holdFrame) && !frame.isRenamed(name) && frame.isRenameTarget(renamed)) {
+            startHold(frame, renamed);
+        } else {
+            frame.markWritten(renamed);
+            out.writeFieldName(renamed);
+        }
+        if (Objects.nonNull(added)) {
+            out.writeString(added);
+            skipValue = true;
+        }
+    }
+
+    private void onEndObject() throws IOException {
+        Frame frame = frames.get(frames.size() - 1);
+        if (Objects.nonNull(frame.adds)) {
+            for (Map.Entry<String, String> entry : frame.adds.entrySet()) {
+                if (frame.written.contains(entry.getKey())) {
+                    continue;
+                }
+                final String renamed = frame.rename(entry.getKey());
+                frame.key = renamed;
+                if (!isRemoved() && !frame.isWritten(renamed)) {
+                    frame.markWritten(renamed);
+                    out.writeFieldName(renamed);
+                    out.writeString(entry.getValue());
+                }
+            }
+        }
+        if (Objects.nonNull(frame.held)) {
+            // no renamed key has replaced the original keys held back
+            for (Map.Entry<String, byte[]> entry : frame.held.entrySet()) {
+                if (!frame.isWritten(entry.getKey())) {
+                    out.writeFieldName(entry.getKey());
+                    out.writeRawValue(new String(entry.getValue(), StandardCharsets.UTF_8));
+                }
+            }
+        }
+        frames.remove(frames.size() - 1);
+        out.writeEndObject();
+    }
+
+    private void startHold(final Frame frame, final String name) throws IOException {
+        holdFrame = frame;
+        holdDepth = frames.size();
+        holdName = name;
+        holdOutput = new ByteArrayOutputStream();
+        out = JSON_FACTORY.createGenerator(holdOutput, JsonEncoding.UTF8);
+    }
+
+    private void endHold() throws IOException {
+        out.close();
+        if (Objects.isNull(holdFrame.held)) {
+            holdFrame.held = new LinkedHashMap<>();
+        }
+        holdFrame.held.putIfAbsent(holdName, holdOutput.toByteArray());
+        out = generator;
+        holdFrame = null;
+        holdName = null;
+        holdOutput = null;
+    }
+
+    private void onValue(final JsonToken token) throws IOException {
+        if (!frames.isEmpty()) {
+            Frame parent = frames.get(frames.size() - 1);
+            if (parent.array) {
+                parent.key = parent.nextIndex++;
+                skipValue = skipValue || isRemoved();
+            }
+        }
+        if (skipValue) {
+            skipValue = false;
+            skipDepth = token.isStructStart() ? 1 : 0;
+            return;
+        }
+        switch (token) {
+            case START_OBJECT:
+                out.writeStartObject();
+                frames.add(objectFrame());
+                break;
+            case START_ARRAY:
+                out.writeStartArray();
+                frames.add(new Frame(true));
+                break;
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                // keep the number as it is written, without a round trip through double
+                out.writeNumber(parser.getText());
+                break;
+            default:
+                out.copyCurrentEvent(parser);
+                break;
+        }
+    }
+
+    private Frame objectFrame() {
+        Frame frame = new Frame(false);
+        int depth = frames.size();
+        for (ResponseBodyModifier.BodyOperation operation : modifier.getAddOperations()) {
+            if (operation.getStreamingPath().matches(frames, depth)) {
+                if (Objects.isNull(frame.adds)) {
+                    frame.adds = new LinkedHashMap<>();
+                    frame.written = new HashSet<>();
+                }
+                frame.adds.put(operation.getKey(), operation.getValue());
+            }
+        }
+        for (ResponseBodyModifier.BodyOperation operation : modifier.getReplaceOperations()) {
+            if (operation.getStreamingPath().matches(frames, depth)) {
+                if (Objects.isNull(frame.renames)) {
+                    frame.renames = new ArrayList<>();
+                }
+                frame.renames.add(operation);
+            }
+        }
+        return frame;
+    }
+
+    private boolean isRemoved() {
+        int depth = frames.size();
+        for (ResponseBodyModifier.BodyOperation operation : modifier.getRemoveOperations()) {
+            if (operation.getStreamingPath().matches(frames, depth)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * An open object or array.
+     */
+    private static final class Frame implements StreamingJsonPath.Location {
+
+        private final boolean array;
+
+        private Object key;
+
+        private int nextIndex;
+
+        private Map<String, String> adds;
+
+        private Set<String> written;
+
+        private List<ResponseBodyModifier.BodyOperation> renames;
+
+        private Set<String> names;
+
+        private Map<String, byte[]> held;
+
+        Frame(final boolean array) {
+            this.array = array;
+        }
+
+        @Override
+        public Object key() {
+            return key;
+        }
+
+        private String takeAdded(final String name) {
+            if (Objects.isNull(adds) || !adds.containsKey(name)) {
+                return null;
+            }
+            written.add(name);
+            return adds.get(name);
+        }
+
+        private boolean isRenamed(final String name) {
+            return Objects.nonNull(renames) && renames.stream().anyMatch(operation -> operation.getKey().equals(name));
+        }
+
+        private boolean isRenameTarget(final String name) {
+            return Objects.nonNull(renames) && renames.stream().anyMatch(operation -> rename(operation.getKey()).equals(name));
+        }
+
+        private boolean isWritten(final String name) {
+            return Objects.nonNull(names) && names.contains(name);
+        }
+
+        private void markWritten(final String name) {
+            // only a rename can make two keys of an object the same
+            if (Objects.nonNull(renames)) {
+                if (Objects.isNull(names)) {
+                    names = new HashSet<>();
+                }
+                names.add(name);
+            }
+        }
+
+        private String rename(final String name) {
+            if (Objects.isNull(renames)) {
+                return name;
+            }
+            String renamed = name;
+            for (ResponseBodyModifier.BodyOperation operation : renames) {
+                if (operation.getKey().equals(renamed)) {
+                    renamed = operation.getValue();
+                }
+            }
+            return renamed;
+        }
+    }
+
+    /**
+     * An output stream writing to the buffer of the current chunk.
+     */
+    private static final class DataBufferOutputStream extends OutputStream {
+
+        private DataBuffer target;
+
+        @Override
+        public void write(final int b) {
+            target.write((byte) b);
+        }
+
+        @Override
+        public void write(final byte[] bytes, final int offset, final int length) {
+            target.write(bytes, offset, length);
+        }
+    }
+}
@@ -25,6 +25,9 @@ import org.apache.shenyu.plugin.base.cache.CommonHandleCache;
 import org.apache.shenyu.plugin.base.handler.PluginDataHandler;
 import org.apache.shenyu.plugin.base.utils.BeanHolder;
 import org.apache.shenyu.plugin.base.utils.CacheKeyUtils;
+import org.apache.shenyu.plugin.modify.response.body.ResponseBodyModifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.Optional;
 import java.util.function.Supplier;
@@ -36,17 +39,32 @@ public class ModifyResponsePluginDataHandler implements PluginDataHandler {
 
     public static final Supplier<CommonHandleCache<String, ModifyResponseRuleHandle>> CACHED_HANDLE = new BeanHolder<>(CommonHandleCache::new);
 
+    public static final Supplier<CommonHandleCache<String, ResponseBodyModifier>> CACHED_BODY_MODIFIER = new BeanHolder<>(CommonHandleCache::new);
+
+    private static final Logger LOG = LoggerFactory.getLogger(ModifyResponsePluginDataHandler.class);
+
     @Override
     public void handlerRule(final RuleData ruleData) {
         Optional.ofNullable(ruleData.getHandle()).ifPresent(s -> {
             final ModifyResponseRuleHandle modifyResponseRuleHandle = GsonUtils.getInstance().fromJson(s, ModifyResponseRuleHandle.class);
-            CACHED_HANDLE.get().cachedHandle(CacheKeyUtils.INST.getKey(ruleData), modifyResponseRuleHandle);
+            final String key = CacheKeyUtils.INST.getKey(ruleData);
+            CACHED_HANDLE.get().cachedHandle(key, modifyResponseRuleHandle);
+            try {
+                CACHED_BODY_MODIFIER.get().cachedHandle(key, ResponseBodyModifier.compile(modifyResponseRuleHandle));
+            } catch (RuntimeException e) {
+                // the invalid json path is reported when the response is modified
+                LOG.error("compile modify response body paths error, rule: {}", ruleData.getName(), e);
+                CACHED_BODY_MODIFIER.get().removeHandle(key);
+            }
         });
     }
 
     @Override
     public void removeRule(final RuleData ruleData) {
-        Optional.ofNullable(ruleData.getHandle()).ifPresent(s -> CACHED_HANDLE.get().removeHandle(CacheKeyUtils.INST.getKey(ruleData)));
+        Optional.ofNullable(ruleData.getHandle()).ifPresent(s -> {
+            CACHED_HANDLE.get().removeHandle(CacheKeyUtils.INST.getKey(ruleData));
+            CACHED_BODY_MODIFIER.get().removeHandle(CacheKeyUtils.INST.getKey(ruleData));
+        });
     }
 
     @Override
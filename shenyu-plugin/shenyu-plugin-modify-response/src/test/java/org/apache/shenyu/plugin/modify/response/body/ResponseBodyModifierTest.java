@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.modify.response.body;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.common.dto.convert.rule.impl.ModifyResponseRuleHandle;
+import org.apache.shenyu.common.dto.convert.rule.impl.ParamMappingRuleHandle;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test cases for ResponseBodyModifier.
+ */
+public final class ResponseBodyModifierTest {
+
+    private static final String BODY = "{\"code\":200,\"message\":\"ok\",\"data\":{\"id\":1,\"price\":1.10,\"tags\":[\"a\",\"b\"],"
+            + "\"items\":[{\"name\":\"x\",\"secret\":{\"k\":[1,2]}},{\"name\":\"y\",\"secret\":null}]}}";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final DefaultDataBufferFactory bufferFactory = new DefaultDataBufferFactory();
+
+    @Test
+    public void testStreamingSameAsJsonPath() throws Exception {
+        ModifyResponseRuleHandle ruleHandle = new ModifyResponseRuleHandle();
+        ruleHandle.setAddBodyKeys(Arrays.asList(info("$", "version", "v2"), info("$.data.items[*]", "type", "item"),
+                info("$.data", "id", "2")));
+        ruleHandle.setReplaceBodyKeys(Arrays.asList(info("$", "message", "msg"), info("$.data.items[*]", "name", "title"),
+                info("$.data.items[0]", "type", "kind")));
+        ruleHandle.setRemoveBodyKeys(new HashSet<>(Arrays.asList("$.code", "$.data.items[*].secret", "$.data.tags")));
+        ResponseBodyModifier modifier = ResponseBodyModifier.compile(ruleHandle);
+        assertTrue(modifier.isStreaming());
+        JsonNode expected = MAPPER.readTree(modifier.modify(BODY.getBytes(StandardCharsets.UTF_8)));
+        for (int chunkSize : new int[]{1, 3, 16, BODY.length()}) {
+            assertEquals(expected, MAPPER.readTree(stream(modifier, BODY, chunkSize)));
+        }
+        assertEquals("item", expected.get("data").get("items").get(0).get("kind").asText());
+        assertEquals("2", expected.get("data").get("id").asText());
+        assertFalse(expected.has("code"));
+    }
+
+    @Test
+    public void testRemoveArrayElement() throws Exception {
+        ModifyResponseRuleHandle ruleHandle = new ModifyResponseRuleHandle();
+        ruleHandle.setRemoveBodyKeys(Collections.singleton("$.data.items[0]"));
+        ResponseBodyModifier modifier = ResponseBodyModifier.compile(ruleHandle);
+        assertTrue(modifier.isStreaming());
+        JsonNode result = MAPPER.readTree(stream(modifier, BODY, 5));
+        assertEquals(MAPPER.readTree(modifier.modify(BODY.getBytes(StandardCharsets.UTF_8))), result);
+        assertEquals("y", result.get("data").get("items").get(0).get("name").asText());
+    }
+
+    @Test
+    public void testRenameOntoExistingKey() throws Exception {
+        ModifyResponseRuleHandle ruleHandle = new ModifyResponseRuleHandle();
+        ruleHandle.setAddBodyKeys(Collections.singletonList(info("$", "extra", "e")));
+        ruleHandle.setReplaceBodyKeys(Arrays.asList(info("$", "a", "b"), info("$", "extra", "c"), info("$.items[*]", "name", "title")));
+        ResponseBodyModifier modifier = ResponseBodyModifier.compile(ruleHandle);
+        assertTrue(modifier.isStreaming());
+        for (String body : new String[]{"{\"b\":{\"k\":[1]},\"a\":2,\"c\":3,\"items\":[{\"title\":\"t\",\"name\":\"n\"}]}",
+            "{\"a\":2,\"c\":3,\"b\":{\"k\":[1]},\"items\":[{\"name\":\"n\",\"title\":\"t\"}]}"}) {
+            JsonNode expected = MAPPER.readTree(modifier.modify(body.getBytes(StandardCharsets.UTF_8)));
+            assertEquals(2, expected.get("b").asInt());
+            assertEquals("e", expected.get("c").asText());
+            for (int chunkSize : new int[]{1, 4, body.length()}) {
+                String result = stream(modifier, body, chunkSize);
+                assertEquals(expected, MAPPER.readTree(result));
+                assertEquals(1, StringUtils.countMatches(result, "\"b\""));
+                assertEquals(1, StringUtils.countMatches(result, "\"c\""));
+                assertEquals(1, StringUtils.countMatches(result, "\"title\""));
+            }
+        }
+    }
+
+    @Test
+    public void testMissingPath() throws Exception {
+        ModifyResponseRuleHandle ruleHandle = new ModifyResponseRuleHandle();
+        ruleHandle.setAddBodyKeys(Arrays.asList(info("$.data.missing", "type", "item"), info("$.data.items[*].name", "type", "item")));
+        ruleHandle.setReplaceBodyKeys(Arrays.asList(info("$.data.items[*]", "secret", "hidden"), info("$.data", "missing", "other"),
+                info("$.missing", "code", "status")));
+        ruleHandle.setRemoveBodyKeys(new HashSet<>(Arrays.asList("$.missing", "$.data.missing.id")));
+        ResponseBodyModifier modifier = ResponseBodyModifier.compile(ruleHandle);
+        assertTrue(modifier.isStreaming());
+        String body = "{\"data\":{\"items\":[{\"name\":\"x\",\"secret\":1},{\"name\":\"y\"},{\"name\":\"z\",\"secret\":2}]}}";
+        JsonNode expected = MAPPER.readTree(modifier.modify(body.getBytes(StandardCharsets.UTF_8)));
+        assertEquals(MAPPER.readTree(body.replace("secret", "hidden")), expected);
+        for (int chunkSize : new int[]{1, 5, body.length()}) {
+            assertEquals(expected, MAPPER.readTree(stream(modifier, body, chunkSize)));
+        }
+    }
+
+    @Test
+    public void testKeepNumbers() {
+        ModifyResponseRuleHandle ruleHandle = new ModifyResponseRuleHandle();
+        ruleHandle.setRemoveBodyKeys(Collections.singleton("$.message"));
+        String result = stream(ResponseBodyModifier.compile(ruleHandle), BODY, 7);
+        assertTrue(result.contains("\"price\":1.10"));
+        assertFalse(result.contains("message"));
+    }
+
+    @Test
+    public void testNeedWholeDocument() throws Exception {
+        ModifyResponseRuleHandle ruleHandle = new ModifyResponseRuleHandle();
+        ruleHandle.setRemoveBodyKeys(Collections.singleton("$..secret"));
+        ResponseBodyModifier modifier = ResponseBodyModifier.compile(ruleHandle);
+        assertFalse(modifier.isStreaming());
+        assertFalse(new String(modifier.modify(BODY.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8).contains("secret"));
+        ruleHandle.setRemoveBodyKeys(new HashSet<>(Arrays.asList("$.data.items[0]", "$.data.items[1]")));
+        assertFalse(ResponseBodyModifier.compile(ruleHandle).isStreaming());
+        assertTrue(ResponseBodyModifier.compile(new ModifyResponseRuleHandle()).isEmpty());
+    }
+
+    @Test
+    public void testInvalidJson() {
+        ModifyResponseRuleHandle ruleHandle = new ModifyResponseRuleHandle();
+        ruleHandle.setRemoveBodyKeys(Collections.singleton("$.code"));
+        ResponseBodyModifier modifier = ResponseBodyModifier.compile(ruleHandle);
+        StepVerifier.create(modifier.modify(chunks("{\"code\":200,", 4), bufferFactory)).thenConsumeWhile(buffer -> true).expectError().verify();
+        StepVerifier.create(modifier.modify(chunks("<html>", 4), bufferFactory)).expectError().verify();
+    }
+
+    private String stream(final ResponseBodyModifier modifier, final String body, final int chunkSize) {
+        return DataBufferUtils.join(modifier.modify(chunks(body, chunkSize), bufferFactory))
+                .map(buffer -> {
+                    String result = buffer.toString(StandardCharsets.UTF_8);
+                    DataBufferUtils.release(buffer);
+                    return result;
+                }).block();
+    }
+
+    private Flux<DataBuffer> chunks(final String body, final int chunkSize) {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        List<DataBuffer> buffers = new ArrayList<>();
+        for (int start = 0; start < bytes.length; start += chunkSize) {
+            buffers.add(bufferFactory.wrap(Arrays.copyOfRange(bytes, start, Math.min(bytes.length, start + chunkSize))));
+        }
+        return Flux.fromIterable(buffers);
+    }
+
+    private ParamMappingRuleHandle.ParamMapInfo info(final String path, final String key, final String value) {
+        ParamMappingRuleHandle.ParamMapInfo info = new ParamMappingRuleHandle.ParamMapInfo();
+        info.setPath(path);
+        info.setKey(key);
+        info.setValue(value);
+        return info;
+    }
+}
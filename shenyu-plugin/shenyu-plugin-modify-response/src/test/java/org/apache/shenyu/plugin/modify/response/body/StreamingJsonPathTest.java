@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.plugin.modify.response.body;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test cases for StreamingJsonPath.
+ */
+public final class StreamingJsonPathTest {
+
+    @Test
+    public void testCompile() {
+        assertEquals(0, StreamingJsonPath.compile("$").depth());
+        assertEquals(2, StreamingJsonPath.compile("$.data.name").depth());
+        assertEquals(2, StreamingJsonPath.compile("data.name").depth());
+        assertEquals(3, StreamingJsonPath.compile("$['data'][0].*").depth());
+        assertTrue(StreamingJsonPath.compile("$.data[1]").endsWithIndex());
+        assertFalse(StreamingJsonPath.compile("$.data[*]").endsWithIndex());
+    }
+
+    @Test
+    public void testNotStreamable() {
+        assertNull(StreamingJsonPath.compile(""));
+        assertNull(StreamingJsonPath.compile("$..name"));
+        assertNull(StreamingJsonPath.compile("$.data[?(@.id > 1)]"));
+        assertNull(StreamingJsonPath.compile("$.data[0:2]"));
+        assertNull(StreamingJsonPath.compile("$.data[-1]"));
+        assertNull(StreamingJsonPath.compile("$.data[0,1]"));
+        assertNull(StreamingJsonPath.compile("$.data.length()"));
+    }
+
+    @Test
+    public void testMatches() {
+        StreamingJsonPath path = StreamingJsonPath.compile("$.data[*].name");
+        assertTrue(path.matches(location("data", 3, "name"), 3));
+        assertFalse(path.matches(location("items", 3, "name"), 3));
+        assertFalse(path.matches(location("data", 3), 2));
+        assertTrue(StreamingJsonPath.compile("$").matches(location(), 0));
+    }
+
+    private List<StreamingJsonPath.Location> location(final Object... keys) {
+        return Arrays.stream(keys).map(key -> (StreamingJsonPath.Location) () -> key).collect(Collectors.toList());
+    }
+}
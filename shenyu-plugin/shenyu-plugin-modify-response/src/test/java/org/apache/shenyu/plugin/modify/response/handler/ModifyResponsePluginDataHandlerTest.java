@@ -27,6 +27,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -58,6 +59,7 @@ public final class ModifyResponsePluginDataHandlerTest {
         modifyResponsePluginDataHandler.handlerRule(ruleData);
         ModifyResponseRuleHandle modifyResponseRuleHandle = ModifyResponsePluginDataHandler.CACHED_HANDLE.get().obtainHandle(CacheKeyUtils.INST.getKey(ruleData));
         assertEquals(400, modifyResponseRuleHandle.getStatusCode());
+        assertTrue(ModifyResponsePluginDataHandler.CACHED_BODY_MODIFIER.get().obtainHandle(CacheKeyUtils.INST.getKey(ruleData)).isEmpty());
     }
 
     /**
@@ -68,6 +70,7 @@ public final class ModifyResponsePluginDataHandlerTest {
         modifyResponsePluginDataHandler.removeRule(ruleData);
         ModifyResponseRuleHandle modifyResponseRuleHandle = ModifyResponsePluginDataHandler.CACHED_HANDLE.get().obtainHandle(CacheKeyUtils.INST.getKey(ruleData));
         assertNull(modifyResponseRuleHandle);
+        assertNull(ModifyResponsePluginDataHandler.CACHED_BODY_MODIFIER.get().obtainHandle(CacheKeyUtils.INST.getKey(ruleData)));
     }
 
     /**
@@ -18,9 +18,16 @@
 package org.apache.shenyu.plugin.sign.cache;
 
 import com.google.common.collect.Maps;
+import org.apache.commons.collections4.CollectionUtils;
 import org.apache.shenyu.common.dto.AppAuthData;
+import org.apache.shenyu.common.dto.AuthPathData;
+import org.apache.shenyu.plugin.base.utils.CompositePathMatcher;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
 
 /**
  * The type Base data cache.
@@ -34,6 +41,11 @@ public final class SignAuthDataCache {
      */
     private static final ConcurrentMap<String, AppAuthData> AUTH_MAP = Maps.newConcurrentMap();
     
+    /**
+     * appKey -> the matcher of the enabled sign paths.
+     */
+    private static final ConcurrentMap<String, PathMatcherHolder> PATH_MATCHER_MAP = Maps.newConcurrentMap();
+    
     private SignAuthDataCache() {
     }
     
@@ -53,6 +65,7 @@ public final class SignAuthDataCache {
      */
     public void cacheAuthData(final AppAuthData data) {
         AUTH_MAP.put(data.getAppKey(), data);
+        PATH_MATCHER_MAP.put(data.getAppKey(), new PathMatcherHolder(data.getPathDataList()));
     }
     
     /**
@@ -62,6 +75,7 @@ public final class SignAuthDataCache {
      */
     public void removeAuthData(final AppAuthData data) {
         AUTH_MAP.remove(data.getAppKey());
+        PATH_MATCHER_MAP.remove(data.getAppKey());
     }
     
     /**
@@ -73,4 +87,33 @@ public final class SignAuthDataCache {
     public AppAuthData obtainAuthData(final String appKey) {
         return AUTH_MAP.get(appKey);
     }
+    
+    /**
+     * Obtain the matcher of the enabled sign paths, it is rebuilt when the path list has been replaced.
+     *
+     * @param data the app auth data
+     * @return the path matcher
+     */
+    public CompositePathMatcher obtainPathMatcher(final AppAuthData data) {
+        PathMatcherHolder holder = PATH_MATCHER_MAP.get(data.getAppKey());
+        if (Objects.isNull(holder) || holder.source != data.getPathDataList()) {
+            holder = new PathMatcherHolder(data.getPathDataList());
+            PATH_MATCHER_MAP.put(data.getAppKey(), holder);
+        }
+        return holder.matcher;
+    }
+    
+    private static final class PathMatcherHolder {
+        
+        private final List<AuthPathData> source;
+        
+        private final CompositePathMatcher matcher;
+        
+        PathMatcherHolder(final List<AuthPathData> source) {
+            this.source = source;
+            List<String> paths = CollectionUtils.isEmpty(source) ? Collections.emptyList()
+                    : source.stream().filter(AuthPathData::getEnabled).map(AuthPathData::getPath).collect(Collectors.toList());
+            this.matcher = CompositePathMatcher.compile(paths);
+        }
+    }
 }
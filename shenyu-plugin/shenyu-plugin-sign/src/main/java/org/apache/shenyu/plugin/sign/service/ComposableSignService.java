@@ -27,7 +27,6 @@ import org.apache.shenyu.common.dto.AuthPathData;
 import org.apache.shenyu.common.utils.DateUtils;
 import org.apache.shenyu.plugin.api.context.ShenyuContext;
 import org.apache.shenyu.plugin.api.result.ShenyuResultEnum;
-import org.apache.shenyu.plugin.base.utils.PathMatchUtils;
 import org.apache.shenyu.plugin.sign.api.SignParameters;
 import org.apache.shenyu.plugin.sign.api.VerifyResult;
 import org.apache.shenyu.plugin.sign.api.VerifySupplier;
@@ -143,8 +142,7 @@ public class ComposableSignService implements SignService {
             return VerifyResult.fail(Constants.SIGN_PATH_NOT_EXIST);
         }
 
-        boolean match = pathDataList.stream().filter(AuthPathData::getEnabled)
-                .anyMatch(e -> PathMatchUtils.match(e.getPath(), signParameters.getUri().getPath()));
+        boolean match = SignAuthDataCache.getInstance().obtainPathMatcher(appAuthData).match(signParameters.getUri().getPath());
         if (!match) {
             LOG.error("You have not configured the sign path:{},{}", signParameters.getAppKey(), signParameters.getUri().getPath());
             return VerifyResult.fail(Constants.SIGN_PATH_NOT_EXIST);
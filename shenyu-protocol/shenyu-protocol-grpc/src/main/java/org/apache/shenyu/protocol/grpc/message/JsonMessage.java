@@ -19,6 +19,8 @@ package org.apache.shenyu.protocol.grpc.message;
 
 import com.google.common.collect.Maps;
 import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
 import com.google.protobuf.DescriptorProtos;
 import com.google.protobuf.Descriptors;
 import com.google.protobuf.DynamicMessage;
@@ -35,6 +37,7 @@ import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * JsonMessage.
@@ -48,6 +51,17 @@ public class JsonMessage {
      */
     private static final Map<String, MethodDescriptor<DynamicMessage, DynamicMessage>> METHOD_DESCRIPTOR_CACHE = Maps.newConcurrentMap();
 
+    /**
+     * the json message descriptor is the same for every service, it is built once.
+     */
+    private static final Descriptors.Descriptor JSON_DESCRIPTOR = buildJsonMarshallerDescriptor();
+
+    private static final Descriptors.FieldDescriptor JSON_FIELD = JSON_DESCRIPTOR.findFieldByName(GrpcConstants.JSON_DESCRIPTOR_PROTO_FIELD_NAME);
+
+    private static final DynamicMessage EMPTY_JSON_MESSAGE = DynamicMessage.getDefaultInstance(JSON_DESCRIPTOR);
+
+    private static final DynamicMessageMarshaller JSON_MARSHALLER = new DynamicMessageMarshaller(JSON_DESCRIPTOR);
+
     /**
      * Dynamic build JsonMarshaller Descriptor.
      *
@@ -85,7 +99,22 @@ public class JsonMessage {
      */
     public static List<DynamicMessage> buildJsonMessageList(final Map<String, Object> jsonParamMap) {
         ParamCheckUtils.checkParamsLength(jsonParamMap.size(), GrpcConstants.JSON_DESCRIPTOR_PROTO_FIELD_NUM);
-        JsonArray jsonParams = (JsonArray) jsonParamMap.get(GrpcConstants.JSON_DESCRIPTOR_PROTO_FIELD_NAME);
+        return buildJsonMessageList((JsonArray) jsonParamMap.get(GrpcConstants.JSON_DESCRIPTOR_PROTO_FIELD_NAME));
+    }
+
+    /**
+     * buildJsonMessage from the request json, the json is parsed once into a tree without building a map.
+     *
+     * @param requestJson the request json, the params are in the data array
+     * @return DynamicMessageList
+     */
+    public static List<DynamicMessage> buildJsonMessageList(final String requestJson) {
+        JsonObject request = JsonParser.parseString(requestJson).getAsJsonObject();
+        ParamCheckUtils.checkParamsLength(request.size(), GrpcConstants.JSON_DESCRIPTOR_PROTO_FIELD_NUM);
+        return buildJsonMessageList(request.getAsJsonArray(GrpcConstants.JSON_DESCRIPTOR_PROTO_FIELD_NAME));
+    }
+
+    private static List<DynamicMessage> buildJsonMessageList(final JsonArray jsonParams) {
         List<DynamicMessage> jsonMessageList = new ArrayList<>(jsonParams.size());
         jsonParams.forEach(jsonParam -> {
             DynamicMessage jsonMessage = buildJsonMessage(GsonUtils.getInstance().toJson(jsonParam));
@@ -102,11 +131,7 @@ public class JsonMessage {
      * @return DynamicMessage
      */
     public static DynamicMessage buildJsonMessage(final String jsonParam) {
-        // build Descriptor and set request param
-        Descriptors.Descriptor jsonDescriptor = buildJsonMarshallerDescriptor();
-        DynamicMessage.Builder jsonDynamicMessage = DynamicMessage.newBuilder(jsonDescriptor);
-        jsonDynamicMessage.setField(jsonDescriptor.findFieldByName(GrpcConstants.JSON_DESCRIPTOR_PROTO_FIELD_NAME), jsonParam);
-        return jsonDynamicMessage.build();
+        return DynamicMessage.newBuilder(JSON_DESCRIPTOR).setField(JSON_FIELD, jsonParam).build();
     }
 
     /**
@@ -115,9 +140,7 @@ public class JsonMessage {
      * @return DynamicMessage
      */
     public static DynamicMessage buildJsonMessage() {
-        Descriptors.Descriptor jsonDescriptor = buildJsonMarshallerDescriptor();
-        DynamicMessage.Builder jsonDynamicMessage = DynamicMessage.newBuilder(jsonDescriptor);
-        return jsonDynamicMessage.build();
+        return EMPTY_JSON_MESSAGE;
     }
 
     /**
@@ -127,6 +150,9 @@ public class JsonMessage {
      * @return data
      */
     public static String getDataFromDynamicMessage(final DynamicMessage message) {
+        if (message.getDescriptorForType() == JSON_DESCRIPTOR) {
+            return message.hasField(JSON_FIELD) ? (String) message.getField(JSON_FIELD) : "";
+        }
         for (Map.Entry<Descriptors.FieldDescriptor, Object> entry : message.getAllFields().entrySet()) {
             Descriptors.FieldDescriptor key = entry.getKey();
             Object value = entry.getValue();
@@ -155,20 +181,47 @@ public class JsonMessage {
                                                                                                         final MethodDescriptor.MethodType methodType,
                                                                                                         final DynamicMessage request,
                                                                                                         final DynamicMessage response) {
-        MethodDescriptor<DynamicMessage, DynamicMessage> methodDescriptor = METHOD_DESCRIPTOR_CACHE.get(serviceName + GrpcConstants.GRPC_JSON_SERVICE + methodName);
-        if (methodDescriptor == null) {
-            methodDescriptor = MethodDescriptor.<DynamicMessage, DynamicMessage>newBuilder()
-                    .setType(getMethodType(methodType))
-                    .setFullMethodName(MethodDescriptor.generateFullMethodName(serviceName + GrpcConstants.GRPC_JSON_SERVICE, methodName))
-                    .setRequestMarshaller(new DynamicMessageMarshaller(request.getDescriptorForType()))
-                    .setResponseMarshaller(new DynamicMessageMarshaller(response.getDescriptorForType()))
-                    .build();
-            METHOD_DESCRIPTOR_CACHE.put(serviceName + GrpcConstants.GRPC_JSON_SERVICE + methodName, methodDescriptor);
+        if (request.getDescriptorForType() == JSON_DESCRIPTOR && response.getDescriptorForType() == JSON_DESCRIPTOR) {
+            return createJsonMarshallerMethodDescriptor(serviceName, methodName, methodType);
+        }
+        return buildMethodDescriptor(serviceName, methodName, methodType,
+                new DynamicMessageMarshaller(request.getDescriptorForType()), new DynamicMessageMarshaller(response.getDescriptorForType()));
+    }
 
+    /**
+     * Create json marshaller MethodDescriptor, it is built once per service method and method type.
+     *
+     * @param serviceName service name
+     * @param methodName  method name
+     * @param methodType methodType
+     * @return MethodDescriptor
+     */
+    public static MethodDescriptor<DynamicMessage, DynamicMessage> createJsonMarshallerMethodDescriptor(final String serviceName,
+                                                                                                        final String methodName,
+                                                                                                        final MethodDescriptor.MethodType methodType) {
+        String key = serviceName + GrpcConstants.GRPC_JSON_SERVICE + methodName;
+        MethodDescriptor<DynamicMessage, DynamicMessage> methodDescriptor = METHOD_DESCRIPTOR_CACHE.get(key);
+        // the method type of the meta data may be changed
+        if (Objects.isNull(methodDescriptor) || methodDescriptor.getType() != getMethodType(methodType)) {
+            methodDescriptor = buildMethodDescriptor(serviceName, methodName, methodType, JSON_MARSHALLER, JSON_MARSHALLER);
+            METHOD_DESCRIPTOR_CACHE.put(key, methodDescriptor);
         }
         return methodDescriptor;
     }
 
+    private static MethodDescriptor<DynamicMessage, DynamicMessage> buildMethodDescriptor(final String serviceName,
+                                                                                          final String methodName,
+                                                                                          final MethodDescriptor.MethodType methodType,
+                                                                                          final DynamicMessageMarshaller request,
+                                                                                          final DynamicMessageMarshaller response) {
+        return MethodDescriptor.<DynamicMessage, DynamicMessage>newBuilder()
+                .setType(getMethodType(methodType))
+                .setFullMethodName(MethodDescriptor.generateFullMethodName(serviceName + GrpcConstants.GRPC_JSON_SERVICE, methodName))
+                .setRequestMarshaller(request)
+                .setResponseMarshaller(response)
+                .build();
+    }
+
     /**
      * getMethodType.
      *
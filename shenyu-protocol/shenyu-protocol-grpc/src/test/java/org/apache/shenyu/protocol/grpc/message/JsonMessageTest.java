@@ -20,6 +20,7 @@ package org.apache.shenyu.protocol.grpc.message;
 import com.google.protobuf.Descriptors;
 import com.google.protobuf.DynamicMessage;
 import io.grpc.MethodDescriptor;
+import org.apache.shenyu.common.exception.ShenyuException;
 import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.protocol.grpc.constant.GrpcConstants;
 import org.junit.jupiter.api.Test;
@@ -40,6 +41,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mockStatic;
@@ -100,6 +102,16 @@ public class JsonMessageTest {
         assertEquals("{\"text\":\"world\"}", field);
     }
 
+    @Test
+    public void testBuildJsonMessageListFromJson() {
+        String jsonParam = "{\"data\":[{\"text\":\"hello\"}, {\"text\":\"world\"}]}\n";
+
+        List<DynamicMessage> jsonMessageList = JsonMessage.buildJsonMessageList(jsonParam);
+        assertEquals(JsonMessage.buildJsonMessageList(GsonUtils.getInstance().toObjectMap(jsonParam)), jsonMessageList);
+        assertEquals("{\"text\":\"world\"}", JsonMessage.getDataFromDynamicMessage(jsonMessageList.get(1)));
+        assertThrows(ShenyuException.class, () -> JsonMessage.buildJsonMessageList("{}"));
+    }
+
     @Test
     public void testGetDataFromDynamicMessage() {
         String jsonParam = "{\"text\":\"hello world\"}";
@@ -118,9 +130,16 @@ public class JsonMessageTest {
         String data2 = JsonMessage.getDataFromDynamicMessage(jsonMessage2);
         assertEquals(data2, "");
 
+    }
+
+    @Test
+    public void testBuildJsonMarshallerDescriptorFail() throws NoSuchMethodException {
+        final Method buildDescriptor = JsonMessage.class.getDeclaredMethod("buildJsonMarshallerDescriptor");
+        buildDescriptor.setAccessible(true);
         try (MockedStatic<Descriptors.FileDescriptor> descriptorMockedStatic = mockStatic(Descriptors.FileDescriptor.class)) {
             descriptorMockedStatic.when(() -> Descriptors.FileDescriptor.buildFrom(any(), any(Descriptors.FileDescriptor[].class))).thenThrow(Descriptors.DescriptorValidationException.class);
-            assertThrows(RuntimeException.class, () -> JsonMessage.buildJsonMessage());
+            InvocationTargetException exception = assertThrows(InvocationTargetException.class, () -> buildDescriptor.invoke(null));
+            assertTrue(exception.getCause() instanceof RuntimeException);
         }
     }
 
@@ -137,6 +156,11 @@ public class JsonMessageTest {
         assertEquals(MethodDescriptor.MethodType.UNARY, echo.getType());
         assertFalse(echo.isIdempotent());
         assertFalse(echo.isSafe());
+        assertSame(echo, JsonMessage.createJsonMarshallerMethodDescriptor("echo.service", "echo", MethodDescriptor.MethodType.UNARY));
+        MethodDescriptor<DynamicMessage, DynamicMessage> streaming = JsonMessage.createJsonMarshallerMethodDescriptor("echo.service",
+                "echo", MethodDescriptor.MethodType.SERVER_STREAMING);
+        assertEquals(MethodDescriptor.MethodType.SERVER_STREAMING, streaming.getType());
+        assertSame(echo.getRequestMarshaller(), streaming.getResponseMarshaller());
     }
 
     @Test
@@ -25,6 +25,8 @@ import org.apache.shenyu.plugin.base.cache.CommonMetaDataSubscriber;
 import org.apache.shenyu.plugin.base.cache.CommonPluginDataSubscriber;
 import org.apache.shenyu.plugin.base.handler.MetaDataHandler;
 import org.apache.shenyu.plugin.base.handler.PluginDataHandler;
+import org.apache.shenyu.plugin.base.trie.LockFreeShenyuTrie;
+import org.apache.shenyu.plugin.base.trie.RuleTrie;
 import org.apache.shenyu.plugin.base.trie.ShenyuTrie;
 import org.apache.shenyu.plugin.base.trie.ShenyuTrieRuleListener;
 import org.apache.shenyu.sync.data.api.MetaDataSubscriber;
@@ -263,10 +265,13 @@ public class ShenyuConfiguration {
      * shenyu trie config.
      *
      * @param shenyuConfig shenyu trie config
-     * @return ShenyuTrie
+     * @return RuleTrie
      */
     @Bean
-    public ShenyuTrie shenyuTrie(final ShenyuConfig shenyuConfig) {
+    public RuleTrie shenyuTrie(final ShenyuConfig shenyuConfig) {
+        if (Boolean.TRUE.equals(shenyuConfig.getTrie().getLockFree())) {
+            return new LockFreeShenyuTrie(shenyuConfig.getTrie().getMatchMode());
+        }
         return new ShenyuTrie(shenyuConfig.getTrie().getChildrenSize(), shenyuConfig.getTrie().getPathRuleCacheSize(),
                 shenyuConfig.getTrie().getPathVariableSize(), shenyuConfig.getTrie().getMatchMode());
     }
@@ -30,6 +30,12 @@ public class NettyHttpProperties {
 
     private Boolean accessLog = false;
 
+    private Boolean nativeTransport = true;
+
+    private Boolean sharedEventLoop = false;
+
+    private Boolean soReusePort = false;
+
     private ServerSocketChannelProperties serverSocketChannel = new ServerSocketChannelProperties();
 
     private SocketChannelProperties socketChannel = new SocketChannelProperties();
@@ -143,6 +149,63 @@ public class NettyHttpProperties {
         this.accessLog = accessLog;
     }
 
+    /**
+     * get native transport state.
+     *
+     * @return native transport state
+     */
+    public Boolean getNativeTransport() {
+        return nativeTransport;
+    }
+
+    /**
+     * set native transport state.
+     * use the native transport (epoll on linux, kqueue on macos) when it is available, otherwise nio.
+     *
+     * @param nativeTransport native transport state
+     */
+    public void setNativeTransport(final Boolean nativeTransport) {
+        this.nativeTransport = nativeTransport;
+    }
+
+    /**
+     * get shared event loop state.
+     *
+     * @return shared event loop state
+     */
+    public Boolean getSharedEventLoop() {
+        return sharedEventLoop;
+    }
+
+    /**
+     * set shared event loop state.
+     * share the event loops of the server with the http client, the upstream connection is created on the event loop of the inbound connection.
+     *
+     * @param sharedEventLoop shared event loop state
+     */
+    public void setSharedEventLoop(final Boolean sharedEventLoop) {
+        this.sharedEventLoop = sharedEventLoop;
+    }
+
+    /**
+     * get SO_REUSEPORT state.
+     *
+     * @return SO_REUSEPORT state
+     */
+    public Boolean getSoReusePort() {
+        return soReusePort;
+    }
+
+    /**
+     * set SO_REUSEPORT state.
+     * bind a server channel per select thread on the same port with epoll, the kernel balances the accepted connections.
+     *
+     * @param soReusePort SO_REUSEPORT state
+     */
+    public void setSoReusePort(final Boolean soReusePort) {
+        this.soReusePort = soReusePort;
+    }
+
     public static class ServerSocketChannelProperties extends NettyChannelProperties {
 
         private Integer soBacklog = 128;
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.springboot.starter.netty;
+
+import io.netty.channel.EventLoopGroup;
+import reactor.core.publisher.Mono;
+import reactor.netty.resources.LoopResources;
+
+import java.time.Duration;
+
+/**
+ * The event loops shared by the gateway server and the http client, the transport is chosen once for both of them:
+ * the client loops are colocated with the server worker loops only when they use the same transport.
+ */
+final class ShenyuLoopResources implements LoopResources {
+
+    private final LoopResources delegate;
+
+    private final boolean nativeTransport;
+
+    /**
+     * Instantiates the shared loop resources.
+     *
+     * @param delegate        the loop resources
+     * @param nativeTransport whether to use the native transport when it is available
+     */
+    ShenyuLoopResources(final LoopResources delegate, final boolean nativeTransport) {
+        this.delegate = delegate;
+        this.nativeTransport = nativeTransport && LoopResources.hasNativeSupport();
+    }
+
+    /**
+     * Whether the native transport is used.
+     *
+     * @return true if native
+     */
+    boolean isNative() {
+        return nativeTransport;
+    }
+
+    @Override
+    public EventLoopGroup onServer(final boolean useNative) {
+        return delegate.onServer(nativeTransport);
+    }
+
+    @Override
+    public EventLoopGroup onServerSelect(final boolean useNative) {
+        return delegate.onServerSelect(nativeTransport);
+    }
+
+    @Override
+    public EventLoopGroup onClient(final boolean useNative) {
+        // colocated with the server worker loops, a new connection is registered on the event loop of the caller
+        return delegate.onClient(nativeTransport);
+    }
+
+    @Override
+    public boolean daemon() {
+        return delegate.daemon();
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return delegate.isDisposed();
+    }
+
+    @Override
+    public void dispose() {
+        delegate.dispose();
+    }
+
+    @Override
+    public Mono<Void> disposeLater() {
+        return delegate.disposeLater();
+    }
+
+    @Override
+    public Mono<Void> disposeLater(final Duration quietPeriod, final Duration timeout) {
+        return delegate.disposeLater(quietPeriod, timeout);
+    }
+}
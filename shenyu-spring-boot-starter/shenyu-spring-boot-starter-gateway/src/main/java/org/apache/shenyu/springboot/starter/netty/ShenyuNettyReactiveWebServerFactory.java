@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.springboot.starter.netty;
+
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.boot.web.server.GracefulShutdownCallback;
+import org.springframework.boot.web.server.GracefulShutdownResult;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.boot.web.server.WebServerException;
+import org.springframework.http.server.reactive.HttpHandler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The netty reactive web server factory binding several server channels on the same port with SO_REUSEPORT,
+ * so the connections are accepted by every select thread instead of one.
+ */
+public class ShenyuNettyReactiveWebServerFactory extends NettyReactiveWebServerFactory {
+
+    private int acceptorCount = 1;
+
+    /**
+     * get acceptor count.
+     *
+     * @return the acceptor count
+     */
+    public int getAcceptorCount() {
+        return acceptorCount;
+    }
+
+    /**
+     * set acceptor count, the count of server channels bound on the port.
+     * the server channels must be created with SO_REUSEPORT when it is greater than 1.
+     *
+     * @param acceptorCount the acceptor count
+     */
+    public void setAcceptorCount(final int acceptorCount) {
+        this.acceptorCount = acceptorCount;
+    }
+
+    @Override
+    public WebServer getWebServer(final HttpHandler httpHandler) {
+        // a random port would be chosen for every server channel
+        if (acceptorCount <= 1 || getPort() <= 0) {
+            return super.getWebServer(httpHandler);
+        }
+        List<WebServer> webServers = new ArrayList<>(acceptorCount);
+        for (int i = 0; i < acceptorCount; i++) {
+            webServers.add(super.getWebServer(httpHandler));
+        }
+        return new ReusePortWebServer(webServers);
+    }
+
+    /**
+     * The web servers bound on the same port.
+     */
+    private static final class ReusePortWebServer implements WebServer {
+
+        private final List<WebServer> webServers;
+
+        ReusePortWebServer(final List<WebServer> webServers) {
+            this.webServers = webServers;
+        }
+
+        @Override
+        public void start() throws WebServerException {
+            webServers.forEach(WebServer::start);
+        }
+
+        @Override
+        public void stop() throws WebServerException {
+            webServers.forEach(WebServer::stop);
+        }
+
+        @Override
+        public int getPort() {
+            return webServers.get(0).getPort();
+        }
+
+        @Override
+        public void shutDownGracefully(final GracefulShutdownCallback callback) {
+            AtomicInteger remaining = new AtomicInteger(webServers.size());
+            AtomicReference<GracefulShutdownResult> result = new AtomicReference<>(GracefulShutdownResult.IDLE);
+            webServers.forEach(webServer -> webServer.shutDownGracefully(serverResult -> {
+                if (serverResult != GracefulShutdownResult.IDLE) {
+                    result.set(serverResult);
+                }
+                if (remaining.decrementAndGet() == 0) {
+                    callback.shutdownComplete(result.get());
+                }
+            }));
+        }
+    }
+}
@@ -19,13 +19,17 @@ package org.apache.shenyu.springboot.starter.netty;
 
 import io.netty.channel.ChannelOption;
 import io.netty.channel.WriteBufferWaterMark;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollChannelOption;
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
 import org.springframework.boot.web.embedded.netty.NettyServerCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import reactor.netty.http.server.HttpServer;
 import reactor.netty.resources.LoopResources;
 
@@ -49,37 +53,76 @@ public class ShenyuNettyWebServerConfiguration {
     }
     
     /**
-     * Netty reactive web server factory.
+     * The event loops shared by the gateway server and the http client.
      *
      * @param properties the properties
+     * @return the shared loop resources
+     */
+    @Bean(destroyMethod = "dispose")
+    @Primary
+    @ConditionalOnProperty(value = "shenyu.netty.http.shared-event-loop", havingValue = "true")
+    public LoopResources shenyuNettyLoopResources(final ObjectProvider<NettyHttpProperties> properties) {
+        NettyHttpProperties nettyHttpProperties = Optional.ofNullable(properties.getIfAvailable()).orElse(new NettyHttpProperties());
+        return createLoopResources(nettyHttpProperties);
+    }
+
+    /**
+     * Netty reactive web server factory.
+     *
+     * @param properties    the properties
+     * @param loopResources the shared loop resources
      * @return the netty reactive web server factory
      */
     @Bean
     @ConditionalOnProperty(value = "shenyu.netty.http.web-server-factory-enabled", havingValue = "true", matchIfMissing = true)
-    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory(final ObjectProvider<NettyHttpProperties> properties) {
-        NettyReactiveWebServerFactory webServerFactory = new NettyReactiveWebServerFactory();
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory(final ObjectProvider<NettyHttpProperties> properties,
+                                                                       @Qualifier("shenyuNettyLoopResources") final ObjectProvider<LoopResources> loopResources) {
+        ShenyuNettyReactiveWebServerFactory webServerFactory = new ShenyuNettyReactiveWebServerFactory();
         NettyHttpProperties nettyHttpProperties = Optional.ofNullable(properties.getIfAvailable()).orElse(new NettyHttpProperties());
-        webServerFactory.addServerCustomizers(new EventLoopNettyCustomizer(nettyHttpProperties));
+        LoopResources sharedLoopResources = loopResources.getIfAvailable();
+        ShenyuLoopResources shenyuLoopResources = sharedLoopResources instanceof ShenyuLoopResources
+                ? (ShenyuLoopResources) sharedLoopResources : createLoopResources(nettyHttpProperties);
+        boolean reusePort = Boolean.TRUE.equals(nettyHttpProperties.getSoReusePort()) && shenyuLoopResources.isNative() && Epoll.isAvailable();
+        if (reusePort) {
+            webServerFactory.setAcceptorCount(nettyHttpProperties.getSelectCount());
+        }
+        webServerFactory.addServerCustomizers(new EventLoopNettyCustomizer(nettyHttpProperties, shenyuLoopResources, reusePort));
         return webServerFactory;
     }
 
+    private static ShenyuLoopResources createLoopResources(final NettyHttpProperties nettyHttpProperties) {
+        LoopResources loopResources = LoopResources.create("shenyu-netty", nettyHttpProperties.getSelectCount(), nettyHttpProperties.getWorkerCount(), true);
+        return new ShenyuLoopResources(loopResources, !Boolean.FALSE.equals(nettyHttpProperties.getNativeTransport()));
+    }
+
     private static class EventLoopNettyCustomizer implements NettyServerCustomizer {
 
         private final NettyHttpProperties nettyHttpProperties;
+
+        private final LoopResources loopResources;
+
+        private final boolean reusePort;
     
         /**
          * Instantiates a new Event loop netty customizer.
          *
          * @param nettyHttpProperties the netty tcp config
+         * @param loopResources       the loop resources of the server
+         * @param reusePort           whether to bind the server channels with SO_REUSEPORT
          */
-        EventLoopNettyCustomizer(final NettyHttpProperties nettyHttpProperties) {
+        EventLoopNettyCustomizer(final NettyHttpProperties nettyHttpProperties, final LoopResources loopResources, final boolean reusePort) {
             this.nettyHttpProperties = nettyHttpProperties;
+            this.loopResources = loopResources;
+            this.reusePort = reusePort;
         }
 
         @Override
         public HttpServer apply(final HttpServer httpServer) {
-            return httpServer.runOn(LoopResources.create("shenyu-netty", nettyHttpProperties.getSelectCount(), nettyHttpProperties.getWorkerCount(), true))
-                    .accessLog(nettyHttpProperties.getAccessLog())
+            HttpServer server = httpServer.runOn(loopResources);
+            if (reusePort) {
+                server = server.option(EpollChannelOption.SO_REUSEPORT, true);
+            }
+            return server.accessLog(nettyHttpProperties.getAccessLog())
                     // server socket channel parameters
                     .option(ChannelOption.SO_BACKLOG, nettyHttpProperties.getServerSocketChannel().getSoBacklog())
                     .option(ChannelOption.SO_REUSEADDR, nettyHttpProperties.getServerSocketChannel().isSoReuseAddr())
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.springboot.starter.netty;
+
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollChannelOption;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.http.HttpStatus;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Test case for {@link ShenyuNettyReactiveWebServerFactory}.
+ */
+public class ShenyuNettyReactiveWebServerFactoryTest {
+
+    @Test
+    public void testReusePort() throws IOException {
+        assumeTrue(Epoll.isAvailable());
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        ShenyuNettyReactiveWebServerFactory factory = new ShenyuNettyReactiveWebServerFactory();
+        factory.setPort(port);
+        factory.setAcceptorCount(2);
+        factory.addServerCustomizers(httpServer -> httpServer.option(EpollChannelOption.SO_REUSEPORT, true));
+        WebServer webServer = factory.getWebServer((request, response) -> {
+            response.setStatusCode(HttpStatus.OK);
+            return Mono.empty();
+        });
+        webServer.start();
+        try {
+            assertEquals(port, webServer.getPort());
+            for (int i = 0; i < 4; i++) {
+                Integer status = HttpClient.create().get().uri("http://127.0.0.1:" + port + "/")
+                        .response().map(response -> response.status().code()).block();
+                assertEquals(HttpStatus.OK.value(), status);
+            }
+        } finally {
+            webServer.stop();
+        }
+    }
+}
@@ -17,16 +17,23 @@
 
 package org.apache.shenyu.springboot.starter.netty;
 
+import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
 import org.springframework.context.annotation.Configuration;
+import reactor.netty.resources.LoopResources;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 /**
  * Test case for {@link ShenyuNettyWebServerConfiguration}.
@@ -53,6 +60,9 @@ public class ShenyuNettyWebServerConfigurationTest {
                 "shenyu.netty.http.web-server-factory-enabled=false",
                 "shenyu.netty.http.selectCount=10",
                 "shenyu.netty.http.workerCount=2",
+                "shenyu.netty.http.nativeTransport=false",
+                "shenyu.netty.http.sharedEventLoop=true",
+                "shenyu.netty.http.soReusePort=true",
                 "shenyu.netty.http.serverSocketChannel.soBacklog=64",
                 "shenyu.netty.http.serverSocketChannel.connectTimeoutMillis=65536",
                 "shenyu.netty.http.serverSocketChannel.writeBufferLowWaterMark=65536",
@@ -79,6 +89,9 @@ public class ShenyuNettyWebServerConfigurationTest {
                 assertThat(properties.isWebServerFactoryEnabled(), is(false));
                 assertThat(properties.getSelectCount(), is(10));
                 assertThat(properties.getWorkerCount(), is(2));
+                assertThat(properties.getNativeTransport(), is(false));
+                assertThat(properties.getSharedEventLoop(), is(true));
+                assertThat(properties.getSoReusePort(), is(true));
                 assertNotNull(properties.getServerSocketChannel());
                 assertThat(properties.getServerSocketChannel().getSoBacklog(), is(64));
                 assertThat(properties.getServerSocketChannel().getConnectTimeoutMillis(), is(65536));
@@ -101,4 +114,27 @@ public class ShenyuNettyWebServerConfigurationTest {
                 assertThat(properties.getSocketChannel().getSingleEventExecutorPerGroup(), is(false));
             });
     }
+
+    @Test
+    public void testSharedEventLoop() {
+        applicationContextRunner
+            .withPropertyValues(
+                "shenyu.netty.http.selectCount=1",
+                "shenyu.netty.http.workerCount=2",
+                "shenyu.netty.http.nativeTransport=false",
+                "shenyu.netty.http.shared-event-loop=true"
+            )
+            .run(context -> {
+                LoopResources loopResources = context.getBean("shenyuNettyLoopResources", LoopResources.class);
+                assertThat(loopResources, instanceOf(ShenyuLoopResources.class));
+                assertThat(((ShenyuLoopResources) loopResources).isNative(), is(false));
+                EventLoopGroup serverLoops = loopResources.onServer(true);
+                assertThat(serverLoops, instanceOf(NioEventLoopGroup.class));
+                // the client loops are colocated with the server worker loops whatever transport the client asks for
+                EventLoop serverLoop = serverLoops.next();
+                EventLoop clientLoop = serverLoop.submit(() -> loopResources.onClient(true).next()).get();
+                assertSame(serverLoop, clientLoop);
+                assertThat(context.getBean(NettyReactiveWebServerFactory.class), instanceOf(ShenyuNettyReactiveWebServerFactory.class));
+            });
+    }
 }
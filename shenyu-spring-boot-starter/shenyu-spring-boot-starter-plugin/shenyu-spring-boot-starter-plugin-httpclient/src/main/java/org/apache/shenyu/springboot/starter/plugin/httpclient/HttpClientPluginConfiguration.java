@@ -17,6 +17,10 @@
 
 package org.apache.shenyu.springboot.starter.plugin.httpclient;
 
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import io.netty.channel.ChannelOption;
 import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
 import io.netty.handler.timeout.IdleStateHandler;
@@ -28,7 +32,10 @@ import org.apache.shenyu.plugin.api.ShenyuPlugin;
 import org.apache.shenyu.plugin.httpclient.NettyHttpClientPlugin;
 import org.apache.shenyu.plugin.httpclient.WebClientPlugin;
 import org.apache.shenyu.plugin.httpclient.config.HttpClientProperties;
+import org.apache.shenyu.plugin.httpclient.pool.UpstreamConnectionPools;
+import org.apache.shenyu.plugin.httpclient.pool.UpstreamPoolMetrics;
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.PropertyMapper;
@@ -46,8 +53,14 @@ import reactor.netty.transport.ProxyProvider;
 
 import java.security.cert.X509Certificate;
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
 
 /**
  * The type Http client plugin configuration.
@@ -91,8 +104,12 @@ public class HttpClientPluginConfiguration {
     public HttpClient httpClient(final HttpClientProperties properties,
                                  final ObjectProvider<LoopResources> provider) {
         // configure pool resources.
-        HttpClientProperties.Pool pool = properties.getPool();
-        ConnectionProvider connectionProvider = buildConnectionProvider(pool);
+        ConnectionProvider connectionProvider = buildConnectionProvider(properties.getPool());
+        return buildHttpClient(properties, connectionProvider, provider.getIfAvailable());
+    }
+
+    private static HttpClient buildHttpClient(final HttpClientProperties properties, final ConnectionProvider connectionProvider,
+                                              final LoopResources loopResources) {
         HttpClient httpClient = HttpClient.create(connectionProvider)
                 .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, properties.getConnectTimeout());
         HttpClientProperties.Proxy proxy = properties.getProxy();
@@ -104,9 +121,9 @@ public class HttpClientPluginConfiguration {
             connection.addHandlerLast(new WriteTimeoutHandler(properties.getWriteTimeout(), TimeUnit.MILLISECONDS));
             connection.addHandlerLast(new ReadTimeoutHandler(properties.getReadTimeout(), TimeUnit.MILLISECONDS));
         });
-        final LoopResources loopResources = provider.getIfAvailable();
         if (Objects.nonNull(loopResources)) {
-            httpClient.runOn(loopResources);
+            // the shared loop resources of the gateway colocate the client with the server worker loops
+            httpClient = httpClient.runOn(loopResources);
         }
         HttpClientProperties.Ssl ssl = properties.getSsl();
         if (StringUtils.isNotEmpty(ssl.getKeyStorePath())
@@ -128,7 +145,7 @@ public class HttpClientPluginConfiguration {
      * @param proxy proxy
      * @return HttpClient
      */
-    private HttpClient setHttpClientProxy(final HttpClient httpClient, final HttpClientProperties.Proxy proxy) {
+    private static HttpClient setHttpClientProxy(final HttpClient httpClient, final HttpClientProperties.Proxy proxy) {
         return httpClient.proxy(proxySpec -> {
             ProxyProvider.Builder builder = proxySpec
                     .type(ProxyProvider.Proxy.HTTP)
@@ -144,7 +161,7 @@ public class HttpClientPluginConfiguration {
         });
     }
 
-    private void setSsl(final SslProvider.SslContextSpec sslContextSpec, final HttpClientProperties.Ssl ssl) {
+    private static void setSsl(final SslProvider.SslContextSpec sslContextSpec, final HttpClientProperties.Ssl ssl) {
         SslProvider.ProtocolSslContextSpec spec = DefaultSslContextSpec.forClient()
                 .configure(sslContextBuilder -> {
                     X509Certificate[] trustedX509Certificates = ssl.getTrustedX509CertificatesForTrustManager();
@@ -166,7 +183,9 @@ public class HttpClientPluginConfiguration {
         ConnectionProvider connectionProvider;
         if (pool.getType() == HttpClientProperties.Pool.PoolType.DISABLED) {
             connectionProvider = ConnectionProvider.newConnection();
-        } else if (pool.getType() == HttpClientProperties.Pool.PoolType.FIXED) {
+        } else if (pool.getType() == HttpClientProperties.Pool.PoolType.FIXED
+                || pool.getType() == HttpClientProperties.Pool.PoolType.UPSTREAM) {
+            // the upstream pools are used by the netty http client plugin, other requests share the fixed pool
             // reactor remove fixed pool by fixed method from 0.9.4
             // reason: https://github.com/reactor/reactor-netty/issues/1499 and https://github.com/reactor/reactor-netty/issues/1960
             connectionProvider = buildFixedConnectionPool(pool.getName(), pool.getMaxConnections(), pool.getAcquireTimeout(), pool.getMaxIdleTime());
@@ -256,15 +275,72 @@ public class HttpClientPluginConfiguration {
     @ConditionalOnProperty(name = "shenyu.httpclient.strategy", havingValue = "netty")
     static class NettyHttpClientConfiguration {
 
+        /**
+         * The connection pools of the upstreams.
+         *
+         * @param properties the properties
+         * @param provider   the loop resources bean provider
+         * @return the upstream connection pools
+         */
+        @Bean(destroyMethod = "dispose")
+        @ConditionalOnProperty(name = "shenyu.httpclient.pool.type", havingValue = "upstream")
+        public UpstreamConnectionPools upstreamConnectionPools(final HttpClientProperties properties,
+                                                               final ObjectProvider<LoopResources> provider) {
+            final LoopResources loopResources = provider.getIfAvailable();
+            return new UpstreamConnectionPools(properties.getPool(),
+                connectionProvider -> buildHttpClient(properties, connectionProvider, loopResources));
+        }
+
         /**
          * Netty http client plugin.
          *
-         * @param httpClient the http client
+         * @param httpClient    the http client
+         * @param upstreamPools the upstream connection pools
          * @return the shenyu plugin
          */
         @Bean
-        public ShenyuPlugin nettyHttpClientPlugin(final ObjectProvider<HttpClient> httpClient) {
-            return new NettyHttpClientPlugin(httpClient.getIfAvailable());
+        public ShenyuPlugin nettyHttpClientPlugin(final ObjectProvider<HttpClient> httpClient,
+                                                  final ObjectProvider<UpstreamConnectionPools> upstreamPools) {
+            return new NettyHttpClientPlugin(httpClient.getIfAvailable(), upstreamPools.getIfAvailable());
+        }
+
+        /**
+         * The type Upstream pool metrics configuration.
+         */
+        @Configuration
+        @ConditionalOnClass(name = "io.micrometer.core.instrument.binder.MeterBinder")
+        static class UpstreamPoolMetricsConfiguration {
+
+            /**
+             * Bind the metrics of the upstream connection pools, the meters of a pool are registered when it is created
+             * and removed when it expires.
+             *
+             * @param upstreamPools the upstream connection pools
+             * @return the meter binder
+             */
+            @Bean
+            @ConditionalOnProperty(name = "shenyu.httpclient.pool.type", havingValue = "upstream")
+            public MeterBinder upstreamPoolMeterBinder(final UpstreamConnectionPools upstreamPools) {
+                return registry -> {
+                    final Map<UpstreamPoolMetrics, List<Meter>> meters = new ConcurrentHashMap<>();
+                    upstreamPools.listen(metrics -> meters.put(metrics, Arrays.asList(
+                        gauge("shenyu.httpclient.pool.active", metrics, UpstreamPoolMetrics::getActiveConnections).register(registry),
+                        gauge("shenyu.httpclient.pool.idle", metrics, UpstreamPoolMetrics::getIdleConnections).register(registry),
+                        gauge("shenyu.httpclient.pool.pending", metrics, UpstreamPoolMetrics::getPendingAcquires).register(registry),
+                        gauge("shenyu.httpclient.pool.max", metrics, UpstreamPoolMetrics::getMaxConnections).register(registry),
+                        FunctionTimer.builder("shenyu.httpclient.pool.acquire", metrics, UpstreamPoolMetrics::getAcquireCount,
+                                UpstreamPoolMetrics::getAcquireTime, TimeUnit.NANOSECONDS)
+                                .description("the time spent to acquire a connection of the upstream")
+                                .tag("upstream", metrics.getUpstream())
+                                .register(registry))),
+                        metrics -> Optional.ofNullable(meters.remove(metrics)).ifPresent(list -> list.forEach(registry::remove)));
+                };
+            }
+
+            private static Gauge.Builder<UpstreamPoolMetrics> gauge(final String name, final UpstreamPoolMetrics metrics,
+                                                                    final ToDoubleFunction<UpstreamPoolMetrics> function) {
+                return Gauge.builder(name, metrics, function).tag("upstream", metrics.getUpstream());
+            }
         }
     }
 }
@@ -22,16 +22,20 @@ import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 import java.time.Duration;
+import java.util.Collections;
 
 import io.netty.handler.ssl.SslProvider;
 import org.apache.shenyu.plugin.api.ShenyuPlugin;
 import org.apache.shenyu.plugin.httpclient.config.HttpClientProperties;
+import org.apache.shenyu.plugin.httpclient.pool.UpstreamConnectionPools;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.MapPropertySource;
 
 import reactor.netty.http.client.HttpClient;
 import reactor.netty.resources.ConnectionProvider;
@@ -131,4 +135,27 @@ public class HttpClientPluginConfigurationTest {
                     assertNotNull(plugin);
                 });
     }
+
+    @Test
+    public void testUpstreamConnectionPools() {
+        applicationContextRunner
+                .withPropertyValues(
+                        "debug=true",
+                        "shenyu.httpclient.strategy=netty",
+                        "shenyu.httpclient.pool.type=upstream",
+                        "shenyu.httpclient.pool.http2=true"
+                )
+                // the property values are split by the colon of the upstream key
+                .withInitializer(context -> context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("upstreams",
+                        Collections.singletonMap("shenyu.httpclient.pool.upstreams[localhost:8080].maxConnections", 10))))
+                .run(context -> {
+                    HttpClientProperties properties = context.getBean("httpClientProperties", HttpClientProperties.class);
+                    assertThat(properties.getPool().getType(), is(HttpClientProperties.Pool.PoolType.UPSTREAM));
+                    assertThat(properties.getPool().isHttp2(), is(true));
+                    assertThat(properties.getPool().getUpstreams().get("localhost:8080").getMaxConnections(), is(10));
+                    assertNotNull(context.getBean(UpstreamConnectionPools.class));
+                    assertNotNull(context.getBean(MeterBinder.class));
+                    assertNotNull(context.getBean("nettyHttpClientPlugin", ShenyuPlugin.class));
+                });
+    }
 }
@@ -19,6 +19,7 @@ package org.apache.shenyu.springboot.starter.plugin.metrics.boot;
 
 import com.google.common.base.Preconditions;
 import org.apache.shenyu.common.config.ShenyuConfig.MetricsConfig;
+import org.apache.shenyu.plugin.metrics.MetricsPlugin;
 import org.apache.shenyu.plugin.metrics.reporter.MetricsReporter;
 import org.apache.shenyu.plugin.metrics.spi.MetricsRegister;
 import org.apache.shenyu.plugin.metrics.spi.MetricsService;
@@ -63,6 +64,9 @@ public class MetricsRunner implements CommandLineRunner, DisposableBean {
             Preconditions.checkNotNull(metricsRegister,
                     "Can not find metrics register with metrics name : %s in metrics configuration.", config.getName());
             MetricsReporter.register(metricsRegister);
+            if (MetricsPlugin.isRouteLabelMode(config)) {
+                MetricsReporter.registerRouteMetrics();
+            }
             metricsService.start(config, metricsRegister);
         } else {
             LOG.info("metrics service has started!");
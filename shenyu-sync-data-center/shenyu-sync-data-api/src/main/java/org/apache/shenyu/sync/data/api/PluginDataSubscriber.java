@@ -65,6 +65,15 @@ public interface PluginDataSubscriber {
     default void onSelectorSubscribe(SelectorData selectorData) {
     }
     
+    /**
+     * On a chunk of selectors subscribe, a snapshot is synced chunk by chunk.
+     *
+     * @param selectorDataList the selector data list
+     */
+    default void onSelectorChunkSubscribe(List<SelectorData> selectorDataList) {
+        selectorDataList.forEach(this::onSelectorSubscribe);
+    }
+    
     /**
      * Un selector subscribe.
      *
@@ -95,6 +104,15 @@ public interface PluginDataSubscriber {
     default void onRuleSubscribe(RuleData ruleData) {
     }
     
+    /**
+     * On a chunk of rules subscribe, a snapshot is synced chunk by chunk.
+     *
+     * @param ruleDataList the rule data list
+     */
+    default void onRuleChunkSubscribe(List<RuleData> ruleDataList) {
+        ruleDataList.forEach(this::onRuleSubscribe);
+    }
+    
     /**
      * On rule subscribe.
      *
@@ -144,7 +144,38 @@ public class HttpSyncDataService implements SyncDataService {
             throw new ShenyuException(message, e);
         }
         // update local cache
-        boolean updated = this.updateCacheWithJson(json);
+        this.waitIfNotUpdated(server, json, this.updateCacheWithJson(json));
+    }
+
+    private void doFetchGroupDelta(final String server, final String epoch, final ConfigGroupEnum... groups) {
+        StringBuilder params = new StringBuilder();
+        for (ConfigGroupEnum groupKey : groups) {
+            params.append("groupKeys").append("=").append(groupKey.name()).append("&")
+                    .append("revisions").append("=").append(factory.cacheConfigData(groupKey).getRevision()).append("&");
+        }
+        params.append("epoch").append("=").append(epoch);
+        String url = server + Constants.SHENYU_ADMIN_PATH_CONFIGS_DELTA + "?" + params;
+        LOG.info("request config delta: [{}]", url);
+        String json;
+        try {
+            HttpHeaders headers = new HttpHeaders();
+            headers.set(Constants.X_ACCESS_TOKEN, this.accessTokenManager.getAccessToken());
+            HttpEntity<String> httpEntity = new HttpEntity<>(headers);
+            json = this.restTemplate.exchange(url, HttpMethod.GET, httpEntity, String.class).getBody();
+        } catch (RestClientException e) {
+            String message = String.format("fetch config delta fail from server[%s], %s", url, e.getMessage());
+            LOG.warn(message);
+            throw new ShenyuException(message, e);
+        }
+        JsonObject jsonObject = GsonUtils.getGson().fromJson(json, JsonObject.class);
+        JsonObject data = jsonObject.getAsJsonObject("data");
+        if (Objects.isNull(data)) {
+            throw new ShenyuException(String.format("fetch config delta fail from server[%s], %s", url, json));
+        }
+        this.waitIfNotUpdated(server, json, factory.executeDelta(data));
+    }
+
+    private void waitIfNotUpdated(final String server, final String json, final boolean updated) {
         if (updated) {
             LOG.debug("get latest configs: [{}]", json);
             return;
@@ -154,6 +185,31 @@ public class HttpSyncDataService implements SyncDataService {
         ThreadUtils.sleep(TimeUnit.SECONDS, 30);
     }
 
+    /**
+     * fetch the changed groups, only the changes since the cached revisions are fetched when every group has one.
+     *
+     * @param server the server
+     * @param groups the changed groups
+     */
+    private void fetchChangedGroups(final String server, final ConfigGroupEnum... groups) {
+        String epoch = null;
+        for (ConfigGroupEnum group : groups) {
+            ConfigData<?> cacheConfig = factory.cacheConfigData(group);
+            if (Objects.isNull(cacheConfig) || Objects.isNull(cacheConfig.getRevision()) || Objects.isNull(cacheConfig.getEpoch())
+                    || (Objects.nonNull(epoch) && !epoch.equals(cacheConfig.getEpoch()))) {
+                this.doFetchGroupConfig(server, groups);
+                return;
+            }
+            epoch = cacheConfig.getEpoch();
+        }
+        try {
+            this.doFetchGroupDelta(server, epoch, groups);
+        } catch (ShenyuException e) {
+            // the server may not support the delta api, fall back to the whole groups
+            this.doFetchGroupConfig(server, groups);
+        }
+    }
+
 
 
     /**
@@ -198,7 +254,7 @@ public class HttpSyncDataService implements SyncDataService {
             // fetch group configuration async.
             ConfigGroupEnum[] changedGroups = GsonUtils.getGson().fromJson(groupJson, ConfigGroupEnum[].class);
             LOG.info("Group config changed: {}", Arrays.toString(changedGroups));
-            this.doFetchGroupConfig(server, changedGroups);
+            this.fetchChangedGroups(server, changedGroups);
         }
     }
 
@@ -18,14 +18,20 @@
 package org.apache.shenyu.sync.data.http.refresh;
 
 import com.google.gson.JsonObject;
+import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.shenyu.common.dto.ConfigChangeData;
 import org.apache.shenyu.common.dto.ConfigData;
+import org.apache.shenyu.common.dto.ConfigDeltaData;
 import org.apache.shenyu.common.enums.ConfigGroupEnum;
+import org.apache.shenyu.common.enums.DataEventTypeEnum;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
@@ -62,6 +68,35 @@ public abstract class AbstractDataRefresh<T> implements DataRefresh {
      */
     protected abstract ConfigData<T> fromJson(JsonObject data);
 
+    /**
+     * From json config delta data.
+     *
+     * @param data the data
+     * @return the config delta data
+     */
+    protected abstract ConfigDeltaData<T> fromDeltaJson(JsonObject data);
+
+    /**
+     * Apply created or updated data.
+     *
+     * @param data the data
+     */
+    protected abstract void doUpdate(List<T> data);
+
+    /**
+     * Apply deleted data.
+     *
+     * @param data the data
+     */
+    protected abstract void doDelete(List<T> data);
+
+    /**
+     * Get the group of this refresh.
+     *
+     * @return the group
+     */
+    protected abstract ConfigGroupEnum group();
+
     /**
      * Refresh.
      *
@@ -86,6 +121,49 @@ public abstract class AbstractDataRefresh<T> implements DataRefresh {
         return updated;
     }
 
+    @Override
+    public Boolean refreshDelta(final JsonObject data) {
+        JsonObject jsonObject = convert(data);
+        if (Objects.isNull(jsonObject)) {
+            return false;
+        }
+        ConfigDeltaData<T> delta = fromDeltaJson(jsonObject);
+        if (delta.isFull()) {
+            if (this.updateCacheIfNeed(delta)) {
+                refresh(delta.getData());
+                return true;
+            }
+            return false;
+        }
+        ConfigData<?> current = GROUP_CACHE.get(group());
+        long currentRevision = Objects.isNull(current) || Objects.isNull(current.getRevision()) ? 0L : current.getRevision();
+        boolean updated = false;
+        for (ConfigChangeData<T> change : Optional.ofNullable(delta.getChanges()).orElse(Collections.emptyList())) {
+            if (change.getRevision() <= currentRevision || CollectionUtils.isEmpty(change.getData())) {
+                continue;
+            }
+            switch (DataEventTypeEnum.acquireByName(change.getEventType())) {
+                case REFRESH:
+                case MYSELF:
+                    refresh(change.getData());
+                    break;
+                case DELETE:
+                    doDelete(change.getData());
+                    break;
+                default:
+                    doUpdate(change.getData());
+                    break;
+            }
+            updated = true;
+        }
+        // the data is only kept by the subscribers, the cache tracks the version the gateway is at
+        GROUP_CACHE.put(group(), new ConfigData<T>(delta.getMd5(), delta.getLastModifyTime(), null)
+                .setEpoch(delta.getEpoch())
+                .setRevision(delta.getRevision()));
+        LOG.info("apply {} delta to revision {}, updated: {}", group(), delta.getRevision(), updated);
+        return updated;
+    }
+
     /**
      * Update cache if need boolean.
      *
@@ -22,6 +22,7 @@ import com.google.gson.reflect.TypeToken;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.shenyu.common.dto.AppAuthData;
 import org.apache.shenyu.common.dto.ConfigData;
+import org.apache.shenyu.common.dto.ConfigDeltaData;
 import org.apache.shenyu.common.enums.ConfigGroupEnum;
 import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.sync.data.api.AuthDataSubscriber;
@@ -57,6 +58,12 @@ public class AppAuthDataRefresh extends AbstractDataRefresh<AppAuthData> {
         }.getType());
     }
 
+    @Override
+    protected ConfigDeltaData<AppAuthData> fromDeltaJson(final JsonObject data) {
+        return GsonUtils.getGson().fromJson(data, new TypeToken<ConfigDeltaData<AppAuthData>>() {
+        }.getType());
+    }
+
     @Override
     protected boolean updateCacheIfNeed(final ConfigData<AppAuthData> result) {
         return updateCacheIfNeed(result, ConfigGroupEnum.APP_AUTH);
@@ -67,6 +74,11 @@ public class AppAuthDataRefresh extends AbstractDataRefresh<AppAuthData> {
         return GROUP_CACHE.get(ConfigGroupEnum.APP_AUTH);
     }
 
+    @Override
+    protected ConfigGroupEnum group() {
+        return ConfigGroupEnum.APP_AUTH;
+    }
+
     @Override
     protected void refresh(final List<AppAuthData> data) {
         if (CollectionUtils.isEmpty(data)) {
@@ -76,4 +88,14 @@ public class AppAuthDataRefresh extends AbstractDataRefresh<AppAuthData> {
             data.forEach(authData -> authDataSubscribers.forEach(subscriber -> subscriber.onSubscribe(authData)));
         }
     }
+
+    @Override
+    protected void doUpdate(final List<AppAuthData> data) {
+        data.forEach(authData -> authDataSubscribers.forEach(subscriber -> subscriber.onSubscribe(authData)));
+    }
+
+    @Override
+    protected void doDelete(final List<AppAuthData> data) {
+        data.forEach(authData -> authDataSubscribers.forEach(subscriber -> subscriber.unSubscribe(authData)));
+    }
 }
@@ -33,6 +33,14 @@ public interface DataRefresh {
      */
     Boolean refresh(JsonObject data);
 
+    /**
+     * Refresh with the changes since the cached revision.
+     *
+     * @param data the delta data
+     * @return the boolean
+     */
+    Boolean refreshDelta(JsonObject data);
+
     /**
      * Cache config data config data.
      *
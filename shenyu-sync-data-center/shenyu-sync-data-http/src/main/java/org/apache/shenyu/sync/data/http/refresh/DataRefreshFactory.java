@@ -65,6 +65,19 @@ public final class DataRefreshFactory {
         return result.stream().anyMatch(Boolean.TRUE::equals);
     }
 
+    /**
+     * Apply the delta data of the groups.
+     *
+     * @param data the data
+     * @return the boolean
+     */
+    public boolean executeDelta(final JsonObject data) {
+        List<Boolean> result = ENUM_MAP.values().stream()
+                .map(dataRefresh -> dataRefresh.refreshDelta(data))
+                .collect(Collectors.toList());
+        return result.stream().anyMatch(Boolean.TRUE::equals);
+    }
+
     /**
      * Cache config data.
      *
@@ -21,6 +21,7 @@ import com.google.gson.JsonObject;
 import com.google.gson.reflect.TypeToken;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.shenyu.common.dto.ConfigData;
+import org.apache.shenyu.common.dto.ConfigDeltaData;
 import org.apache.shenyu.common.dto.MetaData;
 import org.apache.shenyu.common.enums.ConfigGroupEnum;
 import org.apache.shenyu.common.utils.GsonUtils;
@@ -56,6 +57,12 @@ public class MetaDataRefresh extends AbstractDataRefresh<MetaData> {
         }.getType());
     }
 
+    @Override
+    protected ConfigDeltaData<MetaData> fromDeltaJson(final JsonObject data) {
+        return GsonUtils.getGson().fromJson(data, new TypeToken<ConfigDeltaData<MetaData>>() {
+        }.getType());
+    }
+
     @Override
     protected boolean updateCacheIfNeed(final ConfigData<MetaData> result) {
         return updateCacheIfNeed(result, ConfigGroupEnum.META_DATA);
@@ -66,6 +73,11 @@ public class MetaDataRefresh extends AbstractDataRefresh<MetaData> {
         return GROUP_CACHE.get(ConfigGroupEnum.META_DATA);
     }
 
+    @Override
+    protected ConfigGroupEnum group() {
+        return ConfigGroupEnum.META_DATA;
+    }
+
     @Override
     protected void refresh(final List<MetaData> data) {
         if (CollectionUtils.isEmpty(data)) {
@@ -75,4 +87,14 @@ public class MetaDataRefresh extends AbstractDataRefresh<MetaData> {
             data.forEach(metaData -> metaDataSubscribers.forEach(subscriber -> subscriber.onSubscribe(metaData)));
         }
     }
+
+    @Override
+    protected void doUpdate(final List<MetaData> data) {
+        data.forEach(metaData -> metaDataSubscribers.forEach(subscriber -> subscriber.onSubscribe(metaData)));
+    }
+
+    @Override
+    protected void doDelete(final List<MetaData> data) {
+        data.forEach(metaData -> metaDataSubscribers.forEach(subscriber -> subscriber.unSubscribe(metaData)));
+    }
 }
@@ -21,6 +21,7 @@ import com.google.gson.JsonObject;
 import com.google.gson.reflect.TypeToken;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.shenyu.common.dto.ConfigData;
+import org.apache.shenyu.common.dto.ConfigDeltaData;
 import org.apache.shenyu.common.dto.PluginData;
 import org.apache.shenyu.common.enums.ConfigGroupEnum;
 import org.apache.shenyu.common.utils.GsonUtils;
@@ -57,6 +58,12 @@ public class PluginDataRefresh extends AbstractDataRefresh<PluginData> {
         }.getType());
     }
 
+    @Override
+    protected ConfigDeltaData<PluginData> fromDeltaJson(final JsonObject data) {
+        return GsonUtils.getGson().fromJson(data, new TypeToken<ConfigDeltaData<PluginData>>() {
+        }.getType());
+    }
+
     @Override
     protected boolean updateCacheIfNeed(final ConfigData<PluginData> result) {
         return updateCacheIfNeed(result, ConfigGroupEnum.PLUGIN);
@@ -67,6 +74,11 @@ public class PluginDataRefresh extends AbstractDataRefresh<PluginData> {
         return GROUP_CACHE.get(ConfigGroupEnum.PLUGIN);
     }
 
+    @Override
+    protected ConfigGroupEnum group() {
+        return ConfigGroupEnum.PLUGIN;
+    }
+
     @Override
     protected void refresh(final List<PluginData> data) {
         pluginDataSubscriber.refreshPluginDataAll();
@@ -76,4 +88,14 @@ public class PluginDataRefresh extends AbstractDataRefresh<PluginData> {
         }
         data.forEach(pluginDataSubscriber::onSubscribe);
     }
+
+    @Override
+    protected void doUpdate(final List<PluginData> data) {
+        data.forEach(pluginDataSubscriber::onSubscribe);
+    }
+
+    @Override
+    protected void doDelete(final List<PluginData> data) {
+        data.forEach(pluginDataSubscriber::unSubscribe);
+    }
 }
@@ -18,15 +18,19 @@
 package org.apache.shenyu.sync.data.http.refresh;
 
 import com.google.gson.JsonObject;
+import org.apache.shenyu.common.dto.ConfigChangeData;
 import org.apache.shenyu.common.dto.ConfigData;
+import org.apache.shenyu.common.dto.ConfigDeltaData;
 import org.apache.shenyu.common.dto.PluginData;
 import org.apache.shenyu.common.dto.RuleData;
 import org.apache.shenyu.common.enums.ConfigGroupEnum;
+import org.apache.shenyu.common.enums.DataEventTypeEnum;
 import org.apache.shenyu.common.utils.GsonUtils;
 import org.apache.shenyu.sync.data.api.PluginDataSubscriber;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -35,11 +39,23 @@ import static org.hamcrest.MatcherAssert.assertThat;
 
 public final class RuleDataRefreshTest {
 
+    private final List<String> subscribed = new ArrayList<>();
+
     private final RuleDataRefresh mockRuleDataRefresh = new RuleDataRefresh(new PluginDataSubscriber() {
         @Override
         public void onSubscribe(final PluginData pluginData) {
 
         }
+
+        @Override
+        public void onRuleSubscribe(final RuleData ruleData) {
+            subscribed.add("on:" + ruleData.getId());
+        }
+
+        @Override
+        public void unRuleSubscribe(final RuleData ruleData) {
+            subscribed.add("un:" + ruleData.getId());
+        }
     });
 
     @Test
@@ -78,4 +94,22 @@ public final class RuleDataRefreshTest {
         ruleDataList.add(ruleData);
         ruleDataRefresh.refresh(ruleDataList);
     }
+
+    @Test
+    public void testRefreshDelta() {
+        mockRuleDataRefresh.updateCacheIfNeed(new ConfigData<RuleData>("md5", 1L, Collections.emptyList()).setEpoch("epoch").setRevision(1L));
+        RuleData ruleData = RuleData.builder().id("1").build();
+        ConfigDeltaData<RuleData> delta = new ConfigDeltaData<>();
+        delta.setChanges(Arrays.asList(
+                new ConfigChangeData<>(1L, DataEventTypeEnum.UPDATE.name(), Collections.singletonList(ruleData)),
+                new ConfigChangeData<>(2L, DataEventTypeEnum.UPDATE.name(), Collections.singletonList(ruleData)),
+                new ConfigChangeData<>(3L, DataEventTypeEnum.DELETE.name(), Collections.singletonList(ruleData))));
+        delta.setMd5("md5-new").setLastModifyTime(2L).setEpoch("epoch").setRevision(3L);
+        JsonObject jsonObject = new JsonObject();
+        jsonObject.add(ConfigGroupEnum.RULE.name(), GsonUtils.getGson().toJsonTree(delta));
+        assertThat(mockRuleDataRefresh.refreshDelta(jsonObject), is(true));
+        assertThat(subscribed, is(Arrays.asList("on:1", "un:1")));
+        assertThat(mockRuleDataRefresh.cacheConfigData().getRevision(), is(3L));
+        assertThat(mockRuleDataRefresh.cacheConfigData().getMd5(), is("md5-new"));
+    }
 }
@@ -17,6 +17,7 @@
 
 package org.apache.shenyu.plugin.sync.data.websocket.client;
 
+import com.google.gson.JsonObject;
 import org.apache.shenyu.common.dto.WebsocketData;
 import org.apache.shenyu.common.enums.ConfigGroupEnum;
 import org.apache.shenyu.common.enums.DataEventTypeEnum;
@@ -37,6 +38,8 @@ import org.slf4j.LoggerFactory;
 import java.net.URI;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -56,6 +59,13 @@ public final class ShenyuWebsocketClient extends WebSocketClient {
     private final Timer timer;
     
     private TimerTask timerTask;
+
+    /**
+     * The admin epoch and the revision of each group applied so far, a reconnect only asks for the changes since them.
+     */
+    private volatile String epoch;
+
+    private final Map<ConfigGroupEnum, Long> revisions = new ConcurrentHashMap<>();
     
     /**
      * Instantiates a new shenyu websocket client.
@@ -122,7 +132,7 @@ public final class ShenyuWebsocketClient extends WebSocketClient {
     @Override
     public void onOpen(final ServerHandshake serverHandshake) {
         if (!alreadySync) {
-            send(DataEventTypeEnum.MYSELF.name());
+            send(syncRequest());
             alreadySync = true;
         }
     }
@@ -172,6 +182,20 @@ public final class ShenyuWebsocketClient extends WebSocketClient {
         }
     }
     
+    private String syncRequest() {
+        String currentEpoch = epoch;
+        if (Objects.isNull(currentEpoch) || revisions.size() < ConfigGroupEnum.values().length) {
+            return DataEventTypeEnum.MYSELF.name();
+        }
+        JsonObject groupRevisions = new JsonObject();
+        revisions.forEach((group, revision) -> groupRevisions.addProperty(group.name(), revision));
+        JsonObject request = new JsonObject();
+        request.addProperty("eventType", DataEventTypeEnum.MYSELF.name());
+        request.addProperty("epoch", currentEpoch);
+        request.add("revisions", groupRevisions);
+        return request.toString();
+    }
+    
     private void handleResult(final String result) {
         LOG.info("handleResult({})", result);
         WebsocketData<?> websocketData = GsonUtils.getInstance().fromJson(result, WebsocketData.class);
@@ -179,5 +203,18 @@ public final class ShenyuWebsocketClient extends WebSocketClient {
         String eventType = websocketData.getEventType();
         String json = GsonUtils.getInstance().toJson(websocketData.getData());
         websocketDataHandler.executor(groupEnum, json, eventType);
+        trackRevision(groupEnum, websocketData);
+    }
+
+    private void trackRevision(final ConfigGroupEnum groupEnum, final WebsocketData<?> websocketData) {
+        if (Objects.isNull(websocketData.getEpoch()) || Objects.isNull(websocketData.getRevision())) {
+            return;
+        }
+        if (!Objects.equals(epoch, websocketData.getEpoch())) {
+            // another admin process, the revisions of the previous one mean nothing
+            revisions.clear();
+            epoch = websocketData.getEpoch();
+        }
+        revisions.merge(groupEnum, websocketData.getRevision(), Math::max);
     }
 }
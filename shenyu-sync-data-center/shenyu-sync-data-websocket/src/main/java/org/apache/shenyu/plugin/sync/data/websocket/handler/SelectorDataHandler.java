@@ -42,12 +42,12 @@ public class SelectorDataHandler extends AbstractDataHandler<SelectorData> {
     @Override
     protected void doRefresh(final List<SelectorData> dataList) {
         pluginDataSubscriber.refreshSelectorDataSelf(dataList);
-        dataList.forEach(pluginDataSubscriber::onSelectorSubscribe);
+        pluginDataSubscriber.onSelectorChunkSubscribe(dataList);
     }
 
     @Override
     protected void doUpdate(final List<SelectorData> dataList) {
-        dataList.forEach(pluginDataSubscriber::onSelectorSubscribe);
+        pluginDataSubscriber.onSelectorChunkSubscribe(dataList);
     }
 
     @Override
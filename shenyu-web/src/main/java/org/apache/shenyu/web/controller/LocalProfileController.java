@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.web.controller;
+
+import org.apache.shenyu.common.constant.Constants;
+import org.apache.shenyu.common.utils.JsonUtils;
+import org.apache.shenyu.plugin.base.profile.PluginProfiler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+/**
+ * The plugin profile controller.
+ */
+@RestController
+@RequestMapping(value = "/shenyu/profile", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE})
+public class LocalProfileController {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LocalProfileController.class);
+
+    /**
+     * Enable the plugin profiler.
+     *
+     * @param sampleInterval profile one in every sampleInterval requests, the current interval if absent
+     * @return the mono
+     */
+    @GetMapping("/enable")
+    public Mono<String> enable(@RequestParam(value = "sampleInterval", required = false) final Integer sampleInterval) {
+        PluginProfiler profiler = PluginProfiler.getInstance();
+        int interval = Optional.ofNullable(sampleInterval).orElse(profiler.getSampleInterval());
+        LOG.info("enable apache shenyu plugin profiler, sample interval {}", interval);
+        profiler.enable(interval);
+        return Mono.just(Constants.SUCCESS);
+    }
+
+    /**
+     * Disable the plugin profiler.
+     *
+     * @return the mono
+     */
+    @GetMapping("/disable")
+    public Mono<String> disable() {
+        LOG.info("disable apache shenyu plugin profiler");
+        PluginProfiler.getInstance().disable();
+        return Mono.just(Constants.SUCCESS);
+    }
+
+    /**
+     * Clear the collected plugin profiles.
+     *
+     * @return the mono
+     */
+    @GetMapping("/reset")
+    public Mono<String> reset() {
+        PluginProfiler.getInstance().reset();
+        return Mono.just(Constants.SUCCESS);
+    }
+
+    /**
+     * Get the plugin profiles.
+     *
+     * @return the profiles
+     */
+    @GetMapping("/plugins")
+    public Mono<String> plugins() {
+        return Mono.just(JsonUtils.toJson(PluginProfiler.getInstance().getProfiles()));
+    }
+}
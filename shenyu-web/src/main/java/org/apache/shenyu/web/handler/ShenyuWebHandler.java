@@ -18,13 +18,17 @@
 package org.apache.shenyu.web.handler;
 
 import org.apache.commons.collections4.CollectionUtils;
+import org.apache.shenyu.common.config.ProfilerConfig;
 import org.apache.shenyu.common.config.ShenyuConfig;
+import org.apache.shenyu.common.constant.Constants;
 import org.apache.shenyu.common.dto.PluginData;
 import org.apache.shenyu.common.enums.PluginHandlerEventEnum;
+import org.apache.shenyu.plugin.api.PluginTimer;
 import org.apache.shenyu.plugin.api.ShenyuPlugin;
 import org.apache.shenyu.plugin.api.ShenyuPluginChain;
 import org.apache.shenyu.plugin.base.cache.BaseDataCache;
 import org.apache.shenyu.plugin.base.cache.PluginHandlerEvent;
+import org.apache.shenyu.plugin.base.profile.PluginProfiler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationListener;
@@ -55,6 +59,11 @@ public final class ShenyuWebHandler implements WebHandler, ApplicationListener<P
      */
     private volatile List<ShenyuPlugin> plugins;
 
+    /**
+     * the snapshot of enabled plugins used by the precomputed chain, rebuilt whenever the plugins change.
+     */
+    private volatile ShenyuPlugin[] precomputedPlugins;
+
     /**
      * source plugins, these plugins load from ShenyuPlugin, this filed can't change.
      */
@@ -62,6 +71,8 @@ public final class ShenyuWebHandler implements WebHandler, ApplicationListener<P
 
     private final boolean scheduled;
 
+    private final boolean precomputed;
+
     private Scheduler scheduler;
 
     /**
@@ -72,7 +83,12 @@ public final class ShenyuWebHandler implements WebHandler, ApplicationListener<P
      */
     public ShenyuWebHandler(final List<ShenyuPlugin> plugins, final ShenyuConfig shenyuConfig) {
         this.sourcePlugins = new ArrayList<>(plugins);
-        this.plugins = new ArrayList<>(plugins);
+        this.precomputed = shenyuConfig.getPluginChain().getPrecomputed();
+        ProfilerConfig profiler = shenyuConfig.getProfiler();
+        if (profiler.getEnabled()) {
+            PluginProfiler.getInstance().enable(Optional.ofNullable(profiler.getSampleInterval()).orElse(100));
+        }
+        refreshPlugins(new ArrayList<>(plugins));
         ShenyuConfig.Scheduler config = shenyuConfig.getScheduler();
         this.scheduled = config.getEnabled();
         if (scheduled) {
@@ -92,7 +108,9 @@ public final class ShenyuWebHandler implements WebHandler, ApplicationListener<P
      */
     @Override
     public Mono<Void> handle(@NonNull final ServerWebExchange exchange) {
-        Mono<Void> execute = new DefaultShenyuPluginChain(plugins).execute(exchange);
+        boolean profiled = PluginProfiler.getInstance().sample(exchange);
+        Mono<Void> execute = precomputed ? new PrecomputedShenyuPluginChain(precomputedPlugins, profiled).execute(exchange)
+                : new DefaultShenyuPluginChain(plugins, profiled).execute(exchange);
         if (scheduled) {
             return execute.subscribeOn(scheduler);
         }
@@ -116,7 +134,7 @@ public final class ShenyuWebHandler implements WebHandler, ApplicationListener<P
             // copy new list
             List<ShenyuPlugin> newPluginList = new ArrayList<>(plugins);
             newPluginList.addAll(shenyuPlugins);
-            plugins = sortPlugins(newPluginList);
+            refreshPlugins(sortPlugins(newPluginList));
         }
     }
     
@@ -140,13 +158,28 @@ public final class ShenyuWebHandler implements WebHandler, ApplicationListener<P
                 break;
             case SORTED:
                 // copy a new one, or there will be concurrency problems
-                this.plugins = sortPlugins(new ArrayList<>(this.plugins));
+                refreshPlugins(sortPlugins(new ArrayList<>(this.plugins)));
                 break;
             default:
                 throw new IllegalStateException("Unexpected value: " + event.getPluginStateEnums());
         }
     }
 
+    /**
+     * replace the plugins, and snapshot the enabled ones for the precomputed chain.
+     *
+     * @param list the new plugin list
+     */
+    private void refreshPlugins(final List<ShenyuPlugin> list) {
+        if (precomputed) {
+            this.precomputedPlugins = list.stream().filter(plugin -> {
+                PluginData pluginData = BaseDataCache.getInstance().obtainPluginData(plugin.named());
+                return Objects.isNull(pluginData) || pluginData.getEnabled();
+            }).toArray(ShenyuPlugin[]::new);
+        }
+        this.plugins = list;
+    }
+
     /**
      * sort plugins.
      *
@@ -174,7 +207,7 @@ public final class ShenyuWebHandler implements WebHandler, ApplicationListener<P
         // copy a new plugin list.
         List<ShenyuPlugin> newPluginList = new ArrayList<>(this.plugins);
         newPluginList.addAll(enabledPlugins);
-        this.plugins = sortPlugins(newPluginList);
+        refreshPlugins(sortPlugins(newPluginList));
     }
 
     /**
@@ -185,7 +218,21 @@ public final class ShenyuWebHandler implements WebHandler, ApplicationListener<P
         // copy a new plugin list.
         List<ShenyuPlugin> newPluginList = new ArrayList<>(this.plugins);
         newPluginList.removeIf(plugin -> plugin.named().equals(pluginData.getName()));
-        this.plugins = newPluginList;
+        refreshPlugins(newPluginList);
+    }
+
+    private static Mono<Void> executePlugin(final ServerWebExchange exchange, final ShenyuPlugin plugin, final ShenyuPluginChain chain, final boolean profiled) {
+        if (profiled) {
+            return PluginProfiler.getInstance().execute(plugin.named(), () -> plugin.execute(exchange, chain));
+        }
+        return plugin.execute(exchange, chain);
+    }
+
+    private static void enter(final ServerWebExchange exchange, final ShenyuPlugin plugin) {
+        PluginTimer timer = exchange.getAttribute(Constants.PLUGIN_TIMER);
+        if (Objects.nonNull(timer)) {
+            timer.enter(plugin.named(), System.nanoTime());
+        }
     }
 
     private static class DefaultShenyuPluginChain implements ShenyuPluginChain {
@@ -194,13 +241,17 @@ public final class ShenyuWebHandler implements WebHandler, ApplicationListener<P
 
         private final List<ShenyuPlugin> plugins;
 
+        private final boolean profiled;
+
         /**
          * Instantiates a new Default shenyu plugin chain.
          *
          * @param plugins the plugins
+         * @param profiled whether the plugins are profiled
          */
-        DefaultShenyuPluginChain(final List<ShenyuPlugin> plugins) {
+        DefaultShenyuPluginChain(final List<ShenyuPlugin> plugins, final boolean profiled) {
             this.plugins = plugins;
+            this.profiled = profiled;
         }
 
         /**
@@ -216,9 +267,57 @@ public final class ShenyuWebHandler implements WebHandler, ApplicationListener<P
                     ShenyuPlugin plugin = plugins.get(this.index++);
                     boolean skip = plugin.skip(exchange);
                     if (skip) {
+                        if (profiled) {
+                            PluginProfiler.getInstance().obtainProfile(plugin.named()).recordSkip();
+                        }
                         return this.execute(exchange);
                     }
-                    return plugin.execute(exchange, this);
+                    enter(exchange, plugin);
+                    return executePlugin(exchange, plugin, this, profiled);
+                }
+                return Mono.empty();
+            });
+        }
+    }
+
+    private static class PrecomputedShenyuPluginChain implements ShenyuPluginChain {
+
+        private int index;
+
+        private final ShenyuPlugin[] plugins;
+
+        private final boolean profiled;
+
+        /**
+         * Instantiates a new precomputed shenyu plugin chain.
+         *
+         * @param plugins the snapshot of enabled plugins
+         * @param profiled whether the plugins are profiled
+         */
+        PrecomputedShenyuPluginChain(final ShenyuPlugin[] plugins, final boolean profiled) {
+            this.plugins = plugins;
+            this.profiled = profiled;
+        }
+
+        /**
+         * Delegate to the next plugin that is not skipped, the skipped plugins are
+         * passed over in a loop so only executed plugins add a deferred hop.
+         *
+         * @param exchange the current server exchange
+         * @return {@code Mono<Void>} to indicate when request handling is complete
+         */
+        @Override
+        public Mono<Void> execute(final ServerWebExchange exchange) {
+            return Mono.defer(() -> {
+                while (this.index < plugins.length) {
+                    ShenyuPlugin plugin = plugins[this.index++];
+                    if (!plugin.skip(exchange)) {
+                        enter(exchange, plugin);
+                        return executePlugin(exchange, plugin, this, profiled);
+                    }
+                    if (profiled) {
+                        PluginProfiler.getInstance().obtainProfile(plugin.named()).recordSkip();
+                    }
                 }
                 return Mono.empty();
             });
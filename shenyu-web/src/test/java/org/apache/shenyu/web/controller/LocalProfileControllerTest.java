@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shenyu.web.controller;
+
+import org.apache.shenyu.common.constant.Constants;
+import org.apache.shenyu.plugin.base.profile.PluginProfiler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test cases for LocalProfileController.
+ */
+public final class LocalProfileControllerTest {
+
+    private final LocalProfileController controller = new LocalProfileController();
+
+    @AfterEach
+    public void tearDown() {
+        PluginProfiler.getInstance().disable();
+        PluginProfiler.getInstance().reset();
+    }
+
+    @Test
+    public void testProfile() {
+        assertEquals(Constants.SUCCESS, controller.enable(1).block());
+        assertTrue(PluginProfiler.getInstance().isEnabled());
+        assertEquals(1, PluginProfiler.getInstance().getSampleInterval());
+        PluginProfiler.getInstance().execute("divide", Mono::empty).block();
+        String profiles = controller.plugins().block();
+        assertTrue(profiles.contains("\"pluginName\":\"divide\""));
+        assertTrue(profiles.contains("\"executed\":1"));
+        assertEquals(Constants.SUCCESS, controller.reset().block());
+        assertEquals("{}", controller.plugins().block());
+        assertEquals(Constants.SUCCESS, controller.disable().block());
+        assertFalse(PluginProfiler.getInstance().isEnabled());
+        assertEquals(Constants.SUCCESS, controller.enable(null).block());
+        assertEquals(1, PluginProfiler.getInstance().getSampleInterval());
+    }
+}
@@ -26,6 +26,7 @@ import org.apache.shenyu.plugin.api.ShenyuPluginChain;
 import org.apache.shenyu.plugin.api.context.ShenyuContext;
 import org.apache.shenyu.plugin.base.cache.BaseDataCache;
 import org.apache.shenyu.plugin.base.cache.PluginHandlerEvent;
+import org.apache.shenyu.plugin.base.profile.PluginProfiler;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -82,6 +83,26 @@ public final class ShenyuWebHandlerTest {
         StepVerifier.create(handle).expectSubscription().verifyComplete();
     }
 
+    @Test
+    public void handlePrecomputed() {
+        final ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("localhost")
+                .remoteAddress(new InetSocketAddress(8090))
+                .build());
+        ShenyuConfig shenyuConfig = new ShenyuConfig();
+        shenyuConfig.getPluginChain().setPrecomputed(true);
+        ShenyuWebHandler precomputedHandler = new ShenyuWebHandler(listPlugins, shenyuConfig);
+        ShenyuPlugin[] precomputedPlugins = (ShenyuPlugin[]) ReflectionTestUtils.getField(precomputedHandler, "precomputedPlugins");
+        assertNotNull(precomputedPlugins);
+        assertEquals(2, precomputedPlugins.length);
+        StepVerifier.create(precomputedHandler.handle(exchange)).expectSubscription().verifyComplete();
+        PluginData pluginData = PluginData.builder().name("test-plugin2").enabled(false).build();
+        precomputedHandler.onApplicationEvent(new PluginHandlerEvent(PluginHandlerEventEnum.DISABLED, pluginData));
+        precomputedPlugins = (ShenyuPlugin[]) ReflectionTestUtils.getField(precomputedHandler, "precomputedPlugins");
+        assertNotNull(precomputedPlugins);
+        assertEquals(1, precomputedPlugins.length);
+        assertEquals(plugin1, precomputedPlugins[0]);
+    }
+
     @Test
     public void putExtPlugins() {
         shenyuWebHandler.putExtPlugins(Collections.emptyList());
@@ -105,6 +126,20 @@ public final class ShenyuWebHandlerTest {
         assertNotNull(handle2);
     }
 
+    @Test
+    public void testProfilerConfig() {
+        ShenyuConfig shenyuConfig = new ShenyuConfig();
+        shenyuConfig.getProfiler().setEnabled(true);
+        shenyuConfig.getProfiler().setSampleInterval(1);
+        try {
+            new ShenyuWebHandler(listPlugins, shenyuConfig);
+            assertTrue(PluginProfiler.getInstance().isEnabled());
+            assertEquals(1, PluginProfiler.getInstance().getSampleInterval());
+        } finally {
+            PluginProfiler.getInstance().disable();
+        }
+    }
+
     @Test
     public void testOnApplicationEvent() {
         PluginData pluginData1 = PluginData.builder().id("1")